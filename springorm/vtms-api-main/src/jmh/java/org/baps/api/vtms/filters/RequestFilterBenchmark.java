@@ -0,0 +1,182 @@
+package org.baps.api.vtms.filters;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import ch.qos.logback.classic.Logger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Overhead of RequestFilter per request and response body size, with the response body logger off as configured by
+ * default and at TRACE. The filter chain reads the whole request body and writes a response body of the same size,
+ * withoutFilter runs the same chain alone. The bodies are read and written in bulk, unlike the byte by byte streams of
+ * the Spring mocks, and the log events go to no appender so the cost of writing them is not measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestFilterBenchmark {
+
+    private static final int MAX_BODY_SIZE = 4096;
+
+    @Param({"1024", "65536", "1048576"})
+    private int bodySize;
+
+    @Param({"INFO", "TRACE"})
+    private String responseBodyLevel;
+
+    private RequestFilter requestFilter;
+
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).detachAndStopAllAppenders();
+        ((Logger) LoggerFactory.getLogger(RequestFilter.class)).setLevel(ch.qos.logback.classic.Level.INFO);
+        ((Logger) LoggerFactory.getLogger(RequestFilter.class.getName() + ".ResponseBody"))
+            .setLevel(ch.qos.logback.classic.Level.toLevel(responseBodyLevel));
+
+        requestFilter = new RequestFilter(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(requestFilter, "maxBodySize", MAX_BODY_SIZE);
+        ReflectionTestUtils.setField(requestFilter, "slowRequestThreshold", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(requestFilter, "bodySampleRate", 1.0);
+
+        body = new byte[bodySize];
+        Arrays.fill(body, (byte) 'a');
+    }
+
+    @Benchmark
+    public HttpServletResponse withFilter(final Blackhole blackhole) throws IOException, ServletException {
+        final HttpServletResponse response = createResponse();
+        requestFilter.doFilter(createRequest(), response, createFilterChain(blackhole));
+        return response;
+    }
+
+    @Benchmark
+    public HttpServletResponse withoutFilter(final Blackhole blackhole) throws IOException, ServletException {
+        final HttpServletResponse response = createResponse();
+        createFilterChain(blackhole).doFilter(createRequest(), response);
+        return response;
+    }
+
+    private HttpServletRequest createRequest() {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/visits");
+        request.setContent(body);
+        return new HttpServletRequestWrapper(request) {
+            @Override
+            public ServletInputStream getInputStream() {
+                return new ByteArrayServletInputStream(body);
+            }
+        };
+    }
+
+    private HttpServletResponse createResponse() {
+        return new HttpServletResponseWrapper(new MockHttpServletResponse()) {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return new DiscardingServletOutputStream();
+            }
+        };
+    }
+
+    private FilterChain createFilterChain(final Blackhole blackhole) {
+        return (servletRequest, servletResponse) -> {
+            try (InputStream inputStream = servletRequest.getInputStream()) {
+                blackhole.consume(inputStream.readAllBytes());
+            }
+            servletResponse.getOutputStream().write(body);
+        };
+    }
+
+    private static final class ByteArrayServletInputStream extends ServletInputStream {
+
+        private final ByteArrayInputStream byteArrayInputStream;
+
+        private ByteArrayServletInputStream(final byte[] bytes) {
+            this.byteArrayInputStream = new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return byteArrayInputStream.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(final ReadListener readListener) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int read() {
+            return byteArrayInputStream.read();
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) {
+            return byteArrayInputStream.read(bytes, offset, length);
+        }
+    }
+
+    private static final class DiscardingServletOutputStream extends ServletOutputStream {
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void write(final int b) {
+            // Discarded, like a body sent to the client.
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) {
+            // Discarded, like a body sent to the client.
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.baps.api.vtms.constants.GeneralConstant;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.http.HttpHeaders;
@@ -19,7 +20,7 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 
 @SpringBootApplication
-//@EnableCaching
+@EnableCaching
 @EnableJpaAuditing
 @EnableScheduling
 @SecurityScheme(name = HttpHeaders.AUTHORIZATION,
@@ -0,0 +1,11 @@
+package org.baps.api.vtms.common.cache;
+
+/**
+ * Message published to the other nodes when an entry or all the entries of a two tier cache are evicted.
+ *
+ * @param origin    The identifier of the node publishing the message.
+ * @param cacheName The name of the cache.
+ * @param key       The local key of the evicted entry, null when the cache is cleared.
+ */
+public record CacheInvalidationMessage(String origin, String cacheName, String key) {
+}
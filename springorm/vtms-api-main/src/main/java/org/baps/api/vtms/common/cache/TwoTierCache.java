@@ -0,0 +1,214 @@
+package org.baps.api.vtms.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Cache with a local first tier in front of a shared remote second tier, usually Redis. Values are read from the local
+ * tier, then from the remote tier, and are written to both. Evictions are applied to both tiers and published so the
+ * other nodes evict their local tier too. Without a remote tier the cache is a local cache with a time to live.
+ *
+ * <p>The local tier is a bounded Caffeine cache. Concurrent loads of a missing key through {@link #get(Object, Callable)}
+ * wait for a single load on each node.
+ *
+ * <p>The local tier returns the same instance to every caller, cached values must not be modified.
+ */
+@Slf4j
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public class TwoTierCache implements Cache {
+
+    private final String name;
+
+    private final Cache remoteCache;
+
+    private final Consumer<CacheInvalidationMessage> invalidationPublisher;
+
+    private final String origin;
+
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> localCache;
+
+    /**
+     * Creates a two tier cache.
+     *
+     * @param name                  The name of the cache.
+     * @param remoteCache           The remote tier, null for a local cache only.
+     * @param localTimeToLive       The time to live of the local entries, it should be shorter than the remote one.
+     * @param localMaximumSize      The maximum number of local entries.
+     * @param invalidationPublisher Publishes the evictions to the other nodes.
+     * @param origin                The identifier of this node in the published messages.
+     */
+    public TwoTierCache(final String name, final Cache remoteCache, final Duration localTimeToLive, final int localMaximumSize,
+            final Consumer<CacheInvalidationMessage> invalidationPublisher, final String origin) {
+        this.name = name;
+        this.remoteCache = remoteCache;
+        this.localCache = Caffeine.newBuilder()
+            .expireAfterWrite(localTimeToLive)
+            .maximumSize(localMaximumSize)
+            .build();
+        this.invalidationPublisher = invalidationPublisher;
+        this.origin = origin;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    public ValueWrapper get(final Object key) {
+        final String localKey = toLocalKey(key);
+
+        final ValueWrapper localValueWrapper = localCache.getIfPresent(localKey);
+        if (localValueWrapper != null) {
+            return localValueWrapper;
+        }
+
+        final ValueWrapper remoteValueWrapper = getRemote(key);
+        if (remoteValueWrapper != null) {
+            localCache.put(localKey, remoteValueWrapper);
+        }
+        return remoteValueWrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Class<T> type) {
+        final ValueWrapper valueWrapper = get(key);
+        final Object value = valueWrapper != null ? valueWrapper.get() : null;
+
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        // The local entry is computed atomically, concurrent callers of the same key wait for this load.
+        final ValueWrapper valueWrapper = localCache.get(toLocalKey(key), localKey -> {
+            final ValueWrapper remoteValueWrapper = getRemote(key);
+            if (remoteValueWrapper != null) {
+                return remoteValueWrapper;
+            }
+
+            final T value;
+            try {
+                value = valueLoader.call();
+            } catch (final Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            putRemote(key, value);
+            return new SimpleValueWrapper(value);
+        });
+        return (T) valueWrapper.get();
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        // A put follows a miss, other nodes either have no local entry or one that expires soon, so it is not published.
+        putRemote(key, value);
+        localCache.put(toLocalKey(key), new SimpleValueWrapper(value));
+    }
+
+    @Override
+    public void evict(final Object key) {
+        final String localKey = toLocalKey(key);
+
+        if (remoteCache != null) {
+            try {
+                remoteCache.evict(key);
+            } catch (final RuntimeException e) {
+                log.warn("Cache {} evict failed on the remote tier : {}", name, e.getMessage());
+            }
+        }
+        localCache.invalidate(localKey);
+        publish(localKey);
+    }
+
+    @Override
+    public void clear() {
+        if (remoteCache != null) {
+            try {
+                remoteCache.clear();
+            } catch (final RuntimeException e) {
+                log.warn("Cache {} clear failed on the remote tier : {}", name, e.getMessage());
+            }
+        }
+        localCache.invalidateAll();
+        publish(null);
+    }
+
+    /**
+     * Applies an eviction published by another node to the local tier.
+     *
+     * @param cacheInvalidationMessage The published eviction.
+     */
+    public void invalidateLocal(final CacheInvalidationMessage cacheInvalidationMessage) {
+        if (origin.equals(cacheInvalidationMessage.origin())) {
+            return;
+        }
+
+        if (cacheInvalidationMessage.key() == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(cacheInvalidationMessage.key());
+        }
+    }
+
+    private ValueWrapper getRemote(final Object key) {
+        if (remoteCache == null) {
+            return null;
+        }
+
+        // The remote tier is a cache, when it is unavailable values are loaded instead of failing the request.
+        try {
+            return remoteCache.get(key);
+        } catch (final RuntimeException e) {
+            log.warn("Cache {} get failed on the remote tier : {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRemote(final Object key, final Object value) {
+        if (remoteCache == null) {
+            return;
+        }
+
+        try {
+            remoteCache.put(key, value);
+        } catch (final RuntimeException e) {
+            log.warn("Cache {} put failed on the remote tier : {}", name, e.getMessage());
+        }
+    }
+
+    private void publish(final String localKey) {
+        if (invalidationPublisher == null) {
+            return;
+        }
+
+        try {
+            invalidationPublisher.accept(new CacheInvalidationMessage(origin, name, localKey));
+        } catch (final RuntimeException e) {
+            log.warn("Cache {} invalidation could not be published : {}", name, e.getMessage());
+        }
+    }
+
+    // Keys are published to the other nodes, so the local tier uses the same string form as the Redis keys.
+    private static String toLocalKey(final Object key) {
+        return String.valueOf(key);
+    }
+}
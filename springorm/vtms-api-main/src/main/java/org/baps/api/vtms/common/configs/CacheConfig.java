@@ -0,0 +1,182 @@
+package org.baps.api.vtms.common.configs;
+
+import org.baps.api.vtms.common.cache.CacheInvalidationMessage;
+import org.baps.api.vtms.common.cache.TwoTierCache;
+import org.baps.api.vtms.constants.CacheConstant;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Cache manager of the public read endpoints. Every cache is a {@link TwoTierCache}: a local tier per node in front of
+ * Redis, with evictions published on a Redis channel. When Redis is disabled the caches are local only. The manager is
+ * not created when spring.cache.type is none, Spring Boot then provides a no-op cache manager.
+ *
+ * <p>The caches are transaction aware: puts, evictions and clears made in a transaction, such as a @CacheEvict of a
+ * transactional method, are applied after the commit, so the evicted entry cannot be reloaded from uncommitted data.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${spring.cache.type:}' != 'none'")
+@SuppressFBWarnings({"EI_EXPOSE_REP2"})
+public class CacheConfig {
+
+    private static final String CACHE_PROPERTY_PREFIX = "two_tier_cache.caches.";
+
+    @Value("${redis.enable}")
+    private boolean isRedisEnable;
+
+    @Value("${spring.cache.redis.key-prefix:vtms::}")
+    private String keyPrefix;
+
+    @Value("${spring.cache.redis.cache-null-values:true}")
+    private boolean cacheNullValues;
+
+    @Value("${spring.cache.redis.time-to-live:1m}")
+    private Duration defaultTimeToLive;
+
+    @Value("${two_tier_cache.local-time-to-live:30s}")
+    private Duration defaultLocalTimeToLive;
+
+    @Value("${two_tier_cache.local-maximum-size:1000}")
+    private int defaultLocalMaximumSize;
+
+    @Value("${two_tier_cache.invalidation-channel:vtms::cache-invalidation}")
+    private String invalidationChannel;
+
+    private final Environment environment;
+
+    private final ObjectMapper objectMapper;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // Identifies this node in the invalidation messages, so it ignores its own.
+    private final String origin = UUID.randomUUID().toString();
+
+    /**
+     * Creates the two tier caches of {@link CacheConstant#CACHE_NAMES}. The time to live of the Redis tier, and the time
+     * to live and maximum size of the local tier, are read per cache from two_tier_cache.caches.[cache name] and default
+     * to spring.cache.redis.time-to-live, two_tier_cache.local-time-to-live and two_tier_cache.local-maximum-size.
+     *
+     * @param redisConnectionFactory The Redis connection factory, only used when Redis is enabled.
+     * @return The cache manager.
+     */
+    @Bean
+    public CacheManager cacheManager(final RedisConnectionFactory redisConnectionFactory) {
+        final RedisCacheManager redisCacheManager = isRedisEnable ? createRedisCacheManager(redisConnectionFactory) : null;
+        final Consumer<CacheInvalidationMessage> invalidationPublisher = isRedisEnable ? this::publish : null;
+
+        final List<Cache> cacheList = new ArrayList<>();
+        for (final String cacheName : CacheConstant.CACHE_NAMES) {
+            cacheList.add(new TransactionAwareCacheDecorator(new TwoTierCache(cacheName,
+                redisCacheManager != null ? redisCacheManager.getCache(cacheName) : null,
+                getCacheProperty(cacheName, "local-time-to-live", Duration.class, defaultLocalTimeToLive),
+                getCacheProperty(cacheName, "local-maximum-size", Integer.class, defaultLocalMaximumSize),
+                invalidationPublisher, origin)));
+        }
+
+        final SimpleCacheManager simpleCacheManager = new SimpleCacheManager();
+        simpleCacheManager.setCaches(cacheList);
+        return simpleCacheManager;
+    }
+
+    /**
+     * Listens to the evictions published by the other nodes and applies them to the local tier of the caches.
+     *
+     * @param redisConnectionFactory The Redis connection factory.
+     * @param cacheManager           The cache manager holding the two tier caches.
+     * @return The listener container subscribed to the invalidation channel.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "redis.enable", havingValue = "true")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(final RedisConnectionFactory redisConnectionFactory,
+            final CacheManager cacheManager) {
+
+        final RedisMessageListenerContainer redisMessageListenerContainer = new RedisMessageListenerContainer();
+        redisMessageListenerContainer.setConnectionFactory(redisConnectionFactory);
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                final CacheInvalidationMessage cacheInvalidationMessage = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), CacheInvalidationMessage.class);
+
+                Cache cache = cacheManager.getCache(cacheInvalidationMessage.cacheName());
+                if (cache instanceof TransactionAwareCacheDecorator transactionAwareCacheDecorator) {
+                    cache = transactionAwareCacheDecorator.getTargetCache();
+                }
+                if (cache instanceof TwoTierCache twoTierCache) {
+                    twoTierCache.invalidateLocal(cacheInvalidationMessage);
+                }
+            } catch (final IOException e) {
+                log.warn("Invalid cache invalidation message : {}", e.getMessage());
+            }
+        }, new ChannelTopic(invalidationChannel));
+
+        return redisMessageListenerContainer;
+    }
+
+    private RedisCacheManager createRedisCacheManager(final RedisConnectionFactory redisConnectionFactory) {
+        RedisCacheConfiguration defaultRedisCacheConfiguration = RedisCacheConfiguration
+            .defaultCacheConfig(getClass().getClassLoader())
+            .prefixCacheNameWith(keyPrefix);
+        if (!cacheNullValues) {
+            defaultRedisCacheConfiguration = defaultRedisCacheConfiguration.disableCachingNullValues();
+        }
+
+        final Map<String, RedisCacheConfiguration> redisCacheConfigurationMap = new HashMap<>();
+        for (final String cacheName : CacheConstant.CACHE_NAMES) {
+            redisCacheConfigurationMap.put(cacheName, defaultRedisCacheConfiguration
+                .entryTtl(getCacheProperty(cacheName, "time-to-live", Duration.class, defaultTimeToLive)));
+        }
+
+        final RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
+            .cacheDefaults(defaultRedisCacheConfiguration.entryTtl(defaultTimeToLive))
+            .withInitialCacheConfigurations(redisCacheConfigurationMap)
+            .build();
+        redisCacheManager.initializeCaches();
+        return redisCacheManager;
+    }
+
+    private void publish(final CacheInvalidationMessage cacheInvalidationMessage) {
+        try {
+            stringRedisTemplate.convertAndSend(invalidationChannel, objectMapper.writeValueAsString(cacheInvalidationMessage));
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> T getCacheProperty(final String cacheName, final String propertyName, final Class<T> propertyType,
+            final T defaultValue) {
+        return environment.getProperty(CACHE_PROPERTY_PREFIX + cacheName + "." + propertyName, propertyType, defaultValue);
+    }
+}
@@ -10,8 +10,56 @@ public class CronConfig {
     @Value("${daily-visit-list-cron}")
     private String dailyVisitListCron;
 
+    @Value("${visit-daily-rollup-rebuild-cron}")
+    private String visitDailyRollupRebuildCron;
+
+    @Value("${visit-feedback-daily-rollup-rebuild-cron}")
+    private String visitFeedbackDailyRollupRebuildCron;
+
+    @Value("${lookup-dictionary-refresh-cron}")
+    private String lookupDictionaryRefreshCron;
+
+    @Value("${notification-outbox-dispatch-cron}")
+    private String notificationOutboxDispatchCron;
+
+    @Value("${notification-outbox-purge-cron}")
+    private String notificationOutboxPurgeCron;
+
+    @Value("${notification-template-refresh-cron}")
+    private String notificationTemplateRefreshCron;
+
     @Bean
     public String getDailyVisitListCron() {
         return dailyVisitListCron;
     }
+
+    @Bean
+    public String getVisitDailyRollupRebuildCron() {
+        return visitDailyRollupRebuildCron;
+    }
+
+    @Bean
+    public String getVisitFeedbackDailyRollupRebuildCron() {
+        return visitFeedbackDailyRollupRebuildCron;
+    }
+
+    @Bean
+    public String getLookupDictionaryRefreshCron() {
+        return lookupDictionaryRefreshCron;
+    }
+
+    @Bean
+    public String getNotificationOutboxDispatchCron() {
+        return notificationOutboxDispatchCron;
+    }
+
+    @Bean
+    public String getNotificationOutboxPurgeCron() {
+        return notificationOutboxPurgeCron;
+    }
+
+    @Bean
+    public String getNotificationTemplateRefreshCron() {
+        return notificationTemplateRefreshCron;
+    }
 }
@@ -0,0 +1,54 @@
+package org.baps.api.vtms.common.configs;
+
+import org.baps.api.vtms.common.logging.MeteredAsyncAppender;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+
+@Configuration
+public class LoggingMetricsConfig {
+
+    private static final String DROPPED_EVENTS_METRIC_NAME = "vtms.logging.events.dropped";
+
+    /**
+     * Exposes the number of log events dropped by every async appender of the logback configuration.
+     *
+     * @return The MeterBinder registering a counter per async appender.
+     */
+    @Bean
+    public MeterBinder asyncAppenderMeterBinder() {
+        return meterRegistry -> {
+            if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+                return;
+            }
+
+            // The same appender is usually attached to several loggers, it is registered once.
+            final Set<String> appenderNameSet = new HashSet<>();
+            for (final Logger logger : loggerContext.getLoggerList()) {
+                final Iterator<Appender<ILoggingEvent>> appenderIterator = logger.iteratorForAppenders();
+                while (appenderIterator.hasNext()) {
+                    if (appenderIterator.next() instanceof MeteredAsyncAppender meteredAsyncAppender
+                        && appenderNameSet.add(meteredAsyncAppender.getName())) {
+                        FunctionCounter
+                            .builder(DROPPED_EVENTS_METRIC_NAME, meteredAsyncAppender, MeteredAsyncAppender::getDroppedEventCount)
+                            .description("Log events dropped by the async appender")
+                            .tag("appender", meteredAsyncAppender.getName())
+                            .register(meterRegistry);
+                    }
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package org.baps.api.vtms.common.configs;
+
+import org.baps.api.vtms.common.metrics.RequestSqlStatistics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Records the timers of the classes and methods annotated with @Timed.
+     *
+     * @param meterRegistry The registry of the timers.
+     * @return The TimedAspect.
+     */
+    @Bean
+    public TimedAspect timedAspect(final MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * Counts the SQL statements prepared and the entities loaded by Hibernate for the current request.
+     *
+     * @return The HibernatePropertiesCustomizer registering the statement inspector and the interceptor.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer requestSqlStatisticsHibernatePropertiesCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                RequestSqlStatistics.recordStatement(sql);
+                return sql;
+            });
+            hibernateProperties.put(AvailableSettings.INTERCEPTOR, new Interceptor() {
+                @Override
+                public boolean onLoad(final Object entity, final Object id, final Object[] state, final String[] propertyNames,
+                        final Type[] types) {
+                    RequestSqlStatistics.recordEntityLoad();
+                    return false;
+                }
+            });
+        };
+    }
+}
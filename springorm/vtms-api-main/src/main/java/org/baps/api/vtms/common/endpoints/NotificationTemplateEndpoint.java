@@ -0,0 +1,40 @@
+package org.baps.api.vtms.common.endpoints;
+
+import org.baps.api.vtms.enumerations.NotificationTemplateEnum;
+import org.baps.api.vtms.services.NotificationTemplateService;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Management endpoint of the notification template registry, under the management base path. It is reachable by any
+ * authenticated personnel, so it only lists the templates, the registry is reloaded by the scheduled refresh.
+ */
+@Component
+@Endpoint(id = "notificationtemplates")
+@RequiredArgsConstructor
+@SuppressFBWarnings({"EI_EXPOSE_REP2"})
+public class NotificationTemplateEndpoint {
+
+    private final NotificationTemplateService notificationTemplateService;
+
+    /**
+     * Retrieves the notification templates with and without a configuration.
+     *
+     * @return The loaded and missing notification templates.
+     */
+    @ReadOperation
+    public NotificationTemplateRegistryModel getNotificationTemplates() {
+        return new NotificationTemplateRegistryModel(notificationTemplateService.getLoadedNotificationTemplates(),
+            notificationTemplateService.getMissingNotificationTemplates());
+    }
+
+    public record NotificationTemplateRegistryModel(Set<NotificationTemplateEnum> loaded, Set<NotificationTemplateEnum> missing) {
+    }
+}
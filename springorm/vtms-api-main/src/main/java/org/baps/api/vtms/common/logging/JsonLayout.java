@@ -0,0 +1,52 @@
+package org.baps.api.vtms.common.logging;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.Map;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.LayoutBase;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Logback layout writing every event as a single line JSON object, with the request id and the other MDC values
+ * as top level fields.
+ */
+public class JsonLayout extends LayoutBase<ILoggingEvent> {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    @Override
+    public String doLayout(final ILoggingEvent event) {
+        final StringWriter stringWriter = new StringWriter(256);
+
+        try (JsonGenerator jsonGenerator = JSON_FACTORY.createGenerator(stringWriter)) {
+            jsonGenerator.writeStartObject();
+            jsonGenerator.writeStringField("timestamp", Instant.ofEpochMilli(event.getTimeStamp()).toString());
+            jsonGenerator.writeStringField("level", event.getLevel().toString());
+            jsonGenerator.writeStringField("thread", event.getThreadName());
+            jsonGenerator.writeStringField("logger", event.getLoggerName());
+
+            for (final Map.Entry<String, String> mdcEntry : event.getMDCPropertyMap().entrySet()) {
+                jsonGenerator.writeStringField(mdcEntry.getKey(), mdcEntry.getValue());
+            }
+
+            jsonGenerator.writeStringField("message", event.getFormattedMessage());
+
+            final IThrowableProxy throwableProxy = event.getThrowableProxy();
+            if (throwableProxy != null) {
+                jsonGenerator.writeStringField("stackTrace", ThrowableProxyUtil.asString(throwableProxy));
+            }
+            jsonGenerator.writeEndObject();
+        } catch (final IOException e) {
+            addError("Error in JsonLayout: ", e);
+        }
+
+        return stringWriter.append(CoreConstants.LINE_SEPARATOR).toString();
+    }
+}
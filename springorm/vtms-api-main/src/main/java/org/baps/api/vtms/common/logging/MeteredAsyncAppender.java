@@ -0,0 +1,30 @@
+package org.baps.api.vtms.common.logging;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * Async appender counting the events it drops. Events are dropped when the queue is full and neverBlock is set, and
+ * TRACE, DEBUG and INFO events are dropped when the remaining capacity is below the discarding threshold.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+    private final LongAdder droppedEventCount = new LongAdder();
+
+    @Override
+    protected void append(final ILoggingEvent event) {
+        // Checked before the event is queued, so the count is approximate while the queue is near a threshold.
+        final int remainingCapacity = getRemainingCapacity();
+        if (remainingCapacity == 0 && isNeverBlock()
+            || remainingCapacity < getDiscardingThreshold() && isDiscardable(event)) {
+            droppedEventCount.increment();
+        }
+        super.append(event);
+    }
+
+    public long getDroppedEventCount() {
+        return droppedEventCount.sum();
+    }
+}
@@ -0,0 +1,122 @@
+package org.baps.api.vtms.common.metrics;
+
+import org.baps.api.vtms.enumerations.SqlStatementTypeEnum;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * SQL statements executed and entities loaded while serving the current request. Statistics are bound to the request
+ * thread, statements executed on other threads are not counted.
+ */
+public final class RequestSqlStatistics {
+
+    private static final ThreadLocal<RequestSqlStatistics> CURRENT_REQUEST_SQL_STATISTICS = new ThreadLocal<>();
+
+    // Distinct statements kept for the slow request breakdown, further statements are only counted by type.
+    private static final int MAX_DISTINCT_STATEMENTS = 100;
+
+    private static final int MAX_BREAKDOWN_STATEMENTS = 10;
+
+    private static final int MAX_STATEMENT_LENGTH = 200;
+
+    private final Map<SqlStatementTypeEnum, Integer> statementTypeCountMap = new EnumMap<>(SqlStatementTypeEnum.class);
+
+    private final Map<String, Integer> statementCountMap = new LinkedHashMap<>();
+
+    private int statementCount;
+
+    private int loadedEntityCount;
+
+    private RequestSqlStatistics() {
+    }
+
+    /**
+     * Starts collecting the statistics of the current request thread.
+     */
+    public static void start() {
+        CURRENT_REQUEST_SQL_STATISTICS.set(new RequestSqlStatistics());
+    }
+
+    /**
+     * Stops collecting the statistics of the current request thread.
+     *
+     * @return The statistics of the request, null if the collection was not started.
+     */
+    public static RequestSqlStatistics end() {
+        final RequestSqlStatistics requestSqlStatistics = CURRENT_REQUEST_SQL_STATISTICS.get();
+        CURRENT_REQUEST_SQL_STATISTICS.remove();
+        return requestSqlStatistics;
+    }
+
+    /**
+     * Records a statement prepared on the current thread, if the statistics are collected.
+     *
+     * @param sql The SQL of the statement.
+     */
+    public static void recordStatement(final String sql) {
+        final RequestSqlStatistics requestSqlStatistics = CURRENT_REQUEST_SQL_STATISTICS.get();
+        if (requestSqlStatistics != null) {
+            requestSqlStatistics.statementCount++;
+            requestSqlStatistics.statementTypeCountMap.merge(getStatementType(sql), 1, Integer::sum);
+            if (requestSqlStatistics.statementCountMap.size() < MAX_DISTINCT_STATEMENTS
+                || requestSqlStatistics.statementCountMap.containsKey(sql)) {
+                requestSqlStatistics.statementCountMap.merge(sql, 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Records an entity row loaded on the current thread, if the statistics are collected.
+     */
+    public static void recordEntityLoad() {
+        final RequestSqlStatistics requestSqlStatistics = CURRENT_REQUEST_SQL_STATISTICS.get();
+        if (requestSqlStatistics != null) {
+            requestSqlStatistics.loadedEntityCount++;
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public int getLoadedEntityCount() {
+        return loadedEntityCount;
+    }
+
+    /**
+     * Describes the statements of the request: the count per statement type, then the most executed statements.
+     *
+     * @return The statement breakdown.
+     */
+    public String getStatementBreakdown() {
+        final String statementTypeCounts = statementTypeCountMap.entrySet().stream()
+            .map(statementTypeCountEntry -> statementTypeCountEntry.getKey() + "=" + statementTypeCountEntry.getValue())
+            .collect(Collectors.joining(" "));
+
+        final String topStatements = statementCountMap.entrySet().stream()
+            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+            .limit(MAX_BREAKDOWN_STATEMENTS)
+            .map(statementCountEntry -> statementCountEntry.getValue() + "x "
+                + StringUtils.abbreviate(statementCountEntry.getKey(), MAX_STATEMENT_LENGTH))
+            .collect(Collectors.joining(" | "));
+
+        return statementTypeCounts + " TopStatements=[" + topStatements + "]";
+    }
+
+    private static SqlStatementTypeEnum getStatementType(final String sql) {
+        final String keyword = StringUtils.substringBefore(StringUtils.stripStart(sql, null), " ").toUpperCase(Locale.ROOT);
+        return switch (keyword) {
+            case "SELECT", "WITH" -> SqlStatementTypeEnum.SELECT;
+            case "INSERT" -> SqlStatementTypeEnum.INSERT;
+            case "UPDATE" -> SqlStatementTypeEnum.UPDATE;
+            case "DELETE" -> SqlStatementTypeEnum.DELETE;
+            default -> SqlStatementTypeEnum.OTHER;
+        };
+    }
+}
@@ -0,0 +1,86 @@
+package org.baps.api.vtms.common.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Text template with ${NAME} placeholders. The template is parsed once into its literal segments and placeholder
+ * names, and rendering appends them to a builder, so rendering a template many times costs one pass over its
+ * segments instead of a search and a splice per placeholder. Instances are immutable and thread safe.
+ */
+public final class PlaceholderTemplate {
+
+    private static final String PLACEHOLDER_PREFIX = "${";
+
+    private static final String PLACEHOLDER_SUFFIX = "}";
+
+    // literals[i] precedes placeholderNames[i], the last literal follows the last placeholder.
+    private final String[] literals;
+
+    private final String[] placeholderNames;
+
+    private final int literalLength;
+
+    private PlaceholderTemplate(final List<String> literalList, final List<String> placeholderNameList) {
+        this.literals = literalList.toArray(String[]::new);
+        this.placeholderNames = placeholderNameList.toArray(String[]::new);
+        this.literalLength = literalList.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Parses a template. Text that is not a complete placeholder is kept as literal text.
+     *
+     * @param template The template text.
+     * @return The parsed template.
+     */
+    public static PlaceholderTemplate compile(final String template) {
+        final List<String> literalList = new ArrayList<>();
+        final List<String> placeholderNameList = new ArrayList<>();
+
+        int position = 0;
+        while (true) {
+            final int prefixIndex = template.indexOf(PLACEHOLDER_PREFIX, position);
+            final int suffixIndex = prefixIndex < 0 ? -1 : template.indexOf(PLACEHOLDER_SUFFIX, prefixIndex + PLACEHOLDER_PREFIX.length());
+            if (suffixIndex < 0) {
+                break;
+            }
+            literalList.add(template.substring(position, prefixIndex));
+            placeholderNameList.add(template.substring(prefixIndex + PLACEHOLDER_PREFIX.length(), suffixIndex));
+            position = suffixIndex + PLACEHOLDER_SUFFIX.length();
+        }
+        literalList.add(template.substring(position));
+
+        return new PlaceholderTemplate(literalList, placeholderNameList);
+    }
+
+    /**
+     * Retrieves the length of the template without its placeholders, used to presize the builder of the rendered text.
+     *
+     * @return The total length of the literal segments.
+     */
+    public int getLiteralLength() {
+        return literalLength;
+    }
+
+    /**
+     * Renders the template by appending it to a builder. Placeholders without a value are appended unchanged.
+     *
+     * @param stringBuilder The builder the rendered text is appended to.
+     * @param valueMap      The values of the placeholders by name.
+     * @return The builder.
+     */
+    public StringBuilder render(final StringBuilder stringBuilder, final Map<String, String> valueMap) {
+        for (int index = 0; index < placeholderNames.length; index++) {
+            stringBuilder.append(literals[index]);
+
+            final String value = valueMap.get(placeholderNames[index]);
+            if (value != null) {
+                stringBuilder.append(value);
+            } else {
+                stringBuilder.append(PLACEHOLDER_PREFIX).append(placeholderNames[index]).append(PLACEHOLDER_SUFFIX);
+            }
+        }
+        return stringBuilder.append(literals[placeholderNames.length]);
+    }
+}
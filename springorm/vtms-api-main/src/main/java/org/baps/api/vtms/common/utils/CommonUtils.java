@@ -5,6 +5,7 @@ import org.baps.api.vtms.constants.GeneralConstant;
 import org.baps.api.vtms.enumerations.VisitStageEnum;
 import org.baps.api.vtms.enumerations.VisitTypeEnum;
 import org.baps.api.vtms.exceptions.DataValidationException;
+import org.baps.api.vtms.models.base.KeysetPage;
 import org.baps.api.vtms.models.base.PaginatedResponse;
 
 import lombok.RequiredArgsConstructor;
@@ -14,7 +15,9 @@ import org.springframework.stereotype.Component;
 
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -35,6 +38,8 @@ import org.apache.commons.lang3.StringUtils;
 @Component
 @RequiredArgsConstructor
 public class CommonUtils {
+
+    private static final LocalTime LAST_SECOND_OF_DAY = LocalTime.of(23, 59, 59);
     
     private final Translator translator;
     
@@ -56,6 +61,29 @@ public class CommonUtils {
         return paginatedResponse;
     }
 
+    /**
+     * Prepares a {@link PaginatedResponse} for a page read with keyset pagination.
+     *
+     * @param keysetPage The KeysetPage containing the page content and the cursor of the next page.
+     * @param totalCount The total number of items, or null when the client skipped the count.
+     * @param pageSize   The requested number of items per page.
+     * @param response   The response data to be included in the paginated response.
+     * @param <T>        The type of the response data.
+     * @return A PaginatedResponse containing the cursor of the next page and the response data.
+     */
+    public static <T> PaginatedResponse<T> calculateKeysetPaginationAndPrepareResponse(final KeysetPage<?> keysetPage,
+            final Long totalCount, final int pageSize, final T response) {
+        final PaginatedResponse<T> paginatedResponse = new PaginatedResponse<>();
+        paginatedResponse.setTotalCount(totalCount);
+        if (totalCount != null) {
+            paginatedResponse.setTotalPages((int) Math.ceil((double) totalCount / pageSize));
+        }
+        paginatedResponse.setPageSize(keysetPage.getContent().size());
+        paginatedResponse.setNextCursor(keysetPage.getNextCursor());
+        paginatedResponse.setResponse(response);
+        return paginatedResponse;
+    }
+
     /**
      * Creates an empty {@link PaginatedResponse} object with the specified page number and page size.
      *
@@ -198,4 +226,27 @@ public class CommonUtils {
         }
         return Collections.emptyList();
     }
+
+    /**
+     * Retrieves the first date fully covered by a date time range starting at the given date time.
+     *
+     * @param startDateTime The start date and time of the range, inclusive.
+     * @return The date of the start date time when it is at midnight, the next date otherwise.
+     */
+    public static LocalDate getFirstFullDate(final LocalDateTime startDateTime) {
+        return startDateTime.toLocalTime().equals(LocalTime.MIDNIGHT)
+                ? startDateTime.toLocalDate() : startDateTime.toLocalDate().plusDays(1);
+    }
+
+    /**
+     * Retrieves the last date fully covered by a date time range ending at the given date time. Date times are sent
+     * with a precision of seconds, so an end date time at the last second of a day covers the whole day.
+     *
+     * @param endDateTime The end date and time of the range, inclusive.
+     * @return The date of the end date time when it is at the last second of the day, the previous date otherwise.
+     */
+    public static LocalDate getLastFullDate(final LocalDateTime endDateTime) {
+        return endDateTime.toLocalTime().isBefore(LAST_SECOND_OF_DAY)
+                ? endDateTime.toLocalDate().minusDays(1) : endDateTime.toLocalDate();
+    }
 }
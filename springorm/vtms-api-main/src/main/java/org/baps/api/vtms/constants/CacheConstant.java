@@ -0,0 +1,22 @@
+package org.baps.api.vtms.constants;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.List;
+
+@UtilityClass
+public class CacheConstant {
+
+    public static final String PUBLIC_LOOKUPS = "public-lookups";
+
+    public static final String PUBLIC_COUNTRIES = "public-countries";
+
+    public static final String PUBLIC_STATES = "public-states";
+
+    public static final String PUBLIC_LOCATIONS = "public-locations";
+
+    public static final String PUBLIC_TOUR_SLOTS = "public-tour-slots";
+
+    public static final List<String> CACHE_NAMES = List.of(PUBLIC_LOOKUPS, PUBLIC_COUNTRIES, PUBLIC_STATES, PUBLIC_LOCATIONS,
+        PUBLIC_TOUR_SLOTS);
+}
@@ -72,6 +72,25 @@ public class NotificationConstant {
     public static final String VISIT_LIST_DATA = "visitListData";
 
     public static final String VISIT_FEEDBACK_PATH = "/feedback";
+
+    // Parameters of the notifications written to the notification outbox, read back by the dispatcher to compose them.
+    public static final String PARAMETER_SITE_UUCODE = "siteUUCode";
+
+    public static final String PARAMETER_PERSONNEL_ID = "personnelId";
+
+    public static final String PARAMETER_ROLE_NAME = "roleName";
+
+    public static final String PARAMETER_SERVICE_NAME = "serviceName";
+
+    public static final String PARAMETER_MEETING_START_DATE_TIME = "meetingStartDateTime";
+
+    public static final String PARAMETER_MEETING_END_DATE_TIME = "meetingEndDateTime";
+
+    public static final String PARAMETER_VISIT_DATE = "visitDate";
+
+    public static final String PARAMETER_VISIT_IDS = "visitIds";
+
+    public static final String PARAMETER_VISIT_IDS_SEPARATOR = ",";
     
     public static final String PUBLIC_VISIT_PAGE_LINK = "publicVisitLink";
 
@@ -5,6 +5,7 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public class SpecificationConstants {
 
+    public static final String VISIT = "visit";
     public static final String VISIT_ID = "visitId";
     public static final String VISITOR_ID = "visitorId";
     public static final String VISIT_LIST_VISIT_ID = "visitList.visitId";
@@ -47,6 +48,12 @@ public class SpecificationConstants {
     public static final String VISIT_VISITOR_LIST_VISITOR_EMAIL = "visitVisitorList.visitor.email";
     public static final String VISIT_VISITOR_LIST_VISITOR_PHONE_NUMBER = "visitVisitorList.visitor.phoneNumber";
     public static final String VISIT_VISITOR_LIST_VISITOR_PHONE_COUNTRY_CODE = "visitVisitorList.visitor.phoneCountryCode";
+    public static final String VISIT_VISITOR_LIST_VISITOR_SEARCH_FULL_NAME = "visitVisitorList.visitor.searchFullName";
+    public static final String VISIT_VISITOR_LIST_VISITOR_SEARCH_PHONE = "visitVisitorList.visitor.searchPhone";
+    public static final String VISIT_VISITOR_LIST_VISITOR_SEARCH_EMAIL = "visitVisitorList.visitor.searchEmail";
+    public static final String SEARCH_FULL_NAME = "searchFullName";
+    public static final String SEARCH_PHONE = "searchPhone";
+    public static final String SEARCH_EMAIL = "searchEmail";
     public static final String VISIT_VISITOR_LIST_VISITOR_CITY = "visitVisitorList.visitor.city";
     public static final String VISIT_VISITOR_LIST_VISITOR_STATE = "visitVisitorList.visitor.state";
     public static final String VISIT_VISITOR_LIST_VISITOR_COUNTRY = "visitVisitorList.visitor.country";
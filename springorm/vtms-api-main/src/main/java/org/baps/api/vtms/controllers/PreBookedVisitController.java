@@ -85,14 +85,16 @@ public class PreBookedVisitController {
             + "&& @siteService.siteExistsByUUCode(#siteUUCode)")
     public ResponseEntity<PaginatedResponse<List<PreBookedVisitBasicModel>>> getPaginatedPreBookedVisitsWithFilters(
         @RequestHeader(name = GeneralConstant.X_APP_SITE_UUCODE) final String siteUUCode,
-        @Min(1) @RequestParam(value = "pageNo") final Integer pageNo,
+        @Min(1) @RequestParam(value = "pageNo", required = false, defaultValue = "1") final Integer pageNo,
         @Min(1) @RequestParam(value = "pageSize") final Integer pageSize,
         @RequestParam(value = "search", required = false) final String search,
         @RequestParam(value = "tourSlotId") final String tourSlotId,
         @RequestParam(value = "visitStage", required = false) final String visitStage,
-        @RequestParam(value = "selfAssignVisit", required = false) final boolean selfAssignVisit) {
+        @RequestParam(value = "selfAssignVisit", required = false) final boolean selfAssignVisit,
+        @RequestParam(value = "cursor", required = false) final String cursor,
+        @RequestParam(value = "includeTotalCount", required = false, defaultValue = "true") final boolean includeTotalCount) {
 
         return ResponseEntity.status(HttpStatus.OK).body(preBookedVisitService.getPaginatedPreBookedVisitsWithFilters(
-            pageNo, pageSize, visitStage, search, tourSlotId, siteUUCode, selfAssignVisit));
+            pageNo, pageSize, visitStage, search, tourSlotId, siteUUCode, selfAssignVisit, cursor, includeTotalCount));
     }
 }
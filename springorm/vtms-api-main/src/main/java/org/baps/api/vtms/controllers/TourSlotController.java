@@ -140,7 +140,7 @@ public class TourSlotController {
             + "&& @siteService.siteExistsByUUCode(#siteUUCode)")
     public ResponseEntity<PaginatedResponse<List<TourSlotModel>>> getPaginatedVisitAssociatedTourSlot(
             @RequestHeader(name = GeneralConstant.X_APP_SITE_UUCODE) final String siteUUCode,
-            @Min(1) @RequestParam(value = "pageNo") final int pageNo,
+            @Min(1) @RequestParam(value = "pageNo", required = false, defaultValue = "1") final int pageNo,
             @Min(1) @RequestParam(value = "pageSize") final int pageSize,
             @RequestParam(required = false) final String search,
             @DateTimeFormat(pattern = GeneralConstant.DATE_TIME_FORMAT)
@@ -154,12 +154,14 @@ public class TourSlotController {
             @RequestParam(value = "sortDirection", required = false) final String sortDirection,
             @RequestParam(value = "sortProperty", required = false) final String sortProperty,
             @RequestParam(value = "selfAssignVisit") final boolean selfAssignVisit,
-            @RequestParam(value = "hasVisit", required = false) final boolean hasVisit) {
+            @RequestParam(value = "hasVisit", required = false) final boolean hasVisit,
+            @RequestParam(value = "cursor", required = false) final String cursor,
+            @RequestParam(value = "includeTotalCount", required = false, defaultValue = "true") final boolean includeTotalCount) {
         
         final String searchFilter = StringUtils.isNotBlank(search) ? CommonUtils.decoderUTF(search) : null;
 
         return ResponseEntity.status(HttpStatus.OK).body(tourSlotService.getPaginatedVisitAssociatedTourSlot(pageNo, pageSize, 
                 sortDirection, sortProperty, searchFilter, startDateTime, endDateTime, visitStage, siteUUCode, selfAssignVisit, 
-                hasVisit));
+                hasVisit, cursor, includeTotalCount));
     }
 }
@@ -103,7 +103,7 @@ public class VisitController {
             + "&& @siteService.siteExistsByUUCode(#siteUUCode)")
     public ResponseEntity<PaginatedResponse<List<VisitBasicInfoModel>>> getPaginatedVisitsWithFilters(
             @RequestHeader(name = GeneralConstant.X_APP_SITE_UUCODE) final String siteUUCode,
-            @Min(1) @RequestParam(value = "pageNo") final Integer pageNo,
+            @Min(1) @RequestParam(value = "pageNo", required = false, defaultValue = "1") final Integer pageNo,
             @Min(1) @RequestParam(value = "pageSize") final Integer pageSize,
             @RequestParam(required = false) final String search,
             @RequestParam(value = "visitStage", required = false) final String visitStage,
@@ -118,11 +118,13 @@ public class VisitController {
             @EnumValue(enumClass = Sort.Direction.class)
             @RequestParam(value = "sortDirection", required = false) final String sortDirection,
             @RequestParam(value = "sortProperty", required = false) final String sortProperty,
-            @RequestParam(value = "selfAssignVisit", required = false) final boolean selfAssignVisit) {
+            @RequestParam(value = "selfAssignVisit", required = false) final boolean selfAssignVisit,
+            @RequestParam(value = "cursor", required = false) final String cursor,
+            @RequestParam(value = "includeTotalCount", required = false, defaultValue = "true") final boolean includeTotalCount) {
 
         return ResponseEntity.ok(visitService.getPaginatedVisitsWithFilters(pageNo, pageSize,
                 sortDirection, sortProperty, search, visitStage, typeOfVisit, startDateTime, endDateTime, siteUUCode, selfAssignVisit,
-            visitorType));
+            visitorType, cursor, includeTotalCount));
     }
 
     @Operation(summary = "Update visit stage")
@@ -0,0 +1,7 @@
+package org.baps.api.vtms.enumerations;
+
+public enum NotificationDeliveryStatusEnum {
+    PENDING,
+    SENT,
+    FAILED;
+}
@@ -0,0 +1,10 @@
+package org.baps.api.vtms.enumerations;
+
+public enum ReferenceDataCacheEnum {
+    SITE,
+    ROLE,
+    SERVICE_TEMPLATE,
+    LOOKUP,
+    COUNTRY,
+    STATE;
+}
@@ -0,0 +1,9 @@
+package org.baps.api.vtms.enumerations;
+
+public enum SqlStatementTypeEnum {
+    SELECT,
+    INSERT,
+    UPDATE,
+    DELETE,
+    OTHER;
+}
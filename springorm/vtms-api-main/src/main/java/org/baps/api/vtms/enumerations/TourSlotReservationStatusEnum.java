@@ -0,0 +1,7 @@
+package org.baps.api.vtms.enumerations;
+
+public enum TourSlotReservationStatusEnum {
+    RESERVED,
+    SLOT_NOT_AVAILABLE,
+    INSUFFICIENT_GUEST_SIZE;
+}
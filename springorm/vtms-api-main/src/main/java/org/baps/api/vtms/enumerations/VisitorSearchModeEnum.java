@@ -0,0 +1,6 @@
+package org.baps.api.vtms.enumerations;
+
+public enum VisitorSearchModeEnum {
+    LIKE,
+    TRIGRAM;
+}
@@ -0,0 +1,13 @@
+package org.baps.api.vtms.exceptions;
+
+import java.io.Serial;
+
+public class ServiceUnavailableException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 2783514290617150346L;
+
+    public ServiceUnavailableException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,13 +1,11 @@
 package org.baps.api.vtms.filters;
 
-import org.baps.api.vtms.common.utils.CommonUtils;
 import org.baps.api.vtms.common.utils.Translator;
 import org.baps.api.vtms.constants.GeneralConstant;
-import org.baps.api.vtms.enumerations.RedisEventEnum;
-import org.baps.api.vtms.models.entities.Personnel;
-import org.baps.api.vtms.repositories.PersonnelRepository;
-import org.baps.api.vtms.services.RedisService;
-import org.baps.api.vtms.services.SsoClientService;
+import org.baps.api.vtms.exceptions.ServiceUnavailableException;
+import org.baps.api.vtms.models.AuthenticatedPersonnel;
+import org.baps.api.vtms.services.AuthTokenCacheService;
+import org.baps.api.vtms.services.AuthenticatedPersonnelService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,21 +13,18 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.TransactionStatus;
-import org.springframework.transaction.support.TransactionCallbackWithoutResult;
-import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Date;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -46,15 +41,9 @@ public class AuthFilter extends OncePerRequestFilter {
     @Value("${public.auth.key}")
     private String publicAuthKey;
 
-    private final SsoClientService ssoClientService;
+    private final AuthTokenCacheService authTokenCacheService;
 
-    private final RedisService redisService;
-
-    private final CommonUtils commonUtils;
-
-    private final PersonnelRepository personnelRepository;
-
-    private final TransactionTemplate transactionTemplate;
+    private final AuthenticatedPersonnelService authenticatedPersonnelService;
 
     private final Translator translator;
 
@@ -81,19 +70,27 @@ public class AuthFilter extends OncePerRequestFilter {
 
         boolean shouldContinue = false;
 
-        if (isWhiteListRequest) {
-            shouldContinue = true;
-        } else {
-            if (isPublicRequest) {
-                shouldContinue = validatePublicUrlToken(request, response);
+        try {
+            if (isWhiteListRequest) {
+                shouldContinue = true;
             } else {
-                shouldContinue = validatePrivateUrlToken(request, response);
+                if (isPublicRequest) {
+                    shouldContinue = validatePublicUrlToken(request, response);
+                } else {
+                    shouldContinue = validatePrivateUrlToken(request, response);
+                }
             }
+        } catch (final ServiceUnavailableException e) {
+            // Answered here, the 403 below would replace the 503 status.
+            log.error("Token could not be validated: {}", e.getMessage());
+            SecurityContextHolder.getContext().setAuthentication(null);
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
         }
 
         if (shouldContinue) {
             filterChain.doFilter(request, response); // Execute the filter chain only if the flag is true
-        } else {
+        } else if (!response.isCommitted()) {
             response.sendError(HttpServletResponse.SC_FORBIDDEN);
         }
     }
@@ -130,87 +127,67 @@ public class AuthFilter extends OncePerRequestFilter {
     }
 
     private boolean validatePrivateUrlToken(final HttpServletRequest request, final HttpServletResponse response) {
-        final var wrapperObject = new Object() {
-            boolean shouldContinue = true;
-        };
-
-        this.transactionTemplate.execute(new TransactionCallbackWithoutResult() {
-            public void doInTransactionWithoutResult(final TransactionStatus status) {
-                try {
-                    final String token = request.getHeader(HttpHeaders.AUTHORIZATION);
-
-                    if (StringUtils.isBlank(token)) {
-                        response.sendError(HttpServletResponse.SC_FORBIDDEN, translator.toLocal("token.is_required"));
-                        wrapperObject.shouldContinue = false;
-                    }
-
-                    String tokenPid = null;
-                    try {
-                        tokenPid = commonUtils.getClaimValue(request.getHeader(HttpHeaders.AUTHORIZATION), "pid").asString();
-                    } catch (final JWTDecodeException e) {
-                        log.error("Error in decode jwt: ", e);
-                        response.sendError(HttpServletResponse.SC_FORBIDDEN, translator.toLocal("invalid.token"));
-                        wrapperObject.shouldContinue = false;
-                    }
-
-                    if (StringUtils.isEmpty(tokenPid)) {
-                        log.error("Empty tokenPid");
-                        response.sendError(HttpServletResponse.SC_FORBIDDEN, translator.toLocal("pid.not.found.in.token"));
-                        wrapperObject.shouldContinue = false;
-                    }
-
-                    if (StringUtils.isBlank(token) || !isAuthorizeRequest(token) || !authorizePID(tokenPid)) {
-                        SecurityContextHolder.getContext().setAuthentication(null);
-                        response.sendError(HttpServletResponse.SC_FORBIDDEN, translator.toLocal("invalid.token"));
-                        wrapperObject.shouldContinue = false;
-                    }
-
-                } catch (NoSuchElementException | IOException e) {
-                    log.error("Error in AuthFilter: ", e);
-                    status.setRollbackOnly();
-                    wrapperObject.shouldContinue = false;
-                }
+        // No transaction is opened here, the cached principal is only loaded in a transaction on a cache miss.
+        boolean shouldContinue = true;
+
+        try {
+            final String token = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+            if (StringUtils.isBlank(token)) {
+                response.sendError(HttpServletResponse.SC_FORBIDDEN, translator.toLocal("token.is_required"));
+                shouldContinue = false;
+            }
+
+            String tokenPid = null;
+            Date tokenExpiresAt = null;
+            try {
+                // Decode the token once, for both the pid and the expiry
+                final DecodedJWT decodedJWT = JWT.decode(token);
+                tokenPid = decodedJWT.getClaim("pid").asString();
+                tokenExpiresAt = decodedJWT.getExpiresAt();
+            } catch (final JWTDecodeException e) {
+                log.error("Error in decode jwt: ", e);
+                response.sendError(HttpServletResponse.SC_FORBIDDEN, translator.toLocal("invalid.token"));
+                shouldContinue = false;
+            }
+
+            if (StringUtils.isEmpty(tokenPid)) {
+                log.error("Empty tokenPid");
+                response.sendError(HttpServletResponse.SC_FORBIDDEN, translator.toLocal("pid.not.found.in.token"));
+                shouldContinue = false;
+            }
+
+            if (StringUtils.isBlank(token) || !isAuthorizeRequest(token, tokenPid, tokenExpiresAt) || !authorizePID(tokenPid)) {
+                SecurityContextHolder.getContext().setAuthentication(null);
+                response.sendError(HttpServletResponse.SC_FORBIDDEN, translator.toLocal("invalid.token"));
+                shouldContinue = false;
             }
-        });
 
-        return wrapperObject.shouldContinue;
+        } catch (NoSuchElementException | IOException e) {
+            log.error("Error in AuthFilter: ", e);
+            shouldContinue = false;
+        }
+
+        return shouldContinue;
     }
 
     /**
-     * Checks whether a user is authorized based on the provided JWT token. It
-     * compares the "pid" claim from the token with the stored PID in Redis.
+     * Checks whether a user is authorized based on the provided JWT token. The token is validated through the token
+     * cache, which falls back to Redis and then to the SSO server.
      *
-     * @param token The JWT token to validate.
+     * @param token          The JWT token to validate.
+     * @param tokenPid       The "pid" claim of the token.
+     * @param tokenExpiresAt The expiry of the token, null if the token has no expiry.
      * @return true if the user is authorized, false otherwise.
      */
-    public boolean isAuthorizeRequest(final String token) {
-
-        // Extract the "pid" claim from the JWT token
-        final String tokenPid = commonUtils.getClaimValue(token, "pid").asString();
-
-        // Retrieve the stored PID from Redis based on the token
-        final String existingPid = redisService.get(token, RedisEventEnum.GET_TOKEN);
+    public boolean isAuthorizeRequest(final String token, final String tokenPid, final Date tokenExpiresAt) {
 
         if (StringUtils.isBlank(tokenPid)) {
             log.error("Token is required.");
             return false;
-
-        } else if (StringUtils.isNotBlank(existingPid)) {
-            if (!existingPid.equals(tokenPid)) {
-                log.error("Token not match from redis server");
-                return false;
-            } else {
-                return true;
-            }
-
-        } else if (ssoClientService.isValidateToken(token)) {
-            redisService.save(token, tokenPid, RedisEventEnum.SAVE_TOKEN, JWT.decode(token).getExpiresAt());
-            return true;
-            
-        } else {
-            log.error("Unauthorized token from SSO server");
-            return false;
         }
+
+        return authTokenCacheService.isValidToken(token, tokenPid, tokenExpiresAt);
     }
 
     /**
@@ -223,21 +200,22 @@ public class AuthFilter extends OncePerRequestFilter {
      */
     private boolean authorizePID(final String pid) {
 
-        final Optional<Personnel> optionalPersonnel = personnelRepository.findByUucode(pid);
-        
-        if (optionalPersonnel.isEmpty()) {
+        final Optional<AuthenticatedPersonnel> optionalAuthenticatedPersonnel =
+            authenticatedPersonnelService.getAuthenticatedPersonnel(pid);
+
+        if (optionalAuthenticatedPersonnel.isEmpty()) {
             return false;
         }
 
-        final UserDetails userDetails = new User(optionalPersonnel.get().getPersonnelId(), "", optionalPersonnel.get().getAuthorities());
+        final AuthenticatedPersonnel authenticatedPersonnel = optionalAuthenticatedPersonnel.get();
 
-        // Create an Authentication object and set the permissions.
+        // Create an Authentication object with the principal and its permissions.
         final UsernamePasswordAuthenticationToken authentication =
-            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            new UsernamePasswordAuthenticationToken(authenticatedPersonnel, null, authenticatedPersonnel.getAuthorities());
 
         // Set the Authentication object in the SecurityContextHolder.
         SecurityContextHolder.getContext().setAuthentication(authentication);
         
         return true;
     }
-}
\ No newline at end of file
+}
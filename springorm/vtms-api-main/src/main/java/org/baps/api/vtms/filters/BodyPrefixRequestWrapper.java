@@ -0,0 +1,64 @@
+package org.baps.api.vtms.filters;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * Request wrapper reading at most the first maxPrefixSize bytes of the body for logging. The rest of the body is not
+ * buffered, it is streamed from the original request after the prefix is replayed.
+ */
+public class BodyPrefixRequestWrapper extends HttpServletRequestWrapper {
+
+    private final byte[] prefix;
+
+    private final boolean truncated;
+
+    private ServletInputStream servletInputStream;
+
+    private BufferedReader reader;
+
+    public BodyPrefixRequestWrapper(final HttpServletRequest request, final int maxPrefixSize) throws IOException {
+        super(request);
+        // One extra byte tells whether the body is longer than the prefix, it is replayed but not logged.
+        final byte[] readBytes = request.getInputStream().readNBytes(maxPrefixSize + 1);
+        this.truncated = readBytes.length > maxPrefixSize;
+        this.prefix = readBytes;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (servletInputStream == null) {
+            servletInputStream = new PrefixedServletInputStream(prefix, super.getInputStream());
+        }
+        return servletInputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (reader == null) {
+            reader = new BufferedReader(new InputStreamReader(getInputStream(), getCharset()));
+        }
+        return reader;
+    }
+
+    public byte[] getPrefix() {
+        return truncated ? Arrays.copyOf(prefix, prefix.length - 1) : prefix.clone();
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    private Charset getCharset() {
+        final String characterEncoding = getCharacterEncoding();
+        return characterEncoding == null ? StandardCharsets.UTF_8 : Charset.forName(characterEncoding);
+    }
+}
@@ -0,0 +1,78 @@
+package org.baps.api.vtms.filters;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Response wrapper streaming the body straight to the client, while keeping a copy of at most the first
+ * maxPrefixSize bytes for logging.
+ */
+public class BodyPrefixResponseWrapper extends HttpServletResponseWrapper {
+
+    private final int maxPrefixSize;
+
+    private TeeServletOutputStream teeServletOutputStream;
+
+    private PrintWriter writer;
+
+    public BodyPrefixResponseWrapper(final HttpServletResponse response, final int maxPrefixSize) {
+        super(response);
+        this.maxPrefixSize = maxPrefixSize;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called for this response");
+        }
+        return getTeeServletOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (teeServletOutputStream != null) {
+                throw new IllegalStateException("getOutputStream() has already been called for this response");
+            }
+            writer = new PrintWriter(new OutputStreamWriter(getTeeServletOutputStream(), getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    public byte[] getPrefix() {
+        return teeServletOutputStream == null ? new byte[0] : teeServletOutputStream.getCopy();
+    }
+
+    public boolean isTruncated() {
+        return teeServletOutputStream != null && teeServletOutputStream.isTruncated();
+    }
+
+    /**
+     * Flushes the writer, if any, so the characters it still buffers reach the client and the copy.
+     */
+    public void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    private TeeServletOutputStream getTeeServletOutputStream() throws IOException {
+        if (teeServletOutputStream == null) {
+            teeServletOutputStream = new TeeServletOutputStream(super.getOutputStream(), maxPrefixSize);
+        }
+        return teeServletOutputStream;
+    }
+}
@@ -1,40 +0,0 @@
-package org.baps.api.vtms.filters;
-
-
-import org.springframework.util.StreamUtils;
-
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStreamReader;
-
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import jakarta.servlet.ServletInputStream;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletRequestWrapper;
-
-public class CachedBodyRequestWrapper extends HttpServletRequestWrapper {
-
-    private final byte[] cachedBody;
-
-    public CachedBodyRequestWrapper(final HttpServletRequest request) throws IOException {
-        super(request);
-        try (ServletInputStream inputStream = request.getInputStream()) {
-            this.cachedBody = StreamUtils.copyToByteArray(inputStream);
-        }
-    }
-
-    @Override
-    public ServletInputStream getInputStream() throws IOException {
-        return new CachedBodyServletInputStream(cachedBody);
-    }
-
-    @SuppressFBWarnings("DM_DEFAULT_ENCODING")
-    @Override
-    public BufferedReader getReader() throws IOException {
-        // Create a reader from cachedContent
-        // and return it
-        final ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(this.cachedBody);
-        return new BufferedReader(new InputStreamReader(byteArrayInputStream));
-    }
-}
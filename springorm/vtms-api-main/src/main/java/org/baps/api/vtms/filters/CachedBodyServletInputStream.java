@@ -1,46 +0,0 @@
-package org.baps.api.vtms.filters;
-
-import lombok.extern.slf4j.Slf4j;
-
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-
-import jakarta.servlet.ReadListener;
-import jakarta.servlet.ServletInputStream;
-
-@Slf4j
-public class CachedBodyServletInputStream extends ServletInputStream {
-
-    private final InputStream cachedBodyInputStream;
-
-    public CachedBodyServletInputStream(final byte[] cachedBody) {
-        this.cachedBodyInputStream = new ByteArrayInputStream(cachedBody);
-    }
-
-    @Override
-    public boolean isFinished() {
-        try {
-            return cachedBodyInputStream.available() == 0;
-        } catch (final IOException e) {
-            log.error("Error in CachedBodyServletInputStream: ", e);
-        }
-        return false;
-    }
-
-    @Override
-    public boolean isReady() {
-        return true;
-    }
-
-    @Override
-    public void setReadListener(final ReadListener readListener) {
-        throw new UnsupportedOperationException();
-    }
-
-    @Override
-    public int read() throws IOException {
-        return cachedBodyInputStream.read();
-    }
-
-}
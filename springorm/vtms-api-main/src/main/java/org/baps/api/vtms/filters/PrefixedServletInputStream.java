@@ -0,0 +1,63 @@
+package org.baps.api.vtms.filters;
+
+import java.io.IOException;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+/**
+ * Input stream replaying the bytes already read from a request body, then streaming the rest of the body from the
+ * original input stream.
+ */
+@SuppressFBWarnings({"EI_EXPOSE_REP2"})
+public class PrefixedServletInputStream extends ServletInputStream {
+
+    private final byte[] prefix;
+
+    private final ServletInputStream servletInputStream;
+
+    private int position;
+
+    public PrefixedServletInputStream(final byte[] prefix, final ServletInputStream servletInputStream) {
+        this.prefix = prefix;
+        this.servletInputStream = servletInputStream;
+    }
+
+    @Override
+    public boolean isFinished() {
+        return position >= prefix.length && servletInputStream.isFinished();
+    }
+
+    @Override
+    public boolean isReady() {
+        return position < prefix.length || servletInputStream.isReady();
+    }
+
+    @Override
+    public void setReadListener(final ReadListener readListener) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position < prefix.length) {
+            return Byte.toUnsignedInt(prefix[position++]);
+        }
+        return servletInputStream.read();
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (position < prefix.length) {
+            final int count = Math.min(length, prefix.length - position);
+            System.arraycopy(prefix, position, bytes, offset, count);
+            position += count;
+            return count;
+        }
+        return servletInputStream.read(bytes, offset, length);
+    }
+}
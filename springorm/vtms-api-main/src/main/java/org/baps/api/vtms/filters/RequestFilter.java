@@ -2,20 +2,27 @@ package org.baps.api.vtms.filters;
 
 import static org.springframework.core.Ordered.HIGHEST_PRECEDENCE;
 
+import org.baps.api.vtms.common.metrics.RequestSqlStatistics;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.util.AntPathMatcher;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.FilterConfig;
@@ -25,6 +32,9 @@ import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
 @Slf4j
@@ -33,7 +43,13 @@ import org.slf4j.MDC;
 @RequiredArgsConstructor
 public class RequestFilter implements Filter {
 
+    // Dedicated logger of the response bodies, off at the default level of the application loggers. Responses are only
+    // buffered when it is set to TRACE.
+    private static final Logger RESPONSE_BODY_LOG = LoggerFactory.getLogger(RequestFilter.class.getName() + ".ResponseBody");
+
     private static final String REDACTED = "<Redacted>";
+    private static final String TRUNCATED = "...<Truncated>";
+    private static final String NOT_SAMPLED = "<Not sampled>";
     private static final String KEY_REQUEST_ID = "requestId";
     private static final String RESPONSE_HEADER_REQUEST_ID = "x-app-request-id";
 
@@ -42,11 +58,49 @@ public class RequestFilter implements Filter {
     private static final String HEALTH_CHECK_URL = "/internal/health";
     private static final String REFRESH_TOKEN_URL = "/token/refresh";
 
+    private static final String SQL_STATEMENTS_METRIC_NAME = "vtms.request.sql.statements";
+    private static final String SQL_ENTITIES_LOADED_METRIC_NAME = "vtms.request.sql.entities.loaded";
+
+    @Value("${request_logging.max-body-size:4096}")
+    private int maxBodySize;
+
+    @Value("${request_logging.slow-request-threshold:1s}")
+    private Duration slowRequestThreshold;
+
+    @Value("${request_logging.body-sample-rate:1.0}")
+    private double bodySampleRate;
+
+    private final MeterRegistry meterRegistry;
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    // Body sample rates of the URL patterns, in the configured order, the first matching pattern wins.
+    private Map<String, Double> bodySampleRateMap = Map.of();
+
     private final String[] redactRequestBodyURLs = {REFRESH_TOKEN_URL};
     private final String[] redactResponseBodyURLs = {DOC_URL, PROMETHEUS_URL, REFRESH_TOKEN_URL};
     // Disable logging of health check API calls as they are creating a lot of noise
     private final String[] disableRequestLoggingURLs = {HEALTH_CHECK_URL, PROMETHEUS_URL};
 
+    /**
+     * Sets the body sample rates of URL patterns.
+     *
+     * @param bodySampleRates Comma separated entries of an Ant style URL pattern and its sample rate between 0 and 1,
+     *                        e.g. "/visits/**=0.1,/dashboard/**=0".
+     */
+    @Value("${request_logging.body-sample-rates:}")
+    public void setBodySampleRates(final String bodySampleRates) {
+        final Map<String, Double> sampleRateMap = new LinkedHashMap<>();
+        for (final String bodySampleRate : StringUtils.split(bodySampleRates, ',')) {
+            final String[] patternAndRate = StringUtils.split(bodySampleRate, '=');
+            if (patternAndRate.length != 2) {
+                throw new IllegalArgumentException("Invalid request_logging.body-sample-rates entry: " + bodySampleRate);
+            }
+            sampleRateMap.put(patternAndRate[0].trim(), Double.valueOf(patternAndRate[1].trim()));
+        }
+        this.bodySampleRateMap = sampleRateMap;
+    }
+
     @Override
     public void init(final FilterConfig filterConfig) throws ServletException {
         Filter.super.init(filterConfig);
@@ -59,37 +113,57 @@ public class RequestFilter implements Filter {
         final HttpServletRequest servletRequest = (HttpServletRequest) request;
         final HttpServletResponse servletResponse = (HttpServletResponse) response;
 
-        final CachedBodyRequestWrapper
-            requestWrapper = new CachedBodyRequestWrapper(servletRequest);
-        final ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(servletResponse);
+        final boolean isLoggingEnabled = Arrays.stream(disableRequestLoggingURLs).noneMatch(servletRequest.getRequestURI()::contains);
+
+        // Bodies are only read for logging when the level is enabled and the request is sampled, and then at most
+        // maxBodySize bytes of them.
+        final boolean isBodySampled = isBodySampled(servletRequest.getRequestURI());
+        final BodyPrefixRequestWrapper requestWrapper = isLoggingEnabled && isBodySampled && log.isInfoEnabled()
+            && Arrays.stream(redactRequestBodyURLs).noneMatch(servletRequest.getRequestURI()::contains)
+            ? new BodyPrefixRequestWrapper(servletRequest, maxBodySize) : null;
+        final BodyPrefixResponseWrapper responseWrapper = isBodySampled && RESPONSE_BODY_LOG.isTraceEnabled()
+            && Arrays.stream(redactResponseBodyURLs).noneMatch(servletRequest.getRequestURI()::contains)
+            ? new BodyPrefixResponseWrapper(servletResponse, maxBodySize) : null;
 
         final Instant startTime = Instant.now();
 
+        RequestSqlStatistics.start();
         try {
             MDC.put(KEY_REQUEST_ID, UUID.randomUUID().toString());
 
-            if (Arrays.stream(disableRequestLoggingURLs).noneMatch(requestWrapper.getRequestURI()::contains)) {
+            if (isLoggingEnabled) {
                 if (log.isInfoEnabled()) {
                     log.info("START request: Method={} API={} RequestBody={}", servletRequest.getMethod(), getRequestURI(servletRequest),
-                        getRequestBody(requestWrapper));
+                        getRequestBody(requestWrapper, isBodySampled));
                 }
 
                 servletResponse.addHeader(RESPONSE_HEADER_REQUEST_ID, MDC.get(KEY_REQUEST_ID));
             }
-            chain.doFilter(requestWrapper, responseWrapper);
+            chain.doFilter(requestWrapper == null ? servletRequest : requestWrapper,
+                responseWrapper == null ? servletResponse : responseWrapper);
         } finally {
-            if (Arrays.stream(disableRequestLoggingURLs).noneMatch(requestWrapper.getRequestURI()::contains)
-                || responseWrapper.getStatus() != HttpServletResponse.SC_OK) {
-                final String responseBody = getResponseBody(requestWrapper, responseWrapper);
-
-                responseWrapper.copyBodyToResponse();
-                log.trace("ResponseBody={}", responseBody);
+            final Duration duration = Duration.between(startTime, Instant.now());
+            final RequestSqlStatistics requestSqlStatistics = RequestSqlStatistics.end();
+            meterRegistry.summary(SQL_STATEMENTS_METRIC_NAME).record(requestSqlStatistics.getStatementCount());
+            meterRegistry.summary(SQL_ENTITIES_LOADED_METRIC_NAME).record(requestSqlStatistics.getLoadedEntityCount());
+
+            if (isLoggingEnabled || servletResponse.getStatus() != HttpServletResponse.SC_OK) {
+                if (RESPONSE_BODY_LOG.isTraceEnabled()) {
+                    RESPONSE_BODY_LOG.trace("ResponseBody={}", getResponseBody(responseWrapper, isBodySampled));
+                }
 
                 if (log.isInfoEnabled()) {
-                    final long totalTime = Duration.between(startTime, Instant.now()).toMillis();
-                    log.info("END request: ResponseStatus={} Duration={}ms", responseWrapper.getStatus(), totalTime);
+                    log.info("END request: ResponseStatus={} Duration={}ms SqlStatements={} EntitiesLoaded={}", servletResponse.getStatus(),
+                        duration.toMillis(), requestSqlStatistics.getStatementCount(), requestSqlStatistics.getLoadedEntityCount());
                 }
             }
+
+            if (duration.compareTo(slowRequestThreshold) > 0) {
+                log.warn("SLOW request: Method={} API={} Duration={}ms SqlStatements={} EntitiesLoaded={} Breakdown={}",
+                    servletRequest.getMethod(), servletRequest.getRequestURI(), duration.toMillis(),
+                    requestSqlStatistics.getStatementCount(), requestSqlStatistics.getLoadedEntityCount(),
+                    requestSqlStatistics.getStatementBreakdown());
+            }
             // clean up MDC
             MDC.remove(KEY_REQUEST_ID);
         }
@@ -107,18 +181,43 @@ public class RequestFilter implements Filter {
         return servletRequest.getRequestURI() + "?" + servletRequest.getQueryString();
     }
 
-    private String getRequestBody(final CachedBodyRequestWrapper requestWrapper) throws IOException {
-        if (Arrays.stream(redactRequestBodyURLs).anyMatch(requestWrapper.getRequestURI()::contains)) {
+    private String getRequestBody(final BodyPrefixRequestWrapper requestWrapper, final boolean isBodySampled) {
+        if (!isBodySampled) {
+            return NOT_SAMPLED;
+        }
+        if (requestWrapper == null) {
             return REDACTED;
         }
-        return requestWrapper.getReader().lines().map(String::trim).collect(Collectors.joining());
+        final String requestBody = toLogBody(requestWrapper.getPrefix(), requestWrapper.isTruncated());
+        return requestBody == null ? null : requestBody.lines().map(String::trim).collect(Collectors.joining());
     }
 
-    private String getResponseBody(final CachedBodyRequestWrapper requestWrapper, final ContentCachingResponseWrapper responseWrapper) {
-        if (Arrays.stream(redactResponseBodyURLs).anyMatch(requestWrapper.getRequestURI()::contains)) {
+    private String getResponseBody(final BodyPrefixResponseWrapper responseWrapper, final boolean isBodySampled) {
+        if (!isBodySampled) {
+            return NOT_SAMPLED;
+        }
+        if (responseWrapper == null) {
             return REDACTED;
         }
-        final String responseBody = new String(responseWrapper.getContentAsByteArray(), StandardCharsets.UTF_8);
-        return ObjectUtils.isEmpty(responseBody) ? null : responseBody;
+        responseWrapper.flushWriter();
+        return toLogBody(responseWrapper.getPrefix(), responseWrapper.isTruncated());
+    }
+
+    private boolean isBodySampled(final String requestURI) {
+        final double sampleRate = bodySampleRateMap.entrySet().stream()
+            .filter(bodySampleRateEntry -> antPathMatcher.match(bodySampleRateEntry.getKey(), requestURI))
+            .map(Map.Entry::getValue)
+            .findFirst()
+            .orElse(bodySampleRate);
+
+        return sampleRate >= 1 || sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private String toLogBody(final byte[] body, final boolean truncated) {
+        if (body.length == 0) {
+            return null;
+        }
+        final String logBody = new String(body, StandardCharsets.UTF_8);
+        return truncated ? logBody + TRUNCATED : logBody;
     }
 }
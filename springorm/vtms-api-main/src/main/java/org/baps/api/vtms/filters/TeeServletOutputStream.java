@@ -0,0 +1,82 @@
+package org.baps.api.vtms.filters;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+
+/**
+ * Output stream writing straight through to the response, while keeping a copy of at most the first maxCopySize bytes.
+ */
+@SuppressFBWarnings({"EI_EXPOSE_REP2"})
+public class TeeServletOutputStream extends ServletOutputStream {
+
+    // Initial capacity of the copy, grown up to maxCopySize only for bodies that need it.
+    private static final int INITIAL_COPY_SIZE = 1024;
+
+    private final ServletOutputStream servletOutputStream;
+
+    private final ByteArrayOutputStream copyOutputStream;
+
+    private final int maxCopySize;
+
+    private boolean truncated;
+
+    public TeeServletOutputStream(final ServletOutputStream servletOutputStream, final int maxCopySize) {
+        this.servletOutputStream = servletOutputStream;
+        this.copyOutputStream = new ByteArrayOutputStream(Math.min(maxCopySize, INITIAL_COPY_SIZE));
+        this.maxCopySize = maxCopySize;
+    }
+
+    @Override
+    public boolean isReady() {
+        return servletOutputStream.isReady();
+    }
+
+    @Override
+    public void setWriteListener(final WriteListener writeListener) {
+        servletOutputStream.setWriteListener(writeListener);
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        servletOutputStream.write(b);
+        if (copyOutputStream.size() < maxCopySize) {
+            copyOutputStream.write(b);
+        } else {
+            truncated = true;
+        }
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+        servletOutputStream.write(bytes, offset, length);
+        final int count = Math.min(length, maxCopySize - copyOutputStream.size());
+        if (count > 0) {
+            copyOutputStream.write(bytes, offset, count);
+        }
+        if (count < length) {
+            truncated = true;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        servletOutputStream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        servletOutputStream.close();
+    }
+
+    public byte[] getCopy() {
+        return copyOutputStream.toByteArray();
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
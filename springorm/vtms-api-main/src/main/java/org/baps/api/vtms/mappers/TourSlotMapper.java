@@ -45,6 +45,7 @@ public interface TourSlotMapper {
             LocalDateTime startDateTime, LocalDateTime endDateTime, Site site);
 
     @Mapping(target = "stage", source = "tourSlotStageEnum")
+    @Mapping(target = "bookedGuestSize", source = "bookedGuestCount")
     @Mapping(target = "tourGuidePersonnelBasicInfoModel", expression =
             "java(mapPersonnelBasicInfoModelByTourSlotPersonnel(tourSlot.getTourSlotPersonnelList()))")
     TourSlotModel tourSlotToTourSlotModel(TourSlot tourSlot);
@@ -56,6 +57,7 @@ public interface TourSlotMapper {
     List<TourSlotModel> tourSlotListToTourSlotModelList(List<TourSlot> tourSlotList);
 
     @Mapping(target = "stage", source = "tourSlotStageEnum")
+    @Mapping(target = "availableGuestSize", expression = "java((long) tourSlot.getMaxGuestSize() - tourSlot.getBookedGuestCount())")
     PreBookedTourSlotModel tourSlotToPreBookedTourSlotModel(TourSlot tourSlot);
 
     List<PreBookedTourSlotModel> tourSlotListToPreBookedTourSlotModelList(List<TourSlot> tourSlotList);
@@ -2,17 +2,16 @@ package org.baps.api.vtms.mappers;
 
 import static org.mapstruct.MappingConstants.ComponentModel.SPRING;
 
+import org.baps.api.vtms.models.PersonnelBasicInfoModel;
+import org.baps.api.vtms.models.VisitSummaryServiceLocationModel;
 import org.baps.api.vtms.models.VisitSummaryServiceModel;
-import org.baps.api.vtms.models.entities.VisitLocation;
-import org.baps.api.vtms.models.entities.VisitService;
 
-import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.mapstruct.Builder;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.NullValueMappingStrategy;
 import org.mapstruct.ReportingPolicy;
-import org.mapstruct.factory.Mappers;
 
 @Mapper(
     componentModel = SPRING,
@@ -22,20 +21,34 @@ import org.mapstruct.factory.Mappers;
 )
 public interface VisitSummaryMapper {
     
-    @Mapping(target = "locationName", source = "location.name")
-    VisitSummaryServiceModel visitLocationToVisitSummaryServiceModel(VisitLocation visitLocation);
+    @Mapping(target = "serviceTemplateName", ignore = true)
+    @Mapping(target = "meetingPersonnel", ignore = true)
+    @Mapping(target = "startDateTime", source = "locationStartDateTime")
+    @Mapping(target = "endDateTime", source = "locationEndDateTime")
+    VisitSummaryServiceModel serviceLocationModelToInterviewVisitSummaryServiceModel(
+            VisitSummaryServiceLocationModel visitSummaryServiceLocationModel);
 
-    default VisitSummaryServiceModel mapVisitSummaryServiceModel(VisitService visitService, VisitLocation visitLocation) {
+    default VisitSummaryServiceModel mapVisitSummaryServiceModel(final VisitSummaryServiceLocationModel visitSummaryServiceLocationModel,
+            final boolean includeLocation) {
         final VisitSummaryServiceModel visitSummaryServiceModelForService = new VisitSummaryServiceModel();
-        visitSummaryServiceModelForService.setServiceTemplateName(visitService.getServiceTemplate().getName());
-        visitSummaryServiceModelForService.setStartDateTime(visitService.getStartDateTime());
-        visitSummaryServiceModelForService.setEndDateTime(visitService.getEndDateTime());
-        visitSummaryServiceModelForService.setMeetingPersonnel(Mappers.getMapper(VisitServiceMapper.class).mapMeetingPersonnel(
-                visitService.getMeetingPersonnel()));
-        if (ObjectUtils.isNotEmpty(visitLocation)) {
-            visitSummaryServiceModelForService.setLocationName(visitLocation.getLocation().getName());
+        visitSummaryServiceModelForService.setServiceTemplateName(visitSummaryServiceLocationModel.getServiceTemplateName());
+        visitSummaryServiceModelForService.setStartDateTime(visitSummaryServiceLocationModel.getStartDateTime());
+        visitSummaryServiceModelForService.setEndDateTime(visitSummaryServiceLocationModel.getEndDateTime());
+        if (StringUtils.isNotBlank(visitSummaryServiceLocationModel.getMeetingPersonnelId())) {
+            final PersonnelBasicInfoModel meetingPersonnel = new PersonnelBasicInfoModel();
+            meetingPersonnel.setPersonnelId(visitSummaryServiceLocationModel.getMeetingPersonnelId());
+            meetingPersonnel.setFirstName(visitSummaryServiceLocationModel.getMeetingPersonnelFirstName());
+            meetingPersonnel.setMiddleName(visitSummaryServiceLocationModel.getMeetingPersonnelMiddleName());
+            meetingPersonnel.setLastName(visitSummaryServiceLocationModel.getMeetingPersonnelLastName());
+            meetingPersonnel.setPhoneCountryCode(visitSummaryServiceLocationModel.getMeetingPersonnelPhoneCountryCode());
+            meetingPersonnel.setPhoneNumber(visitSummaryServiceLocationModel.getMeetingPersonnelPhoneNumber());
+            meetingPersonnel.setEmail(visitSummaryServiceLocationModel.getMeetingPersonnelEmail());
+            visitSummaryServiceModelForService.setMeetingPersonnel(meetingPersonnel);
+        }
+        if (includeLocation) {
+            visitSummaryServiceModelForService.setLocationName(visitSummaryServiceLocationModel.getLocationName());
         }
         return visitSummaryServiceModelForService;
     }
-    
+
 }
@@ -0,0 +1,120 @@
+package org.baps.api.vtms.models;
+
+import org.baps.api.vtms.enumerations.PermissionEnum;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.io.Serial;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable principal of an authenticated personnel, carried in the SecurityContext. Its roles and permissions are
+ * resolved once when the personnel is loaded, so permission checks do not read the personnel again.
+ */
+@Getter
+public final class AuthenticatedPersonnel implements UserDetails {
+
+    @Serial
+    private static final long serialVersionUID = -4529178893316093745L;
+
+    private final String personnelId;
+
+    private final String uucode;
+
+    private final List<SiteRole> siteRoleList;
+
+    private final Set<PermissionEnum> permissionEnumSet;
+
+    private final Set<PermissionEnum> systemPermissionEnumSet;
+
+    private final List<SimpleGrantedAuthority> authorities;
+
+    public AuthenticatedPersonnel(final String personnelId, final String uucode, final List<SiteRole> siteRoleList,
+            final Set<PermissionEnum> permissionEnumSet, final Set<PermissionEnum> systemPermissionEnumSet) {
+        this.personnelId = personnelId;
+        this.uucode = uucode;
+        this.siteRoleList = List.copyOf(siteRoleList);
+        this.permissionEnumSet = Collections.unmodifiableSet(copyOfPermissionEnumSet(permissionEnumSet));
+        this.systemPermissionEnumSet = Collections.unmodifiableSet(copyOfPermissionEnumSet(systemPermissionEnumSet));
+        this.authorities = this.permissionEnumSet.stream()
+                .map(permissionEnum -> new SimpleGrantedAuthority(permissionEnum.name())).toList();
+    }
+
+    /**
+     * Checks if any role of the personnel grants the permission.
+     *
+     * @param permissionEnum The permission to check.
+     * @return True if the personnel has the permission, false otherwise.
+     */
+    public boolean hasPermission(final PermissionEnum permissionEnum) {
+        return permissionEnumSet.contains(permissionEnum);
+    }
+
+    /**
+     * Checks if a system role of the personnel grants the permission, independently of the visits of the personnel.
+     *
+     * @param permissionEnum The permission to check.
+     * @return True if a system role of the personnel has the permission, false otherwise.
+     */
+    public boolean hasSystemPermission(final PermissionEnum permissionEnum) {
+        return systemPermissionEnumSet.contains(permissionEnum);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return "";
+    }
+
+    // The personnel id is the username, as read by the auditor and by PersonnelService.getLoginedPersonnel.
+    @Override
+    public String getUsername() {
+        return personnelId;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    private static Set<PermissionEnum> copyOfPermissionEnumSet(final Set<PermissionEnum> permissionEnumSet) {
+        return permissionEnumSet.isEmpty() ? EnumSet.noneOf(PermissionEnum.class) : EnumSet.copyOf(permissionEnumSet);
+    }
+
+    /**
+     * A role of the personnel on a site.
+     *
+     * @param roleId          The unique identifier of the role.
+     * @param roleUucode      The code of the role.
+     * @param siteId          The unique identifier of the site the role is given on.
+     * @param checkSystemRole Whether the role is a system role.
+     */
+    public record SiteRole(String roleId, String roleUucode, String siteId, boolean checkSystemRole) {
+    }
+}
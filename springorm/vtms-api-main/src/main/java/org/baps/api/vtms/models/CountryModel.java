@@ -4,10 +4,16 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serial;
+import java.io.Serializable;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-public class CountryModel {
+public class CountryModel implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -2650470381093457618L;
 
     private String countryId;
 
@@ -2,8 +2,14 @@ package org.baps.api.vtms.models;
 
 import lombok.Data;
 
+import java.io.Serial;
+import java.io.Serializable;
+
 @Data
-public class LocationModel {
+public class LocationModel implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -5123893401652273370L;
 
     private String locationId;
     
@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.List;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -12,8 +14,12 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
-public class LookupModel {
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2", "SE_BAD_FIELD"})
+public class LookupModel implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 4482706473417352903L;
+
     private String lookupId;
 
     private String parentLookupId;
@@ -0,0 +1,25 @@
+package org.baps.api.vtms.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Version of the lookup table, it changes whenever a lookup is created, updated or deleted.
+ */
+@Data
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+@AllArgsConstructor
+@NoArgsConstructor
+public class LookupVersionModel {
+
+    private Long lookupCount;
+
+    private LocalDateTime lastCreatedAt;
+
+    private LocalDateTime lastUpdatedAt;
+}
@@ -7,6 +7,8 @@ import org.baps.api.vtms.enumerations.TourSlotStageEnum;
 import lombok.Data;
 import org.springframework.format.annotation.DateTimeFormat;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
@@ -15,7 +17,10 @@ import jakarta.validation.constraints.NotBlank;
 
 @Data
 @SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
-public class PreBookedTourSlotModel {
+public class PreBookedTourSlotModel implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1836042290165137402L;
 
     private String tourSlotId;
     
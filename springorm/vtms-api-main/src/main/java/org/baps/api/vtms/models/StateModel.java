@@ -4,10 +4,16 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serial;
+import java.io.Serializable;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-public class StateModel {
+public class StateModel implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 7390151826642709145L;
 
     private String stateId;
 
@@ -0,0 +1,29 @@
+package org.baps.api.vtms.models;
+
+import org.baps.api.vtms.enumerations.TourSlotReservationStatusEnum;
+import org.baps.api.vtms.enumerations.TourSlotStageEnum;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TourSlotReservationModel {
+
+    private TourSlotReservationStatusEnum reservationStatusEnum;
+
+    private TourSlotStageEnum tourSlotStageEnum;
+
+    private long availableGuestSize;
+
+    public TourSlotReservationModel(final TourSlotStageEnum tourSlotStageEnum, final Integer availableGuestSize) {
+        this.tourSlotStageEnum = tourSlotStageEnum;
+        this.availableGuestSize = availableGuestSize;
+    }
+
+    public boolean isReserved() {
+        return TourSlotReservationStatusEnum.RESERVED.equals(reservationStatusEnum);
+    }
+}
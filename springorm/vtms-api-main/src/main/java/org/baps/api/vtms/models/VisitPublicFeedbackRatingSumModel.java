@@ -0,0 +1,27 @@
+package org.baps.api.vtms.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Public feedback count and rating counts and sums of a date time range, the sums are null when nothing was rated.
+ */
+@Data
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+@AllArgsConstructor
+@NoArgsConstructor
+public class VisitPublicFeedbackRatingSumModel {
+
+    private Long feedbackCount;
+
+    private Long bookingProcessRatingCount;
+
+    private Long bookingProcessRatingSum;
+
+    private Long overallRatingCount;
+
+    private Long overallRatingSum;
+}
@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
+
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 @Data
@@ -14,8 +16,14 @@ public class VisitPublicFeedbackSummaryModel {
 
     private long totalRecord;
 
+    // Whole ratings, kept for the existing dashboard clients.
     private Long bookingProcessRating;
 
     private Long overallRating;
+
+    // The same averages with two decimals.
+    private BigDecimal bookingProcessAverageRating;
+
+    private BigDecimal overallAverageRating;
     
 }
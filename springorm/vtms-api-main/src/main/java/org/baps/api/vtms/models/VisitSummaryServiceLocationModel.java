@@ -0,0 +1,62 @@
+package org.baps.api.vtms.models;
+
+import org.baps.api.vtms.enumerations.LocationTagEnum;
+import org.baps.api.vtms.enumerations.ServiceTypeEnum;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * One row per visit service and visit location, read by VisitServiceRepository for the visit summary.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public class VisitSummaryServiceLocationModel {
+
+    private String visitId;
+
+    private String visitServiceId;
+
+    private String serviceTemplateName;
+
+    private ServiceTypeEnum serviceTypeEnum;
+
+    private LocalDateTime startDateTime;
+
+    private LocalDateTime endDateTime;
+
+    private String meetingPersonnelId;
+
+    private String meetingPersonnelFirstName;
+
+    private String meetingPersonnelMiddleName;
+
+    private String meetingPersonnelLastName;
+
+    private String meetingPersonnelPhoneCountryCode;
+
+    private String meetingPersonnelPhoneNumber;
+
+    private String meetingPersonnelEmail;
+
+    private String visitLocationId;
+
+    private String locationName;
+
+    private LocationTagEnum locationTagEnum;
+
+    private LocalDateTime locationStartDateTime;
+
+    private LocalDateTime locationEndDateTime;
+
+    private String interviewPackage;
+
+    private String interviewVolunteerVisitPersonnelId;
+}
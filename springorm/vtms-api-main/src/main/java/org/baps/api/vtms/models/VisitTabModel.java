@@ -1,10 +1,12 @@
 package org.baps.api.vtms.models;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 @Data
+@NoArgsConstructor
 @SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
 public class VisitTabModel {
     private boolean secondaryVisitorAvailable;
@@ -20,4 +22,13 @@ public class VisitTabModel {
     private boolean interviewCoordinatorAvailable;
 
     private boolean externalFeedback;
+
+    // Used by VisitRepository.findVisitTabModelByVisitIdAndSiteUuCode.
+    public VisitTabModel(final Boolean tourAvailable, final Boolean servicesAvailable, final Boolean meetingsAvailable,
+            final Boolean interviewCoordinatorAvailable) {
+        this.tourAvailable = tourAvailable;
+        this.servicesAvailable = servicesAvailable;
+        this.meetingsAvailable = meetingsAvailable;
+        this.interviewCoordinatorAvailable = interviewCoordinatorAvailable;
+    }
 }
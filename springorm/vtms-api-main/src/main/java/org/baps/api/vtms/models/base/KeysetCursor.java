@@ -0,0 +1,57 @@
+package org.baps.api.vtms.models.base;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * The position of the last row of a keyset page: its sort value and its id. The cursor is opaque to the client, it
+ * is exchanged as the URL safe Base64 encoding of both values.
+ *
+ * @param sortValue The sort property value of the last row.
+ * @param id        The id property value of the last row.
+ */
+public record KeysetCursor(LocalDateTime sortValue, String id) {
+
+    private static final String CURSOR_SEPARATOR = "|";
+
+    /**
+     * Encodes the cursor for the client.
+     *
+     * @return The opaque cursor.
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((sortValue + CURSOR_SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor returned to the client.
+     *
+     * @param cursor The opaque cursor.
+     * @return The decoded cursor.
+     * @throws IllegalArgumentException If the cursor was not encoded by {@link #encode()}.
+     */
+    public static KeysetCursor decode(final String cursor) {
+        final String[] cursorValues;
+        try {
+            cursorValues = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                .split("\\" + CURSOR_SEPARATOR, -1);
+        } catch (final IllegalArgumentException illegalArgumentException) {
+            throw new IllegalArgumentException("Cursor is not Base64 encoded", illegalArgumentException);
+        }
+
+        if (cursorValues.length != 2 || StringUtils.isAnyBlank(cursorValues)) {
+            throw new IllegalArgumentException("Cursor does not hold a sort value and an id");
+        }
+
+        try {
+            return new KeysetCursor(LocalDateTime.parse(cursorValues[0]), cursorValues[1]);
+        } catch (final DateTimeParseException dateTimeParseException) {
+            throw new IllegalArgumentException("Cursor sort value is not a date time", dateTimeParseException);
+        }
+    }
+}
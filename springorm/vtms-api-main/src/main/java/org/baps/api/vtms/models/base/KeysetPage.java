@@ -0,0 +1,18 @@
+package org.baps.api.vtms.models.base;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeysetPage<T> {
+
+    private List<T> content;
+
+    // Null when there is no further page.
+    private String nextCursor;
+}
@@ -5,6 +5,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 @SuperBuilder
 @Data
 @NoArgsConstructor
@@ -20,4 +22,7 @@ public class PaginatedResponse<T> {
     private Integer totalPages;
 
     private T response;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
 }
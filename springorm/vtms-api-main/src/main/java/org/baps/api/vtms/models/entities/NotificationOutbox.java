@@ -0,0 +1,104 @@
+package org.baps.api.vtms.models.entities;
+
+import org.baps.api.vtms.enumerations.NotificationDeliveryStatusEnum;
+import org.baps.api.vtms.enumerations.NotificationTemplateEnum;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Type;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+
+import com.vladmihalcea.hibernate.type.json.JsonBinaryType;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Notification waiting to be sent, or already sent, by the notification outbox dispatcher. Rows are written in the
+ * transaction of the change they notify about, so a rolled back change sends nothing, and are never soft deleted. A row
+ * only references the visit and the template, the recipients and their template variables are composed by the
+ * dispatcher when the notification is sent.
+ */
+@Getter
+@Setter
+@ToString
+@Entity
+@Table(name = "notification_outbox")
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2", "SE_BAD_FIELD"})
+public class NotificationOutbox implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 3905416384407731250L;
+
+    @Id
+    @GenericGenerator(name = "uuid2", strategy = "uuid2")
+    @GeneratedValue(strategy = GenerationType.IDENTITY, generator = "uuid2")
+    @Column(name = "notification_outbox_id", length = 36)
+    private String notificationOutboxId;
+
+    @Column(name = "notification_template", length = 64, nullable = false)
+    @Enumerated(EnumType.STRING)
+    private NotificationTemplateEnum notificationTemplateEnum;
+
+    @Column(name = "visit_id", length = 36)
+    private String visitId;
+
+    @ToString.Exclude
+    @Type(value = JsonBinaryType.class)
+    @Column(name = "parameters", columnDefinition = "jsonb", nullable = false)
+    private Map<String, String> parameters;
+
+    @Column(name = "delivery_status", length = 12, nullable = false)
+    @Enumerated(EnumType.STRING)
+    private NotificationDeliveryStatusEnum notificationDeliveryStatusEnum;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", columnDefinition = "timestamp", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 512)
+    private String lastError;
+
+    @Column(name = "created_at", columnDefinition = "timestamp", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at", columnDefinition = "timestamp")
+    private LocalDateTime sentAt;
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+            return false;
+        }
+
+        if (o instanceof NotificationOutbox notificationOutbox) {
+            return Objects.equals(notificationOutboxId, notificationOutbox.notificationOutboxId);
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -10,13 +10,9 @@ import org.hibernate.Hibernate;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.io.Serial;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -32,7 +28,6 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
-import org.apache.commons.collections.CollectionUtils;
 
 @Getter
 @Setter
@@ -114,23 +109,6 @@ public class Personnel extends BaseEntity {
     @OneToMany(mappedBy = "meetingPersonnel", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     private List<VisitService> meetingVisitPersonnelList = new ArrayList<>();
 
-    public Collection<? extends GrantedAuthority> getAuthorities() {
-
-        if (CollectionUtils.isNotEmpty(this.personnelRoleList)) {
-
-            final List<Permission> permissionList = new ArrayList<>();
-            final var existingRoleList = this.personnelRoleList.stream().map(PersonnelRole::getRole).toList();
-
-            existingRoleList.forEach(role -> 
-                    permissionList.addAll(role.getRolePermissionList().stream().map(RolePermission::getPermission)
-                    .toList()));
-
-            return permissionList.stream()
-                    .map(permission -> new SimpleGrantedAuthority(permission.getPermissonEnum().name())).toList();
-        }
-        return Collections.emptyList();
-    }
-
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
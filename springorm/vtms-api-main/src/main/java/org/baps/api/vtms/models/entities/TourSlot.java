@@ -80,6 +80,10 @@ public class TourSlot extends BaseEntity {
     @Column(name = "max_guest_size", nullable = false)
     private int maxGuestSize;
 
+    // Maintained only by the conditional updates in TourSlotRepository, never by entity writes.
+    @Column(name = "booked_guest_count", nullable = false, insertable = false, updatable = false)
+    private int bookedGuestCount;
+
     @ToString.Exclude
     @OneToMany(mappedBy = "tourSlot", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     private List<TourSlotPersonnel> tourSlotPersonnelList = new ArrayList<>();
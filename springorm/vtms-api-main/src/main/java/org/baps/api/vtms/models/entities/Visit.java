@@ -40,6 +40,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -50,12 +53,37 @@ import org.apache.commons.collections.CollectionUtils;
 @ToString
 @Entity
 @Table(name = "visits")
+// Only one collection per graph, the other collections are loaded with hibernate.default_batch_fetch_size.
+@NamedEntityGraph(
+    name = Visit.DETAIL_ENTITY_GRAPH,
+    attributeNodes = {
+        @NamedAttributeNode("site"),
+        @NamedAttributeNode("tourSlot"),
+        @NamedAttributeNode("visitFeedback"),
+        @NamedAttributeNode("visitPublicFeedback"),
+        @NamedAttributeNode(value = "visitVisitorList", subgraph = "visitVisitorList")
+    },
+    subgraphs = @NamedSubgraph(name = "visitVisitorList", attributeNodes = @NamedAttributeNode("visitor"))
+)
+// No collection, paginated queries must not fetch join collections.
+@NamedEntityGraph(
+    name = Visit.LIST_ENTITY_GRAPH,
+    attributeNodes = {
+        @NamedAttributeNode("tourSlot"),
+        @NamedAttributeNode("visitFeedback"),
+        @NamedAttributeNode("visitPublicFeedback")
+    }
+)
 @DynamicUpdate
 @SQLDelete(sql = "UPDATE visits SET status = 'DELETED' WHERE visit_id=?")
 @Where(clause = "status != 'DELETED'")
 @SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
 public class Visit extends BaseEntity {
 
+    public static final String DETAIL_ENTITY_GRAPH = "Visit.detail";
+
+    public static final String LIST_ENTITY_GRAPH = "Visit.list";
+
     @Serial
     private static final long serialVersionUID = -1363869399567636735L;
 
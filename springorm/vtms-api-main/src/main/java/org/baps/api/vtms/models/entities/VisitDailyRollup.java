@@ -0,0 +1,86 @@
+package org.baps.api.vtms.models.entities;
+
+import org.baps.api.vtms.enumerations.VisitStageEnum;
+import org.baps.api.vtms.enumerations.VisitTypeEnum;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+/**
+ * Visit count and total visitors of one site, start date, visit type and stage. Rows are maintained by the
+ * visit_daily_rollup_trigger on visits and rebuilt by VisitDailyRollupService, so the entity is read only.
+ */
+@Getter
+@Setter
+@ToString
+@Entity
+@Immutable
+@Table(name = "visit_daily_rollup")
+@IdClass(VisitDailyRollupId.class)
+public class VisitDailyRollup implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -2741108563385120964L;
+
+    @Id
+    @Column(name = "site_id", length = 36)
+    private String siteId;
+
+    @Id
+    @Column(name = "visit_date")
+    private LocalDate visitDate;
+
+    @Id
+    @Column(name = "type", length = 64)
+    @Enumerated(EnumType.STRING)
+    private VisitTypeEnum visitTypeEnum;
+
+    @Id
+    @Column(name = "stage", length = 12)
+    @Enumerated(EnumType.STRING)
+    private VisitStageEnum visitStageEnum;
+
+    @Column(name = "visit_count", nullable = false)
+    private Long visitCount;
+
+    @Column(name = "total_visitors", nullable = false)
+    private Long totalVisitors;
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+            return false;
+        }
+
+        if (o instanceof VisitDailyRollup visitDailyRollup) {
+            return Objects.equals(siteId, visitDailyRollup.siteId) && Objects.equals(visitDate, visitDailyRollup.visitDate)
+                    && visitTypeEnum == visitDailyRollup.visitTypeEnum && visitStageEnum == visitDailyRollup.visitStageEnum;
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
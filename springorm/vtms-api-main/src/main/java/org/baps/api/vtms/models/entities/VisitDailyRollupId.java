@@ -0,0 +1,29 @@
+package org.baps.api.vtms.models.entities;
+
+import org.baps.api.vtms.enumerations.VisitStageEnum;
+import org.baps.api.vtms.enumerations.VisitTypeEnum;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VisitDailyRollupId implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 6212874390156211407L;
+
+    private String siteId;
+
+    private LocalDate visitDate;
+
+    private VisitTypeEnum visitTypeEnum;
+
+    private VisitStageEnum visitStageEnum;
+}
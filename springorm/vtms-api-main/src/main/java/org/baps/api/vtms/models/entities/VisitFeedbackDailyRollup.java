@@ -0,0 +1,90 @@
+package org.baps.api.vtms.models.entities;
+
+import org.baps.api.vtms.enumerations.VisitTypeEnum;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+/**
+ * Public feedback count and rating sums of one site, visit start date and visit type. Rows are maintained by triggers
+ * on visit_public_feedback and visits and rebuilt by DashboardService, so the entity is read only.
+ */
+@Getter
+@Setter
+@ToString
+@Entity
+@Immutable
+@Table(name = "visit_feedback_daily_rollup")
+@IdClass(VisitFeedbackDailyRollupId.class)
+public class VisitFeedbackDailyRollup implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 3358203907718853245L;
+
+    @Id
+    @Column(name = "site_id", length = 36)
+    private String siteId;
+
+    @Id
+    @Column(name = "visit_date")
+    private LocalDate visitDate;
+
+    @Id
+    @Column(name = "type", length = 64)
+    @Enumerated(EnumType.STRING)
+    private VisitTypeEnum visitTypeEnum;
+
+    @Column(name = "feedback_count", nullable = false)
+    private Long feedbackCount;
+
+    @Column(name = "booking_process_rating_count", nullable = false)
+    private Long bookingProcessRatingCount;
+
+    @Column(name = "booking_process_rating_sum", nullable = false)
+    private Long bookingProcessRatingSum;
+
+    @Column(name = "overall_rating_count", nullable = false)
+    private Long overallRatingCount;
+
+    @Column(name = "overall_rating_sum", nullable = false)
+    private Long overallRatingSum;
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+            return false;
+        }
+
+        if (o instanceof VisitFeedbackDailyRollup visitFeedbackDailyRollup) {
+            return Objects.equals(siteId, visitFeedbackDailyRollup.siteId)
+                    && Objects.equals(visitDate, visitFeedbackDailyRollup.visitDate)
+                    && visitTypeEnum == visitFeedbackDailyRollup.visitTypeEnum;
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,26 @@
+package org.baps.api.vtms.models.entities;
+
+import org.baps.api.vtms.enumerations.VisitTypeEnum;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VisitFeedbackDailyRollupId implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -5408317120668342713L;
+
+    private String siteId;
+
+    private LocalDate visitDate;
+
+    private VisitTypeEnum visitTypeEnum;
+}
@@ -129,6 +129,16 @@ public class Visitor extends BaseEntity {
     @Column(name = "visitor_type", length = 128)
     private String visitorType;
 
+    // Generated lower cased search columns, maintained by the database and backed by trigram indexes.
+    @Column(name = "search_full_name", insertable = false, updatable = false)
+    private String searchFullName;
+
+    @Column(name = "search_phone", insertable = false, updatable = false)
+    private String searchPhone;
+
+    @Column(name = "search_email", insertable = false, updatable = false)
+    private String searchEmail;
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -1,7 +1,9 @@
 package org.baps.api.vtms.models.notification;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.Map;
 
@@ -9,6 +11,8 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 @SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
 public class NotificationUser {
 
@@ -0,0 +1,100 @@
+package org.baps.api.vtms.models.notification;
+
+import org.baps.api.vtms.enumerations.RoleEnum;
+import org.baps.api.vtms.enumerations.VisitorContactTypeEnum;
+import org.baps.api.vtms.models.entities.Personnel;
+import org.baps.api.vtms.models.entities.Visit;
+import org.baps.api.vtms.models.entities.VisitPersonnel;
+import org.baps.api.vtms.models.entities.VisitVisitor;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.apache.commons.collections.CollectionUtils;
+
+/**
+ * One notification of a batch composed together: the visit it is about, null for a notification about a list of visits,
+ * its parameters and the template variables shared by all its recipients. The visitors and personnel of the visit are
+ * indexed by contact type and role on first use, instead of walking the visit collections once per looked up field.
+ */
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public class NotificationVisitModel {
+
+    @Getter
+    private final Visit visit;
+
+    @Getter
+    private final Map<String, String> parameters;
+
+    @Setter
+    private Personnel createdByPersonnel;
+
+    @Getter
+    @Setter
+    private Map<String, String> bodyVars = new HashMap<>();
+
+    @Getter
+    @Setter
+    private Map<String, String> titleVars;
+
+    private Map<VisitorContactTypeEnum, VisitVisitor> visitVisitorMap;
+
+    private Map<String, VisitPersonnel> visitPersonnelMap;
+
+    public NotificationVisitModel(final Visit visit, final Map<String, String> parameters) {
+        this.visit = visit;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Retrieves the personnel who created the visit.
+     *
+     * @return Optional containing the personnel who created the visit, or empty if it was not created by a personnel.
+     */
+    public Optional<Personnel> getCreatedByPersonnel() {
+        return Optional.ofNullable(createdByPersonnel);
+    }
+
+    /**
+     * Retrieves the first visit visitor of a contact type.
+     *
+     * @param visitorContactTypeEnum The contact type of the visitor.
+     * @return Optional containing the first matching VisitVisitor, or empty if not found.
+     */
+    public Optional<VisitVisitor> getVisitVisitor(final VisitorContactTypeEnum visitorContactTypeEnum) {
+
+        if (visitVisitorMap == null) {
+            visitVisitorMap = new EnumMap<>(VisitorContactTypeEnum.class);
+            if (visit != null && CollectionUtils.isNotEmpty(visit.getVisitVisitorList())) {
+                visit.getVisitVisitorList().stream()
+                    .filter(visitVisitor -> visitVisitor.getVisitorContactTypeEnum() != null)
+                    .forEach(visitVisitor -> visitVisitorMap.putIfAbsent(visitVisitor.getVisitorContactTypeEnum(), visitVisitor));
+            }
+        }
+        return Optional.ofNullable(visitVisitorMap.get(visitorContactTypeEnum));
+    }
+
+    /**
+     * Retrieves the first visit personnel of a role.
+     *
+     * @param roleEnum The role of the personnel.
+     * @return Optional containing the first matching VisitPersonnel, or empty if not found.
+     */
+    public Optional<VisitPersonnel> getVisitPersonnel(final RoleEnum roleEnum) {
+
+        if (visitPersonnelMap == null) {
+            visitPersonnelMap = new HashMap<>();
+            if (visit != null && CollectionUtils.isNotEmpty(visit.getVisitPersonnelList())) {
+                visit.getVisitPersonnelList()
+                    .forEach(visitPersonnel -> visitPersonnelMap.putIfAbsent(visitPersonnel.getRole().getUucode(), visitPersonnel));
+            }
+        }
+        return Optional.ofNullable(visitPersonnelMap.get(roleEnum.name()));
+    }
+}
@@ -5,12 +5,20 @@ import org.baps.api.vtms.models.entities.Country;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Set;
 
 @Repository
 public interface CountryRepository extends JpaRepository<Country, String>, JpaSpecificationExecutor<Country> {
 
     List<Country> findByIsdCode(String isdCode);
+
+    @Query("SELECT c.countryId FROM Country c")
+    Set<String> findAllCountryId();
+
+    @Query("SELECT DISTINCT c.isdCode FROM Country c WHERE c.isdCode IS NOT NULL")
+    Set<String> findAllIsdCode();
 }
@@ -0,0 +1,44 @@
+package org.baps.api.vtms.repositories;
+
+import org.baps.api.vtms.exceptions.DataValidationException;
+import org.baps.api.vtms.models.base.KeysetPage;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * Repository fragment executing a specification with keyset (seek) pagination, added to the repositories of the
+ * entities listed with a cursor.
+ *
+ * @param <T> The type of the entity being queried.
+ */
+public interface KeysetRepository<T> {
+
+    /**
+     * Executes a specification with keyset (seek) pagination. Rows are ordered by the sort property and then by the id
+     * property, and the cursor holds both values of the last row of the previous page, so every page is read with
+     * a single index range scan instead of an OFFSET scan. The sort property must be non null and never updated,
+     * otherwise a row updated between two pages moves across the cursor and is skipped or listed twice.
+     *
+     * @param entityClass         The class of the entity being queried.
+     * @param specification       The specification with the filters, its ordering is replaced by the keyset ordering.
+     * @param cursor              The cursor returned with the previous page, blank for the first page.
+     * @param pageSize            The number of items per page.
+     * @param sortProperty        The sort property requested by the client, blank for the default sort property.
+     * @param keysetSortProperty  The non null, immutable sort property used for the keyset.
+     * @param idProperty          The unique id property used to break ties of the sort property.
+     * @param direction           The direction of sorting.
+     * @param sortValueFunction   Function returning the sort property value of an entity.
+     * @param idFunction          Function returning the id property value of an entity.
+     * @param entityGraphName     The name of the entity graph used as fetch graph, null for none.
+     * @return A KeysetPage containing at most pageSize entities and the cursor of the next page, if any.
+     * @throws DataValidationException If the sort property is not the keyset sort property or the cursor is invalid.
+     */
+    KeysetPage<T> findKeysetPage(Class<T> entityClass, Specification<T> specification, String cursor, int pageSize,
+                                 String sortProperty, String keysetSortProperty, String idProperty, Sort.Direction direction,
+                                 Function<T, LocalDateTime> sortValueFunction, Function<T, String> idFunction,
+                                 String entityGraphName);
+}
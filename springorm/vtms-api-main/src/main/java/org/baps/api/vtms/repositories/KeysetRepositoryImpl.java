@@ -0,0 +1,110 @@
+package org.baps.api.vtms.repositories;
+
+import org.baps.api.vtms.common.utils.Translator;
+import org.baps.api.vtms.exceptions.DataValidationException;
+import org.baps.api.vtms.models.base.KeysetCursor;
+import org.baps.api.vtms.models.base.KeysetPage;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.apache.commons.lang3.StringUtils;
+
+@RequiredArgsConstructor
+@SuppressFBWarnings({"EI_EXPOSE_REP2"})
+public class KeysetRepositoryImpl<T> implements KeysetRepository<T> {
+
+    private static final String FETCH_GRAPH_HINT = "jakarta.persistence.fetchgraph";
+
+    private final EntityManager entityManager;
+
+    private final Translator translator;
+
+    @Override
+    public KeysetPage<T> findKeysetPage(final Class<T> entityClass, final Specification<T> specification, final String cursor,
+            final int pageSize, final String sortProperty, final String keysetSortProperty, final String idProperty,
+            final Sort.Direction direction, final Function<T, LocalDateTime> sortValueFunction, final Function<T, String> idFunction,
+            final String entityGraphName) {
+
+        // Any other sort property may be null or updated, so it cannot be sought on and needs offset pagination.
+        if (StringUtils.isNotBlank(sortProperty) && !keysetSortProperty.equals(sortProperty)) {
+            throw new DataValidationException(translator.toLocal("invalid.cursor.sort.property", keysetSortProperty));
+        }
+
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<T> query = criteriaBuilder.createQuery(entityClass);
+        final Root<T> root = query.from(entityClass);
+
+        final List<Predicate> andPredicateList = new ArrayList<>();
+
+        final Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            andPredicateList.add(predicate);
+        }
+
+        final Path<LocalDateTime> sortPath = root.get(keysetSortProperty);
+        final Path<String> idPath = root.get(idProperty);
+
+        if (StringUtils.isNotBlank(cursor)) {
+            final KeysetCursor keysetCursor = decodeCursor(cursor);
+
+            // Seek past the last row of the previous page: (sort, id) after (cursor sort, cursor id).
+            if (direction.isAscending()) {
+                andPredicateList.add(criteriaBuilder.or(
+                    criteriaBuilder.greaterThan(sortPath, keysetCursor.sortValue()),
+                    criteriaBuilder.and(criteriaBuilder.equal(sortPath, keysetCursor.sortValue()),
+                        criteriaBuilder.greaterThan(idPath, keysetCursor.id()))));
+            } else {
+                andPredicateList.add(criteriaBuilder.or(
+                    criteriaBuilder.lessThan(sortPath, keysetCursor.sortValue()),
+                    criteriaBuilder.and(criteriaBuilder.equal(sortPath, keysetCursor.sortValue()),
+                        criteriaBuilder.lessThan(idPath, keysetCursor.id()))));
+            }
+        }
+
+        query.select(root)
+            .where(andPredicateList.toArray(Predicate[]::new))
+            .orderBy(direction.isAscending()
+                ? List.of(criteriaBuilder.asc(sortPath), criteriaBuilder.asc(idPath))
+                : List.of(criteriaBuilder.desc(sortPath), criteriaBuilder.desc(idPath)));
+
+        final TypedQuery<T> typedQuery = entityManager.createQuery(query);
+        if (StringUtils.isNotBlank(entityGraphName)) {
+            typedQuery.setHint(FETCH_GRAPH_HINT, entityManager.getEntityGraph(entityGraphName));
+        }
+
+        // Read one extra row to know whether a next page exists without counting.
+        final List<T> resultList = typedQuery.setMaxResults(pageSize + 1).getResultList();
+
+        if (resultList.size() <= pageSize) {
+            return new KeysetPage<>(resultList, null);
+        }
+
+        final List<T> content = resultList.subList(0, pageSize);
+        final T lastEntity = content.get(pageSize - 1);
+
+        return new KeysetPage<>(content, new KeysetCursor(sortValueFunction.apply(lastEntity), idFunction.apply(lastEntity)).encode());
+    }
+
+    private KeysetCursor decodeCursor(final String cursor) {
+        try {
+            return KeysetCursor.decode(cursor);
+        } catch (final IllegalArgumentException illegalArgumentException) {
+            throw new DataValidationException(translator.toLocal("invalid.cursor"));
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package org.baps.api.vtms.repositories;
 
+import org.baps.api.vtms.models.LookupVersionModel;
 import org.baps.api.vtms.models.entities.Lookup;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,4 +14,7 @@ import java.util.Optional;
 public interface LookupRepository extends JpaRepository<Lookup, String>, JpaSpecificationExecutor<Lookup> {
     
     Optional<Lookup> findByKey(String key);
+
+    @Query("SELECT NEW org.baps.api.vtms.models.LookupVersionModel(COUNT(l), MAX(l.createdAt), MAX(l.updatedAt)) FROM Lookup l")
+    LookupVersionModel findLookupVersion();
 }
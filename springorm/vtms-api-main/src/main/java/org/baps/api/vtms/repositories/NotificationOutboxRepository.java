@@ -0,0 +1,61 @@
+package org.baps.api.vtms.repositories;
+
+import org.baps.api.vtms.enumerations.NotificationDeliveryStatusEnum;
+import org.baps.api.vtms.models.entities.NotificationOutbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, String> {
+
+    // Rows locked by the dispatcher of another node are skipped instead of waited for.
+    @Query(value = "SELECT * FROM notification_outbox "
+            + "      WHERE delivery_status = 'PENDING' "
+            + "        AND next_attempt_at <= :now "
+            + "   ORDER BY next_attempt_at, created_at "
+            + "      LIMIT :batchSize "
+            + "        FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationOutbox> findPendingNotificationOutboxForUpdate(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query(value = "UPDATE notification_outbox "
+            + "        SET attempts = attempts + 1, "
+            + "            next_attempt_at = :leaseExpiresAt "
+            + "      WHERE notification_outbox_id IN (:notificationOutboxIds)", nativeQuery = true)
+    int updateNotificationOutboxClaimed(@Param("notificationOutboxIds") List<String> notificationOutboxIds,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    @Modifying
+    @Query(value = "UPDATE notification_outbox "
+            + "        SET delivery_status = 'SENT', "
+            + "            sent_at = :sentAt, "
+            + "            last_error = NULL "
+            + "      WHERE notification_outbox_id IN (:notificationOutboxIds)", nativeQuery = true)
+    int updateNotificationOutboxSent(@Param("notificationOutboxIds") List<String> notificationOutboxIds,
+            @Param("sentAt") LocalDateTime sentAt);
+
+    // The backoff doubles with every attempt up to the maximum backoff, rows out of attempts are not retried any more.
+    @Modifying
+    @Query(value = "UPDATE notification_outbox "
+            + "        SET delivery_status = CASE WHEN attempts >= :maxAttempts THEN 'FAILED' ELSE 'PENDING' END, "
+            + "            next_attempt_at = CAST(:failedAt AS timestamp) "
+            + "                + LEAST(:initialBackoffSeconds * POWER(2, attempts - 1), :maxBackoffSeconds) * INTERVAL '1 second', "
+            + "            last_error = :lastError "
+            + "      WHERE notification_outbox_id IN (:notificationOutboxIds)", nativeQuery = true)
+    int updateNotificationOutboxFailed(@Param("notificationOutboxIds") List<String> notificationOutboxIds,
+            @Param("failedAt") LocalDateTime failedAt, @Param("lastError") String lastError, @Param("maxAttempts") int maxAttempts,
+            @Param("initialBackoffSeconds") long initialBackoffSeconds, @Param("maxBackoffSeconds") long maxBackoffSeconds);
+
+    long countByNotificationDeliveryStatusEnum(NotificationDeliveryStatusEnum notificationDeliveryStatusEnum);
+
+    @Modifying
+    @Query(value = "DELETE FROM notification_outbox WHERE delivery_status = 'SENT' AND sent_at < :sentBefore", nativeQuery = true)
+    int deleteSentNotificationOutbox(@Param("sentBefore") LocalDateTime sentBefore);
+}
@@ -1,6 +1,7 @@
 package org.baps.api.vtms.repositories;
 
 import org.baps.api.vtms.models.entities.Personnel;
+import org.baps.api.vtms.models.entities.PersonnelRole;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
@@ -62,4 +63,14 @@ public interface PersonnelRepository extends JpaRepository<Personnel, String>, J
     List<Personnel> findAllByPersonnelRoleListRoleUucodeInAndPersonnelRoleListSiteUuCode(Set<String> roleUucodeSet, String siteUUCode);
 
     List<Personnel> findAllByPersonnelIdIn(Set<String> personnelIds);
+
+    @Query("SELECT pr FROM PersonnelRole pr "
+            + "     INNER JOIN FETCH pr.personnel p "
+            + "     INNER JOIN FETCH pr.site s "
+            + "     WHERE pr.role.uucode = :roleUucode "
+            + "     AND s.uuCode IN :siteUUCodes "
+            + "     AND pr.status != org.baps.api.vtms.models.base.Status.DELETED "
+            + "     AND p.status != org.baps.api.vtms.models.base.Status.DELETED")
+    List<PersonnelRole> findAllPersonnelRoleByRoleUucodeAndSiteUuCodeIn(@Param("roleUucode") String roleUucode,
+            @Param("siteUUCodes") Set<String> siteUUCodes);
 }
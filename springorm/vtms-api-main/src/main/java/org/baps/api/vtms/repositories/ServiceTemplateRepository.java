@@ -6,6 +6,8 @@ import org.baps.api.vtms.models.entities.ServiceTemplate;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -22,4 +24,7 @@ public interface ServiceTemplateRepository extends JpaRepository<ServiceTemplate
     Optional<ServiceTemplate> findFirstByServiceTypeEnumAndSiteUuCode(ServiceTypeEnum serviceTypeEnum, String siteUUCode);
 
     List<ServiceTemplate> findByServiceTemplateIdInAndSiteUuCode(Set<String> serviceTemplateIds, String siteUUCode);
+
+    @Query("SELECT st.serviceTemplateId FROM ServiceTemplate st WHERE st.site.uuCode = :siteUUCode")
+    Set<String> findServiceTemplateIdBySiteUuCode(@Param("siteUUCode") String siteUUCode);
 }
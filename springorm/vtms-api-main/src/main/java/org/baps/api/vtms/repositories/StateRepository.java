@@ -4,9 +4,14 @@ import org.baps.api.vtms.models.entities.State;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Set;
+
 @Repository
 public interface StateRepository extends JpaRepository<State, String>, JpaSpecificationExecutor<State> {
 
+    @Query("SELECT s.stateId FROM State s")
+    Set<String> findAllStateId();
 }
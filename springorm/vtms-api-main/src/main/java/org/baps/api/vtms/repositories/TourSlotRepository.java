@@ -1,22 +1,27 @@
 package org.baps.api.vtms.repositories;
 
 import org.baps.api.vtms.enumerations.TourSlotStageEnum;
-import org.baps.api.vtms.models.TourSlotWithVisitorCountModel;
+import org.baps.api.vtms.models.TourSlotReservationModel;
 import org.baps.api.vtms.models.entities.TourSlot;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
+
+import jakarta.persistence.LockModeType;
 
 @Repository
-public interface TourSlotRepository extends JpaRepository<TourSlot, String>, JpaSpecificationExecutor<TourSlot> {
+public interface TourSlotRepository extends JpaRepository<TourSlot, String>, JpaSpecificationExecutor<TourSlot>,
+        KeysetRepository<TourSlot> {
 
     boolean existsByStartDateTimeGreaterThanEqualAndEndDateTimeLessThanEqualAndSiteUuCode(
         LocalDateTime startDateTime, LocalDateTime endDateTime, String siteUUCode);
@@ -24,20 +29,84 @@ public interface TourSlotRepository extends JpaRepository<TourSlot, String>, Jpa
     List<TourSlot> findByStartDateTimeGreaterThanEqualAndEndDateTimeLessThanEqualAndSiteUuCode(
         LocalDateTime startDateTime, LocalDateTime endDateTime, String siteUUCode);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<TourSlot> findLockedByStartDateTimeGreaterThanEqualAndEndDateTimeLessThanEqualAndSiteUuCode(
+        LocalDateTime startDateTime, LocalDateTime endDateTime, String siteUUCode);
+
     Optional<TourSlot> findByTourSlotIdAndTourSlotStageEnumNotInAndSiteUuCode(String tourSlotId,
                                                                               List<TourSlotStageEnum> tourSlotStageEnumList,
                                                                               String siteUUCode);
 
-    @Query("SELECT new org.baps.api.vtms.models.TourSlotWithVisitorCountModel(v.tourSlot.tourSlotId, sum(v.totalVisitors)) "
+    Optional<TourSlot> findByTourSlotIdAndSiteUuCode(String tourSlotId, String siteUUCode);
+
+    /**
+     * Finds a tour slot and locks its row until the end of the transaction, so the booked guest count read to validate
+     * an update can not change before the update is written.
+     *
+     * @param tourSlotId The unique identifier of the tour slot.
+     * @param siteUUCode The unique code of the site.
+     * @return The locked tour slot, empty if it does not exist for the site.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<TourSlot> findLockedByTourSlotIdAndSiteUuCode(String tourSlotId, String siteUUCode);
+
+    @Query("SELECT new org.baps.api.vtms.models.TourSlotReservationModel(ts.tourSlotStageEnum, ts.maxGuestSize - ts.bookedGuestCount) "
         + "     FROM "
-        + "         Visit v "
+        + "         TourSlot ts "
         + "     WHERE "
-        + "         v.visitStageEnum != org.baps.api.vtms.enumerations.VisitStageEnum.CANCELLED "
-        + "         AND v.tourSlot.site.uuCode = :siteUUCode"
-        + "         AND v.tourSlot.tourSlotId in (:tourSlotIds) "
-        + "     GROUP BY v.tourSlot.tourSlotId")
-    List<TourSlotWithVisitorCountModel> countBookedVisitorCountByTourSlotIds(@Param("tourSlotIds") Set<String> tourSlotIds,
-                                                                             @Param("siteUUCode") String siteUUCode);
+        + "         ts.tourSlotId = :tourSlotId "
+        + "         AND ts.site.uuCode = :siteUUCode")
+    Optional<TourSlotReservationModel> findTourSlotReservationByTourSlotIdAndSiteUuCode(@Param("tourSlotId") String tourSlotId,
+                                                                                       @Param("siteUUCode") String siteUUCode);
 
-    Optional<TourSlot> findByTourSlotIdAndSiteUuCode(String tourSlotId, String siteUUCode);
+    /**
+     * Atomically reserves guest capacity in an active tour slot. The row is only updated when the slot is bookable and the
+     * requested guests still fit, so concurrent bookings serialize on the row lock instead of overbooking. The stage is
+     * moved to BOOKED or PARTIALLY in the same statement.
+     *
+     * @param tourSlotId The unique identifier of the tour slot.
+     * @param guestCount The number of guests to reserve.
+     * @param siteUUCode The unique code of the site.
+     * @return 1 if the guests were reserved, 0 otherwise.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE tour_slots ts "
+        + "     SET "
+        + "         booked_guest_count = ts.booked_guest_count + :guestCount, "
+        + "         stage = CASE "
+        + "             WHEN ts.booked_guest_count + :guestCount = ts.max_guest_size THEN 'BOOKED' "
+        + "             WHEN ts.max_guest_size / 2 <= ts.booked_guest_count + :guestCount THEN 'PARTIALLY' "
+        + "             ELSE ts.stage END "
+        + "     WHERE "
+        + "         ts.tour_slot_id = :tourSlotId "
+        + "         AND ts.status != 'DELETED' "
+        + "         AND ts.stage IN ('ACTIVE', 'PARTIALLY') "
+        + "         AND ts.booked_guest_count + :guestCount <= ts.max_guest_size "
+        + "         AND ts.site_id IN (SELECT s.site_id FROM sites s WHERE s.uucode = :siteUUCode)", nativeQuery = true)
+    int reserveGuestCount(@Param("tourSlotId") String tourSlotId, @Param("guestCount") int guestCount,
+                          @Param("siteUUCode") String siteUUCode);
+
+    /**
+     * Atomically releases previously reserved guest capacity, reopening a BOOKED or PARTIALLY slot when it drops
+     * below the corresponding threshold.
+     *
+     * @param tourSlotId The unique identifier of the tour slot.
+     * @param guestCount The number of guests to release.
+     * @return 1 if the guests were released, 0 otherwise.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE tour_slots ts "
+        + "     SET "
+        + "         booked_guest_count = GREATEST(ts.booked_guest_count - :guestCount, 0), "
+        + "         stage = CASE "
+        + "             WHEN ts.stage NOT IN ('BOOKED', 'PARTIALLY') THEN ts.stage "
+        + "             WHEN GREATEST(ts.booked_guest_count - :guestCount, 0) = ts.max_guest_size THEN 'BOOKED' "
+        + "             WHEN ts.max_guest_size / 2 <= GREATEST(ts.booked_guest_count - :guestCount, 0) THEN 'PARTIALLY' "
+        + "             ELSE 'ACTIVE' END "
+        + "     WHERE "
+        + "         ts.tour_slot_id = :tourSlotId "
+        + "         AND ts.status != 'DELETED'", nativeQuery = true)
+    int releaseGuestCount(@Param("tourSlotId") String tourSlotId, @Param("guestCount") int guestCount);
 }
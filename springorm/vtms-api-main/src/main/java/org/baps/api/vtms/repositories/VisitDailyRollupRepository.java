@@ -0,0 +1,63 @@
+package org.baps.api.vtms.repositories;
+
+import org.baps.api.vtms.enumerations.VisitStageEnum;
+import org.baps.api.vtms.enumerations.VisitTypeEnum;
+import org.baps.api.vtms.models.VisitCountModel;
+import org.baps.api.vtms.models.entities.VisitDailyRollup;
+import org.baps.api.vtms.models.entities.VisitDailyRollupId;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface VisitDailyRollupRepository extends JpaRepository<VisitDailyRollup, VisitDailyRollupId> {
+
+    @Query("SELECT NEW org.baps.api.vtms.models.VisitCountModel(SUM(r.visitCount), SUM(r.totalVisitors), CAST(r.visitDate as DATE)) "
+            + "         FROM "
+            + "             VisitDailyRollup r "
+            + "     INNER JOIN "
+            + "             Site s "
+            + "     ON "
+            + "         s.siteId = r.siteId "
+            + "     WHERE "
+            + "         s.uuCode = :siteUUCode "
+            + "     AND "
+            + "         r.visitTypeEnum = :visitTypeEnum "
+            + "     AND "
+            + "         r.visitDate BETWEEN :startDate AND :endDate "
+            + "     AND "
+            + "         r.visitStageEnum in (:visitStageEnumList) "
+            + "     GROUP BY "
+            + "         r.visitDate "
+            + "     HAVING "
+            + "         SUM(r.visitCount) > 0")
+    List<VisitCountModel> findVisitCountGroupByVisitDate(@Param("siteUUCode") String siteUUCode,
+            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate,
+            @Param("visitTypeEnum") VisitTypeEnum visitTypeEnum, @Param("visitStageEnumList") List<VisitStageEnum> visitStageEnumList);
+
+    // Blocks the trigger of concurrent visit writes until the rebuild commits, reads are not blocked.
+    @Modifying
+    @Query(value = "LOCK TABLE visit_daily_rollup IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockVisitDailyRollup();
+
+    @Modifying
+    @Query(value = "DELETE FROM visit_daily_rollup", nativeQuery = true)
+    void deleteAllVisitDailyRollup();
+
+    @Modifying
+    @Query(value = "INSERT INTO visit_daily_rollup (site_id, visit_date, type, stage, visit_count, total_visitors) "
+            + "     SELECT v.site_id, CAST(v.start_date_time AS DATE), v.type, v.stage, COUNT(*), COALESCE(SUM(v.total_visitors), 0) "
+            + "       FROM visits v "
+            + "      WHERE v.status <> 'DELETED' "
+            + "        AND v.site_id IS NOT NULL "
+            + "        AND v.type IS NOT NULL "
+            + "        AND v.stage IS NOT NULL "
+            + "      GROUP BY v.site_id, CAST(v.start_date_time AS DATE), v.type, v.stage", nativeQuery = true)
+    int insertVisitDailyRollupFromVisits();
+}
@@ -0,0 +1,60 @@
+package org.baps.api.vtms.repositories;
+
+import org.baps.api.vtms.enumerations.VisitTypeEnum;
+import org.baps.api.vtms.models.VisitPublicFeedbackRatingSumModel;
+import org.baps.api.vtms.models.entities.VisitFeedbackDailyRollup;
+import org.baps.api.vtms.models.entities.VisitFeedbackDailyRollupId;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+@Repository
+public interface VisitFeedbackDailyRollupRepository extends JpaRepository<VisitFeedbackDailyRollup, VisitFeedbackDailyRollupId> {
+
+    @Query("SELECT NEW org.baps.api.vtms.models.VisitPublicFeedbackRatingSumModel(SUM(r.feedbackCount), "
+            + " SUM(r.bookingProcessRatingCount), SUM(r.bookingProcessRatingSum), SUM(r.overallRatingCount), SUM(r.overallRatingSum)) "
+            + "         FROM "
+            + "             VisitFeedbackDailyRollup r "
+            + "     INNER JOIN "
+            + "             Site s "
+            + "     ON "
+            + "         s.siteId = r.siteId "
+            + "     WHERE "
+            + "         s.uuCode = :siteUUCode "
+            + "     AND "
+            + "         r.visitTypeEnum = :visitTypeEnum "
+            + "     AND "
+            + "         r.visitDate BETWEEN :startDate AND :endDate ")
+    VisitPublicFeedbackRatingSumModel findVisitPublicFeedbackRatingSumByFilter(@Param("siteUUCode") String siteUUCode,
+            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate,
+            @Param("visitTypeEnum") VisitTypeEnum visitTypeEnum);
+
+    // Blocks the triggers of concurrent feedback and visit writes until the rebuild commits, reads are not blocked.
+    @Modifying
+    @Query(value = "LOCK TABLE visit_feedback_daily_rollup IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockVisitFeedbackDailyRollup();
+
+    @Modifying
+    @Query(value = "DELETE FROM visit_feedback_daily_rollup", nativeQuery = true)
+    void deleteAllVisitFeedbackDailyRollup();
+
+    @Modifying
+    @Query(value = "INSERT INTO visit_feedback_daily_rollup (site_id, visit_date, type, feedback_count, "
+            + "         booking_process_rating_count, booking_process_rating_sum, overall_rating_count, overall_rating_sum) "
+            + "     SELECT v.site_id, CAST(v.start_date_time AS DATE), v.type, COUNT(*), "
+            + "            COUNT(vpf.booking_process_rating), COALESCE(SUM(vpf.booking_process_rating), 0), "
+            + "            COUNT(vpf.overall_rating), COALESCE(SUM(vpf.overall_rating), 0) "
+            + "       FROM visit_public_feedback vpf "
+            + "      INNER JOIN visits v ON v.visit_id = vpf.visit_id "
+            + "      WHERE vpf.status <> 'DELETED' "
+            + "        AND v.status <> 'DELETED' "
+            + "        AND v.site_id IS NOT NULL "
+            + "        AND v.type IS NOT NULL "
+            + "      GROUP BY v.site_id, CAST(v.start_date_time AS DATE), v.type", nativeQuery = true)
+    int insertVisitFeedbackDailyRollupFromVisitPublicFeedback();
+}
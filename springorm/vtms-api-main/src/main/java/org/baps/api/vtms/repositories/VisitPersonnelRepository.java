@@ -115,8 +115,31 @@ public interface VisitPersonnelRepository extends JpaRepository<VisitPersonnel,
     List<VisitPersonnel> findByVisitVisitIdAndVisitStatusNotAndPersonnelPersonnelIdAndPersonnelStatusNotAndVisitSiteUuCode(
         String visitId, Status visitStatus, String personnelId, Status personnelStatus, String siteUUCode);
 
-    boolean existsVisitPersonnelByVisitVisitIdAndRoleTagEnumAndStatusNotAndVisitSiteUuCode(
-        String visitId, RoleTagEnum roleTagEnum, Status status, String siteUUCode);
+    @Query("SELECT vp.roleTagEnum FROM VisitPersonnel vp "
+            + "INNER JOIN Personnel p "
+            + "     ON p.personnelId = vp.personnel.personnelId "
+            + "     AND p.status != org.baps.api.vtms.models.base.Status.DELETED "
+            + "INNER JOIN Visit v "
+            + "     ON v.visitId = vp.visit.visitId "
+            + "     AND v.status != org.baps.api.vtms.models.base.Status.DELETED "
+            + "WHERE v.visitId = :visitId "
+            + "AND "
+            + "     p.personnelId = :personnelId "
+            + "AND "
+            + "     v.site.uuCode = :siteUUCode")
+    Set<RoleTagEnum> findRoleTagEnumByVisitIdAndPersonnelIdAndSiteUuCode(@Param("visitId") String visitId,
+            @Param("personnelId") String personnelId, @Param("siteUUCode") String siteUUCode);
+
+    @Query("SELECT vp FROM VisitPersonnel vp "
+            + "     INNER JOIN FETCH vp.role "
+            + "     WHERE "
+            + "         vp.personnel.personnelId = :personnelId "
+            + "     AND "
+            + "         vp.visit.visitId IN (:visitIds) "
+            + "     ORDER BY "
+            + "         vp.createdAt")
+    List<VisitPersonnel> findAllWithRoleByPersonnelIdAndVisitIds(@Param("personnelId") String personnelId,
+            @Param("visitIds") Set<String> visitIds);
 
     Optional<VisitPersonnel> findByVisitPersonnelIdAndVisitSiteUuCode(String visitPersonnelId, String siteUUCode);
     
@@ -1,11 +1,12 @@
 package org.baps.api.vtms.repositories;
 
 import org.baps.api.vtms.enumerations.VisitTypeEnum;
-import org.baps.api.vtms.models.VisitPublicFeedbackSummaryModel;
+import org.baps.api.vtms.models.VisitPublicFeedbackRatingSumModel;
 import org.baps.api.vtms.models.entities.VisitPublicFeedback;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,14 +14,27 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface VisitPublicFeedbackRepository extends JpaRepository<VisitPublicFeedback, String>,
     JpaSpecificationExecutor<VisitPublicFeedback> {
 
     Optional<VisitPublicFeedback> findByVisitPublicFeedbackIdAndVisitSiteUuCode(String visitFeedbackId, String siteUUCode);
+
+    /**
+     * Finds a visit feedback and locks its row until the end of the transaction, so two concurrent submissions of the
+     * same booking feedback are applied one after the other and the second one sees the first.
+     *
+     * @param visitFeedbackId The unique identifier of the visit feedback.
+     * @param siteUUCode      The unique code associated with the site.
+     * @return The locked visit feedback, if found.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<VisitPublicFeedback> findLockedByVisitPublicFeedbackIdAndVisitSiteUuCode(String visitFeedbackId, String siteUUCode);
     
-    @Query("SELECT NEW org.baps.api.vtms.models.VisitPublicFeedbackSummaryModel(COUNT(vpf), SUM(vpf.bookingProcessRating),"
-            + " SUM(vpf.overallRating)) "
+    @Query("SELECT NEW org.baps.api.vtms.models.VisitPublicFeedbackRatingSumModel(COUNT(vpf), COUNT(vpf.bookingProcessRating),"
+            + " SUM(vpf.bookingProcessRating), COUNT(vpf.overallRating), SUM(vpf.overallRating)) "
             + "         FROM "
             + "             VisitPublicFeedback vpf "
             + "     INNER JOIN "
@@ -35,7 +49,7 @@ public interface VisitPublicFeedbackRepository extends JpaRepository<VisitPublic
             + "         v.startDateTime <= :endDateTime " 
             + "     AND "
             + "         v.site.uuCode = :siteUUCode ")
-    VisitPublicFeedbackSummaryModel findVisitPublicFeedbackCountByFilter(@Param("siteUUCode") String siteUUCode,
+    VisitPublicFeedbackRatingSumModel findVisitPublicFeedbackRatingSumByFilter(@Param("siteUUCode") String siteUUCode,
             @Param("starDateTime") LocalDateTime starDateTime, @Param("endDateTime") LocalDateTime endDateTime,
             @Param("visitTypeEnum") VisitTypeEnum visitTypeEnum);
 }
@@ -3,71 +3,79 @@ package org.baps.api.vtms.repositories;
 import org.baps.api.vtms.enumerations.VisitStageEnum;
 import org.baps.api.vtms.enumerations.VisitTypeEnum;
 import org.baps.api.vtms.models.VisitCountModel;
+import org.baps.api.vtms.models.VisitTabModel;
 import org.baps.api.vtms.models.base.Status;
 import org.baps.api.vtms.models.entities.Visit;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 @Repository
-public interface VisitRepository extends JpaRepository<Visit, String>, JpaSpecificationExecutor<Visit> {
+public interface VisitRepository extends JpaRepository<Visit, String>, JpaSpecificationExecutor<Visit>, KeysetRepository<Visit>,
+        VisitRepositoryCustom {
 
     List<Visit> findAllByVisitStageEnumInAndEndDateTimeLessThan(Set<VisitStageEnum> currentVisitStageEnums, LocalDateTime localDateTime);
 
-    List<Visit> findAllByVisitPersonnelListRoleUucodeAndSiteUuCode(String uucode, String siteUUCode);
+    List<Visit> findAllByTourSlotTourSlotIdAndSiteUuCode(String tourSlotId, String siteUUCode);
+
+    Optional<Visit> findByVisitIdAndSiteUuCode(String visitId, String siteUUCode);
 
-    @Query("SELECT v FROM Visit v "
-                    + "     INNER JOIN VisitPersonnel vp "
-                    + "         ON  v.visitId = vp.visit.visitId "
-                    + "     INNER JOIN Role r "
-                    + "         ON  r.roleId = vp.role.roleId "
-                    + "     INNER JOIN Personnel p "
-                    + "         ON  p.personnelId = vp.personnel.personnelId"
-                    + "     WHERE "
-                    + "         vp.status != org.baps.api.vtms.models.base.Status.DELETED "
-                    + "     AND "
-                    + "         r.status != org.baps.api.vtms.models.base.Status.DELETED "
-                    + "     AND "
-                    + "         p.status != org.baps.api.vtms.models.base.Status.DELETED "
-                    + "     AND "
-                    + "         r.uucode in (:roleUucodeSet)"
-                    + "     AND "
-                    + "         LOWER(CONCAT(p.firstName, ' ', p.lastName)) LIKE :personnelName"
-                    + "     AND "
-                    + "         v.site.uuCode = :siteUUCode")
-    List<Visit> findAllByVisitPersonnelLikePersonnelNameAndRoleUucodeSet(@Param("roleUucodeSet") Set<String> roleUucodeSet,
-            @Param("personnelName") String personnelName, @Param("siteUUCode") String siteUUCode);
+    @EntityGraph(Visit.DETAIL_ENTITY_GRAPH)
+    Optional<Visit> findWithDetailByVisitIdAndSiteUuCode(String visitId, String siteUUCode);
 
-    @Query("SELECT v FROM Visit v "
-            + "     INNER JOIN VisitPersonnel vp "
-            + "         ON  v.visitId = vp.visit.visitId "
-            + "     INNER JOIN Personnel p "
-            + "         ON  p.personnelId = vp.personnel.personnelId"
+    @Query("SELECT NEW org.baps.api.vtms.models.VisitTabModel("
+            + "         CASE WHEN EXISTS (SELECT 1 FROM VisitService vs WHERE vs.visit = v "
+            + "             AND vs.serviceTemplate.serviceTypeEnum = org.baps.api.vtms.enumerations.ServiceTypeEnum.TOUR) "
+            + "         THEN true ELSE false END, "
+            + "         CASE WHEN EXISTS (SELECT 1 FROM VisitService vs WHERE vs.visit = v "
+            + "             AND vs.serviceTemplate.serviceTypeEnum = org.baps.api.vtms.enumerations.ServiceTypeEnum.SERVICE) "
+            + "         THEN true ELSE false END, "
+            + "         CASE WHEN EXISTS (SELECT 1 FROM VisitService vs WHERE vs.visit = v "
+            + "             AND vs.serviceTemplate.serviceTypeEnum = org.baps.api.vtms.enumerations.ServiceTypeEnum.MEETING) "
+            + "         THEN true ELSE false END, "
+            + "         CASE WHEN EXISTS (SELECT 1 FROM VisitPersonnel vp WHERE vp.visit = v "
+            + "             AND vp.roleTagEnum = org.baps.api.vtms.enumerations.RoleTagEnum.INTERVIEW_SETUP_COORDINATOR "
+            + "             AND vp.status != org.baps.api.vtms.models.base.Status.DELETED) "
+            + "         THEN true ELSE false END) "
+            + "     FROM Visit v "
             + "     WHERE "
-            + "         vp.status != org.baps.api.vtms.models.base.Status.DELETED "
-            + "     AND "
-            + "         p.status != org.baps.api.vtms.models.base.Status.DELETED "
-            + "     AND "
-            + "         p.personnelId = :personnelId"
+            + "         v.visitId = :visitId "
             + "     AND "
             + "         v.site.uuCode = :siteUUCode")
-    List<Visit> findAllByVisitPersonnelIdAndSiteUuCode(@Param("personnelId") String personnelId,
-                                                       @Param("siteUUCode") String siteUUCode);
-
-
-    List<Visit> findAllByTourSlotTourSlotIdAndSiteUuCode(String tourSlotId, String siteUUCode);
-
-    Optional<Visit> findByVisitIdAndSiteUuCode(String visitId, String siteUUCode);
+    Optional<VisitTabModel> findVisitTabModelByVisitIdAndSiteUuCode(@Param("visitId") String visitId,
+            @Param("siteUUCode") String siteUUCode);
     
-    Visit findTopBySiteUuCodeAndVisitTypeEnumOrderByCreatedAtDesc(String siteUUCode, VisitTypeEnum visitTypeEnum);
+    /**
+     * Atomically advances the per-site, per-type, per-day visit number counter by the allocation size and returns the
+     * new upper bound, so the numbers (upper bound - allocation size, upper bound] belong to the caller. Runs in the
+     * caller's transaction: the counter row stays locked until that transaction ends and a rollback gives the numbers
+     * back.
+     *
+     * @param siteId         The unique identifier of the site.
+     * @param visitType      The type of the visits, as stored in the counter.
+     * @param visitDate      The date of the visits.
+     * @param allocationSize The number of visit numbers to allocate.
+     * @return The last visit number allocated.
+     */
+    @Query(value = "INSERT INTO visit_number_counters (site_id, type, visit_date, last_number) "
+            + "     VALUES "
+            + "         (:siteId, :visitType, :visitDate, :allocationSize) "
+            + "     ON CONFLICT (site_id, type, visit_date) DO UPDATE "
+            + "     SET "
+            + "         last_number = visit_number_counters.last_number + :allocationSize "
+            + "     RETURNING last_number", nativeQuery = true)
+    int allocateVisitNumbers(@Param("siteId") String siteId, @Param("visitType") String visitType,
+            @Param("visitDate") LocalDate visitDate, @Param("allocationSize") int allocationSize);
     
     @Query("SELECT NEW org.baps.api.vtms.models.VisitCountModel(COUNT(v), SUM(v.totalVisitors), CAST(v.startDateTime as DATE)) " 
             + "         FROM Visit v " 
@@ -0,0 +1,36 @@
+package org.baps.api.vtms.repositories;
+
+import org.baps.api.vtms.models.VisitBasicInfoModel;
+import org.baps.api.vtms.models.entities.Visit;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Repository fragment with the visit queries Spring Data can not derive.
+ */
+public interface VisitRepositoryCustom {
+
+    /**
+     * Retrieves a page of visits for the visit lists, fetching the associations mapped in the list with the
+     * Visit.list entity graph. The inverse one-to-ones and the tour slot are joined instead of being loaded with one
+     * select per row, the collections are left to the batch fetch size so the pagination stays in SQL.
+     *
+     * @param specification The specification with the filters and the ordering.
+     * @param pageable      The page to retrieve.
+     * @return The page of visits.
+     */
+    Page<Visit> findListPage(Specification<Visit> specification, Pageable pageable);
+
+    /**
+     * Executes a visit summary specification and reads only the columns of the visit summary with the primary visitor
+     * name, in one tuple query, instead of full Visit entities with their associations.
+     *
+     * @param specification The specification built by VisitSpecification.buildVisitSpecificationForVisitSummary.
+     * @return A list of VisitBasicInfoModel objects, one per visit, in the order of the specification.
+     */
+    List<VisitBasicInfoModel> findVisitBasicInfoListForVisitSummary(Specification<Visit> specification);
+}
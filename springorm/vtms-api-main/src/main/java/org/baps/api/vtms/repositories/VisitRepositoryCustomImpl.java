@@ -0,0 +1,147 @@
+package org.baps.api.vtms.repositories;
+
+import org.baps.api.vtms.constants.SpecificationConstants;
+import org.baps.api.vtms.enumerations.VisitorContactTypeEnum;
+import org.baps.api.vtms.models.VisitBasicInfoModel;
+import org.baps.api.vtms.models.VisitorBasicInfoModel;
+import org.baps.api.vtms.models.base.Status;
+import org.baps.api.vtms.models.entities.Visit;
+import org.baps.api.vtms.models.entities.VisitVisitor;
+import org.baps.api.vtms.models.entities.Visitor;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.apache.commons.lang3.ObjectUtils;
+
+@RequiredArgsConstructor
+@SuppressFBWarnings({"EI_EXPOSE_REP2"})
+public class VisitRepositoryCustomImpl implements VisitRepositoryCustom {
+
+    private static final String FETCH_GRAPH_HINT = "jakarta.persistence.fetchgraph";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<Visit> findListPage(final Specification<Visit> specification, final Pageable pageable) {
+
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Visit> query = criteriaBuilder.createQuery(Visit.class);
+        final Root<Visit> root = query.from(Visit.class);
+
+        final Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root);
+
+        // The specification may have set the ordering itself, a sorted pageable replaces it.
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+        }
+
+        final TypedQuery<Visit> typedQuery = entityManager.createQuery(query)
+            .setHint(FETCH_GRAPH_HINT, entityManager.getEntityGraph(Visit.LIST_ENTITY_GRAPH));
+
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        final List<Visit> content = typedQuery.getResultList();
+
+        // The count is skipped when the page shows the total, as SimpleJpaRepository does.
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+    }
+
+    @Override
+    public List<VisitBasicInfoModel> findVisitBasicInfoListForVisitSummary(final Specification<Visit> specification) {
+
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        final Root<Visit> root = query.from(Visit.class);
+
+        final Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        // Join only the primary visitor, a visit without one is still returned.
+        final Join<Visit, VisitVisitor> visitVisitorJoin = root.join(SpecificationConstants.VISIT_VISITOR_LIST, JoinType.LEFT);
+        visitVisitorJoin.on(
+            criteriaBuilder.equal(visitVisitorJoin.get(SpecificationConstants.CONTACT_TYPE_ENUM), VisitorContactTypeEnum.PRIMARY),
+            criteriaBuilder.notEqual(visitVisitorJoin.get(SpecificationConstants.STATUS), Status.DELETED));
+        final Join<VisitVisitor, Visitor> visitorJoin = visitVisitorJoin.join(SpecificationConstants.VISITOR, JoinType.LEFT);
+
+        query.multiselect(
+            root.get(SpecificationConstants.VISIT_ID).alias(SpecificationConstants.VISIT_ID),
+            root.get(SpecificationConstants.REQUEST_NUMBER).alias(SpecificationConstants.REQUEST_NUMBER),
+            root.get(SpecificationConstants.TOTAL_VISITORS).alias(SpecificationConstants.TOTAL_VISITORS),
+            root.get(SpecificationConstants.START_DATE_TIME).alias(SpecificationConstants.START_DATE_TIME),
+            root.get(SpecificationConstants.END_DATE_TIME).alias(SpecificationConstants.END_DATE_TIME),
+            visitorJoin.get(SpecificationConstants.FIRST_NAME).alias(SpecificationConstants.FIRST_NAME),
+            visitorJoin.get(SpecificationConstants.LAST_NAME).alias(SpecificationConstants.LAST_NAME));
+
+        // Keep the first row per visit, as a visit may have more than one primary visitor row.
+        return entityManager.createQuery(query).getResultStream()
+            .collect(Collectors.toMap(tuple -> tuple.get(SpecificationConstants.VISIT_ID, String.class), this::tupleToVisitBasicInfoModel,
+                (firstVisitBasicInfoModel, secondVisitBasicInfoModel) -> firstVisitBasicInfoModel, LinkedHashMap::new))
+            .values().stream().toList();
+    }
+
+    private VisitBasicInfoModel tupleToVisitBasicInfoModel(final Tuple tuple) {
+
+        final VisitBasicInfoModel visitBasicInfoModel = new VisitBasicInfoModel();
+        visitBasicInfoModel.setVisitId(tuple.get(SpecificationConstants.VISIT_ID, String.class));
+        visitBasicInfoModel.setRequestNumber(tuple.get(SpecificationConstants.REQUEST_NUMBER, String.class));
+        visitBasicInfoModel.setTotalVisitors(tuple.get(SpecificationConstants.TOTAL_VISITORS, Integer.class));
+        visitBasicInfoModel.setStartDateTime(tuple.get(SpecificationConstants.START_DATE_TIME, LocalDateTime.class));
+        visitBasicInfoModel.setEndDateTime(tuple.get(SpecificationConstants.END_DATE_TIME, LocalDateTime.class));
+
+        if (ObjectUtils.isNotEmpty(tuple.get(SpecificationConstants.FIRST_NAME))) {
+            final VisitorBasicInfoModel visitorBasicInfoModel = new VisitorBasicInfoModel();
+            visitorBasicInfoModel.setFirstName(tuple.get(SpecificationConstants.FIRST_NAME, String.class));
+            visitorBasicInfoModel.setLastName(tuple.get(SpecificationConstants.LAST_NAME, String.class));
+            visitBasicInfoModel.setPrimaryVisitorModel(visitorBasicInfoModel);
+        }
+        return visitBasicInfoModel;
+    }
+
+    private long count(final Specification<Visit> specification) {
+
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        final Root<Visit> root = query.from(Visit.class);
+
+        final Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        // The ordering set by the specification is meaningless for a count and rejected by some databases.
+        query.select(query.isDistinct() ? criteriaBuilder.countDistinct(root) : criteriaBuilder.count(root))
+            .orderBy(Collections.emptyList());
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
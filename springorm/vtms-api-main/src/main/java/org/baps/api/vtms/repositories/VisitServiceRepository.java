@@ -1,6 +1,7 @@
 package org.baps.api.vtms.repositories;
 
 import org.baps.api.vtms.enumerations.ServiceTypeEnum;
+import org.baps.api.vtms.models.VisitSummaryServiceLocationModel;
 import org.baps.api.vtms.models.base.Status;
 import org.baps.api.vtms.models.entities.VisitService;
 
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface VisitServiceRepository extends JpaRepository<VisitService, String> {
@@ -34,9 +36,25 @@ public interface VisitServiceRepository extends JpaRepository<VisitService, Stri
     List<VisitService> findByVisitVisitIdAndVisitStatusNotAndServiceTemplateServiceTypeEnumAndServiceTemplateStatusNotAndVisitSiteUuCode(
             String visitId, Status visitStatus, ServiceTypeEnum serviceTypeEnum, Status serviceTemplateStatus, String siteUUCode);
 
+    @Query("SELECT NEW org.baps.api.vtms.models.VisitSummaryServiceLocationModel("
+            + "         vs.visit.visitId, vs.visitServiceId, st.name, st.serviceTypeEnum, vs.startDateTime, vs.endDateTime, "
+            + "         mp.personnelId, mp.firstName, mp.middleName, mp.lastName, mp.phoneCountryCode, mp.phoneNumber, mp.email, "
+            + "         vl.visitLocationId, l.name, vl.locationTagEnum, vl.startDateTime, vl.endDateTime, vl.interviewPackage, "
+            + "         ivp.visitPersonnelId) "
+            + "     FROM VisitService vs "
+            + "     INNER JOIN vs.serviceTemplate st "
+            + "     LEFT JOIN vs.meetingPersonnel mp "
+            + "     LEFT JOIN vs.visitLocationList vl "
+            + "         ON vl.status != org.baps.api.vtms.models.base.Status.DELETED "
+            + "     LEFT JOIN vl.location l "
+            + "     LEFT JOIN vl.interviewVolunteerVisitPersonnel ivp "
+            + "     WHERE "
+            + "         vs.visitServiceId IN (:visitServiceIds) "
+            + "     ORDER BY "
+            + "         vs.startDateTime, vs.visitServiceId, vl.startDateTime")
+    List<VisitSummaryServiceLocationModel> findVisitSummaryServiceLocationModelByVisitServiceIds(
+            @Param("visitServiceIds") Set<String> visitServiceIds);
+
     Optional<VisitService> findByVisitVisitIdAndVisitStatusNotAndVisitServiceIdAndVisitSiteUuCode(String visitId, Status visitStatus,
             String visitServiceId, String siteUUCode);
-
-    boolean existsByVisitVisitIdAndVisitStatusNotAndServiceTemplateServiceTypeEnum(
-            String visitId, Status visitStatus, ServiceTypeEnum serviceTypeEnum);
 }
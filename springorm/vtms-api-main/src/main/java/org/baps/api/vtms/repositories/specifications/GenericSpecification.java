@@ -37,6 +37,24 @@ public class GenericSpecification {
         );
     }
 
+    /**
+     * Creates a Predicate for performing a "LIKE" operation on a property whose column is already stored lower cased.
+     * Unlike {@link #getPropertyLikePredicate}, no lower or cast is applied to the column, so an index on it can be used.
+     *
+     * @param criteriaBuilder The CriteriaBuilder instance to build the query predicates.
+     * @param root            The root entity in the query.
+     * @param property        The name of the lower cased property to filter.
+     * @param value           The value to search for within the property (case-insensitive).
+     * @return A Predicate representing the "LIKE" operation.
+     */
+    @SuppressWarnings("unchecked")
+    public static Predicate getLowerCasedPropertyLikePredicate(final CriteriaBuilder criteriaBuilder,
+                                                               final Root<?> root,
+                                                               final String property,
+                                                               final String value) {
+        return criteriaBuilder.like((Path<String>) getPropertyPath(property, root), "%" + value.toLowerCase() + "%");
+    }
+
     /**
      * Creates a Predicate for checking if a property in the entity is equal to a given value.
      *
@@ -7,6 +7,7 @@ import org.baps.api.vtms.enumerations.RoleEnum;
 import org.baps.api.vtms.enumerations.VisitStageEnum;
 import org.baps.api.vtms.enumerations.VisitTypeEnum;
 import org.baps.api.vtms.enumerations.VisitorContactTypeEnum;
+import org.baps.api.vtms.enumerations.VisitorSearchModeEnum;
 import org.baps.api.vtms.exceptions.DataValidationException;
 import org.baps.api.vtms.models.base.Status;
 import org.baps.api.vtms.models.entities.Personnel;
@@ -15,9 +16,9 @@ import org.baps.api.vtms.models.entities.Visit;
 import org.baps.api.vtms.models.entities.VisitPersonnel;
 import org.baps.api.vtms.models.entities.VisitVisitor;
 import org.baps.api.vtms.models.entities.Visitor;
-import org.baps.api.vtms.repositories.VisitRepository;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
@@ -29,14 +30,15 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -72,7 +74,8 @@ public class VisitSpecification {
         ));
     }
 
-    private final VisitRepository visitRepository;
+    @Value("${visitor_search.mode:LIKE}")
+    private VisitorSearchModeEnum visitorSearchModeEnum;
 
     private final Translator translator;
 
@@ -98,15 +101,7 @@ public class VisitSpecification {
             final LocalDateTime startDateTime, final LocalDateTime endDateTime, final String personnelId,
             final VisitTypeEnum visitTypeEnum, final String tourSlotId, final String siteUUCode, final String visitorType) {
 
-        Set<Object> excludeVisitIds = null;
-
-        if (StringUtils.isNotBlank(sortProperty) && MAP_OF_ROLE_PROPERTY_NAME_WITH_ROLE_NAME.containsKey(sortProperty)) {
-            excludeVisitIds = visitRepository.findAllByVisitPersonnelListRoleUucodeAndSiteUuCode(
-                    MAP_OF_ROLE_PROPERTY_NAME_WITH_ROLE_NAME.get(sortProperty), siteUUCode).stream()
-                    .map(Visit::getVisitId).collect(Collectors.toSet());
-        }
-
-        return Specification.where(buildSortingSpecification(sortProperty, sortDirection, excludeVisitIds, visitTypeEnum))
+        return Specification.where(buildSortingSpecification(sortProperty, sortDirection, visitTypeEnum))
             .and(buildFilterSpecification(visitStageEnumList, typeOfVisit, startDateTime, endDateTime, personnelId, visitTypeEnum,
                 tourSlotId, siteUUCode, visitorType))
             .and(buildVisitSearchSpecification(search, visitTypeEnum, siteUUCode));
@@ -128,14 +123,14 @@ public class VisitSpecification {
             final LocalDateTime startDateTime, final LocalDateTime endDateTime, final String personnelId,
             final List<VisitStageEnum> visitStageEnumList, final VisitTypeEnum visitTypeEnum,  final String siteUUCode) {
 
-        return Specification.where(buildSortingSpecification(null, null, null, visitTypeEnum))
+        return Specification.where(buildSortingSpecification(null, null, visitTypeEnum))
             .and(buildFilterSpecification(visitStageEnumList, null, startDateTime, endDateTime, personnelId, visitTypeEnum,
                     null, siteUUCode, null))
             .and(buildVisitSearchSpecificationForVisitSummary(search, visitTypeEnum, siteUUCode));
     }
     
     private Specification<Visit> buildSortingSpecification(final String sortProperty, final String sortDirection,
-                                                           final Set<Object> excludeVisitIds, final VisitTypeEnum visitTypeEnum) {
+                                                           final VisitTypeEnum visitTypeEnum) {
 
         // Check if the provided sortProperty is valid
         if (CommonUtils.isValidProperty(sortProperty, MAP_OF_VISIT_TYPE_ENUM_WITH_SET_OF_ALLOWED_SORTING_PROPERTIES.get(visitTypeEnum))) {
@@ -159,13 +154,12 @@ public class VisitSpecification {
                     JoinType.LEFT);
                 final Join<VisitPersonnel, Role> rolesJoin = visitPersonnelJoin.join(SpecificationConstants.ROLE, JoinType.LEFT);
 
-                if (CollectionUtils.isNotEmpty(excludeVisitIds)) {
-                    andPredicateList.add(criteriaBuilder.or(
-                        criteriaBuilder.not(GenericSpecification.getPropertyInPredicate(root,
-                            SpecificationConstants.VISIT_ID, excludeVisitIds)),
-                        criteriaBuilder.equal(rolesJoin.get(SpecificationConstants.UUCODE),
-                            MAP_OF_ROLE_PROPERTY_NAME_WITH_ROLE_NAME.get(sortProperty))));
-                }
+                // Visits having personnel with the sorted role keep only that row, other visits keep any row.
+                andPredicateList.add(criteriaBuilder.or(
+                    criteriaBuilder.not(hasVisitPersonnelWithRole(root, query, criteriaBuilder,
+                        MAP_OF_ROLE_PROPERTY_NAME_WITH_ROLE_NAME.get(sortProperty))),
+                    criteriaBuilder.equal(rolesJoin.get(SpecificationConstants.UUCODE),
+                        MAP_OF_ROLE_PROPERTY_NAME_WITH_ROLE_NAME.get(sortProperty))));
 
                 propertyPath = criteriaBuilder.selectCase()
                     .when(criteriaBuilder.equal(rolesJoin.get(SpecificationConstants.UUCODE),
@@ -193,7 +187,6 @@ public class VisitSpecification {
                 propertyPath = GenericSpecification.getPropertyPath(sortProperty, root);
             }
 
-
             final Expression<Boolean> isNullExpression = criteriaBuilder.isNull(propertyPath);
             // Add the sorting order to the query
             if (CommonUtils.getSortDirection(sortDirection, translator).isAscending()) {
@@ -286,11 +279,7 @@ public class VisitSpecification {
             }
 
             if (StringUtils.isNotBlank(personnelId)) {
-
-                final Set<String> visitIdSet = visitRepository.findAllByVisitPersonnelIdAndSiteUuCode(personnelId, siteUUCode)
-                    .stream().map(Visit::getVisitId).collect(Collectors.toSet());
-
-                andPredicateList.add(root.get(SpecificationConstants.VISIT_ID).in(visitIdSet));
+                andPredicateList.add(hasVisitPersonnelWithPersonnelId(root, query, criteriaBuilder, personnelId));
             }
 
             if (ObjectUtils.isNotEmpty(visitTypeEnum)) {
@@ -341,15 +330,9 @@ public class VisitSpecification {
                 roleUucodeSet.add(RoleEnum.RELATIONSHIP_MANAGER.name());
                 roleUucodeSet.add(RoleEnum.GUEST_VISIT_COORDINATOR.name());
 
-                // Query the visitRepository to find visit IDs associated with the specified role names and search string.
-                final Set<String> visitIdSet = visitRepository.findAllByVisitPersonnelLikePersonnelNameAndRoleUucodeSet(
-                        roleUucodeSet, "%" + search.toLowerCase() + "%", siteUUCode)
-                    .stream().map(Visit::getVisitId).collect(Collectors.toSet());
-
-                if (CollectionUtils.isNotEmpty(visitIdSet)) {
-                    // Add a condition to filter by visit IDs.
-                    orPredicateList.add(root.get(SpecificationConstants.VISIT_ID).in(visitIdSet));
-                }
+                // Add a condition to search visits having personnel with the specified role names and search string.
+                orPredicateList.add(hasVisitPersonnelLikePersonnelNameAndRoleUucodeSet(root, query, criteriaBuilder,
+                    roleUucodeSet, search));
 
                 // Add conditions to search for the specified properties in the Visit entity.
                 for (String property : propertiesToSearch) {
@@ -415,6 +398,88 @@ public class VisitSpecification {
         };
     }
 
+    /**
+     * Builds a correlated EXISTS predicate matching visits that have personnel assigned with the given role.
+     *
+     * @param root            The root entity (Visit) to correlate with.
+     * @param query           The query in which the subquery is created.
+     * @param criteriaBuilder The CriteriaBuilder used to construct predicates.
+     * @param roleUucode      The unique code of the role.
+     * @return A Predicate that is true when the visit has personnel with the given role.
+     */
+    private Predicate hasVisitPersonnelWithRole(final Root<Visit> root, final CriteriaQuery<?> query,
+                                                final CriteriaBuilder criteriaBuilder, final String roleUucode) {
+
+        final Subquery<Integer> subquery = query.subquery(Integer.class);
+        final Root<VisitPersonnel> visitPersonnelRoot = subquery.from(VisitPersonnel.class);
+        final Join<VisitPersonnel, Role> roleJoin = visitPersonnelRoot.join(SpecificationConstants.ROLE);
+
+        subquery.select(criteriaBuilder.literal(1)).where(
+            criteriaBuilder.equal(visitPersonnelRoot.get(SpecificationConstants.VISIT), root),
+            criteriaBuilder.equal(roleJoin.get(SpecificationConstants.UUCODE), roleUucode));
+
+        return criteriaBuilder.exists(subquery);
+    }
+
+    /**
+     * Builds a correlated EXISTS predicate matching visits to which the given personnel is assigned.
+     *
+     * @param root            The root entity (Visit) to correlate with.
+     * @param query           The query in which the subquery is created.
+     * @param criteriaBuilder The CriteriaBuilder used to construct predicates.
+     * @param personnelId     The personnel ID for filtering by personnel.
+     * @return A Predicate that is true when the personnel is assigned to the visit.
+     */
+    private Predicate hasVisitPersonnelWithPersonnelId(final Root<Visit> root, final CriteriaQuery<?> query,
+                                                       final CriteriaBuilder criteriaBuilder, final String personnelId) {
+
+        final Subquery<Integer> subquery = query.subquery(Integer.class);
+        final Root<VisitPersonnel> visitPersonnelRoot = subquery.from(VisitPersonnel.class);
+        final Join<VisitPersonnel, Personnel> personnelJoin = visitPersonnelRoot.join(SpecificationConstants.PERSONNEL);
+
+        subquery.select(criteriaBuilder.literal(1)).where(
+            criteriaBuilder.equal(visitPersonnelRoot.get(SpecificationConstants.VISIT), root),
+            criteriaBuilder.equal(personnelJoin.get(SpecificationConstants.PERSONNEL_ID), personnelId),
+            criteriaBuilder.notEqual(personnelJoin.get(SpecificationConstants.STATUS), Status.DELETED));
+
+        return criteriaBuilder.exists(subquery);
+    }
+
+    /**
+     * Builds a correlated EXISTS predicate matching visits having personnel, with one of the given roles, whose full
+     * name contains the search string.
+     *
+     * @param root            The root entity (Visit) to correlate with.
+     * @param query           The query in which the subquery is created.
+     * @param criteriaBuilder The CriteriaBuilder used to construct predicates.
+     * @param roleUucodeSet   The unique codes of the roles to consider.
+     * @param search          The search keyword for filtering by personnel names.
+     * @return A Predicate that is true when the visit has matching personnel.
+     */
+    private Predicate hasVisitPersonnelLikePersonnelNameAndRoleUucodeSet(final Root<Visit> root, final CriteriaQuery<?> query,
+                                                                         final CriteriaBuilder criteriaBuilder,
+                                                                         final Set<String> roleUucodeSet, final String search) {
+
+        final Subquery<Integer> subquery = query.subquery(Integer.class);
+        final Root<VisitPersonnel> visitPersonnelRoot = subquery.from(VisitPersonnel.class);
+        final Join<VisitPersonnel, Personnel> personnelJoin = visitPersonnelRoot.join(SpecificationConstants.PERSONNEL);
+        final Join<VisitPersonnel, Role> roleJoin = visitPersonnelRoot.join(SpecificationConstants.ROLE);
+
+        subquery.select(criteriaBuilder.literal(1)).where(
+            criteriaBuilder.equal(visitPersonnelRoot.get(SpecificationConstants.VISIT), root),
+            criteriaBuilder.notEqual(personnelJoin.get(SpecificationConstants.STATUS), Status.DELETED),
+            criteriaBuilder.notEqual(roleJoin.get(SpecificationConstants.STATUS), Status.DELETED),
+            roleJoin.get(SpecificationConstants.UUCODE).in(roleUucodeSet),
+            criteriaBuilder.like(
+                criteriaBuilder.lower(
+                    criteriaBuilder.concat(
+                        criteriaBuilder.concat(personnelJoin.<String>get(SpecificationConstants.FIRST_NAME), " "),
+                        personnelJoin.<String>get(SpecificationConstants.LAST_NAME))),
+                "%" + search.toLowerCase() + "%"));
+
+        return criteriaBuilder.exists(subquery);
+    }
+
     /**
      * This method generates a Predicate to filter Visit entities based on visitor-related criteria.
      *
@@ -490,6 +555,11 @@ public class VisitSpecification {
 
         final String searchString = "%" + search.toLowerCase() + "%";
 
+        if (VisitorSearchModeEnum.TRIGRAM.equals(visitorSearchModeEnum)) {
+            return GenericSpecification.getLowerCasedPropertyLikePredicate(criteriaBuilder, root,
+                SpecificationConstants.VISIT_VISITOR_LIST_VISITOR_SEARCH_FULL_NAME, search);
+        }
+
         return criteriaBuilder.like(
             criteriaBuilder.concat(
                 criteriaBuilder.concat(
@@ -519,6 +589,11 @@ public class VisitSpecification {
         // Prepare the search string for case-insensitive matching.
         final String searchString = "%" + search.toLowerCase() + "%";
 
+        if (VisitorSearchModeEnum.TRIGRAM.equals(visitorSearchModeEnum)) {
+            return GenericSpecification.getLowerCasedPropertyLikePredicate(criteriaBuilder, root,
+                SpecificationConstants.VISIT_VISITOR_LIST_VISITOR_SEARCH_PHONE, search);
+        }
+
         // Build the Predicate using CriteriaBuilder operations.
         return criteriaBuilder.like(
             criteriaBuilder.concat(
@@ -549,6 +624,11 @@ public class VisitSpecification {
         // Prepare the search string for case-insensitive matching.
         final String searchString = "%" + search.toLowerCase() + "%";
 
+        if (VisitorSearchModeEnum.TRIGRAM.equals(visitorSearchModeEnum)) {
+            return GenericSpecification.getLowerCasedPropertyLikePredicate(criteriaBuilder, root,
+                SpecificationConstants.VISIT_VISITOR_LIST_VISITOR_SEARCH_EMAIL, search);
+        }
+
         // Build the Predicate using CriteriaBuilder operations.
         return criteriaBuilder.like(
             criteriaBuilder.lower(GenericSpecification.getPropertyPath(
@@ -2,10 +2,12 @@ package org.baps.api.vtms.repositories.specifications;
 
 import org.baps.api.vtms.constants.SpecificationConstants;
 import org.baps.api.vtms.enumerations.VisitTypeEnum;
+import org.baps.api.vtms.enumerations.VisitorSearchModeEnum;
 import org.baps.api.vtms.models.base.Status;
 import org.baps.api.vtms.models.entities.Visitor;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
@@ -28,6 +30,9 @@ import org.apache.commons.lang3.StringUtils;
 @SuppressFBWarnings({"EI_EXPOSE_REP2"})
 public class VisitorSpecification {
 
+    @Value("${visitor_search.mode:LIKE}")
+    private VisitorSearchModeEnum visitorSearchModeEnum;
+
     private final EntityManager entityManager;
 
     /**
@@ -160,6 +165,12 @@ public class VisitorSpecification {
         // Prepare the search string with wildcard and case-insensitive matching
         final String searchString = "%" + search.toLowerCase() + "%";
 
+        // Match the generated search column so that the trigram index can be used
+        if (VisitorSearchModeEnum.TRIGRAM.equals(visitorSearchModeEnum)) {
+            return GenericSpecification.getLowerCasedPropertyLikePredicate(criteriaBuilder, root,
+                SpecificationConstants.SEARCH_FULL_NAME, search);
+        }
+
         // Build the Predicate for concatenation of visitor's first name and last name
         return criteriaBuilder.like(
                 criteriaBuilder.concat(
@@ -185,6 +196,12 @@ public class VisitorSpecification {
         // Prepare the search string with wildcard and case-insensitive matching
         final String searchString = "%" + search.toLowerCase() + "%";
 
+        // Match the generated search column so that the trigram index can be used
+        if (VisitorSearchModeEnum.TRIGRAM.equals(visitorSearchModeEnum)) {
+            return GenericSpecification.getLowerCasedPropertyLikePredicate(criteriaBuilder, root,
+                SpecificationConstants.SEARCH_EMAIL, search);
+        }
+
         // Build the Predicate for matching the email property (converted to lower case)
         return criteriaBuilder.like(
                 criteriaBuilder.lower(
@@ -205,6 +222,12 @@ public class VisitorSpecification {
         // Prepare the search string with wildcard and case-insensitive matching
         final String searchString = "%" + search.toLowerCase() + "%";
 
+        // Match the generated search column so that the trigram index can be used
+        if (VisitorSearchModeEnum.TRIGRAM.equals(visitorSearchModeEnum)) {
+            return GenericSpecification.getLowerCasedPropertyLikePredicate(criteriaBuilder, root,
+                SpecificationConstants.SEARCH_PHONE, search);
+        }
+
         // Build the Predicate for concatenation of phone country code and phone number
         return criteriaBuilder.like(
                 criteriaBuilder.concat(
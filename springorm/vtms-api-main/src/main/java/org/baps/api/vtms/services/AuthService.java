@@ -3,12 +3,14 @@ package org.baps.api.vtms.services;
 import org.baps.api.vtms.enumerations.PermissionEnum;
 import org.baps.api.vtms.enumerations.RoleTagEnum;
 import org.baps.api.vtms.enumerations.SystemResponseStatusEnum;
+import org.baps.api.vtms.models.entities.VisitPersonnel;
 import org.baps.api.vtms.models.responses.APIResponse;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
@@ -27,6 +29,8 @@ public class AuthService {
     private final PersonnelService personnelService;
     
     private final VisitPersonnelService visitPersonnelService;
+
+    private final VisitPermissionContext visitPermissionContext;
     
     /**
      * Checks if the currently logged-in personnel has the specified permission.
@@ -34,13 +38,11 @@ public class AuthService {
      * @param validatePermissionEnum The permission to validate.
      * @return True if the personnel has the permission, false otherwise.
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean hasPermission(final PermissionEnum validatePermissionEnum) {
 
-        return personnelService.getLoginedPersonnel().getPersonnelRoleList().stream()
-                .flatMap(personnelRole -> personnelRole.getRole().getRolePermissionList().stream())
-                .map(rolePermission -> rolePermission.getPermission().getPermissonEnum())
-                .collect(Collectors.toSet()).contains(validatePermissionEnum);
+        // Permissions are resolved with the principal, no transaction nor query is needed.
+        return personnelService.getAuthenticatedPersonnel().hasPermission(validatePermissionEnum);
     }
 
     /**
@@ -55,23 +57,24 @@ public class AuthService {
     public boolean hasVisitPermission(final String visitId, final PermissionEnum validatePermissionEnum,
                                       final String siteUUCode) {
 
-        final var personnel = personnelService.getLoginedPersonnel();
+        final var authenticatedPersonnel = personnelService.getAuthenticatedPersonnel();
+
+        if (authenticatedPersonnel.hasSystemPermission(validatePermissionEnum)) {
+            return true;
+        }
 
         final var visitPersonnelList = visitPersonnelService
-                .findVisitPersonnelListByVisitIdAndSiteUucodeAndPersonnelId(visitId, siteUUCode, personnel.getPersonnelId());
+                .findVisitPersonnelListByVisitIdAndSiteUucodeAndPersonnelId(visitId, siteUUCode, authenticatedPersonnel.getPersonnelId());
 
-        final Set<PermissionEnum> permissionEnumList = new HashSet<>();
+        // The role tags are reused by the visit aspect of this request instead of being read again.
+        visitPermissionContext.putRoleTags(visitId, siteUUCode,
+                visitPersonnelList.stream().map(VisitPersonnel::getRoleTagEnum).collect(Collectors.toSet()));
 
-        personnel.getPersonnelRoleList().forEach(personnelRole -> {
-            if (personnelRole.getRole().isCheckSystemRole()) {
-                permissionEnumList.addAll(personnelRole.getRole().getRolePermissionList().stream()
-                        .map(rolePermission -> rolePermission.getPermission().getPermissonEnum()).collect(Collectors.toSet()));
-            }
-        });
+        final Set<PermissionEnum> permissionEnumList = new HashSet<>();
 
         if (CollectionUtils.isNotEmpty(visitPersonnelList)) {
             visitPersonnelList.forEach(visitPersonnel -> {
-                if (visitPersonnel.getPersonnel().equals(personnel)) {
+                if (visitPersonnel.getPersonnel().getPersonnelId().equals(authenticatedPersonnel.getPersonnelId())) {
                     permissionEnumList.addAll(visitPersonnel.getRole().getRolePermissionList().stream()
                             .map(rolePermission -> rolePermission.getPermission().getPermissonEnum()).collect(Collectors.toSet()));
                 }
@@ -84,43 +87,24 @@ public class AuthService {
     /**
      * Checks if the logged-in personnel has the system permission for a specific visit and service.
      *
-     * @param visitId               The identifier for the visit.
-     * @param siteUUCode            The site's unique universal code.
-     * @param validatePermissionEnum  The permission to validate.
-     * @param response              The response object to be returned.
-     * @param httpStatus            The HTTP status to be returned.
-     * @param beforeUpdateRoleTagEnumSet        The set of before update role tag enums to be validated.
-     * @param updatedRoleTagEnumSet            The set of updated role tag enums to be validated.
-     * @return                      A ResponseEntity containing the APIResponse based on permission validation.
+     * @param validatePermissionEnum      The permission to validate.
+     * @param response                    The response object to be returned.
+     * @param httpStatus                  The HTTP status to be returned.
+     * @param beforeUpdateRoleTagEnumSet  The set of before update role tag enums to be validated.
+     * @param updatedRoleTagEnumSet       The set of updated role tag enums to be validated.
+     * @param personnelExistsInVisit      Whether the logged-in personnel exists in the visit after the update.
+     * @return                            A ResponseEntity containing the APIResponse based on permission validation.
      */
-    @Transactional(readOnly = true)
-    public ResponseEntity<APIResponse> checkVisitPermissionAndCompareRoleTags(final String visitId, final String siteUUCode, 
-            final PermissionEnum validatePermissionEnum, final Object response, final HttpStatus httpStatus,
-            final Set<RoleTagEnum> beforeUpdateRoleTagEnumSet, final Set<RoleTagEnum> updatedRoleTagEnumSet) {
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ResponseEntity<APIResponse> checkVisitPermissionAndCompareRoleTags(final PermissionEnum validatePermissionEnum,
+            final Object response, final HttpStatus httpStatus, final Set<RoleTagEnum> beforeUpdateRoleTagEnumSet,
+            final Set<RoleTagEnum> updatedRoleTagEnumSet, final boolean personnelExistsInVisit) {
 
-        // Get the logged-in personnel
-        final var personnel = personnelService.getLoginedPersonnel();
-        
-        // Retrieve the existing VisitService based on provided identifiers.
-        final var visitPersonnelList = visitPersonnelService
-                .findVisitPersonnelListByVisitIdAndSiteUucodeAndPersonnelId(visitId, siteUUCode, personnel.getPersonnelId());
-        
-        boolean personnelExistsInVisit = false;
-
-        // Check if the logged-in personnel exists in the visit
-        if (CollectionUtils.isNotEmpty(visitPersonnelList)) {
-            personnelExistsInVisit = true;
-        }
-        
         boolean hasPermission = false;
         
         if (!personnelExistsInVisit) {
-            // Check if the personnel has the permission
-            hasPermission = personnel.getPersonnelRoleList().stream()
-                    .filter(personnelRole -> personnelRole.getRole().isCheckSystemRole())
-                    .flatMap(personnelRole -> personnelRole.getRole().getRolePermissionList().stream())
-                    .map(rolePermission -> rolePermission.getPermission().getPermissonEnum())
-                    .anyMatch(permissionEnum -> permissionEnum.equals(validatePermissionEnum));
+            // Check if the personnel has the permission, with the principal
+            hasPermission = personnelService.getAuthenticatedPersonnel().hasSystemPermission(validatePermissionEnum);
         }
         
         if (personnelExistsInVisit || hasPermission) {
@@ -140,4 +124,4 @@ public class AuthService {
             return new ResponseEntity<>(apiResponse, HttpStatus.OK);
         }
     }
-}
\ No newline at end of file
+}
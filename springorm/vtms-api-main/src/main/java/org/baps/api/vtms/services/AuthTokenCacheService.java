@@ -0,0 +1,226 @@
+package org.baps.api.vtms.services;
+
+import org.baps.api.vtms.enumerations.RedisEventEnum;
+import org.baps.api.vtms.exceptions.ServiceUnavailableException;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.commons.lang3.StringUtils;
+
+@Slf4j
+@Service
+@SuppressFBWarnings({"EI_EXPOSE_REP2"})
+public class AuthTokenCacheService {
+
+    private static final String CACHE_METRIC_NAME = "vtms.auth.token.cache";
+
+    private static final String RESULT_TAG = "result";
+
+    @Value("${auth_token_cache.time-to-live:10m}")
+    private Duration timeToLive;
+
+    @Value("${auth_token_cache.degraded-time-to-live:1h}")
+    private Duration degradedTimeToLive;
+
+    private final SsoClientService ssoClientService;
+
+    private final RedisService redisService;
+
+    private final Counter localHitCounter;
+
+    private final Counter redisHitCounter;
+
+    private final Counter missCounter;
+
+    private final Counter degradedHitCounter;
+
+    private final Timer loadTimer;
+
+    private final Cache<String, CachedToken> cachedTokenCache;
+
+    private final Map<String, CompletableFuture<Boolean>> inFlightValidationMap = new ConcurrentHashMap<>();
+
+    public AuthTokenCacheService(final SsoClientService ssoClientService, final RedisService redisService,
+            final MeterRegistry meterRegistry, @Value("${auth_token_cache.maximum-size:10000}") final int maximumSize) {
+        this.ssoClientService = ssoClientService;
+        this.redisService = redisService;
+        this.cachedTokenCache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new CachedTokenExpiry())
+            .build();
+        this.localHitCounter = meterRegistry.counter(CACHE_METRIC_NAME, RESULT_TAG, "local_hit");
+        this.redisHitCounter = meterRegistry.counter(CACHE_METRIC_NAME, RESULT_TAG, "redis_hit");
+        this.missCounter = meterRegistry.counter(CACHE_METRIC_NAME, RESULT_TAG, "miss");
+        this.degradedHitCounter = meterRegistry.counter(CACHE_METRIC_NAME, RESULT_TAG, "degraded_hit");
+        this.loadTimer = meterRegistry.timer(CACHE_METRIC_NAME + ".load");
+        Gauge.builder(CACHE_METRIC_NAME + ".size", cachedTokenCache, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    /**
+     * Checks whether a token is valid for the given pid. Tokens are looked up by their SHA-256 hash in the local cache,
+     * then in Redis, and only validated by the SSO server on a miss of both. Concurrent validations of the same token
+     * share a single SSO call. While the SSO server is unavailable, a token validated within the degraded time to live
+     * is still accepted.
+     *
+     * @param token     The JWT token to validate.
+     * @param tokenPid  The "pid" claim of the token.
+     * @param expiresAt The expiry of the token, null if the token has no expiry.
+     * @return true if the token is valid for the pid, false otherwise.
+     * @throws ServiceUnavailableException If the SSO server is unavailable and the token was not validated recently.
+     */
+    public boolean isValidToken(final String token, final String tokenPid, final Date expiresAt) {
+
+        final String tokenHash = hashToken(token);
+        final Instant now = Instant.now();
+
+        // Entries are kept past the time to live, until the degraded time to live, to be accepted while SSO is down.
+        CachedToken staleCachedToken = null;
+        final CachedToken cachedToken = cachedTokenCache.getIfPresent(tokenHash);
+        if (cachedToken != null) {
+            if (cachedToken.validatedAt().plus(timeToLive).isAfter(now)) {
+                localHitCounter.increment();
+                return isMatchingPid(cachedToken.pid(), tokenPid);
+            } else {
+                staleCachedToken = cachedToken;
+            }
+        }
+
+        final String existingPid = redisService.get(tokenHash, RedisEventEnum.GET_TOKEN);
+        if (StringUtils.isNotBlank(existingPid)) {
+            redisHitCounter.increment();
+            putCachedToken(tokenHash, existingPid, expiresAt, now);
+            return isMatchingPid(existingPid, tokenPid);
+        }
+
+        missCounter.increment();
+        final boolean isValid;
+        try {
+            isValid = validateWithSso(tokenHash, token);
+        } catch (final ServiceUnavailableException e) {
+            if (staleCachedToken != null && staleCachedToken.pid().equals(tokenPid)) {
+                log.warn("SSO server unavailable, accepting token validated at {}", staleCachedToken.validatedAt());
+                degradedHitCounter.increment();
+                return true;
+            }
+            throw e;
+        }
+
+        if (!isValid) {
+            log.error("Unauthorized token from SSO server");
+            cachedTokenCache.invalidate(tokenHash);
+            return false;
+        }
+
+        if (expiresAt != null) {
+            redisService.save(tokenHash, tokenPid, RedisEventEnum.SAVE_TOKEN, expiresAt);
+        }
+        putCachedToken(tokenHash, tokenPid, expiresAt, now);
+        return true;
+    }
+
+    private boolean isMatchingPid(final String existingPid, final String tokenPid) {
+        if (!existingPid.equals(tokenPid)) {
+            log.error("Token not match from token cache");
+            return false;
+        }
+        return true;
+    }
+
+    private boolean validateWithSso(final String tokenHash, final String token) {
+
+        final CompletableFuture<Boolean> validation = new CompletableFuture<>();
+        final CompletableFuture<Boolean> existingValidation = inFlightValidationMap.putIfAbsent(tokenHash, validation);
+
+        // Another request is already validating this token, wait for its result.
+        if (existingValidation != null) {
+            try {
+                return existingValidation.join();
+            } catch (final CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            final boolean isValid = loadTimer.record(() -> ssoClientService.isValidateToken(token));
+            validation.complete(isValid);
+            return isValid;
+        } catch (final RuntimeException e) {
+            validation.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightValidationMap.remove(tokenHash, validation);
+        }
+    }
+
+    private void putCachedToken(final String tokenHash, final String pid, final Date expiresAt, final Instant now) {
+
+        // Entries never outlive the token. They are fresh for the time to live, so a token revoked on SSO stops being
+        // accepted, and are then kept until the degraded time to live to be accepted while SSO is unavailable.
+        Instant cachedTokenExpiresAt = now.plus(timeToLive.compareTo(degradedTimeToLive) > 0 ? timeToLive : degradedTimeToLive);
+        if (expiresAt != null && expiresAt.toInstant().isBefore(cachedTokenExpiresAt)) {
+            cachedTokenExpiresAt = expiresAt.toInstant();
+        }
+        if (!cachedTokenExpiresAt.isAfter(now)) {
+            return;
+        }
+
+        cachedTokenCache.put(tokenHash, new CachedToken(pid, now, cachedTokenExpiresAt));
+    }
+
+    private String hashToken(final String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedToken(String pid, Instant validatedAt, Instant expiresAt) {
+    }
+
+    // Every entry expires at its own expiresAt, reading it does not extend it.
+    private static final class CachedTokenExpiry implements Expiry<String, CachedToken> {
+
+        @Override
+        public long expireAfterCreate(final String tokenHash, final CachedToken cachedToken, final long currentTime) {
+            return Math.max(Duration.between(Instant.now(), cachedToken.expiresAt()).toNanos(), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(final String tokenHash, final CachedToken cachedToken, final long currentTime,
+                final long currentDuration) {
+            return expireAfterCreate(tokenHash, cachedToken, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String tokenHash, final CachedToken cachedToken, final long currentTime,
+                final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
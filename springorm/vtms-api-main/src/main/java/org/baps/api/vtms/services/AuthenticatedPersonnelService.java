@@ -0,0 +1,84 @@
+package org.baps.api.vtms.services;
+
+import org.baps.api.vtms.enumerations.PermissionEnum;
+import org.baps.api.vtms.models.AuthenticatedPersonnel;
+import org.baps.api.vtms.models.entities.Personnel;
+import org.baps.api.vtms.repositories.PersonnelRepository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+@Service
+@SuppressFBWarnings({"EI_EXPOSE_REP2"})
+public class AuthenticatedPersonnelService {
+
+    private final PersonnelRepository personnelRepository;
+
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final Cache<String, AuthenticatedPersonnel> authenticatedPersonnelCache;
+
+    public AuthenticatedPersonnelService(final PersonnelRepository personnelRepository,
+            final PlatformTransactionManager platformTransactionManager,
+            @Value("${authenticated_personnel_cache.maximum-size:10000}") final int maximumSize,
+            @Value("${authenticated_personnel_cache.time-to-live:1m}") final Duration timeToLive) {
+        this.personnelRepository = personnelRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(platformTransactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.authenticatedPersonnelCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+    }
+
+    /**
+     * Retrieves the principal of the personnel with the given uucode, with its site roles and permissions. Principals
+     * are cached for the configured time to live, so a request only reads the personnel, its roles and their
+     * permissions when the cached principal expired. Roles and permissions are only changed in the database, outside
+     * of the application, so changes are picked up once the cached principal expires. Concurrent requests of a
+     * personnel whose principal is not cached wait for a single load.
+     *
+     * @param uucode The uucode (pid) of the personnel.
+     * @return The principal of the personnel, or an empty Optional if no personnel has the uucode.
+     */
+    public Optional<AuthenticatedPersonnel> getAuthenticatedPersonnel(final String uucode) {
+
+        // An unknown uucode loads null, which is not cached.
+        return Optional.ofNullable(authenticatedPersonnelCache.get(uucode, key -> readOnlyTransactionTemplate.execute(status ->
+                personnelRepository.findByUucode(key).map(this::personnelToAuthenticatedPersonnel).orElse(null))));
+    }
+
+    private AuthenticatedPersonnel personnelToAuthenticatedPersonnel(final Personnel personnel) {
+
+        final Set<PermissionEnum> permissionEnumSet = EnumSet.noneOf(PermissionEnum.class);
+        final Set<PermissionEnum> systemPermissionEnumSet = EnumSet.noneOf(PermissionEnum.class);
+
+        final var siteRoleList = personnel.getPersonnelRoleList().stream().map(personnelRole -> {
+            final var role = personnelRole.getRole();
+
+            role.getRolePermissionList().forEach(rolePermission -> {
+                permissionEnumSet.add(rolePermission.getPermission().getPermissonEnum());
+                if (role.isCheckSystemRole()) {
+                    systemPermissionEnumSet.add(rolePermission.getPermission().getPermissonEnum());
+                }
+            });
+
+            return new AuthenticatedPersonnel.SiteRole(role.getRoleId(), role.getUucode(), personnelRole.getSite().getSiteId(),
+                    role.isCheckSystemRole());
+        }).toList();
+
+        return new AuthenticatedPersonnel(personnel.getPersonnelId(), personnel.getUucode(), siteRoleList, permissionEnumSet,
+                systemPermissionEnumSet);
+    }
+}
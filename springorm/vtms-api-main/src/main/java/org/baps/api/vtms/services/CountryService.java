@@ -3,6 +3,8 @@ package org.baps.api.vtms.services;
 import static io.github.perplexhub.rsql.RSQLJPASupport.toSpecification;
 
 import org.baps.api.vtms.common.utils.Translator;
+import org.baps.api.vtms.constants.CacheConstant;
+import org.baps.api.vtms.enumerations.ReferenceDataCacheEnum;
 import org.baps.api.vtms.exceptions.DataNotFoundException;
 import org.baps.api.vtms.mappers.CountryMapper;
 import org.baps.api.vtms.models.CountryModel;
@@ -10,11 +12,13 @@ import org.baps.api.vtms.models.entities.Country;
 import org.baps.api.vtms.repositories.CountryRepository;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.apache.commons.collections.CollectionUtils;
@@ -25,10 +29,16 @@ import org.apache.commons.lang3.StringUtils;
 @Service
 public class CountryService {
 
+    private static final String COUNTRY_IDS_CACHE_KEY = "countryIds";
+
+    private static final String ISD_CODES_CACHE_KEY = "isdCodes";
+
     private final CountryMapper countryMapper;
 
     private final CountryRepository countryRepository;
 
+    private final ReferenceDataCacheService referenceDataCacheService;
+
     private final Translator translator;
 
     /**
@@ -45,6 +55,38 @@ public class CountryService {
             new DataNotFoundException(translator.toLocal("country.with.country_id.not_found", countryId)));
     }    
     
+    /**
+     * Validates that a country exists, against the cached country ids.
+     *
+     * @param countryId The ID of the country to validate.
+     * @throws DataNotFoundException If the country with the given ID is not found.
+     */
+    @Transactional(readOnly = true)
+    public void validateCountryId(final String countryId) {
+
+        final Set<String> countryIds = referenceDataCacheService.get(ReferenceDataCacheEnum.COUNTRY, COUNTRY_IDS_CACHE_KEY,
+            () -> Set.copyOf(countryRepository.findAllCountryId()));
+
+        if (countryId == null || !countryIds.contains(countryId)) {
+            throw new DataNotFoundException(translator.toLocal("country.with.country_id.not_found", countryId));
+        }
+    }
+
+    /**
+     * Checks whether a country has the International Dialing Code (ISD code), against the cached ISD codes.
+     *
+     * @param isdCode The International Dialing Code (ISD code) to check.
+     * @return True if a country has the ISD code, false otherwise.
+     */
+    @Transactional(readOnly = true)
+    public boolean isdCodeExists(final String isdCode) {
+
+        final Set<String> isdCodes = referenceDataCacheService.get(ReferenceDataCacheEnum.COUNTRY, ISD_CODES_CACHE_KEY,
+            () -> Set.copyOf(countryRepository.findAllIsdCode()));
+
+        return isdCode != null && isdCodes.contains(isdCode);
+    }
+
     /**
      * Finds countries based on their International Dialing Code (ISD code).
      *
@@ -66,6 +108,7 @@ public class CountryService {
      * @param filter A filter string for narrowing down the results (can be null or empty).
      * @return A list of CountryModel objects, or an empty list if no records match the filter.
      */
+    @Cacheable(cacheNames = CacheConstant.PUBLIC_COUNTRIES, sync = true)
     @Transactional(readOnly = true)
     public List<CountryModel> getCoutryList(final String filter) {
         
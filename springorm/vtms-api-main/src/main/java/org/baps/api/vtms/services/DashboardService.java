@@ -1,46 +1,129 @@
 package org.baps.api.vtms.services;
 
+import org.baps.api.vtms.common.utils.CommonUtils;
 import org.baps.api.vtms.enumerations.VisitTypeEnum;
+import org.baps.api.vtms.models.VisitPublicFeedbackRatingSumModel;
 import org.baps.api.vtms.models.VisitPublicFeedbackSummaryModel;
+import org.baps.api.vtms.repositories.VisitFeedbackDailyRollupRepository;
 import org.baps.api.vtms.repositories.VisitPublicFeedbackRepository;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import org.apache.commons.lang3.ObjectUtils;
 
 
 @SuppressFBWarnings({"EI_EXPOSE_REP2"})
 @RequiredArgsConstructor
 @Service
 public class DashboardService {
-    
+
+    private static final int AVERAGE_RATING_SCALE = 2;
+
     private final VisitPublicFeedbackRepository visitPublicFeedbackRepository;
 
+    private final VisitFeedbackDailyRollupRepository visitFeedbackDailyRollupRepository;
+
+    /**
+     * Retrieves the public feedback count and average ratings of the pre-booked visits of a site. Days fully covered by
+     * the range are read from the visit_feedback_daily_rollup table, the partially covered first and last day are read
+     * from the feedback of the visits.
+     *
+     * @param siteUUCode    The site code for which the summary is to be retrieved.
+     * @param startDateTime The start date and time of the visits, inclusive.
+     * @param endDateTime   The end date and time of the visits, inclusive.
+     * @return The feedback count and the rating sums divided by that count, rounded half up to two decimals and, for the
+     *         existing clients, to a whole rating, null when nothing was rated.
+     */
+    @Transactional(readOnly = true)
     public VisitPublicFeedbackSummaryModel getPreBookedVisitFeedbackSummary(final String siteUUCode, final LocalDateTime startDateTime,
             final LocalDateTime endDateTime) {
-        
-        final VisitPublicFeedbackSummaryModel visitPublicFeedbackModel =  
-                visitPublicFeedbackRepository.findVisitPublicFeedbackCountByFilter(siteUUCode, startDateTime, endDateTime,
-                        VisitTypeEnum.TOUR);
-        
-        final long totalRecord = visitPublicFeedbackModel.getTotalRecord();
 
-        final Long bookingRating = visitPublicFeedbackModel.getBookingProcessRating();
+        final LocalDate firstFullDate = CommonUtils.getFirstFullDate(startDateTime);
+        final LocalDate lastFullDate = CommonUtils.getLastFullDate(endDateTime);
+
+        final List<VisitPublicFeedbackRatingSumModel> ratingSumModelList = new ArrayList<>();
 
-        if (ObjectUtils.isNotEmpty(bookingRating)) {
-            visitPublicFeedbackModel.setBookingProcessRating(bookingRating / totalRecord);
+        if (firstFullDate.isAfter(lastFullDate)) {
+            ratingSumModelList.add(visitPublicFeedbackRepository.findVisitPublicFeedbackRatingSumByFilter(siteUUCode, startDateTime,
+                    endDateTime, VisitTypeEnum.TOUR));
+        } else {
+            ratingSumModelList.add(visitFeedbackDailyRollupRepository.findVisitPublicFeedbackRatingSumByFilter(siteUUCode,
+                    firstFullDate, lastFullDate, VisitTypeEnum.TOUR));
+
+            final LocalDateTime firstFullDateTime = firstFullDate.atStartOfDay();
+            if (startDateTime.isBefore(firstFullDateTime)) {
+                ratingSumModelList.add(visitPublicFeedbackRepository.findVisitPublicFeedbackRatingSumByFilter(siteUUCode,
+                        startDateTime, firstFullDateTime.minus(1, ChronoUnit.MICROS), VisitTypeEnum.TOUR));
+            }
+
+            final LocalDateTime afterLastFullDateTime = lastFullDate.plusDays(1).atStartOfDay();
+            if (!endDateTime.isBefore(afterLastFullDateTime)) {
+                ratingSumModelList.add(visitPublicFeedbackRepository.findVisitPublicFeedbackRatingSumByFilter(siteUUCode,
+                        afterLastFullDateTime, endDateTime, VisitTypeEnum.TOUR));
+            }
         }
 
-        final Long overallRating = visitPublicFeedbackModel.getOverallRating();
+        final VisitPublicFeedbackSummaryModel visitPublicFeedbackSummaryModel = new VisitPublicFeedbackSummaryModel();
+        final long totalRecord = sum(ratingSumModelList, VisitPublicFeedbackRatingSumModel::getFeedbackCount);
+        visitPublicFeedbackSummaryModel.setTotalRecord(totalRecord);
+
+        final long bookingProcessRatingSum = sum(ratingSumModelList, VisitPublicFeedbackRatingSumModel::getBookingProcessRatingSum);
+        final long bookingProcessRatingCount = sum(ratingSumModelList, VisitPublicFeedbackRatingSumModel::getBookingProcessRatingCount);
+        visitPublicFeedbackSummaryModel.setBookingProcessRating(toLong(
+                average(bookingProcessRatingSum, bookingProcessRatingCount, totalRecord, 0)));
+        visitPublicFeedbackSummaryModel.setBookingProcessAverageRating(
+                average(bookingProcessRatingSum, bookingProcessRatingCount, totalRecord, AVERAGE_RATING_SCALE));
+
+        final long overallRatingSum = sum(ratingSumModelList, VisitPublicFeedbackRatingSumModel::getOverallRatingSum);
+        final long overallRatingCount = sum(ratingSumModelList, VisitPublicFeedbackRatingSumModel::getOverallRatingCount);
+        visitPublicFeedbackSummaryModel.setOverallRating(toLong(average(overallRatingSum, overallRatingCount, totalRecord, 0)));
+        visitPublicFeedbackSummaryModel.setOverallAverageRating(
+                average(overallRatingSum, overallRatingCount, totalRecord, AVERAGE_RATING_SCALE));
 
-        if (ObjectUtils.isNotEmpty(overallRating)) {
-            visitPublicFeedbackModel.setOverallRating(overallRating / totalRecord);
+        return visitPublicFeedbackSummaryModel;
+    }
+
+    private long sum(final List<VisitPublicFeedbackRatingSumModel> ratingSumModelList,
+            final Function<VisitPublicFeedbackRatingSumModel, Long> valueFunction) {
+        // SUM of no rollup rows is null
+        return ratingSumModelList.stream().filter(Objects::nonNull).map(valueFunction).filter(Objects::nonNull)
+                .mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Rebuilds the visit_feedback_daily_rollup table from the public feedback, correcting any drift of the rows
+     * maintained by the triggers.
+     *
+     * @return The number of rollup rows written.
+     */
+    @Transactional
+    public int rebuildVisitFeedbackDailyRollup() {
+        visitFeedbackDailyRollupRepository.lockVisitFeedbackDailyRollup();
+        visitFeedbackDailyRollupRepository.deleteAllVisitFeedbackDailyRollup();
+        return visitFeedbackDailyRollupRepository.insertVisitFeedbackDailyRollupFromVisitPublicFeedback();
+    }
+
+    private BigDecimal average(final long ratingSum, final long ratingCount, final long totalRecord, final int scale) {
+        // Unrated feedback counts in the total, as the rating sums were always divided by every feedback of the range.
+        if (ratingCount == 0) {
+            return null;
         }
-        
-        return visitPublicFeedbackModel;
+        return BigDecimal.valueOf(ratingSum).divide(BigDecimal.valueOf(totalRecord), scale, RoundingMode.HALF_UP);
+    }
+
+    private Long toLong(final BigDecimal value) {
+        return value == null ? null : value.longValue();
     }
 }
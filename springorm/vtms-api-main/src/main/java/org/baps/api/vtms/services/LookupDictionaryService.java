@@ -0,0 +1,130 @@
+package org.baps.api.vtms.services;
+
+import org.baps.api.vtms.constants.CacheConstant;
+import org.baps.api.vtms.models.ChildLookupModel;
+import org.baps.api.vtms.models.LookupVersionModel;
+import org.baps.api.vtms.models.entities.Lookup;
+import org.baps.api.vtms.repositories.LookupRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.apache.commons.collections.CollectionUtils;
+
+/**
+ * In-memory dictionary of the child lookup values and keys of every lookup, used by the lookup validations. The
+ * dictionary is immutable and versioned with the lookup table: it is loaded at startup and replaced as a whole when
+ * the refresh finds a new version, so a validation reads one consistent snapshot without any query or allocation.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@SuppressFBWarnings({"EI_EXPOSE_REP2"})
+public class LookupDictionaryService {
+
+    private final LookupRepository lookupRepository;
+
+    private final CacheManager cacheManager;
+
+    private volatile LookupDictionary lookupDictionary;
+
+    /**
+     * Loads the dictionary once the application is started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadLookupDictionary() {
+        try {
+            refreshLookupDictionary();
+        } catch (final Exception e) {
+            // The dictionary is loaded on first use instead.
+            log.error("Lookup dictionary could not be loaded at startup : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reloads the dictionary if the lookup table changed since it was loaded.
+     *
+     * @return True if the dictionary was reloaded, false if it was up to date.
+     */
+    public synchronized boolean refreshLookupDictionary() {
+        final LookupVersionModel lookupVersionModel = lookupRepository.findLookupVersion();
+
+        if (lookupDictionary != null && lookupDictionary.lookupVersionModel().equals(lookupVersionModel)) {
+            return false;
+        }
+
+        final boolean isLookupTableChanged = lookupDictionary != null;
+
+        lookupDictionary = new LookupDictionary(lookupVersionModel, lookupRepository.findAll().stream()
+            .collect(Collectors.toUnmodifiableMap(Lookup::getKey, LookupDictionaryService::toLookupDictionaryEntry,
+                (firstEntry, secondEntry) -> firstEntry)));
+
+        log.info("Lookup dictionary loaded: {} lookups, version {}", lookupDictionary.lookupDictionaryEntryMap().size(),
+            lookupVersionModel);
+
+        // The public lookup responses are built from the same table, they are evicted rather than served until they expire.
+        final Cache publicLookupCache = cacheManager.getCache(CacheConstant.PUBLIC_LOOKUPS);
+        if (isLookupTableChanged && publicLookupCache != null) {
+            publicLookupCache.clear();
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves the child lookup values of a lookup.
+     *
+     * @param lookupKey The key of the lookup.
+     * @return The immutable set of child lookup values, null if the lookup does not exist.
+     */
+    public Set<String> getChildLookupValues(final String lookupKey) {
+        final LookupDictionaryEntry lookupDictionaryEntry = getLookupDictionary().lookupDictionaryEntryMap().get(lookupKey);
+        return lookupDictionaryEntry == null ? null : lookupDictionaryEntry.childLookupValues();
+    }
+
+    /**
+     * Retrieves the child lookup keys of a lookup.
+     *
+     * @param lookupKey The key of the lookup.
+     * @return The immutable set of child lookup keys, null if the lookup does not exist.
+     */
+    public Set<String> getChildLookupKeys(final String lookupKey) {
+        final LookupDictionaryEntry lookupDictionaryEntry = getLookupDictionary().lookupDictionaryEntryMap().get(lookupKey);
+        return lookupDictionaryEntry == null ? null : lookupDictionaryEntry.childLookupKeys();
+    }
+
+    private LookupDictionary getLookupDictionary() {
+        final LookupDictionary currentLookupDictionary = lookupDictionary;
+        if (currentLookupDictionary != null) {
+            return currentLookupDictionary;
+        }
+        refreshLookupDictionary();
+        return lookupDictionary;
+    }
+
+    private static LookupDictionaryEntry toLookupDictionaryEntry(final Lookup lookup) {
+        final List<ChildLookupModel> childLookupModelList = CollectionUtils.isEmpty(lookup.getChildLookupModelList())
+            ? List.of() : lookup.getChildLookupModelList();
+
+        return new LookupDictionaryEntry(
+            childLookupModelList.stream().map(ChildLookupModel::getValue).filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet()),
+            childLookupModelList.stream().map(ChildLookupModel::getKey).filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet()));
+    }
+
+    private record LookupDictionary(LookupVersionModel lookupVersionModel, Map<String, LookupDictionaryEntry> lookupDictionaryEntryMap) {
+    }
+
+    private record LookupDictionaryEntry(Set<String> childLookupValues, Set<String> childLookupKeys) {
+    }
+}
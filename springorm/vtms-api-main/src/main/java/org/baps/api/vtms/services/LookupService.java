@@ -3,22 +3,24 @@ package org.baps.api.vtms.services;
 import static io.github.perplexhub.rsql.RSQLJPASupport.toSpecification;
 
 import org.baps.api.vtms.common.utils.Translator;
+import org.baps.api.vtms.constants.CacheConstant;
+import org.baps.api.vtms.enumerations.ReferenceDataCacheEnum;
 import org.baps.api.vtms.exceptions.DataNotFoundException;
 import org.baps.api.vtms.exceptions.DataValidationException;
 import org.baps.api.vtms.mappers.LookupMapper;
-import org.baps.api.vtms.models.ChildLookupModel;
 import org.baps.api.vtms.models.LookupModel;
+import org.baps.api.vtms.models.base.Status;
 import org.baps.api.vtms.models.entities.Lookup;
 import org.baps.api.vtms.repositories.LookupRepository;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.apache.commons.collections.CollectionUtils;
@@ -33,6 +35,10 @@ public class LookupService {
 
     private final LookupRepository lookupRepository;
 
+    private final ReferenceDataCacheService referenceDataCacheService;
+
+    private final LookupDictionaryService lookupDictionaryService;
+
     private final Translator translator;
 
     /**
@@ -43,6 +49,7 @@ public class LookupService {
      * @param filter A filter string for narrowing down the results (can be null or empty).
      * @return A list of LookupModel objects, or an empty list if no records match the filter.
      */
+    @Cacheable(cacheNames = CacheConstant.PUBLIC_LOOKUPS, sync = true)
     @Transactional(readOnly = true)
     public List<LookupModel> getLookups(final String filter) {
         
@@ -67,21 +74,20 @@ public class LookupService {
      * @throws DataNotFoundException     If the lookup with the provided key does not exist.
      * @throws DataValidationException    If any of the child lookup values are invalid.
      */
-    @Transactional(readOnly = true)
     public void validateChildLookupValueByKey(final String lookupKey, final List<String> childLookupValues, final String field) {
 
-        final var existingLookup = findLookupByKey(lookupKey);
-
-        final Set<String> existingChildLookupValues = existingLookup.getChildLookupModelList().stream()
-                .map(ChildLookupModel::getValue)
-                .collect(Collectors.toSet());
+        // Validated against the lookup dictionary, without a query.
+        final Set<String> existingChildLookupValues = lookupDictionaryService.getChildLookupValues(lookupKey);
+        if (existingChildLookupValues == null) {
+            throw new DataNotFoundException(translator.toLocal("lookup.with.lookup_key.not.found", lookupKey));
+        }
         
         if (CollectionUtils.isNotEmpty(childLookupValues)) { 
-            childLookupValues.stream().forEach(childLookupValue -> {
+            for (final String childLookupValue : childLookupValues) {
                 if (StringUtils.isBlank(childLookupValue) || !existingChildLookupValues.contains(childLookupValue)) { 
                     throw new DataValidationException(translator.toLocal("_is.invalid", field));
                 }
-            });
+            }
         }
     }
     
@@ -94,21 +100,20 @@ public class LookupService {
      * @throws DataNotFoundException     If the lookup with the provided key does not exist.
      * @throws DataValidationException    If any of the child lookup values are invalid.
      */
-    @Transactional(readOnly = true)
     public void validateChildLookupKeyByKey(final String lookupKey, final List<String> childLookupKeys, final String field) {
 
-        final var existingLookup = findLookupByKey(lookupKey);
-        
-        final Set<String> existingChildLookupKeys = existingLookup.getChildLookupModelList().stream()
-                .map(ChildLookupModel::getKey)
-                .collect(Collectors.toSet());
+        // Validated against the lookup dictionary, without a query.
+        final Set<String> existingChildLookupKeys = lookupDictionaryService.getChildLookupKeys(lookupKey);
+        if (existingChildLookupKeys == null) {
+            throw new DataNotFoundException(translator.toLocal("lookup.with.lookup_key.not.found", lookupKey));
+        }
         
         if (CollectionUtils.isNotEmpty(childLookupKeys)) { 
-            childLookupKeys.stream().forEach(childLookupKey -> {
+            for (final String childLookupKey : childLookupKeys) {
                 if (StringUtils.isBlank(childLookupKey) || !existingChildLookupKeys.contains(childLookupKey)) { 
                     throw new DataValidationException(translator.toLocal("_is.invalid", field));
                 }
-            });
+            }
         }
     }
     
@@ -121,8 +126,19 @@ public class LookupService {
      */
     @Transactional(readOnly = true)
     public Lookup findLookupByKey(final String lookupKey) {
-        return lookupRepository.findByKey(lookupKey).orElseThrow(() -> 
-            new DataNotFoundException(translator.toLocal("lookup.with.lookup_key.not.found", lookupKey)));
+
+        // The lookup id of the key is cached, and the lookup is read by id, so reading the same lookup again in a
+        // transaction does not query the database.
+        final String lookupId = referenceDataCacheService.get(ReferenceDataCacheEnum.LOOKUP, lookupKey,
+            () -> lookupRepository.findByKey(lookupKey).map(Lookup::getLookupId).orElse(null));
+
+        final Lookup lookup = lookupId == null ? null
+            : lookupRepository.findById(lookupId).filter(existingLookup -> existingLookup.getStatus() != Status.DELETED).orElse(null);
+        if (lookup == null) {
+            referenceDataCacheService.evict(ReferenceDataCacheEnum.LOOKUP, lookupKey);
+            throw new DataNotFoundException(translator.toLocal("lookup.with.lookup_key.not.found", lookupKey));
+        }
+        return lookup;
     }
     
 }
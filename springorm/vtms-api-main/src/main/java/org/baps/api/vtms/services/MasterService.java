@@ -3,6 +3,7 @@ package org.baps.api.vtms.services;
 import static io.github.perplexhub.rsql.RSQLJPASupport.toSpecification;
 
 import org.baps.api.vtms.common.utils.Translator;
+import org.baps.api.vtms.constants.CacheConstant;
 import org.baps.api.vtms.exceptions.DataNotFoundException;
 import org.baps.api.vtms.mappers.LocationMapper;
 import org.baps.api.vtms.models.LocationModel;
@@ -11,6 +12,7 @@ import org.baps.api.vtms.repositories.LocationRepository;
 import org.baps.api.vtms.repositories.specifications.GenericSpecification;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -44,6 +46,7 @@ public class MasterService {
      * @param filter   An optional filter to narrow down the location results.
      * @return A list of {@link LocationModel} objects representing the locations that match the criteria.
      */
+    @Cacheable(cacheNames = CacheConstant.PUBLIC_LOCATIONS, sync = true)
     @Transactional(readOnly = true)
     public List<LocationModel> getLocationList(final String siteUUCode, final String filter) {
 
@@ -1,9 +1,10 @@
 package org.baps.api.vtms.services;
 
+import org.baps.api.vtms.exceptions.ServiceUnavailableException;
 import org.baps.api.vtms.models.notification.NotificationCampaignModel;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
@@ -13,20 +14,26 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import reactor.core.publisher.Mono;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import reactor.core.Exceptions;
 
 @SuppressFBWarnings({"EI_EXPOSE_REP2"})
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class NotificationClientService implements NotificationService {
     private static final String NOTIFICATION_CLIENT_KEY_HEADER = "x-app-auth-id";
     private static final String NOTIFICATION_CLIENT_SECRET_HEADER = "x-app-auth-secret";
     private static final String INBOX_CAMPAIGN_SEND_ENDPOINT = "/inbox/campaigns/send";
 
+    // Name of the retry instance configured under resilience4j in application.yml.
+    private static final String NOTIFICATION_RESILIENCE_INSTANCE = "notification";
+
     @Value("${notification.client.key}")
     private String notificationClientKey;
 
@@ -36,6 +43,9 @@ public class NotificationClientService implements NotificationService {
     @Value("${notification.enable}")
     private boolean notificationEnable;
 
+    @Value("${notification.client.timeout:30s}")
+    private Duration notificationClientTimeout;
+
     private final Supplier<HttpHeaders> notificationClientHeader = () -> {
         final MultiValueMap<String, String> headersMap = new LinkedMultiValueMap<>();
         headersMap.add(NOTIFICATION_CLIENT_KEY_HEADER, notificationClientKey);
@@ -45,42 +55,59 @@ public class NotificationClientService implements NotificationService {
 
     private final WebClient notificationWebClient;
 
+    private final Retry notificationRetry;
+
+    public NotificationClientService(@Qualifier("notificationWebClient") final WebClient notificationWebClient,
+            final RetryRegistry retryRegistry) {
+        this.notificationWebClient = notificationWebClient;
+        this.notificationRetry = retryRegistry.retry(NOTIFICATION_RESILIENCE_INSTANCE);
+    }
+
     /**
-     * Asynchronously sends a notification campaign if notification enabling is active.
+     * Sends a notification campaign if notification enabling is active, and waits for the response so the caller can
+     * record the outcome. Every call waits at most the client timeout, and timeouts, connection errors and server errors
+     * are retried as configured by the notification retry instance.
      *
      * @param notificationCampaignModel The model containing the notification campaign details to be sent.
+     * @throws WebClientResponseException  If the notification server responds with an error status.
+     * @throws ServiceUnavailableException If the notification server does not respond within the client timeout.
      */
     @Override
     public void sendCampaign(final NotificationCampaignModel notificationCampaignModel) {
 
         if (notificationEnable) {
 
-            try {
-                final Mono<ResponseEntity<Object>> responseEntityMono = notificationWebClient
-                    .post()
-                    .uri(INBOX_CAMPAIGN_SEND_ENDPOINT)
-                    .headers(httpHeaders -> httpHeaders.addAll(notificationClientHeader.get()))
-                    .bodyValue(notificationCampaignModel)
-                    .retrieve().toEntity(Object.class);
-
-                responseEntityMono.subscribe(
-                    responseEntity -> log.info("Campaign sent successfully. Campaign run ID: {}", responseEntity.getBody()),
-                    throwable -> {
-                        if (throwable instanceof WebClientResponseException webClientResponseException) {
-                            log.error("Campaign send failed with status code: {} and response body: {}",
-                                webClientResponseException.getStatusCode(),
-                                webClientResponseException.getResponseBodyAsString());
-                        } else {
-                            log.error("Campaign send failed {}", throwable.getMessage());
-                        }
-                    }
-                );
-            } catch (final Exception e) {
-                log.error("Error sending campaign: {}", e.getMessage());
-            }
+            final ResponseEntity<Object> responseEntity = notificationRetry
+                .executeSupplier(() -> postCampaign(notificationCampaignModel));
 
+            log.info("Campaign sent successfully. Campaign run ID: {}", responseEntity != null ? responseEntity.getBody() : null);
         } else {
             log.info("Notification disable. {}", notificationCampaignModel);
         }
     }
+
+    private ResponseEntity<Object> postCampaign(final NotificationCampaignModel notificationCampaignModel) {
+        try {
+            return notificationWebClient
+                .post()
+                .uri(INBOX_CAMPAIGN_SEND_ENDPOINT)
+                .headers(httpHeaders -> httpHeaders.addAll(notificationClientHeader.get()))
+                .bodyValue(notificationCampaignModel)
+                .retrieve().toEntity(Object.class)
+                .timeout(notificationClientTimeout)
+                .block();
+        } catch (final WebClientResponseException webClientResponseException) {
+            log.error("Campaign send failed with status code: {} and response body: {}",
+                webClientResponseException.getStatusCode(),
+                webClientResponseException.getResponseBodyAsString());
+            throw webClientResponseException;
+        } catch (final RuntimeException e) {
+            // block() wraps the TimeoutException of timeout(), it is rethrown unchecked so the retry instance recognizes it.
+            if (Exceptions.unwrap(e) instanceof TimeoutException timeoutException) {
+                throw new ServiceUnavailableException("Notification server did not respond within " + notificationClientTimeout,
+                    timeoutException);
+            }
+            throw e;
+        }
+    }
 }
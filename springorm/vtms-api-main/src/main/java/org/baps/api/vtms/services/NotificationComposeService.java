@@ -3,43 +3,46 @@ package org.baps.api.vtms.services;
 import static org.baps.api.vtms.enumerations.RoleEnum.GUEST_VISIT_COORDINATOR;
 import static org.baps.api.vtms.enumerations.RoleEnum.RELATIONSHIP_MANAGER;
 
+import org.baps.api.vtms.common.template.PlaceholderTemplate;
 import org.baps.api.vtms.constants.GeneralConstant;
 import org.baps.api.vtms.constants.NotificationConstant;
 import org.baps.api.vtms.enumerations.NotificationTemplateEnum;
 import org.baps.api.vtms.enumerations.RoleEnum;
 import org.baps.api.vtms.enumerations.VisitStageEnum;
 import org.baps.api.vtms.enumerations.VisitorContactTypeEnum;
-import org.baps.api.vtms.mappers.PersonnelMapper;
-import org.baps.api.vtms.models.ChildLookupModel;
 import org.baps.api.vtms.models.StageModel;
-import org.baps.api.vtms.models.entities.Lookup;
-import org.baps.api.vtms.models.entities.NotificationTemplate;
+import org.baps.api.vtms.models.entities.NotificationOutbox;
 import org.baps.api.vtms.models.entities.Personnel;
 import org.baps.api.vtms.models.entities.ServiceTemplate;
 import org.baps.api.vtms.models.entities.Visit;
 import org.baps.api.vtms.models.entities.VisitPersonnel;
 import org.baps.api.vtms.models.entities.VisitService;
 import org.baps.api.vtms.models.entities.VisitVisitor;
-import org.baps.api.vtms.models.notification.NotificationCampaignModel;
+import org.baps.api.vtms.models.entities.Visitor;
 import org.baps.api.vtms.models.notification.NotificationUser;
-import org.baps.api.vtms.repositories.PersonnelRepository;
+import org.baps.api.vtms.models.notification.NotificationVisitModel;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.annotation.Timed;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -48,89 +51,75 @@ import org.apache.commons.lang3.StringUtils;
 @RequiredArgsConstructor
 @Service
 @Slf4j
+@Timed(value = "vtms.service.method", description = "Execution time of the service methods")
 public class NotificationComposeService {
 
-    private static final String VAR_PRIMARY_VISITOR = "${PRIMARY_VISITOR}";
+    private static final String VAR_PRIMARY_VISITOR = "PRIMARY_VISITOR";
 
-    private static final String VAR_ORGANIZATION_NAME = "${ORGANIZATION_NAME}";
+    private static final String VAR_ORGANIZATION_NAME = "ORGANIZATION_NAME";
 
-    private static final String VAR_TYPE_OF_VISIT = "${TYPE_OF_VISIT}";
+    private static final String VAR_TYPE_OF_VISIT = "TYPE_OF_VISIT";
 
-    private static final String VAR_TOUR_TYPE = "${TOUR_TYPE}";
+    private static final String VAR_TOUR_TYPE = "TOUR_TYPE";
 
-    private static final String VAR_SERVICES_NAME = "${SERVICES_NAME}";
+    private static final String VAR_SERVICES_NAME = "SERVICES_NAME";
 
-    private static final String VAR_RM = "${RM}";
+    private static final String VAR_RM = "RM";
 
-    private static final String VAR_VC = "${VC}";
+    private static final String VAR_VC = "VC";
 
-    private static final String VAR_MULAKAT = "${MULAKAT}";
+    private static final String VAR_MULAKAT = "MULAKAT";
 
-    private static final String VAR_NO_OF_GUESTS = "${NO_OF_GUESTS}";
+    private static final String VAR_NO_OF_GUESTS = "NO_OF_GUESTS";
 
-    private static final String VAR_VISIT_TIME = "${VISIT_TIME}";
+    private static final String VAR_VISIT_TIME = "VISIT_TIME";
 
     private static final String NA = "N/A";
 
+    // Estimated length of the values of one visit, used with the template length to presize the visit list builder.
+    private static final int DYNAMIC_VISIT_VALUES_LENGTH = 256;
+
+    private static final DateTimeFormatter VISIT_TIME_FORMATTER = DateTimeFormatter.ofPattern("hh:mm a");
+
     private static final String DYNAMIC_VISIT_BODY =
         """
-        <div style="border-radius: 7px; margin-bottom: 16px; background-color: #ffffff; padding: 20px; max-width: 600px; 
+        <div style="border-radius: 7px; margin-bottom: 16px; background-color: #ffffff; padding: 20px; max-width: 600px; \
         box-shadow: 0 0 10px rgba(0, 0, 0, 0.1);">
             <p style="margin: 12px 0; margin-top: 0; font-size: 18px; font-weight: 600; line-height: 1.5; color: #333;">
-        """
-            +
-            VAR_PRIMARY_VISITOR
-            +
-            """
+                ${PRIMARY_VISITOR}
             </p>
             <p style="margin: 4px 0; font-size: 16px; line-height: 1.5; color: #333;">
-            """
-            + VAR_ORGANIZATION_NAME + " | " + VAR_TYPE_OF_VISIT
-            + """
+                ${ORGANIZATION_NAME} | ${TYPE_OF_VISIT}
             </p>
             <p style="margin: 4px 0; font-size: 16px; line-height: 1.5; color: #333;">
-            """
-            + VAR_TOUR_TYPE + " | " + VAR_SERVICES_NAME
-            +
-            """
-                </p>
-                <p style="margin: 4px 0; font-size: 16px; line-height: 1.5; color: #333;">
-                    RM:""" + " " + VAR_RM
-            +
-            """
+                ${TOUR_TYPE} | ${SERVICES_NAME}
             </p>
             <p style="margin: 4px 0; font-size: 16px; line-height: 1.5; color: #333;">
-                VC:""" + " "  + VAR_VC
-            +
-            """
+                RM: ${RM}
             </p>
             <p style="margin: 4px 0; font-size: 16px; line-height: 1.5; color: #333;">
-                Mulakat:""" + " "  + VAR_MULAKAT
-            +
-            """
+                VC: ${VC}
             </p>
             <p style="margin: 4px 0; font-size: 16px; line-height: 1.5; color: #333;">
-                No. of guests:""" + " "  + VAR_NO_OF_GUESTS
-            +
-            """
+                Mulakat: ${MULAKAT}
             </p>
             <p style="margin: 4px 0; font-size: 16px; line-height: 1.5; color: #333;">
-                Visit time:""" + " "  + VAR_VISIT_TIME
-            +
-            """
+                No. of guests: ${NO_OF_GUESTS}
+            </p>
+            <p style="margin: 4px 0; font-size: 16px; line-height: 1.5; color: #333;">
+                Visit time: ${VISIT_TIME}
             </p>
         </div>
         """;
 
-    private final PersonnelRepository personnelRepository;
-
-    private final NotificationService notificationService;
+    // Parsed once, rendered for every visit of the daily visit list.
+    private static final PlaceholderTemplate DYNAMIC_VISIT_BODY_TEMPLATE = PlaceholderTemplate.compile(DYNAMIC_VISIT_BODY);
 
-    private final ServiceTemplateService serviceTemplateService;
+    private final NotificationRecipientService notificationRecipientService;
 
-    private final NotificationTemplateService notificationTemplateService;
+    private final NotificationOutboxService notificationOutboxService;
 
-    private final LookupService lookupService;
+    private final ServiceTemplateService serviceTemplateService;
 
     @Value("${front.end.baseurl}")
     private String frontEndUrl;
@@ -138,807 +127,582 @@ public class NotificationComposeService {
     @Value("${front.end.public-baseurl}")
     private String frontEndPublicUrl;
 
-    private final PersonnelMapper personnelMapper;
-
     /**
-     * Sends a notification campaign based on a notification template and a list of users.
+     * Queues a notification about a visit in the notification outbox. It is written in the transaction of the caller and
+     * composed and sent by the notification outbox dispatcher once committed.
      *
      * @param notificationTemplateEnum The enumeration representing the notification template to use.
-     * @param users                    A list of NotificationUser objects to receive the notification.
+     * @param visit                    The visit the notification is about.
+     * @param parameters               The parameters composing the notification with the visit.
      */
-    public void sendCampaign(final NotificationTemplateEnum notificationTemplateEnum, final List<NotificationUser> users) {
-
-        final Optional<NotificationTemplate> optionalNotificationTemplate = notificationTemplateService
-            .findByNotificationTemplate(notificationTemplateEnum);
-
-        if (CollectionUtils.isNotEmpty(users) && optionalNotificationTemplate.isPresent()) {
-
-            final NotificationCampaignModel emailNotificationCampaignModel = NotificationCampaignModel.builder()
-                .templateId(optionalNotificationTemplate.get().getTemplateId())
-                .templateVersion(optionalNotificationTemplate.get().getVersion())
-                .channel(optionalNotificationTemplate.get().getNotificationChannelEnum())
-                .users(users)
-                .build();
-
-            notificationService.sendCampaign(emailNotificationCampaignModel);
-        }
+    private void queueNotification(final NotificationTemplateEnum notificationTemplateEnum, final Visit visit,
+                                   final Map<String, String> parameters) {
+        notificationOutboxService.saveNotificationOutbox(notificationTemplateEnum, visit.getVisitId(), parameters);
     }
 
     /**
-     * Retrieves the full name of a personnel if available, or an empty string otherwise.
+     * Queues the notifications of a new visit: approval pending, request received and created successfully.
      *
-     * @param personnelOptional An optional {@link Personnel} object.
-     * @return The full name of the personnel if available, otherwise an empty string.
+     * @param visit      The {@link Visit} object that has been created.
+     * @param siteUUCode The unique code associated with the site.
      */
-    private String getPersonnelOptionalName(final Optional<Personnel> personnelOptional) {
-        return personnelOptional.map(personnel -> personnel.getFirstName() + " " + personnel.getLastName()).orElse("");
+    public void sendNewVisitNotifications(final Visit visit, final String siteUUCode) {
+        sendVisitApprovalPending(visit, siteUUCode);
+        sendVisitRequestReceived(visit);
+        sendVisitCreatedSuccessfully(visit);
     }
 
     /**
-     * Retrieves an Optional VisitPersonnel from a list based on the specified RoleEnum.
+     * Queues notification for visit approval pending to super admin personnel.
      *
-     * @param visitPersonnelList List of VisitPersonnel objects to search.
-     * @param roleEnum           RoleEnum used for filtering.
-     * @return Optional containing the first matching VisitPersonnel, or empty if not found.
+     * @param visit      The {@link Visit} object for which the approval is pending.
+     * @param siteUUCode The unique code associated with the site.
      */
-    private Optional<VisitPersonnel> getVisitPersonnelOptionalByRoleEnum(final List<VisitPersonnel> visitPersonnelList,
-                                                                         final RoleEnum roleEnum) {
+    public void sendVisitApprovalPending(final Visit visit, final String siteUUCode) {
+        queueNotification(NotificationTemplateEnum.VISIT_APPROVAL_PENDING_EMAIL, visit,
+            Map.of(NotificationConstant.PARAMETER_SITE_UUCODE, siteUUCode));
+    }
 
-        if (CollectionUtils.isNotEmpty(visitPersonnelList) && ObjectUtils.isNotEmpty(roleEnum)) {
-            return visitPersonnelList.stream()
-                .filter(visitPersonnel -> visitPersonnel.getRole().getUucode().equals(roleEnum.name()))
-                .findFirst();
-        }
-        return Optional.empty();
+    /**
+     * Queues notification for visit request received to the primary visitor.
+     *
+     * @param visit The {@link Visit} object for which the request is received.
+     */
+    public void sendVisitRequestReceived(final Visit visit) {
+        queueNotification(NotificationTemplateEnum.VISIT_REQUEST_RECEIVED_EMAIL, visit, Map.of());
     }
 
     /**
-     * Retrieves an optional {@link VisitVisitor} based on the specified {@link VisitorContactTypeEnum}
-     * from the list of visit visitors associated with a {@link Visit} object.
+     * Queues notification for successful creation of a visit to relevant personnel.
      *
-     * @param visitorContactTypeEnum The {@link VisitorContactTypeEnum} to match against.
-     * @param visit                  The {@link Visit} object containing the list of visit visitors.
-     * @return An optional {@link VisitVisitor} object representing the first visit visitor with, or an empty optional if not found.
+     * @param visit The {@link Visit} object that has been created successfully.
      */
-    private Optional<VisitVisitor> getVisitVisitorOptionalByVisitorContactType(final Visit visit,
-                                                                               final VisitorContactTypeEnum visitorContactTypeEnum) {
+    public void sendVisitCreatedSuccessfully(final Visit visit) {
+        queueNotification(NotificationTemplateEnum.VISIT_CREATED_SUCCESSFULLY_EMAIL, visit, Map.of());
+    }
 
-        return visit.getVisitVisitorList().stream()
-            .filter(visitVisitor -> visitVisitor.getVisitorContactTypeEnum().equals(visitorContactTypeEnum))
-            .findFirst();
+    /**
+     * Queues a confirmation notification for a scheduled visit.
+     *
+     * @param visit The visit for which the confirmation notification is being sent.
+     */
+    public void sendVisitConfirmationNotification(final Visit visit) {
+        queueNotification(NotificationTemplateEnum.VISIT_CONFIRMATION_EMAIL, visit, Map.of());
     }
 
     /**
-     * Retrieves the full name of the primary visitor associated with a specific {@link VisitorContactTypeEnum} in a given {@link Visit}.
+     * Queues new visit assigned notifications to personnel.
      *
-     * @param visitorContactTypeEnum The {@link VisitorContactTypeEnum} specifying the type of visitor for which the name is needed.
-     * @param visit                  The {@link Visit} object containing information about the visit and its visitors.
-     * @return The full name of the visitor, or an empty string if the visitor is not found.
+     * @param visitPersonnelList List of VisitPersonnel to notify.
      */
-    private String getVisitorNameByVisitorContactType(final Visit visit, final VisitorContactTypeEnum visitorContactTypeEnum) {
+    public void sendNewVisitAssigned(final List<VisitPersonnel> visitPersonnelList) {
 
-        return getVisitVisitorOptionalByVisitorContactType(visit, visitorContactTypeEnum)
-            .map(visitVisitor -> visitVisitor.getVisitor().getFirstName() + " " + visitVisitor.getVisitor().getLastName())
-            .orElse("");
+        if (CollectionUtils.isNotEmpty(visitPersonnelList)) {
+
+            final Visit visit = visitPersonnelList.get(0).getVisit();
+
+            visitPersonnelList.forEach(visitPersonnel -> queueNotification(NotificationTemplateEnum.NEW_VISIT_ASSIGNED_EMAIL, visit,
+                Map.of(NotificationConstant.PARAMETER_PERSONNEL_ID, visitPersonnel.getPersonnel().getPersonnelId(),
+                    NotificationConstant.PARAMETER_ROLE_NAME, StringUtils.defaultString(visitPersonnel.getRole().getName()))));
+        }
     }
 
     /**
-     * Retrieves the personnel who created the visit, if available.
+     * Queues visit accepted successfully notifications to relevant personnel.
      *
-     * @param visit The {@link Visit} object for which the creator's personnel information is needed.
-     * @return An optional {@link Personnel} object representing the creator of the visit.
+     * @param visit The Visit for notification.
      */
-    private Optional<Personnel> getCreatedByPersonnelOptional(final Visit visit) {
-        return StringUtils.isNotBlank(visit.getCreatedBy())
-            ? personnelRepository.findById(visit.getCreatedBy())
-            : Optional.empty();
+    public void sendVisitAcceptedSuccessfully(final Visit visit) {
+        queueNotification(NotificationTemplateEnum.VISIT_ACCEPTED_SUCCESSFULLY_EMAIL, visit, Map.of());
     }
 
     /**
-     * Retrieves the requester's name for a visit, either from the creator's personnel information
-     * or the primary visitor's information.
+     * Queues a notification to relevant parties when a visit is DECLINED.
      *
-     * @param visit The {@link Visit} object for which the requester's name is needed.
-     * @return The requester's name if available, otherwise an empty string.
+     * @param visit The visit that has been declined.
      */
-    private String getRequesterName(final Visit visit) {
-        return getCreatedByPersonnelOptional(visit).map(personnel -> personnel.getFirstName() + " " + personnel.getLastName())
-            .orElse(getVisitorNameByVisitorContactType(visit, VisitorContactTypeEnum.PRIMARY));
+    public void sendVisitDeclinedNotification(final Visit visit) {
+        queueNotification(NotificationTemplateEnum.VISIT_DECLINED_EMAIL, visit, Map.of());
     }
 
     /**
-     * Retrieves the organization name of the primary visitor for a visit.
+     * Queues the notifications of a cancelled visit, to the personnel and to the visitors.
      *
-     * @param visit The {@link Visit} object for which the organization name is needed.
-     * @return The organization name of the primary visitor if available, otherwise an empty string.
+     * @param visit The visit that has been canceled.
      */
-    private String getOrganizationName(final Visit visit) {
-
-        return getVisitVisitorOptionalByVisitorContactType(visit, VisitorContactTypeEnum.PRIMARY)
-            .map(visitVisitor -> visitVisitor.getVisitor().getOrganizationName())
-            .orElse("");
+    public void sendVisitCancelledNotification(final Visit visit) {
+        sendVisitCancelledByAdminNotification(visit);
+        sendVisitCancelledSendToVisitorNotification(visit);
     }
 
     /**
-     * Retrieves a formatted string of requested services from a {@link Visit}.
+     * Queues a notification to relevant parties when a visit is canceled.
      *
-     * <p>
-     * Returns a comma-separated string of requested services if available; otherwise, an empty string.
-     * In case of errors, logs the error and returns "ERROR".
-     * </p>
-     *
-     * @param visit The {@link Visit} object containing requested services information.
-     * @return A formatted string of requested services or an empty string in case of errors.
+     * @param visit The visit that has been canceled.
      */
-    private String getRequestedServices(final Visit visit) {
-        try {
-            if (CollectionUtils.isNotEmpty(visit.getRequestedServiceIds())) {
+    public void sendVisitCancelledByAdminNotification(final Visit visit) {
+        queueNotification(NotificationTemplateEnum.VISIT_CANCELLED_BY_ADMIN_EMAIL, visit, Map.of());
+    }
 
-                final List<ServiceTemplate> existingServiceTemplates = serviceTemplateService
-                        .findByServiceTemplateIdsAndSiteUUCode(visit.getRequestedServiceIds(), visit.getSite().getUuCode());
-                
-                final Set<String> requestedServices = existingServiceTemplates.stream()
-                        .map(ServiceTemplate::getName).collect(Collectors.toSet());
-                
-                return String.join(", ", requestedServices);
-            } else {
-                return "";
-            }
-        } catch (final Exception e) {
-            log.error("Error while getting visit requested services for email. Error message : {}", e.getMessage());
-            return "ERROR";
-        }
+    /**
+     * Queues a notification to the visitors when a visit is canceled.
+     *
+     * @param visit The visit that has been canceled.
+     */
+    public void sendVisitCancelledSendToVisitorNotification(final Visit visit) {
+        queueNotification(NotificationTemplateEnum.VISIT_CANCELLED_SEND_EMAIL_TO_VISITOR, visit, Map.of());
     }
 
     /**
-     * Gets the reason for a visit stage from the provided Visit.
+     * Queues a notification for a visit assignment to the specified personnel.
      *
-     * @param visit          The Visit object.
-     * @param visitStageEnum The target VisitStageEnum.
-     * @return The reason for the specified visit stage, or an empty string if not found.
+     * @param visit              The visit for which the notification is being sent.
+     * @param visitPersonnelList The list of personnel associated with the visit.
+     * @param serviceName        The name of the service related to the visit.
      */
-    public String getStageReason(final Visit visit, final VisitStageEnum visitStageEnum) {
+    public void sendVisitAssignedNotification(
+        final Visit visit, final List<VisitPersonnel> visitPersonnelList, final String serviceName) {
 
-        String visitStageReason = "";
+        if (CollectionUtils.isNotEmpty(visitPersonnelList)) {
 
-        if (CollectionUtils.isNotEmpty(visit.getStageModelList())) {
-            visitStageReason = visit.getStageModelList().stream()
-                .filter(stageModel -> stageModel.getStage().equals(visitStageEnum.name())
-                    && StringUtils.isNotBlank(stageModel.getReason()))
-                .findFirst()
-                .map(StageModel::getReason).orElse("");
+            visitPersonnelList.forEach(visitPersonnel -> queueNotification(NotificationTemplateEnum.VISIT_ASSIGNED_EMAIL, visit,
+                Map.of(NotificationConstant.PARAMETER_PERSONNEL_ID, visitPersonnel.getPersonnel().getPersonnelId(),
+                    NotificationConstant.PARAMETER_ROLE_NAME, StringUtils.defaultString(visitPersonnel.getRole().getName()),
+                    NotificationConstant.PARAMETER_SERVICE_NAME, StringUtils.defaultString(serviceName))));
         }
-        return visitStageReason;
     }
 
     /**
-     * Maps specific details from a {@link Visit} object to a {@link Map} based on the provided body variables.
+     * Queues a meeting notification to the specified personnel associated with the given {@link VisitService}.
      *
-     * @param visit    The {@link Visit} object containing information to be mapped.
-     * @param bodyVars The set of body variables specifying the details to be included in the result map.
-     * @return A {@link Map} containing the mapped details based on the provided body variables.
+     * @param visitService     The {@link VisitService} for which the meeting notification is being sent.
+     * @param meetingPersonnel The {@link Personnel} to receive the meeting notification.
      */
-    private Map<String, String> mapVisitDetails(final Visit visit, final Set<String> bodyVars) {
-
-        final Map<String, String> resultMap = new HashMap<>();
-
-        bodyVars.forEach(bodyVar -> {
-
-            switch (bodyVar) {
-                case NotificationConstant.VISIT_REQUEST_NUMBER -> resultMap.put(bodyVar, visit.getRequestNumber());
-
-                case NotificationConstant.TYPE_OF_VISIT -> resultMap.put(bodyVar, visit.getTypeOfVisit());
-
-                case NotificationConstant.VISIT_PAGE_LINK, NotificationConstant.VISIT_DETAIL_PAGE_LINK ->
-                    resultMap.put(bodyVar, frontEndUrl + NotificationConstant.VISIT_DETAIL_PATH + visit.getVisitId());
-                    
-                case NotificationConstant.TOTAL_VISITOR -> resultMap.put(bodyVar, visit.getTotalVisitors().toString());
-
-                case NotificationConstant.VISIT_START_DATE ->
-                    resultMap.put(bodyVar, visit.getStartDateTime().format(GeneralConstant.DATE_FORMATTER_MM_DD_YYYY));
-
-                case NotificationConstant.VISIT_START_TIME ->
-                    resultMap.put(bodyVar, visit.getStartDateTime().format(GeneralConstant.TIME_FORMAT_12_FORMATTER));
-
-                case NotificationConstant.VISIT_END_TIME ->
-                    resultMap.put(bodyVar, visit.getEndDateTime().format(GeneralConstant.TIME_FORMAT_12_FORMATTER));
-
-                case NotificationConstant.REQUESTER_NAME -> resultMap.put(bodyVar, getRequesterName(visit));
-
-                case NotificationConstant.PRIMARY_VISITOR_NAME -> resultMap.put(bodyVar,
-                    getVisitorNameByVisitorContactType(visit, VisitorContactTypeEnum.PRIMARY));
-
-                case NotificationConstant.ORGANIZATION_NAME -> resultMap.put(bodyVar, getOrganizationName(visit));
-
-                case NotificationConstant.REQUESTED_SERVICES -> resultMap.put(bodyVar, getRequestedServices(visit));
-
-                case NotificationConstant.VISIT_DECLINED_STAGE_REASON ->
-                    resultMap.put(bodyVar, getStageReason(visit, VisitStageEnum.DECLINED));
-
-                case NotificationConstant.VISIT_CANCELLED_STAGE_REASON ->
-                    resultMap.put(bodyVar, getStageReason(visit, VisitStageEnum.CANCELLED));
-
-                case NotificationConstant.VISIT_ADMIN_NAME -> resultMap.put(bodyVar, getPersonnelOptionalName(
-                    getVisitPersonnelOptionalByRoleEnum(visit.getVisitPersonnelList(), RoleEnum.VISIT_ADMIN)
-                        .map(VisitPersonnel::getPersonnel)));
-
-                case NotificationConstant.VISIT_ADMIN_PHONE_NUMBER -> resultMap.put(bodyVar,
-                    getVisitPersonnelOptionalByRoleEnum(visit.getVisitPersonnelList(), RoleEnum.VISIT_ADMIN)
-                        .map(VisitPersonnel::getPersonnel).map(Personnel::getPhoneNumber).orElse(""));
-
-                case NotificationConstant.GUEST_VISIT_COORDINATOR_NAME -> resultMap.put(bodyVar, getPersonnelOptionalName(
-                    getVisitPersonnelOptionalByRoleEnum(visit.getVisitPersonnelList(), RoleEnum.GUEST_VISIT_COORDINATOR)
-                        .map(VisitPersonnel::getPersonnel)));
-
-                case NotificationConstant.GUEST_VISIT_COORDINATOR_PHONE_NUMBER -> resultMap.put(bodyVar,
-                    getVisitPersonnelOptionalByRoleEnum(visit.getVisitPersonnelList(), RoleEnum.GUEST_VISIT_COORDINATOR)
-                        .map(VisitPersonnel::getPersonnel).map(Personnel::getPhoneNumber).orElse(""));
-                
-                case NotificationConstant.PUBLIC_VISIT_PAGE_LINK -> {
-                    if (!visit.isPrivate()) {
-                        if (ObjectUtils.isNotEmpty(visit.getTourSlot()) && StringUtils.isNotBlank(visit.getTourSlot().getTourSlotId())) {
-                            resultMap.put(bodyVar, frontEndPublicUrl + NotificationConstant.HOURLY_VISIT_PATH + visit.getVisitId());
-                        } else {
-                            resultMap.put(bodyVar, frontEndPublicUrl + NotificationConstant.TOUR_VISIT_PATH + visit.getVisitId());
-                        }
-                    }
-                }
+    public void sendMeetingWithGuestNotification(final VisitService visitService, final Personnel meetingPersonnel) {
 
-                default -> {
-                }
-            }
-        });
+        if (ObjectUtils.isNotEmpty(meetingPersonnel)) {
 
-        return resultMap;
+            queueNotification(NotificationTemplateEnum.MEETING_WITH_GUEST_EMAIL, visitService.getVisit(),
+                Map.of(NotificationConstant.PARAMETER_PERSONNEL_ID, meetingPersonnel.getPersonnelId(),
+                    NotificationConstant.PARAMETER_MEETING_START_DATE_TIME, visitService.getStartDateTime().toString(),
+                    NotificationConstant.PARAMETER_MEETING_END_DATE_TIME, visitService.getEndDateTime().toString()));
+        }
     }
 
     /**
-     * Sends notification for visit approval pending to super admin personnel.
+     * Queues visit feedback notifications for the provided list of {@link Visit} instances, one per visit. The visits
+     * without feedback are skipped when the notifications are composed.
      *
-     * @param visit The {@link Visit} object for which the approval is pending.
-     * @param siteUUCode The unique code associated with the site.
+     * @param visitList A list of {@link Visit} instances for which visit feedback notifications are sent.
      */
-    public void sendVisitApprovalPending(final Visit visit, final String siteUUCode) {
-
-        final NotificationTemplateEnum notificationTemplateEnum = NotificationTemplateEnum.VISIT_APPROVAL_PENDING_EMAIL;
-
-        final List<Personnel> visitAdminPersonnelList =
-            personnelRepository.findAllByPersonnelRoleListRoleUucodeInAndPersonnelRoleListSiteUuCode(
-                Set.of(RoleEnum.SUPER_ADMIN.name()), siteUUCode);
-
-        if (CollectionUtils.isNotEmpty(visitAdminPersonnelList)) {
-
-            final List<NotificationUser> notificationUserList = visitAdminPersonnelList.stream()
-                .map(personnel -> NotificationUser.builder()
-                    .email(personnelMapper.mapEmailByPersonnel(personnel))
-                    .emailType(NotificationConstant.EMAIL_TYPE_PRIMARY)
-                    .bodyVars(mapVisitDetails(visit, notificationTemplateEnum.getBodyVars()))
-                    .build()).toList();
+    public void sendVisitFeedbackNotification(final List<Visit> visitList) {
 
-            sendCampaign(notificationTemplateEnum, notificationUserList);
+        if (CollectionUtils.isNotEmpty(visitList)) {
+            notificationOutboxService.saveNotificationOutbox(NotificationTemplateEnum.VISIT_FEEDBACK_EMAIL,
+                visitList.stream().map(Visit::getVisitId).toList());
         }
     }
 
     /**
-     * Sends notification for visit request received to the primary visitor.
+     * Queues the notification of the visit list of a day to the daily visit email recipients.
      *
-     * @param visit The {@link Visit} object for which the request is received.
+     * @param visitList The visits of the day, in the order of the list.
+     * @param visitDate The date of the visits.
      */
-    public void sendVisitRequestReceived(final Visit visit) {
-
-        final NotificationTemplateEnum notificationTemplateEnum = NotificationTemplateEnum.VISIT_REQUEST_RECEIVED_EMAIL;
-
-        final List<NotificationUser> notificationUserList = new ArrayList<>();
-
-        final Map<String, String> bodyVars = mapVisitDetails(visit, notificationTemplateEnum.getBodyVars());
-
-        // Primary Visitor
-        getNotificationUserByVisitorContactType(visit, VisitorContactTypeEnum.PRIMARY, notificationTemplateEnum, bodyVars)
-            .ifPresent(notificationUserList::add);
-
-        // Secondary Visitor
-        getNotificationUserByVisitorContactType(visit, VisitorContactTypeEnum.SECONDARY, notificationTemplateEnum, bodyVars)
-            .ifPresent(notificationUserList::add);
+    public void sendNextDayVisitListNotification(final List<Visit> visitList, final String visitDate) {
 
-        sendCampaign(notificationTemplateEnum, notificationUserList);
+        notificationOutboxService.saveNotificationOutbox(NotificationTemplateEnum.DAILY_VISIT_EMAIL, null,
+            Map.of(NotificationConstant.PARAMETER_VISIT_DATE, visitDate,
+                NotificationConstant.PARAMETER_VISIT_IDS, visitList.stream().map(Visit::getVisitId)
+                    .collect(Collectors.joining(NotificationConstant.PARAMETER_VISIT_IDS_SEPARATOR))));
     }
 
-
     /**
-     * Sends notification for successful creation of a visit to relevant personnel.
+     * Composes the recipients, with their template variables, of notifications of the notification outbox with the same
+     * template. The visits of the notifications are loaded together and their details mapped once per visit, the
+     * recipients are resolved by the {@link NotificationRecipientService} for the whole batch. A notification about a
+     * visit removed since it was queued has no recipient.
      *
-     * @param visit The {@link Visit} object that has been created successfully.
+     * @param notificationTemplateEnum The notification template of the notifications.
+     * @param notificationOutboxList   The notifications.
+     * @return The recipients of the notifications, sent in one campaign.
      */
-    public void sendVisitCreatedSuccessfully(final Visit visit) {
-
-        final NotificationTemplateEnum notificationTemplateEnum = NotificationTemplateEnum.VISIT_CREATED_SUCCESSFULLY_EMAIL;
-
-        final List<NotificationUser> notificationUserList = new ArrayList<>();
-
-        final Map<String, String> bodyVarsMap = mapVisitDetails(visit, notificationTemplateEnum.getBodyVars());
+    @Transactional(readOnly = true)
+    public List<NotificationUser> composeNotificationUsers(final NotificationTemplateEnum notificationTemplateEnum,
+                                                           final List<NotificationOutbox> notificationOutboxList) {
 
-        // Created By
-        getCreatedByPersonnelOptional(visit).ifPresent(personnel -> {
+        final List<NotificationVisitModel> notificationVisitModelList =
+            notificationTemplateEnum == NotificationTemplateEnum.DAILY_VISIT_EMAIL
+                ? composeNextDayVisitList(notificationOutboxList)
+                : composeVisitNotifications(notificationTemplateEnum, notificationOutboxList);
 
-            if (notificationTemplateEnum.getBodyVars().contains(NotificationConstant.RECIPIENT_NAME)) {
-                bodyVarsMap.put(NotificationConstant.RECIPIENT_NAME, getPersonnelOptionalName(Optional.of(personnel)));
-            }
-
-            notificationUserList.add(NotificationUser.builder()
-                .email(personnelMapper.mapEmailByPersonnel(personnel))
-                .emailType(NotificationConstant.EMAIL_TYPE_PRIMARY)
-                .bodyVars(new HashMap<>(bodyVarsMap))
-                .build());
-        });
-
-        // Relationship Manager
-        getVisitPersonnelOptionalByRoleEnum(visit.getVisitPersonnelList(), RELATIONSHIP_MANAGER)
-            .ifPresent(visitPersonnel -> {
-
-                if (notificationTemplateEnum.getBodyVars().contains(NotificationConstant.RECIPIENT_NAME)) {
-                    bodyVarsMap.put(NotificationConstant.RECIPIENT_NAME,
-                        getPersonnelOptionalName(Optional.of(visitPersonnel.getPersonnel())));
-                }
-
-                notificationUserList.add(NotificationUser.builder()
-                    .email(personnelMapper.mapEmailByPersonnel(visitPersonnel.getPersonnel()))
-                    .emailType(NotificationConstant.EMAIL_TYPE_PRIMARY)
-                    .bodyVars(new HashMap<>(bodyVarsMap))
-                    .build());
-            });
-
-        sendCampaign(notificationTemplateEnum, notificationUserList);
+        return notificationRecipientService.findNotificationUsers(notificationTemplateEnum, notificationVisitModelList);
     }
 
     /**
-     * Sends a confirmation notification for a scheduled visit.
+     * Composes the template variables of notifications about a visit. The visits are loaded with one IN query per batch
+     * of visits and the details of a visit are mapped once for all its notifications.
      *
-     * @param visit The visit for which the confirmation notification is being sent.
+     * @param notificationTemplateEnum The notification template of the notifications.
+     * @param notificationOutboxList   The notifications.
+     * @return The notifications about a visit still present, in the order of the notifications.
      */
-    public void sendVisitConfirmationNotification(final Visit visit) {
+    private List<NotificationVisitModel> composeVisitNotifications(final NotificationTemplateEnum notificationTemplateEnum,
+                                                                   final List<NotificationOutbox> notificationOutboxList) {
+
+        final Map<String, Visit> visitMap = notificationRecipientService.findVisitMapByVisitIds(notificationOutboxList.stream()
+            .map(NotificationOutbox::getVisitId).filter(StringUtils::isNotBlank).toList());
+
+        final List<NotificationVisitModel> notificationVisitModelList = new ArrayList<>();
+        notificationOutboxList.forEach(notificationOutbox -> {
+            final Visit visit = visitMap.get(notificationOutbox.getVisitId());
+            if (visit == null) {
+                log.warn("Visit {} of notification {} not found", notificationOutbox.getVisitId(),
+                    notificationOutbox.getNotificationOutboxId());
+            } else {
+                notificationVisitModelList.add(new NotificationVisitModel(visit, notificationOutbox.getParameters()));
+            }
+        });
 
-        final NotificationTemplateEnum notificationTemplateEnum = NotificationTemplateEnum.VISIT_CONFIRMATION_EMAIL;
+        notificationRecipientService.resolveCreatedByPersonnel(notificationVisitModelList);
 
-        final List<NotificationUser> notificationUserList = new ArrayList<>();
+        final Map<String, Map<String, String>> mapOfVisitIdWithVisitDetails = new HashMap<>();
 
-        final Map<String, String> bodyVarsMap = mapVisitDetails(visit, notificationTemplateEnum.getBodyVars());
+        notificationVisitModelList.forEach(notificationVisitModel -> {
 
-        if (notificationTemplateEnum.getBodyVars().contains(NotificationConstant.HELP_DESK_NUMBER)) {
-            bodyVarsMap.put(NotificationConstant.HELP_DESK_NUMBER, NotificationConstant.BAPS_HELP_DESK_NUMBER);
-        }
+            final Visit visit = notificationVisitModel.getVisit();
+            final Map<String, String> parameters = notificationVisitModel.getParameters();
 
-        // Primary Visitor
-        getNotificationUserByVisitorContactType(visit, VisitorContactTypeEnum.PRIMARY, notificationTemplateEnum, bodyVarsMap)
-            .ifPresent(notificationUserList::add);
+            final Map<String, String> bodyVarsMap = new HashMap<>(mapOfVisitIdWithVisitDetails.computeIfAbsent(visit.getVisitId(),
+                visitId -> mapVisitDetails(notificationVisitModel, notificationTemplateEnum.getBodyVars())));
 
-        // Secondary Visitor
-        getNotificationUserByVisitorContactType(visit, VisitorContactTypeEnum.SECONDARY, notificationTemplateEnum, bodyVarsMap)
-            .ifPresent(notificationUserList::add);
+            putBodyVar(bodyVarsMap, notificationTemplateEnum, NotificationConstant.HELP_DESK_NUMBER,
+                NotificationConstant.BAPS_HELP_DESK_NUMBER);
 
-        sendCampaign(notificationTemplateEnum, notificationUserList);
-    }
+            putBodyVar(bodyVarsMap, notificationTemplateEnum, NotificationConstant.SERVICE_NAME,
+                parameters.get(NotificationConstant.PARAMETER_SERVICE_NAME));
 
-    /**
-     * Retrieves a notification user for visit based on the specified details and template.
-     *
-     * @param visit                    The Visit for notification.
-     * @param visitorContactTypeEnum   The contact type for the visitor.
-     * @param notificationTemplateEnum The template for the notification.
-     * @param bodyVarsMap              A Map containing key-value pairs representing variables for the notification body.
-     * @return Optional notification user, or empty if not applicable.
-     */
-    private Optional<NotificationUser> getNotificationUserByVisitorContactType(final Visit visit,
-                                                                               final VisitorContactTypeEnum visitorContactTypeEnum,
-                                                                               final NotificationTemplateEnum notificationTemplateEnum,
-                                                                               final Map<String, String> bodyVarsMap) {
+            putBodyVar(bodyVarsMap, notificationTemplateEnum, NotificationConstant.MEETING_START_TIME,
+                formatTime(parameters.get(NotificationConstant.PARAMETER_MEETING_START_DATE_TIME)));
 
-        return getVisitVisitorOptionalByVisitorContactType(visit, visitorContactTypeEnum)
-            .map(visitVisitor -> {
+            putBodyVar(bodyVarsMap, notificationTemplateEnum, NotificationConstant.MEETING_END_TIME,
+                formatTime(parameters.get(NotificationConstant.PARAMETER_MEETING_END_DATE_TIME)));
 
-                if (notificationTemplateEnum.getBodyVars().contains(NotificationConstant.RECIPIENT_NAME)) {
-                    bodyVarsMap.put(NotificationConstant.RECIPIENT_NAME,
-                        getVisitorNameByVisitorContactType(visit, visitorContactTypeEnum));
-                }
+            if (notificationTemplateEnum.getBodyVars().contains(NotificationConstant.VISIT_FEEDBACK_LINK)
+                && ObjectUtils.isNotEmpty(visit.getVisitFeedback())) {
+
+                bodyVarsMap.put(NotificationConstant.VISIT_FEEDBACK_LINK,
+                    frontEndUrl + NotificationConstant.VISIT_FEEDBACK_PATH + "?id=" + visit.getVisitFeedback().getVisitFeedbackId());
+            }
 
-                return Optional.of(NotificationUser.builder()
-                    .email(visitVisitor.getVisitor().getEmail())
-                    .emailType(NotificationConstant.EMAIL_TYPE_PRIMARY)
-                    .bodyVars(new HashMap<>(bodyVarsMap))
-                    .build());
-            }).orElse(Optional.empty());
+            notificationVisitModel.setBodyVars(bodyVarsMap);
+        });
+        return notificationVisitModelList;
     }
 
     /**
-     * Sends new visit assigned notifications to personnel based on the specified template.
+     * Composes the daily visit list notifications. The visits of all the notifications are loaded together and rendered
+     * in the order they were queued in.
      *
-     * @param visitPersonnelList List of VisitPersonnel to notify.
+     * @param notificationOutboxList The notifications.
+     * @return The notifications with visits still present.
      */
-    public void sendNewVisitAssigned(final List<VisitPersonnel> visitPersonnelList) {
+    private List<NotificationVisitModel> composeNextDayVisitList(final List<NotificationOutbox> notificationOutboxList) {
 
-        final NotificationTemplateEnum notificationTemplateEnum = NotificationTemplateEnum.NEW_VISIT_ASSIGNED_EMAIL;
+        final Map<NotificationOutbox, List<String>> mapOfNotificationOutboxWithVisitIds = new LinkedHashMap<>();
+        notificationOutboxList.forEach(notificationOutbox -> mapOfNotificationOutboxWithVisitIds.put(notificationOutbox,
+            List.of(StringUtils.split(StringUtils.defaultString(
+                notificationOutbox.getParameters().get(NotificationConstant.PARAMETER_VISIT_IDS)),
+                NotificationConstant.PARAMETER_VISIT_IDS_SEPARATOR))));
 
-        final List<NotificationUser> notificationUserList = new ArrayList<>();
+        final Map<String, Visit> visitMap = notificationRecipientService.findVisitMapByVisitIds(
+            mapOfNotificationOutboxWithVisitIds.values().stream().flatMap(List::stream).toList());
 
-        if (CollectionUtils.isNotEmpty(visitPersonnelList)) {
+        final List<NotificationVisitModel> notificationVisitModelList = new ArrayList<>();
 
-            final Map<String, String> bodyVarsMap =
-                new HashMap<>(mapVisitDetails(visitPersonnelList.get(0).getVisit(), notificationTemplateEnum.getBodyVars()));
+        mapOfNotificationOutboxWithVisitIds.forEach((notificationOutbox, visitIds) -> {
 
-            visitPersonnelList.forEach(visitPersonnel ->
-                getNotificationUserOptionalByVisitPersonnel(visitPersonnel, notificationTemplateEnum, bodyVarsMap)
-                    .ifPresent(notificationUserList::add));
-        }
+            final List<Visit> visitList = visitIds.stream().map(visitMap::get).filter(Objects::nonNull).toList();
+            if (visitList.isEmpty()) {
+                return;
+            }
 
-        sendCampaign(notificationTemplateEnum, notificationUserList);
+            final String visitDate = notificationOutbox.getParameters().get(NotificationConstant.PARAMETER_VISIT_DATE);
+
+            final NotificationVisitModel notificationVisitModel = new NotificationVisitModel(null, notificationOutbox.getParameters());
+            notificationVisitModel.setTitleVars(Map.of(NotificationConstant.VISIT_DATE, visitDate));
+            notificationVisitModel.setBodyVars(Map.of(NotificationConstant.VISIT_DATE, visitDate,
+                NotificationConstant.VISIT_LIST_DATA, prepareDynamicVisitBody(visitList)));
+            notificationVisitModelList.add(notificationVisitModel);
+        });
+        return notificationVisitModelList;
     }
 
     /**
-     * Retrieves a notification user based on the specified details and template.
+     * Puts a body variable of a template, when the template uses it and the value is present.
      *
-     * @param visitPersonnel           The VisitPersonnel to notify.
-     * @param notificationTemplateEnum The template for the notification.
-     * @param bodyVarsMap              A Map containing key-value pairs representing variables for the notification body.
-     * @return Optional notification user, or empty if not applicable.
+     * @param bodyVarsMap              The body variables.
+     * @param notificationTemplateEnum The template of the notification.
+     * @param bodyVar                  The body variable.
+     * @param value                    The value of the body variable, may be null.
      */
-    private Optional<NotificationUser> getNotificationUserOptionalByVisitPersonnel(
-        final VisitPersonnel visitPersonnel, final NotificationTemplateEnum notificationTemplateEnum,
-        final Map<String, String> bodyVarsMap) {
-
-        if (ObjectUtils.isNotEmpty(visitPersonnel)) {
-
-            if (notificationTemplateEnum.getBodyVars().contains(NotificationConstant.RECIPIENT_NAME)) {
-                bodyVarsMap.put(NotificationConstant.RECIPIENT_NAME,
-                    getPersonnelOptionalName(Optional.of(visitPersonnel.getPersonnel())));
-            }
-
-            if (notificationTemplateEnum.getBodyVars().contains(NotificationConstant.ROLE_NAME)) {
-                bodyVarsMap.put(NotificationConstant.ROLE_NAME, visitPersonnel.getRole().getName());
-            }
+    private void putBodyVar(final Map<String, String> bodyVarsMap, final NotificationTemplateEnum notificationTemplateEnum,
+                            final String bodyVar, final String value) {
 
-            return Optional.of(NotificationUser.builder()
-                .email(personnelMapper.mapEmailByPersonnel(visitPersonnel.getPersonnel()))
-                .emailType(NotificationConstant.EMAIL_TYPE_PRIMARY)
-                .bodyVars(new HashMap<>(bodyVarsMap))
-                .build());
+        if (value != null && notificationTemplateEnum.getBodyVars().contains(bodyVar)) {
+            bodyVarsMap.put(bodyVar, value);
         }
-        return Optional.empty();
     }
 
     /**
-     * Sends visit accepted successfully notifications to relevant personnel based on the specified template.
+     * Formats the time of an ISO date time parameter.
      *
-     * @param visit The Visit for notification.
+     * @param dateTime The ISO date time, may be null.
+     * @return The formatted time, or null if the date time is null.
      */
-    public void sendVisitAcceptedSuccessfully(final Visit visit) {
-        final NotificationTemplateEnum notificationTemplateEnum = NotificationTemplateEnum.VISIT_ACCEPTED_SUCCESSFULLY_EMAIL;
-
-        final List<NotificationUser> notificationUserList = new ArrayList<>();
-
-        final Map<String, String> bodyVarsMap = mapVisitDetails(visit, notificationTemplateEnum.getBodyVars());
-
-        // CreateBy
-        getCreatedByPersonnelOptional(visit)
-            .flatMap(personnel -> getNotificationUserByPersonnel(personnel, visit, notificationTemplateEnum, bodyVarsMap))
-            .ifPresent(notificationUserList::add);
-
-        // Visit Admin
-        getVisitPersonnelOptionalByRoleEnum(visit.getVisitPersonnelList(), RoleEnum.VISIT_ADMIN)
-            .flatMap(visitPersonnel ->
-                getNotificationUserByPersonnel(visitPersonnel.getPersonnel(), visit, notificationTemplateEnum, bodyVarsMap))
-            .ifPresent(notificationUserList::add);
-
-        sendCampaign(notificationTemplateEnum, notificationUserList);
+    private String formatTime(final String dateTime) {
+        return dateTime != null ? LocalDateTime.parse(dateTime).format(GeneralConstant.TIME_FORMAT_12_FORMATTER) : null;
     }
 
     /**
-     * Retrieves a notification user based on the specified details and template.
+     * Retrieves the full name of a personnel if available, or an empty string otherwise.
      *
-     * @param personnel                The Personnel to notify.
-     * @param visit                    The Visit for notification.
-     * @param notificationTemplateEnum The template for the notification.
-     * @param bodyVarsMap              A Map containing key-value pairs representing variables for the notification body.
-     * @return Optional notification user, or empty if not applicable.
+     * @param personnelOptional An optional {@link Personnel} object.
+     * @return The full name of the personnel if available, otherwise an empty string.
      */
-    private Optional<NotificationUser> getNotificationUserByPersonnel(
-        final Personnel personnel, final Visit visit, final NotificationTemplateEnum notificationTemplateEnum,
-        final Map<String, String> bodyVarsMap) {
-
-        if (ObjectUtils.isNotEmpty(personnel) && ObjectUtils.isNotEmpty(visit)) {
-
-            if (notificationTemplateEnum.getBodyVars().contains(NotificationConstant.RECIPIENT_NAME)) {
-                bodyVarsMap.put(NotificationConstant.RECIPIENT_NAME, getPersonnelOptionalName(Optional.of(personnel)));
-            }
-
-            return Optional.of(NotificationUser.builder()
-                .email(personnelMapper.mapEmailByPersonnel(personnel))
-                .emailType(NotificationConstant.EMAIL_TYPE_PRIMARY)
-                .bodyVars(new HashMap<>(bodyVarsMap))
-                .build());
-        }
-        return Optional.empty();
+    private String getPersonnelOptionalName(final Optional<Personnel> personnelOptional) {
+        return personnelOptional.map(personnel -> personnel.getFirstName() + " " + personnel.getLastName()).orElse("");
     }
 
     /**
-     * Sends a notification to relevant parties when a visit is DECLINED.
+     * Retrieves the full name of a visitor.
      *
-     * @param visit The visit that has been canceled.
+     * @param visitVisitor The {@link VisitVisitor} of the visitor.
+     * @return The full name of the visitor.
      */
-    public void sendVisitDeclinedNotification(final Visit visit) {
-
-        final NotificationTemplateEnum notificationTemplateEnum = NotificationTemplateEnum.VISIT_DECLINED_EMAIL;
-
-        final List<NotificationUser> notificationUserList = new ArrayList<>();
-
-        final Map<String, String> bodyVarsMap = mapVisitDetails(visit, notificationTemplateEnum.getBodyVars());
-
-        // Primary Visitor
-        getNotificationUserByVisitorContactType(visit, VisitorContactTypeEnum.PRIMARY, notificationTemplateEnum, bodyVarsMap)
-            .ifPresent(notificationUserList::add);
-
-        // Secondary Visitor
-        getNotificationUserByVisitorContactType(visit, VisitorContactTypeEnum.SECONDARY, notificationTemplateEnum, bodyVarsMap)
-            .ifPresent(notificationUserList::add);
-
-        sendCampaign(notificationTemplateEnum, notificationUserList);
-    }
-    
-    public void sendVisitCancelledNotification(final Visit visit) {
-        sendVisitCancelledByAdminNotification(visit);
-        sendVisitCancelledSendToVisitorNotification(visit);
+    private String getVisitorName(final VisitVisitor visitVisitor) {
+        return visitVisitor.getVisitor().getFirstName() + " " + visitVisitor.getVisitor().getLastName();
     }
 
     /**
-     * Sends a notification to relevant parties when a visit is canceled.
+     * Retrieves the full name of the visitor associated with a specific {@link VisitorContactTypeEnum} in a given visit.
      *
-     * @param visit The visit that has been canceled.
+     * @param notificationVisitModel The notification containing information about the visit and its visitors.
+     * @param visitorContactTypeEnum The {@link VisitorContactTypeEnum} specifying the type of visitor for which the name is needed.
+     * @return The full name of the visitor, or an empty string if the visitor is not found.
      */
-    public void sendVisitCancelledByAdminNotification(final Visit visit) {
-
-        final NotificationTemplateEnum notificationTemplateEnum;
-
-        final List<NotificationUser> notificationUserList = new ArrayList<>();
-
-        notificationTemplateEnum = NotificationTemplateEnum.VISIT_CANCELLED_BY_ADMIN_EMAIL;
-
-        final Map<String, String> bodyVarsMap = new HashMap<>(mapVisitDetails(visit, notificationTemplateEnum.getBodyVars()));
-
-        // CreateBy
-        getCreatedByPersonnelOptional(visit)
-            .flatMap(personnel -> getNotificationUserByPersonnel(personnel, visit, notificationTemplateEnum, bodyVarsMap))
-            .ifPresent(notificationUserList::add);
-
-        // all visit personnel
-        if (CollectionUtils.isNotEmpty(visit.getVisitPersonnelList())) {
+    private String getVisitorNameByVisitorContactType(final NotificationVisitModel notificationVisitModel,
+                                                      final VisitorContactTypeEnum visitorContactTypeEnum) {
 
-            visit.getVisitPersonnelList()
-                .forEach(visitPersonnel ->
-                getNotificationUserByPersonnel(visitPersonnel.getPersonnel(), visit, notificationTemplateEnum, bodyVarsMap)
-                .ifPresent(notificationUserList::add));
-        }
-
-        sendCampaign(notificationTemplateEnum, notificationUserList);
+        return notificationVisitModel.getVisitVisitor(visitorContactTypeEnum).map(this::getVisitorName).orElse("");
     }
-    
+
     /**
-     * Sends a notification to relevant parties when a visit is canceled.
+     * Retrieves the requester's name for a visit, either from the creator's personnel information
+     * or the primary visitor's information.
      *
-     * @param visit The visit that has been canceled.
+     * @param notificationVisitModel The notification of the visit for which the requester's name is needed.
+     * @return The requester's name if available, otherwise an empty string.
      */
-    public void sendVisitCancelledSendToVisitorNotification(final Visit visit) {
-
-        final NotificationTemplateEnum notificationTemplateEnum;
-
-        final List<NotificationUser> notificationUserList = new ArrayList<>();
-
-        notificationTemplateEnum = NotificationTemplateEnum.VISIT_CANCELLED_SEND_EMAIL_TO_VISITOR;
-
-        final Map<String, String> bodyVarsMap = new HashMap<>(mapVisitDetails(visit, notificationTemplateEnum.getBodyVars()));
-
-        // Primary Visitor
-        getNotificationUserByVisitorContactType(visit, VisitorContactTypeEnum.PRIMARY, notificationTemplateEnum, bodyVarsMap)
-            .ifPresent(notificationUserList::add);
-
-        // Secondary Visitor
-        getNotificationUserByVisitorContactType(visit, VisitorContactTypeEnum.SECONDARY, notificationTemplateEnum, bodyVarsMap)
-            .ifPresent(notificationUserList::add);
-
-        sendCampaign(notificationTemplateEnum, notificationUserList);
+    private String getRequesterName(final NotificationVisitModel notificationVisitModel) {
+        return notificationVisitModel.getCreatedByPersonnel()
+            .map(personnel -> personnel.getFirstName() + " " + personnel.getLastName())
+            .orElseGet(() -> getVisitorNameByVisitorContactType(notificationVisitModel, VisitorContactTypeEnum.PRIMARY));
     }
 
-
     /**
-     * Sends a notification for a visit assignment to the specified personnel.
+     * Retrieves the organization name of the primary visitor for a visit.
      *
-     * @param visit              The visit for which the notification is being sent.
-     * @param visitPersonnelList The list of personnel associated with the visit.
-     * @param serviceName        The name of the service related to the visit.
+     * @param notificationVisitModel The notification of the visit for which the organization name is needed.
+     * @return The organization name of the primary visitor if available, otherwise an empty string.
      */
-    public void sendVisitAssignedNotification(
-        final Visit visit, final List<VisitPersonnel> visitPersonnelList, final String serviceName) {
-
-        if (CollectionUtils.isNotEmpty(visitPersonnelList)) {
-
-            final NotificationTemplateEnum notificationTemplateEnum = NotificationTemplateEnum.VISIT_ASSIGNED_EMAIL;
-
-            final Map<String, String> bodyVars = new HashMap<>(mapVisitDetails(visit, notificationTemplateEnum.getBodyVars()));
+    private String getOrganizationName(final NotificationVisitModel notificationVisitModel) {
 
-            final List<NotificationUser> notificationUserList = new ArrayList<>();
+        return notificationVisitModel.getVisitVisitor(VisitorContactTypeEnum.PRIMARY)
+            .map(visitVisitor -> visitVisitor.getVisitor().getOrganizationName())
+            .orElse("");
+    }
 
-            if (notificationTemplateEnum.getBodyVars().contains(NotificationConstant.SERVICE_NAME)) {
+    /**
+     * Retrieves a formatted string of requested services from a {@link Visit}.
+     *
+     * <p>
+     * Returns a comma-separated string of requested services if available; otherwise, an empty string.
+     * In case of errors, logs the error and returns "ERROR".
+     * </p>
+     *
+     * @param visit The {@link Visit} object containing requested services information.
+     * @return A formatted string of requested services or an empty string in case of errors.
+     */
+    private String getRequestedServices(final Visit visit) {
+        try {
+            if (CollectionUtils.isNotEmpty(visit.getRequestedServiceIds())) {
 
-                bodyVars.put(NotificationConstant.SERVICE_NAME, serviceName);
+                final List<ServiceTemplate> existingServiceTemplates = serviceTemplateService
+                        .findByServiceTemplateIdsAndSiteUUCode(visit.getRequestedServiceIds(), visit.getSite().getUuCode());
+                
+                final Set<String> requestedServices = existingServiceTemplates.stream()
+                        .map(ServiceTemplate::getName).collect(Collectors.toSet());
+                
+                return String.join(", ", requestedServices);
+            } else {
+                return "";
             }
-
-            visitPersonnelList.forEach(visitPersonnel ->
-                getNotificationUserOptionalByVisitPersonnel(visitPersonnel, notificationTemplateEnum, bodyVars)
-                    .ifPresent(notificationUserList::add));
-
-            sendCampaign(notificationTemplateEnum, notificationUserList);
+        } catch (final Exception e) {
+            log.error("Error while getting visit requested services for email. Error message : {}", e.getMessage());
+            return "ERROR";
         }
     }
 
     /**
-     * Sends a meeting notification to the specified personnel associated with the given {@link VisitService}.
+     * Gets the reason for a visit stage from the provided Visit.
      *
-     * @param visitService     The {@link VisitService} for which the meeting notification is being sent.
-     * @param meetingPersonnel The {@link Personnel} to receive the meeting notification.
+     * @param visit          The Visit object.
+     * @param visitStageEnum The target VisitStageEnum.
+     * @return The reason for the specified visit stage, or an empty string if not found.
      */
-    public void sendMeetingWithGuestNotification(final VisitService visitService, final Personnel meetingPersonnel) {
-
-        final NotificationTemplateEnum notificationTemplateEnum = NotificationTemplateEnum.MEETING_WITH_GUEST_EMAIL;
-
-        if (ObjectUtils.isNotEmpty(meetingPersonnel)) {
-
-            final Map<String, String> bodyVars =
-                new HashMap<>(mapVisitDetails(visitService.getVisit(), notificationTemplateEnum.getBodyVars()));
-
-            if (notificationTemplateEnum.getBodyVars().contains(NotificationConstant.RECIPIENT_NAME)) {
-                bodyVars.put(NotificationConstant.RECIPIENT_NAME, getPersonnelOptionalName(Optional.of(meetingPersonnel)));
-            }
-
-            if (notificationTemplateEnum.getBodyVars().contains(NotificationConstant.MEETING_START_TIME)) {
-                bodyVars.put(NotificationConstant.MEETING_START_TIME,
-                    visitService.getStartDateTime().format(GeneralConstant.TIME_FORMAT_12_FORMATTER));
-            }
+    public String getStageReason(final Visit visit, final VisitStageEnum visitStageEnum) {
 
-            if (notificationTemplateEnum.getBodyVars().contains(NotificationConstant.MEETING_END_TIME)) {
-                bodyVars.put(NotificationConstant.MEETING_END_TIME,
-                    visitService.getEndDateTime().format(GeneralConstant.TIME_FORMAT_12_FORMATTER));
-            }
+        String visitStageReason = "";
 
-            sendCampaign(notificationTemplateEnum, List.of(NotificationUser.builder()
-                .email(personnelMapper.mapEmailByPersonnel(meetingPersonnel))
-                .emailType(NotificationConstant.EMAIL_TYPE_PRIMARY)
-                .bodyVars(new HashMap<>(bodyVars))
-                .build()));
+        if (CollectionUtils.isNotEmpty(visit.getStageModelList())) {
+            visitStageReason = visit.getStageModelList().stream()
+                .filter(stageModel -> stageModel.getStage().equals(visitStageEnum.name())
+                    && StringUtils.isNotBlank(stageModel.getReason()))
+                .findFirst()
+                .map(StageModel::getReason).orElse("");
         }
+        return visitStageReason;
     }
 
     /**
-     * Sends visit feedback notifications based on the provided list of {@link Visit} instances.
+     * Maps specific details from a resolved {@link Visit} to a {@link Map} based on the provided body variables.
      *
-     * @param visitList A list of {@link Visit} instances for which visit feedback notifications are sent.
+     * @param notificationVisitModel The notification of the {@link Visit} containing information to be mapped.
+     * @param bodyVars      The set of body variables specifying the details to be included in the result map.
+     * @return A {@link Map} containing the mapped details based on the provided body variables.
      */
-    public void sendVisitFeedbackNotification(final List<Visit> visitList) {
+    private Map<String, String> mapVisitDetails(final NotificationVisitModel notificationVisitModel, final Set<String> bodyVars) {
 
-        final NotificationTemplateEnum notificationTemplateEnum = NotificationTemplateEnum.VISIT_FEEDBACK_EMAIL;
+        final Map<String, String> resultMap = new HashMap<>();
 
-        if (CollectionUtils.isNotEmpty(visitList)) {
+        final Visit visit = notificationVisitModel.getVisit();
 
-            visitList.stream().filter(visit -> ObjectUtils.isNotEmpty(visit.getVisitFeedback()))
-                .forEach(visit -> {
+        bodyVars.forEach(bodyVar -> {
 
-                    final List<NotificationUser> notificationUserList = new ArrayList<>();
+            switch (bodyVar) {
+                case NotificationConstant.VISIT_REQUEST_NUMBER -> resultMap.put(bodyVar, visit.getRequestNumber());
 
-                    final Map<String, String> bodyVarsMap = mapVisitDetails(visit, notificationTemplateEnum.getBodyVars());
+                case NotificationConstant.TYPE_OF_VISIT -> resultMap.put(bodyVar, visit.getTypeOfVisit());
 
-                    if (notificationTemplateEnum.getBodyVars().contains(NotificationConstant.VISIT_FEEDBACK_LINK)) {
+                case NotificationConstant.VISIT_PAGE_LINK, NotificationConstant.VISIT_DETAIL_PAGE_LINK ->
+                    resultMap.put(bodyVar, frontEndUrl + NotificationConstant.VISIT_DETAIL_PATH + visit.getVisitId());
+                    
+                case NotificationConstant.TOTAL_VISITOR -> resultMap.put(bodyVar, visit.getTotalVisitors().toString());
 
-                        bodyVarsMap.put(NotificationConstant.VISIT_FEEDBACK_LINK,
-                            frontEndUrl + NotificationConstant.VISIT_FEEDBACK_PATH
-                                + "?id=" + visit.getVisitFeedback().getVisitFeedbackId());
-                    }
+                case NotificationConstant.VISIT_START_DATE ->
+                    resultMap.put(bodyVar, visit.getStartDateTime().format(GeneralConstant.DATE_FORMATTER_MM_DD_YYYY));
 
-                    // Primary Visitor
-                    getNotificationUserByVisitorContactType(visit, VisitorContactTypeEnum.PRIMARY, notificationTemplateEnum, bodyVarsMap)
-                        .ifPresent(notificationUserList::add);
+                case NotificationConstant.VISIT_START_TIME ->
+                    resultMap.put(bodyVar, visit.getStartDateTime().format(GeneralConstant.TIME_FORMAT_12_FORMATTER));
 
-                    // Secondary Visitor
-                    getNotificationUserByVisitorContactType(visit, VisitorContactTypeEnum.SECONDARY, notificationTemplateEnum, bodyVarsMap)
-                        .ifPresent(notificationUserList::add);
+                case NotificationConstant.VISIT_END_TIME ->
+                    resultMap.put(bodyVar, visit.getEndDateTime().format(GeneralConstant.TIME_FORMAT_12_FORMATTER));
 
-                    sendCampaign(notificationTemplateEnum, notificationUserList);
-                });
-        }
-    }
+                case NotificationConstant.REQUESTER_NAME -> resultMap.put(bodyVar, getRequesterName(notificationVisitModel));
 
-    public void sendNextDayVisitListNotification(final List<Visit> visitList, final String visitDate) {
+                case NotificationConstant.PRIMARY_VISITOR_NAME -> resultMap.put(bodyVar,
+                    getVisitorNameByVisitorContactType(notificationVisitModel, VisitorContactTypeEnum.PRIMARY));
 
-        final NotificationTemplateEnum notificationTemplateEnum = NotificationTemplateEnum.DAILY_VISIT_EMAIL;
+                case NotificationConstant.ORGANIZATION_NAME -> resultMap.put(bodyVar, getOrganizationName(notificationVisitModel));
 
-        // fetch the lookup object of DAILY_VISIT_EMAIL
-        final Lookup dailyVisitEmailLookup = lookupService.findLookupByKey(notificationTemplateEnum.name());
+                case NotificationConstant.REQUESTED_SERVICES -> resultMap.put(bodyVar, getRequestedServices(visit));
 
-        // fetch the list of emails from dailyVisitEmailLookup to whom we want to send the visit list.
-        final List<ChildLookupModel> childLookupModelList = dailyVisitEmailLookup.getChildLookupModelList();
+                case NotificationConstant.VISIT_DECLINED_STAGE_REASON ->
+                    resultMap.put(bodyVar, getStageReason(visit, VisitStageEnum.DECLINED));
 
-        final List<String> emailList = childLookupModelList.stream().map(ChildLookupModel::getKey).toList();
+                case NotificationConstant.VISIT_CANCELLED_STAGE_REASON ->
+                    resultMap.put(bodyVar, getStageReason(visit, VisitStageEnum.CANCELLED));
 
-        final List<NotificationUser> notificationUserList = new ArrayList<>();
+                case NotificationConstant.VISIT_ADMIN_NAME -> resultMap.put(bodyVar, getPersonnelOptionalName(
+                    notificationVisitModel.getVisitPersonnel(RoleEnum.VISIT_ADMIN).map(VisitPersonnel::getPersonnel)));
 
-        final String visitListData = prepareDynamicVisitBody(visitList);
+                case NotificationConstant.VISIT_ADMIN_PHONE_NUMBER -> resultMap.put(bodyVar,
+                    notificationVisitModel.getVisitPersonnel(RoleEnum.VISIT_ADMIN).map(VisitPersonnel::getPersonnel)
+                        .map(Personnel::getPhoneNumber).orElse(""));
+
+                case NotificationConstant.GUEST_VISIT_COORDINATOR_NAME -> resultMap.put(bodyVar, getPersonnelOptionalName(
+                    notificationVisitModel.getVisitPersonnel(RoleEnum.GUEST_VISIT_COORDINATOR).map(VisitPersonnel::getPersonnel)));
 
-        emailList.forEach(email -> {
-            final NotificationUser user = NotificationUser.builder()
-                .email(email)
-                .emailType(NotificationConstant.EMAIL_TYPE_PRIMARY)
-                .titleVars(Map.of(NotificationConstant.VISIT_DATE, visitDate))
-                .bodyVars(Map.of(NotificationConstant.VISIT_DATE, visitDate, NotificationConstant.VISIT_LIST_DATA, visitListData))
-                .build();
-            notificationUserList.add(user);
+                case NotificationConstant.GUEST_VISIT_COORDINATOR_PHONE_NUMBER -> resultMap.put(bodyVar,
+                    notificationVisitModel.getVisitPersonnel(RoleEnum.GUEST_VISIT_COORDINATOR).map(VisitPersonnel::getPersonnel)
+                        .map(Personnel::getPhoneNumber).orElse(""));
+                
+                case NotificationConstant.PUBLIC_VISIT_PAGE_LINK -> {
+                    if (!visit.isPrivate()) {
+                        if (ObjectUtils.isNotEmpty(visit.getTourSlot()) && StringUtils.isNotBlank(visit.getTourSlot().getTourSlotId())) {
+                            resultMap.put(bodyVar, frontEndPublicUrl + NotificationConstant.HOURLY_VISIT_PATH + visit.getVisitId());
+                        } else {
+                            resultMap.put(bodyVar, frontEndPublicUrl + NotificationConstant.TOUR_VISIT_PATH + visit.getVisitId());
+                        }
+                    }
+                }
+
+                default -> {
+                }
+            }
         });
 
-        sendCampaign(notificationTemplateEnum, notificationUserList);
+        return resultMap;
     }
 
+    /**
+     * Renders the daily visit list body, one block of the dynamic visit template per visit.
+     *
+     * @param visitList The visits of the day.
+     * @return The rendered visit list.
+     */
     private String prepareDynamicVisitBody(final List<Visit> visitList) {
-        final StringBuilder visitListStringBuilder = new StringBuilder();
-        for (final Visit visit : visitList) {
-            final StringBuilder visitStringBuilder = new StringBuilder(DYNAMIC_VISIT_BODY);
-
-            final Optional<String> primaryVisitorName = visit.getVisitVisitorList().stream().filter(vv ->
-                vv.getVisitorContactTypeEnum().equals(VisitorContactTypeEnum.PRIMARY)).map(vv ->
-                vv.getVisitor().getFirstName() + " " + vv.getVisitor().getLastName()).findFirst();
-
-            replaceSB(visitStringBuilder, VAR_PRIMARY_VISITOR, primaryVisitorName.orElse(NA));
-
-            final Optional<String> primaryVisitorOrganization = visit.getVisitVisitorList().stream().filter(vv ->
-                vv.getVisitorContactTypeEnum().equals(VisitorContactTypeEnum.PRIMARY)).map(vv ->
-                vv.getVisitor().getOrganizationName()).findFirst();
 
-            replaceSB(visitStringBuilder, VAR_ORGANIZATION_NAME, primaryVisitorOrganization.orElse(NA));
+        final StringBuilder visitListStringBuilder = new StringBuilder(
+            visitList.size() * (DYNAMIC_VISIT_BODY_TEMPLATE.getLiteralLength() + DYNAMIC_VISIT_VALUES_LENGTH));
 
-            replaceSB(visitStringBuilder, VAR_TYPE_OF_VISIT, visit.getTypeOfVisit());
+        final Map<String, String> valueMap = new HashMap<>();
 
-            replaceSB(visitStringBuilder, VAR_TOUR_TYPE, visit.getTourType() != null ? visit.getTourType() : NA);
-
-            final List<String> servicesName = visit.getVisitServiceList().stream().map(vs -> vs.getServiceTemplate().getName()).toList();
-
-            replaceSB(visitStringBuilder, VAR_SERVICES_NAME, CollectionUtils.isNotEmpty(servicesName)
-                ? servicesName.toString().replace("[", "").replace("]", "") : NA);
-
-            final Optional<String> rm = visit.getVisitPersonnelList().stream().filter(vp ->
-                vp.getRole().getUucode().equals(RELATIONSHIP_MANAGER.name())).map(vp ->
-                vp.getPersonnel().getFirstName() + " " + vp.getPersonnel().getLastName()).findFirst();
-
-            replaceSB(visitStringBuilder, VAR_RM, rm.orElse(NA));
-
-            final Optional<String> vc = visit.getVisitPersonnelList().stream().filter(vp ->
-                vp.getRole().getUucode().equals(GUEST_VISIT_COORDINATOR.name())).map(vp ->
-                vp.getPersonnel().getFirstName() + " " + vp.getPersonnel().getLastName()).findFirst();
-
-            replaceSB(visitStringBuilder, VAR_VC, vc.orElse(NA));
-
-            final List<String> meetingPersonnelList = visit.getVisitServiceList().stream().filter(vs ->
-                vs.getMeetingPersonnel() != null).map(vs ->
-                vs.getMeetingPersonnel().getFirstName() + " " + vs.getMeetingPersonnel().getLastName()).toList();
+        for (final Visit visit : visitList) {
 
-            replaceSB(visitStringBuilder, VAR_MULAKAT, CollectionUtils.isNotEmpty(meetingPersonnelList)
-                ? meetingPersonnelList.toString().replace("[", "").replace("]", "") : NA);
+            final NotificationVisitModel notificationVisitModel = new NotificationVisitModel(visit, Map.of());
 
-            replaceSB(visitStringBuilder, VAR_NO_OF_GUESTS, String.valueOf(visit.getTotalVisitors()));
+            final Optional<Visitor> primaryVisitorOptional = notificationVisitModel.getVisitVisitor(VisitorContactTypeEnum.PRIMARY)
+                .map(VisitVisitor::getVisitor);
 
-            replaceSB(visitStringBuilder, VAR_VISIT_TIME, visit.getStartDateTime().toLocalTime()
-                    .truncatedTo(ChronoUnit.MINUTES).format(DateTimeFormatter.ofPattern("hh:mm a")));
+            // Service names and meeting personnel are collected in a single pass over the visit services.
+            final List<String> serviceNameList = new ArrayList<>();
+            final List<String> meetingPersonnelNameList = new ArrayList<>();
+            for (final VisitService visitService : visit.getVisitServiceList()) {
+                serviceNameList.add(visitService.getServiceTemplate().getName());
+                if (visitService.getMeetingPersonnel() != null) {
+                    meetingPersonnelNameList.add(getPersonnelOptionalName(Optional.of(visitService.getMeetingPersonnel())));
+                }
+            }
 
-            visitListStringBuilder.append(visitStringBuilder);
+            valueMap.put(VAR_PRIMARY_VISITOR, primaryVisitorOptional
+                .map(visitor -> visitor.getFirstName() + " " + visitor.getLastName()).orElse(NA));
+            valueMap.put(VAR_ORGANIZATION_NAME, primaryVisitorOptional.map(Visitor::getOrganizationName).orElse(NA));
+            valueMap.put(VAR_TYPE_OF_VISIT, ObjectUtils.defaultIfNull(visit.getTypeOfVisit(), NA));
+            valueMap.put(VAR_TOUR_TYPE, ObjectUtils.defaultIfNull(visit.getTourType(), NA));
+            valueMap.put(VAR_SERVICES_NAME, serviceNameList.isEmpty() ? NA : String.join(", ", serviceNameList));
+            valueMap.put(VAR_RM, notificationVisitModel.getVisitPersonnel(RELATIONSHIP_MANAGER).map(VisitPersonnel::getPersonnel)
+                .map(personnel -> getPersonnelOptionalName(Optional.of(personnel))).orElse(NA));
+            valueMap.put(VAR_VC, notificationVisitModel.getVisitPersonnel(GUEST_VISIT_COORDINATOR).map(VisitPersonnel::getPersonnel)
+                .map(personnel -> getPersonnelOptionalName(Optional.of(personnel))).orElse(NA));
+            valueMap.put(VAR_MULAKAT, meetingPersonnelNameList.isEmpty() ? NA : String.join(", ", meetingPersonnelNameList));
+            valueMap.put(VAR_NO_OF_GUESTS, String.valueOf(visit.getTotalVisitors()));
+            valueMap.put(VAR_VISIT_TIME,
+                visit.getStartDateTime().toLocalTime().truncatedTo(ChronoUnit.MINUTES).format(VISIT_TIME_FORMATTER));
+
+            DYNAMIC_VISIT_BODY_TEMPLATE.render(visitListStringBuilder, valueMap);
         }
         return visitListStringBuilder.toString();
     }
-
-    private static void replaceSB(final StringBuilder sb, final String target, final String replacement) {
-        final int index = sb.indexOf(target);
-        sb.replace(index, index + target.length(), replacement);
-    }
-
 }
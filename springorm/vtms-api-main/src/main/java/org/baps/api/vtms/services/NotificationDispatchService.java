@@ -0,0 +1,177 @@
+package org.baps.api.vtms.services;
+
+import org.baps.api.vtms.enumerations.NotificationTemplateEnum;
+import org.baps.api.vtms.models.entities.NotificationOutbox;
+import org.baps.api.vtms.models.entities.NotificationTemplate;
+import org.baps.api.vtms.models.notification.NotificationCampaignModel;
+import org.baps.api.vtms.models.notification.NotificationUser;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Composes and sends the notifications of the outbox. The outbox is the bounded buffer of the sender: at most one batch
+ * is held in memory and the next batch is only claimed once every campaign of the current one completed, so a burst of
+ * notifications waits in the table instead of opening an unbounded number of calls to the notification server. The
+ * recipients of the notifications are composed here, out of the transaction of the request that queued them.
+ */
+@Slf4j
+@Service
+@SuppressFBWarnings({"EI_EXPOSE_REP2"})
+public class NotificationDispatchService {
+
+    private static final String CAMPAIGN_METRIC_NAME = "vtms.notification.campaign";
+
+    @Value("${notification.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${notification.outbox.max-in-flight:4}")
+    private int maxInFlight;
+
+    private final NotificationOutboxService notificationOutboxService;
+
+    private final NotificationTemplateService notificationTemplateService;
+
+    private final NotificationComposeService notificationComposeService;
+
+    private final NotificationService notificationService;
+
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger inFlightCampaignCount = new AtomicInteger();
+
+    private final AtomicLong pendingNotificationCount = new AtomicLong();
+
+    public NotificationDispatchService(final NotificationOutboxService notificationOutboxService,
+            final NotificationTemplateService notificationTemplateService, final NotificationComposeService notificationComposeService,
+            final NotificationService notificationService, final MeterRegistry meterRegistry) {
+        this.notificationOutboxService = notificationOutboxService;
+        this.notificationTemplateService = notificationTemplateService;
+        this.notificationComposeService = notificationComposeService;
+        this.notificationService = notificationService;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(CAMPAIGN_METRIC_NAME + ".in_flight", inFlightCampaignCount, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("vtms.notification.outbox.pending", pendingNotificationCount, AtomicLong::get).register(meterRegistry);
+    }
+
+    /**
+     * Drains the notification outbox in batches. The notifications of a batch with the same template are coalesced into
+     * one campaign, the outcome of the campaign is recorded on all of them. At most
+     * max-in-flight campaigns are sent concurrently.
+     *
+     * @return The number of notifications sent.
+     */
+    public int dispatchNotificationOutbox() {
+        int sentCount = 0;
+
+        List<NotificationOutbox> notificationOutboxList;
+        do {
+            notificationOutboxList = notificationOutboxService.claimPendingNotificationOutbox();
+
+            final Map<NotificationTemplateEnum, List<NotificationOutbox>> mapOfTemplateWithNotificationOutboxList =
+                new EnumMap<>(NotificationTemplateEnum.class);
+            notificationOutboxList.forEach(notificationOutbox -> mapOfTemplateWithNotificationOutboxList
+                .computeIfAbsent(notificationOutbox.getNotificationTemplateEnum(), key -> new ArrayList<>()).add(notificationOutbox));
+
+            // The client blocks until the response, so the campaigns are sent on bounded elastic threads.
+            final Integer batchSentCount = Flux.fromIterable(mapOfTemplateWithNotificationOutboxList.entrySet())
+                .flatMap(entry -> Mono.fromCallable(() -> sendCampaign(entry.getKey(), entry.getValue()))
+                    .subscribeOn(Schedulers.boundedElastic()), maxInFlight)
+                .reduce(0, Integer::sum)
+                .block();
+
+            sentCount += batchSentCount != null ? batchSentCount : 0;
+        } while (notificationOutboxList.size() >= batchSize);
+
+        pendingNotificationCount.set(notificationOutboxService.countPendingNotificationOutbox());
+        return sentCount;
+    }
+
+    /**
+     * Composes notifications with the same template one by one, sends the composed ones in one campaign and records its
+     * outcome on them. A notification failing to compose is recorded as failed and retried on its own, without holding
+     * back the other notifications of the campaign.
+     *
+     * @param notificationTemplateEnum The notification template of the notifications.
+     * @param notificationOutboxList   The claimed notifications.
+     * @return The number of notifications sent, 0 if the campaign failed.
+     */
+    private int sendCampaign(final NotificationTemplateEnum notificationTemplateEnum,
+            final List<NotificationOutbox> notificationOutboxList) {
+
+        // The template configuration may be added later and picked up by the registry refresh, so a missing one is retried.
+        final Optional<NotificationTemplate> optionalNotificationTemplate = notificationTemplateService
+            .findByNotificationTemplate(notificationTemplateEnum);
+        if (optionalNotificationTemplate.isEmpty()) {
+            notificationOutboxService.markNotificationOutboxFailed(
+                notificationOutboxList.stream().map(NotificationOutbox::getNotificationOutboxId).toList(),
+                "Notification template " + notificationTemplateEnum + " not found");
+            return 0;
+        }
+
+        final List<String> notificationOutboxIds = new ArrayList<>();
+        final List<NotificationUser> users = new ArrayList<>();
+        notificationOutboxList.forEach(notificationOutbox -> {
+            try {
+                users.addAll(notificationComposeService.composeNotificationUsers(notificationTemplateEnum, List.of(notificationOutbox)));
+                notificationOutboxIds.add(notificationOutbox.getNotificationOutboxId());
+            } catch (final Exception e) {
+                log.error("Composition of notification {} {} failed : {}", notificationTemplateEnum,
+                    notificationOutbox.getNotificationOutboxId(), e.getMessage());
+                notificationOutboxService.markNotificationOutboxFailed(List.of(notificationOutbox.getNotificationOutboxId()),
+                    "Composition failed: " + e.getMessage());
+            }
+        });
+
+        if (notificationOutboxIds.isEmpty()) {
+            return 0;
+        }
+
+        // Notifications about removed visits, or without any recipient left, have nothing to send.
+        if (users.isEmpty()) {
+            notificationOutboxService.markNotificationOutboxSent(notificationOutboxIds);
+            return 0;
+        }
+
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        inFlightCampaignCount.incrementAndGet();
+        try {
+            notificationService.sendCampaign(NotificationCampaignModel.builder()
+                .templateId(optionalNotificationTemplate.get().getTemplateId())
+                .templateVersion(optionalNotificationTemplate.get().getVersion())
+                .channel(optionalNotificationTemplate.get().getNotificationChannelEnum())
+                .users(users)
+                .build());
+        } catch (final Exception e) {
+            sample.stop(meterRegistry.timer(CAMPAIGN_METRIC_NAME + ".send", "template", notificationTemplateEnum.name(),
+                "outcome", "failed"));
+            log.error("Campaign {} of {} notifications failed : {}", notificationTemplateEnum, notificationOutboxIds.size(),
+                e.getMessage());
+            notificationOutboxService.markNotificationOutboxFailed(notificationOutboxIds, e.getMessage());
+            return 0;
+        } finally {
+            inFlightCampaignCount.decrementAndGet();
+        }
+
+        sample.stop(meterRegistry.timer(CAMPAIGN_METRIC_NAME + ".send", "template", notificationTemplateEnum.name(), "outcome", "sent"));
+        notificationOutboxService.markNotificationOutboxSent(notificationOutboxIds);
+        return notificationOutboxIds.size();
+    }
+}
@@ -0,0 +1,156 @@
+package org.baps.api.vtms.services;
+
+import org.baps.api.vtms.enumerations.NotificationDeliveryStatusEnum;
+import org.baps.api.vtms.enumerations.NotificationTemplateEnum;
+import org.baps.api.vtms.models.entities.NotificationOutbox;
+import org.baps.api.vtms.repositories.NotificationOutboxRepository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+
+@Service
+@RequiredArgsConstructor
+@SuppressFBWarnings({"EI_EXPOSE_REP2"})
+public class NotificationOutboxService {
+
+    private static final int LAST_ERROR_MAX_LENGTH = 512;
+
+    @Value("${notification.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${notification.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${notification.outbox.initial-backoff:30s}")
+    private Duration initialBackoff;
+
+    @Value("${notification.outbox.max-backoff:1h}")
+    private Duration maxBackoff;
+
+    @Value("${notification.outbox.claim-timeout:5m}")
+    private Duration claimTimeout;
+
+    @Value("${notification.outbox.retention:7d}")
+    private Duration retention;
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
+    /**
+     * Writes a notification to the outbox, in the transaction of the caller when there is one, so the notification is
+     * only sent if the change it notifies about is committed. Only the visit and the parameters are written, the
+     * notification is composed by the dispatcher.
+     *
+     * @param notificationTemplateEnum The notification template of the notification.
+     * @param visitId                  The id of the visit the notification is about, null if it is not about one visit.
+     * @param parameters               The parameters of the notification, used by the dispatcher to compose it.
+     */
+    @Transactional
+    public void saveNotificationOutbox(final NotificationTemplateEnum notificationTemplateEnum, final String visitId,
+            final Map<String, String> parameters) {
+        notificationOutboxRepository.save(createNotificationOutbox(notificationTemplateEnum, visitId, parameters, LocalDateTime.now()));
+    }
+
+    /**
+     * Writes a notification without parameters per visit to the outbox, in the transaction of the caller when there is
+     * one.
+     *
+     * @param notificationTemplateEnum The notification template of the notifications.
+     * @param visitIds                 The ids of the visits the notifications are about.
+     */
+    @Transactional
+    public void saveNotificationOutbox(final NotificationTemplateEnum notificationTemplateEnum, final Collection<String> visitIds) {
+        final LocalDateTime now = LocalDateTime.now();
+        notificationOutboxRepository.saveAll(visitIds.stream()
+            .map(visitId -> createNotificationOutbox(notificationTemplateEnum, visitId, Map.of(), now))
+            .toList());
+    }
+
+    private NotificationOutbox createNotificationOutbox(final NotificationTemplateEnum notificationTemplateEnum, final String visitId,
+            final Map<String, String> parameters, final LocalDateTime now) {
+
+        final NotificationOutbox notificationOutbox = new NotificationOutbox();
+        notificationOutbox.setNotificationTemplateEnum(notificationTemplateEnum);
+        notificationOutbox.setVisitId(visitId);
+        notificationOutbox.setParameters(new HashMap<>(parameters));
+        notificationOutbox.setNotificationDeliveryStatusEnum(NotificationDeliveryStatusEnum.PENDING);
+        notificationOutbox.setNextAttemptAt(now);
+        notificationOutbox.setCreatedAt(now);
+        return notificationOutbox;
+    }
+
+    /**
+     * Claims the next batch of pending notifications due for an attempt. The attempt is counted and the next attempt is
+     * postponed by the claim timeout, so the notifications of a node stopped before recording the outcome are retried.
+     *
+     * @return The claimed notifications, at most the batch size, oldest first.
+     */
+    @Transactional
+    public List<NotificationOutbox> claimPendingNotificationOutbox() {
+        final LocalDateTime now = LocalDateTime.now();
+
+        final List<NotificationOutbox> notificationOutboxList = notificationOutboxRepository
+            .findPendingNotificationOutboxForUpdate(now, batchSize);
+
+        if (CollectionUtils.isNotEmpty(notificationOutboxList)) {
+            notificationOutboxRepository.updateNotificationOutboxClaimed(
+                notificationOutboxList.stream().map(NotificationOutbox::getNotificationOutboxId).toList(), now.plus(claimTimeout));
+        }
+        return notificationOutboxList;
+    }
+
+    /**
+     * Records notifications as sent.
+     *
+     * @param notificationOutboxIds The ids of the sent notifications.
+     */
+    @Transactional
+    public void markNotificationOutboxSent(final List<String> notificationOutboxIds) {
+        notificationOutboxRepository.updateNotificationOutboxSent(notificationOutboxIds, LocalDateTime.now());
+    }
+
+    /**
+     * Records a failed attempt of notifications. They are attempted again after an exponential backoff, or marked as
+     * failed once they reached the maximum number of attempts.
+     *
+     * @param notificationOutboxIds The ids of the notifications.
+     * @param error                 The error of the attempt.
+     */
+    @Transactional
+    public void markNotificationOutboxFailed(final List<String> notificationOutboxIds, final String error) {
+        notificationOutboxRepository.updateNotificationOutboxFailed(notificationOutboxIds, LocalDateTime.now(),
+            StringUtils.abbreviate(error, LAST_ERROR_MAX_LENGTH), maxAttempts, initialBackoff.toSeconds(), maxBackoff.toSeconds());
+    }
+
+    /**
+     * Counts the notifications waiting to be sent, including the ones waiting for a retry.
+     *
+     * @return The number of pending notifications.
+     */
+    @Transactional(readOnly = true)
+    public long countPendingNotificationOutbox() {
+        return notificationOutboxRepository.countByNotificationDeliveryStatusEnum(NotificationDeliveryStatusEnum.PENDING);
+    }
+
+    /**
+     * Deletes the notifications sent before the retention period.
+     *
+     * @return The number of deleted notifications.
+     */
+    @Transactional
+    public int purgeSentNotificationOutbox() {
+        return notificationOutboxRepository.deleteSentNotificationOutbox(LocalDateTime.now().minus(retention));
+    }
+}
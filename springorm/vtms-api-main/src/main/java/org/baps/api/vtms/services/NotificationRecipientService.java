@@ -0,0 +1,378 @@
+package org.baps.api.vtms.services;
+
+import static org.baps.api.vtms.enumerations.RoleEnum.RELATIONSHIP_MANAGER;
+
+import org.baps.api.vtms.constants.NotificationConstant;
+import org.baps.api.vtms.enumerations.NotificationTemplateEnum;
+import org.baps.api.vtms.enumerations.RoleEnum;
+import org.baps.api.vtms.enumerations.VisitorContactTypeEnum;
+import org.baps.api.vtms.mappers.PersonnelMapper;
+import org.baps.api.vtms.models.ChildLookupModel;
+import org.baps.api.vtms.models.entities.Personnel;
+import org.baps.api.vtms.models.entities.Visit;
+import org.baps.api.vtms.models.entities.VisitPersonnel;
+import org.baps.api.vtms.models.entities.VisitVisitor;
+import org.baps.api.vtms.models.notification.NotificationUser;
+import org.baps.api.vtms.models.notification.NotificationVisitModel;
+import org.baps.api.vtms.repositories.PersonnelRepository;
+import org.baps.api.vtms.repositories.VisitRepository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Resolves the recipients of a batch of notifications with the same template into ready notification users, with a
+ * bounded number of IN queries instead of one query per visit. The visitors and visit personnel are collections of the
+ * visits, they are initialized in batches by the Hibernate batch fetch size.
+ */
+@Service
+@RequiredArgsConstructor
+@SuppressFBWarnings({"EI_EXPOSE_REP2"})
+public class NotificationRecipientService {
+
+    // Identifiers bound per IN query, keeps the number of bind parameters of a large batch bounded.
+    private static final int IN_QUERY_SIZE = 500;
+
+    private final PersonnelRepository personnelRepository;
+
+    private final VisitRepository visitRepository;
+
+    private final LookupService lookupService;
+
+    private final PersonnelMapper personnelMapper;
+
+    /**
+     * Resolves the recipients of a batch of notifications with the same template. Every recipient gets the template
+     * variables of its notification, with its own name and role when the template uses them. The recipients of the whole
+     * batch are loaded with a bounded number of queries, whatever the number of visits.
+     *
+     * @param notificationTemplateEnum     The template of the notifications.
+     * @param notificationVisitModelList   The notifications, with their template variables.
+     * @return The notification users of the batch, in the order of the notifications.
+     */
+    @Transactional(readOnly = true)
+    public List<NotificationUser> findNotificationUsers(final NotificationTemplateEnum notificationTemplateEnum,
+                                                        final List<NotificationVisitModel> notificationVisitModelList) {
+
+        final List<NotificationUser> notificationUserList = new ArrayList<>();
+        if (notificationVisitModelList.isEmpty()) {
+            return notificationUserList;
+        }
+
+        switch (notificationTemplateEnum) {
+            case VISIT_APPROVAL_PENDING_EMAIL -> addSiteSuperAdminNotificationUsers(
+                notificationTemplateEnum, notificationVisitModelList, notificationUserList);
+
+            case VISIT_REQUEST_RECEIVED_EMAIL, VISIT_CONFIRMATION_EMAIL, VISIT_DECLINED_EMAIL, VISIT_CANCELLED_SEND_EMAIL_TO_VISITOR ->
+                notificationVisitModelList.forEach(notificationVisitModel ->
+                    addVisitorNotificationUsers(notificationTemplateEnum, notificationVisitModel, notificationUserList));
+
+            // Only the visits still having a feedback are notified.
+            case VISIT_FEEDBACK_EMAIL -> notificationVisitModelList.stream()
+                .filter(notificationVisitModel -> ObjectUtils.isNotEmpty(notificationVisitModel.getVisit().getVisitFeedback()))
+                .forEach(notificationVisitModel ->
+                    addVisitorNotificationUsers(notificationTemplateEnum, notificationVisitModel, notificationUserList));
+
+            case VISIT_CREATED_SUCCESSFULLY_EMAIL, VISIT_ACCEPTED_SUCCESSFULLY_EMAIL, VISIT_CANCELLED_BY_ADMIN_EMAIL ->
+                notificationVisitModelList.forEach(notificationVisitModel ->
+                    addVisitStaffNotificationUsers(notificationTemplateEnum, notificationVisitModel, notificationUserList));
+
+            case NEW_VISIT_ASSIGNED_EMAIL, VISIT_ASSIGNED_EMAIL, MEETING_WITH_GUEST_EMAIL -> addPersonnelNotificationUsers(
+                notificationTemplateEnum, notificationVisitModelList, notificationUserList);
+
+            case DAILY_VISIT_EMAIL -> addDailyVisitNotificationUsers(
+                notificationTemplateEnum, notificationVisitModelList, notificationUserList);
+
+            default -> {
+            }
+        }
+        return notificationUserList;
+    }
+
+    /**
+     * Resolves the personnel who created the visits of notifications, with one IN query per IN_QUERY_SIZE personnel.
+     *
+     * @param notificationVisitModelList The notifications.
+     */
+    @Transactional(readOnly = true)
+    public void resolveCreatedByPersonnel(final List<NotificationVisitModel> notificationVisitModelList) {
+
+        final Map<String, Personnel> createdByPersonnelMap = findCreatedByPersonnelMap(notificationVisitModelList.stream()
+            .map(NotificationVisitModel::getVisit).filter(ObjectUtils::isNotEmpty).toList());
+
+        notificationVisitModelList.stream()
+            .filter(notificationVisitModel -> notificationVisitModel.getVisit() != null
+                && StringUtils.isNotBlank(notificationVisitModel.getVisit().getCreatedBy()))
+            .forEach(notificationVisitModel -> notificationVisitModel.setCreatedByPersonnel(
+                createdByPersonnelMap.get(notificationVisitModel.getVisit().getCreatedBy())));
+    }
+
+    /**
+     * Adds the super admin personnel of the site of each notification. The super admin personnel of all the sites of the
+     * batch are loaded with one query.
+     *
+     * @param notificationTemplateEnum   The template of the notifications.
+     * @param notificationVisitModelList The notifications.
+     * @param notificationUserList       The notification users to add to.
+     */
+    private void addSiteSuperAdminNotificationUsers(final NotificationTemplateEnum notificationTemplateEnum,
+                                                    final List<NotificationVisitModel> notificationVisitModelList,
+                                                    final List<NotificationUser> notificationUserList) {
+
+        final Map<String, List<Personnel>> mapOfSiteUUCodeWithPersonnelList = findPersonnelByRoleAndSites(RoleEnum.SUPER_ADMIN,
+            notificationVisitModelList.stream()
+                .map(notificationVisitModel -> notificationVisitModel.getParameters().get(NotificationConstant.PARAMETER_SITE_UUCODE))
+                .filter(StringUtils::isNotBlank)
+                .toList());
+
+        notificationVisitModelList.forEach(notificationVisitModel -> mapOfSiteUUCodeWithPersonnelList
+            .getOrDefault(notificationVisitModel.getParameters().get(NotificationConstant.PARAMETER_SITE_UUCODE), List.of())
+            .forEach(personnel -> notificationUserList.add(
+                createNotificationUser(notificationTemplateEnum, notificationVisitModel, personnelMapper.mapEmailByPersonnel(personnel),
+                    null, null))));
+    }
+
+    /**
+     * Adds the primary and the secondary visitor of the visit of a notification, primary visitor first.
+     *
+     * @param notificationTemplateEnum The template of the notification.
+     * @param notificationVisitModel   The notification.
+     * @param notificationUserList     The notification users to add to.
+     */
+    private void addVisitorNotificationUsers(final NotificationTemplateEnum notificationTemplateEnum,
+                                             final NotificationVisitModel notificationVisitModel,
+                                             final List<NotificationUser> notificationUserList) {
+
+        List.of(VisitorContactTypeEnum.PRIMARY, VisitorContactTypeEnum.SECONDARY).forEach(visitorContactTypeEnum ->
+            notificationVisitModel.getVisitVisitor(visitorContactTypeEnum)
+                .map(VisitVisitor::getVisitor)
+                .ifPresent(visitor -> notificationUserList.add(createNotificationUser(notificationTemplateEnum, notificationVisitModel,
+                    visitor.getEmail(), visitor.getFirstName() + " " + visitor.getLastName(), null))));
+    }
+
+    /**
+     * Adds the personnel who created the visit of a notification and its staff: the relationship manager of a created
+     * visit, the visit admin of an accepted visit and all the visit personnel of a cancelled visit.
+     *
+     * @param notificationTemplateEnum The template of the notification.
+     * @param notificationVisitModel   The notification.
+     * @param notificationUserList     The notification users to add to.
+     */
+    private void addVisitStaffNotificationUsers(final NotificationTemplateEnum notificationTemplateEnum,
+                                                final NotificationVisitModel notificationVisitModel,
+                                                final List<NotificationUser> notificationUserList) {
+
+        final List<Personnel> personnelList = new ArrayList<>();
+
+        // Created By
+        notificationVisitModel.getCreatedByPersonnel().ifPresent(personnelList::add);
+
+        switch (notificationTemplateEnum) {
+            case VISIT_CREATED_SUCCESSFULLY_EMAIL -> notificationVisitModel.getVisitPersonnel(RELATIONSHIP_MANAGER)
+                .map(VisitPersonnel::getPersonnel).ifPresent(personnelList::add);
+
+            case VISIT_ACCEPTED_SUCCESSFULLY_EMAIL -> notificationVisitModel.getVisitPersonnel(RoleEnum.VISIT_ADMIN)
+                .map(VisitPersonnel::getPersonnel).ifPresent(personnelList::add);
+
+            default -> {
+                if (CollectionUtils.isNotEmpty(notificationVisitModel.getVisit().getVisitPersonnelList())) {
+                    notificationVisitModel.getVisit().getVisitPersonnelList()
+                        .forEach(visitPersonnel -> personnelList.add(visitPersonnel.getPersonnel()));
+                }
+            }
+        }
+
+        personnelList.stream().filter(ObjectUtils::isNotEmpty).forEach(personnel -> notificationUserList.add(
+            createNotificationUser(notificationTemplateEnum, notificationVisitModel, personnelMapper.mapEmailByPersonnel(personnel),
+                getPersonnelName(personnel), null)));
+    }
+
+    /**
+     * Adds the personnel named by the parameters of each notification, with the role named by its parameters. The
+     * personnel of the batch are loaded together, a personnel removed since the notification was queued is skipped.
+     *
+     * @param notificationTemplateEnum   The template of the notifications.
+     * @param notificationVisitModelList The notifications.
+     * @param notificationUserList       The notification users to add to.
+     */
+    private void addPersonnelNotificationUsers(final NotificationTemplateEnum notificationTemplateEnum,
+                                               final List<NotificationVisitModel> notificationVisitModelList,
+                                               final List<NotificationUser> notificationUserList) {
+
+        final Map<String, Personnel> personnelMap = findPersonnelMapByPersonnelIds(notificationVisitModelList.stream()
+            .map(notificationVisitModel -> notificationVisitModel.getParameters().get(NotificationConstant.PARAMETER_PERSONNEL_ID))
+            .filter(StringUtils::isNotBlank)
+            .toList());
+
+        notificationVisitModelList.forEach(notificationVisitModel -> {
+
+            final Personnel personnel =
+                personnelMap.get(notificationVisitModel.getParameters().get(NotificationConstant.PARAMETER_PERSONNEL_ID));
+
+            if (personnel != null) {
+                notificationUserList.add(createNotificationUser(notificationTemplateEnum, notificationVisitModel,
+                    personnelMapper.mapEmailByPersonnel(personnel), getPersonnelName(personnel),
+                    notificationVisitModel.getParameters().get(NotificationConstant.PARAMETER_ROLE_NAME)));
+            }
+        });
+    }
+
+    /**
+     * Adds the recipients of the daily visit list, configured in the DAILY_VISIT_EMAIL lookup, to every notification.
+     *
+     * @param notificationTemplateEnum   The template of the notifications.
+     * @param notificationVisitModelList The notifications.
+     * @param notificationUserList       The notification users to add to.
+     */
+    private void addDailyVisitNotificationUsers(final NotificationTemplateEnum notificationTemplateEnum,
+                                                final List<NotificationVisitModel> notificationVisitModelList,
+                                                final List<NotificationUser> notificationUserList) {
+
+        // fetch the list of emails of the DAILY_VISIT_EMAIL lookup, to whom we want to send the visit list.
+        final List<String> emailList = lookupService.findLookupByKey(notificationTemplateEnum.name()).getChildLookupModelList()
+            .stream().map(ChildLookupModel::getKey).toList();
+
+        notificationVisitModelList.forEach(notificationVisitModel -> emailList.forEach(email ->
+            notificationUserList.add(createNotificationUser(notificationTemplateEnum, notificationVisitModel, email, null, null))));
+    }
+
+    /**
+     * Creates the notification user of a recipient, with the template variables of its notification and its own name and
+     * role when the template uses them.
+     *
+     * @param notificationTemplateEnum The template of the notification.
+     * @param notificationVisitModel   The notification.
+     * @param email                    The email of the recipient.
+     * @param recipientName            The name of the recipient, may be null.
+     * @param roleName                 The name of the role of the recipient, may be null.
+     * @return The notification user.
+     */
+    private NotificationUser createNotificationUser(final NotificationTemplateEnum notificationTemplateEnum,
+                                                    final NotificationVisitModel notificationVisitModel, final String email,
+                                                    final String recipientName, final String roleName) {
+
+        final Map<String, String> bodyVarsMap = new HashMap<>(notificationVisitModel.getBodyVars());
+
+        if (recipientName != null && notificationTemplateEnum.getBodyVars().contains(NotificationConstant.RECIPIENT_NAME)) {
+            bodyVarsMap.put(NotificationConstant.RECIPIENT_NAME, recipientName);
+        }
+
+        if (roleName != null && notificationTemplateEnum.getBodyVars().contains(NotificationConstant.ROLE_NAME)) {
+            bodyVarsMap.put(NotificationConstant.ROLE_NAME, roleName);
+        }
+
+        return NotificationUser.builder()
+            .email(email)
+            .emailType(NotificationConstant.EMAIL_TYPE_PRIMARY)
+            .titleVars(notificationVisitModel.getTitleVars())
+            .bodyVars(bodyVarsMap)
+            .build();
+    }
+
+    private String getPersonnelName(final Personnel personnel) {
+        return personnel.getFirstName() + " " + personnel.getLastName();
+    }
+
+    /**
+     * Retrieves the personnel who created the visits.
+     *
+     * @param visits The visits.
+     * @return The personnel by personnel id, without the visits created by a visitor or a removed personnel.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Personnel> findCreatedByPersonnelMap(final Collection<Visit> visits) {
+
+        final Set<String> personnelIds = new LinkedHashSet<>();
+        visits.stream()
+            .map(Visit::getCreatedBy)
+            .filter(StringUtils::isNotBlank)
+            .forEach(personnelIds::add);
+
+        return findPersonnelMapByPersonnelIds(personnelIds);
+    }
+
+    /**
+     * Retrieves personnel by their personnel ids, with one IN query per IN_QUERY_SIZE ids.
+     *
+     * @param personnelIds The personnel ids.
+     * @return The personnel found by personnel id.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Personnel> findPersonnelMapByPersonnelIds(final Collection<String> personnelIds) {
+
+        final Map<String, Personnel> personnelMap = new HashMap<>();
+        partition(personnelIds).forEach(personnelIdChunk -> personnelRepository.findAllByPersonnelIdIn(personnelIdChunk)
+            .forEach(personnel -> personnelMap.put(personnel.getPersonnelId(), personnel)));
+        return personnelMap;
+    }
+
+    /**
+     * Retrieves visits by their visit ids, with one IN query per IN_QUERY_SIZE ids. The visitors and visit personnel of
+     * the visits are initialized in batches on first use.
+     *
+     * @param visitIds The visit ids.
+     * @return The visits found by visit id, without the removed visits.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Visit> findVisitMapByVisitIds(final Collection<String> visitIds) {
+
+        final Map<String, Visit> visitMap = new HashMap<>();
+        partition(visitIds).forEach(visitIdChunk -> visitRepository.findAllById(visitIdChunk)
+            .forEach(visit -> visitMap.put(visit.getVisitId(), visit)));
+        return visitMap;
+    }
+
+    /**
+     * Retrieves the personnel having a role on any of a batch of sites, with one IN query per IN_QUERY_SIZE sites.
+     *
+     * @param roleEnum    The role of the personnel.
+     * @param siteUUCodes The unique codes of the sites.
+     * @return The personnel having the role by site unique code, without the sites without such personnel.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, List<Personnel>> findPersonnelByRoleAndSites(final RoleEnum roleEnum, final Collection<String> siteUUCodes) {
+
+        final Map<String, Map<String, Personnel>> mapOfSiteUUCodeWithPersonnelMap = new HashMap<>();
+        partition(siteUUCodes).forEach(siteUUCodeChunk -> personnelRepository
+            .findAllPersonnelRoleByRoleUucodeAndSiteUuCodeIn(roleEnum.name(), siteUUCodeChunk)
+            .forEach(personnelRole -> mapOfSiteUUCodeWithPersonnelMap
+                .computeIfAbsent(personnelRole.getSite().getUuCode(), key -> new LinkedHashMap<>())
+                .putIfAbsent(personnelRole.getPersonnel().getPersonnelId(), personnelRole.getPersonnel())));
+
+        final Map<String, List<Personnel>> mapOfSiteUUCodeWithPersonnelList = new HashMap<>();
+        mapOfSiteUUCodeWithPersonnelMap.forEach((siteUUCode, personnelMap) ->
+            mapOfSiteUUCodeWithPersonnelList.put(siteUUCode, new ArrayList<>(personnelMap.values())));
+        return mapOfSiteUUCodeWithPersonnelList;
+    }
+
+    /**
+     * Splits identifiers into chunks of at most IN_QUERY_SIZE distinct identifiers.
+     *
+     * @param ids The identifiers.
+     * @return The chunks of identifiers.
+     */
+    private static List<Set<String>> partition(final Collection<String> ids) {
+
+        final List<String> idList = new ArrayList<>(new LinkedHashSet<>(ids));
+        final List<Set<String>> idChunkList = new ArrayList<>();
+        for (int fromIndex = 0; fromIndex < idList.size(); fromIndex += IN_QUERY_SIZE) {
+            idChunkList.add(new LinkedHashSet<>(idList.subList(fromIndex, Math.min(fromIndex + IN_QUERY_SIZE, idList.size()))));
+        }
+        return idChunkList;
+    }
+}
@@ -3,5 +3,11 @@ package org.baps.api.vtms.services;
 import org.baps.api.vtms.models.notification.NotificationCampaignModel;
 
 public interface NotificationService {
+
+    /**
+     * Sends a notification campaign, failures are thrown so the caller can retry.
+     *
+     * @param notificationCampaignModel The model containing the notification campaign details to be sent.
+     */
     void sendCampaign(NotificationCampaignModel notificationCampaignModel);
 }
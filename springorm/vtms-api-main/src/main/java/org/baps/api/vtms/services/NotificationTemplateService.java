@@ -6,18 +6,76 @@ import org.baps.api.vtms.repositories.NotificationTemplateRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
+/**
+ * In-memory registry of the notification template configurations, keyed by notification template. The registry is
+ * loaded at startup and replaced as a whole on every refresh, so sending a notification reads the configuration
+ * without any query.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@SuppressFBWarnings({"EI_EXPOSE_REP2"})
 public class NotificationTemplateService {
 
     private final NotificationTemplateRepository notificationTemplateRepository;
-    
+
+    private volatile Map<NotificationTemplateEnum, NotificationTemplate> notificationTemplateMap;
+
+    /**
+     * Loads the registry once the application is started and reports the notification templates without configuration.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadNotificationTemplates() {
+        try {
+            refreshNotificationTemplates();
+
+            final Set<NotificationTemplateEnum> missingNotificationTemplates = getMissingNotificationTemplates();
+            if (!missingNotificationTemplates.isEmpty()) {
+                log.error("NotificationTemplate not found for notificationTemplateEnum {}, these notifications will not be sent.",
+                    missingNotificationTemplates);
+            }
+        } catch (final Exception e) {
+            // The registry is loaded on first use instead.
+            log.error("Notification templates could not be loaded at startup : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reloads all the notification template configurations.
+     *
+     * @return The number of notification templates with a configuration.
+     */
+    public synchronized int refreshNotificationTemplates() {
+
+        final Map<NotificationTemplateEnum, NotificationTemplate> loadedNotificationTemplateMap =
+            new EnumMap<>(NotificationTemplateEnum.class);
+
+        // A template configured more than once keeps its first row, as the previous single row lookup did not define one.
+        notificationTemplateRepository.findAll().stream()
+            .filter(notificationTemplate -> notificationTemplate.getNotificationTemplateEnum() != null)
+            .forEach(notificationTemplate ->
+                loadedNotificationTemplateMap.putIfAbsent(notificationTemplate.getNotificationTemplateEnum(), notificationTemplate));
+
+        notificationTemplateMap = Collections.unmodifiableMap(loadedNotificationTemplateMap);
+
+        log.debug("Notification templates loaded: {}", loadedNotificationTemplateMap.keySet());
+
+        return loadedNotificationTemplateMap.size();
+    }
+
     /**
      * Retrieve a notification template configuration based on the specified notification template.
      *
@@ -25,17 +83,35 @@ public class NotificationTemplateService {
      * @return Optional containing the matching notification template configuration if found, otherwise empty.
      */
     public Optional<NotificationTemplate> findByNotificationTemplate(final NotificationTemplateEnum notificationTemplateEnum) {
-        
-        // Retrieve the notification template configuration from the repository.
-        final Optional<NotificationTemplate> optionalNotificationTemplate = notificationTemplateRepository
-                .findByNotificationTemplateEnum(notificationTemplateEnum);
-        
-        // Log an error if the configuration is not found.
-        if (optionalNotificationTemplate.isEmpty()) {
-            log.error("NotificationTemplate with notificationTemplateEnum {} not found.",
-                    notificationTemplateEnum);
+        return Optional.ofNullable(getNotificationTemplateMap().get(notificationTemplateEnum));
+    }
+
+    /**
+     * Retrieves the notification templates with a configuration.
+     *
+     * @return The set of loaded notification templates.
+     */
+    public Set<NotificationTemplateEnum> getLoadedNotificationTemplates() {
+        final Map<NotificationTemplateEnum, NotificationTemplate> currentNotificationTemplateMap = getNotificationTemplateMap();
+        return currentNotificationTemplateMap.isEmpty()
+            ? EnumSet.noneOf(NotificationTemplateEnum.class) : EnumSet.copyOf(currentNotificationTemplateMap.keySet());
+    }
+
+    /**
+     * Retrieves the notification templates without a configuration.
+     *
+     * @return The set of missing notification templates.
+     */
+    public Set<NotificationTemplateEnum> getMissingNotificationTemplates() {
+        return EnumSet.complementOf(EnumSet.copyOf(getLoadedNotificationTemplates()));
+    }
+
+    private Map<NotificationTemplateEnum, NotificationTemplate> getNotificationTemplateMap() {
+        final Map<NotificationTemplateEnum, NotificationTemplate> currentNotificationTemplateMap = notificationTemplateMap;
+        if (currentNotificationTemplateMap != null) {
+            return currentNotificationTemplateMap;
         }
-        
-        return optionalNotificationTemplate;
+        refreshNotificationTemplates();
+        return notificationTemplateMap;
     }
 }
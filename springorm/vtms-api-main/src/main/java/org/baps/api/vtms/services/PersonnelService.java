@@ -4,6 +4,7 @@ import org.baps.api.vtms.common.utils.Translator;
 import org.baps.api.vtms.exceptions.DataNotFoundException;
 import org.baps.api.vtms.exceptions.DataValidationException;
 import org.baps.api.vtms.mappers.PersonnelMapper;
+import org.baps.api.vtms.models.AuthenticatedPersonnel;
 import org.baps.api.vtms.models.PersonnelModel;
 import org.baps.api.vtms.models.entities.Personnel;
 import org.baps.api.vtms.repositories.PersonnelRepository;
@@ -184,4 +185,21 @@ public class PersonnelService {
         }
         throw new DataValidationException(translator.toLocal("token.is_required"));
     }
+
+    /**
+     * Retrieve the principal of the currently authenticated personnel, with its site roles and permissions, without
+     * reading the personnel from the database.
+     *
+     * @return The AuthenticatedPersonnel set in the SecurityContext by the AuthFilter.
+     * @throws DataValidationException If no personnel is authenticated.
+     */
+    public AuthenticatedPersonnel getAuthenticatedPersonnel() {
+        final var authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (ObjectUtils.isNotEmpty(authentication)
+                && authentication.getPrincipal() instanceof AuthenticatedPersonnel authenticatedPersonnel) {
+            return authenticatedPersonnel;
+        }
+        throw new DataValidationException(translator.toLocal("token.is_required"));
+    }
 }
@@ -3,11 +3,11 @@ package org.baps.api.vtms.services;
 import org.baps.api.vtms.common.utils.CommonUtils;
 import org.baps.api.vtms.common.utils.Translator;
 import org.baps.api.vtms.common.utils.ValidationUtils;
+import org.baps.api.vtms.constants.SpecificationConstants;
 import org.baps.api.vtms.enumerations.PermissionEnum;
 import org.baps.api.vtms.enumerations.RoleEnum;
 import org.baps.api.vtms.enumerations.RoleTagEnum;
 import org.baps.api.vtms.enumerations.ServiceTypeEnum;
-import org.baps.api.vtms.enumerations.TourSlotStageEnum;
 import org.baps.api.vtms.enumerations.VisitStageEnum;
 import org.baps.api.vtms.enumerations.VisitTypeEnum;
 import org.baps.api.vtms.enumerations.VisitorContactTypeEnum;
@@ -20,7 +20,8 @@ import org.baps.api.vtms.models.CreatePreBookedVisitModel;
 import org.baps.api.vtms.models.PreBookedVisitBasicModel;
 import org.baps.api.vtms.models.PreBookedVisitModel;
 import org.baps.api.vtms.models.PreBookedVisitorModel;
-import org.baps.api.vtms.models.TourSlotWithVisitorCountModel;
+import org.baps.api.vtms.models.TourSlotReservationModel;
+import org.baps.api.vtms.models.base.KeysetPage;
 import org.baps.api.vtms.models.base.PaginatedResponse;
 import org.baps.api.vtms.models.entities.Personnel;
 import org.baps.api.vtms.models.entities.TourSlot;
@@ -29,13 +30,13 @@ import org.baps.api.vtms.models.entities.VisitPublicFeedback;
 import org.baps.api.vtms.models.entities.VisitService;
 import org.baps.api.vtms.models.entities.VisitVisitor;
 import org.baps.api.vtms.models.entities.Visitor;
-import org.baps.api.vtms.repositories.TourSlotRepository;
 import org.baps.api.vtms.repositories.VisitRepository;
 import org.baps.api.vtms.repositories.specifications.VisitSpecification;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
@@ -43,7 +44,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -64,6 +64,8 @@ public class PreBookedVisitService {
 
     private final TourSlotService tourSlotService;
 
+    private final TourSlotReservationService tourSlotReservationService;
+
     private final ServiceTemplateService serviceTemplateService;
 
     private final PreBookedVisitMapper preBookedVisitMapper;
@@ -72,8 +74,6 @@ public class PreBookedVisitService {
 
     private final VisitRepository visitRepository;
 
-    private final TourSlotRepository tourSlotRepository;
-
     private final VisitorMapper visitorMapper;
 
     private final VisitPersonnelMapper visitPersonnelMapper;
@@ -98,6 +98,7 @@ public class PreBookedVisitService {
      * @return A CreatePreBookedVisitModel representing the newly created pre-booked visit.
      * @throws DataValidationException If the specified tour slot is not available for the requested number of visitors.
      */
+    @Transactional
     public CreatePreBookedVisitModel createPreBookedVisit(final CreatePreBookedVisitModel createPreBookedVisitModel,
                                                           final String siteUUCode) {
 
@@ -110,25 +111,16 @@ public class PreBookedVisitService {
         return preBookedVisitMapper.visitToCreatePreBookedVisitModel(savedVisit);
     }
 
-    @Transactional
     private Visit savePreBookedVisit(final CreatePreBookedVisitModel createPreBookedVisitModel,
             final String siteUUCode) {
-        // Check tour slot availability
-        final var tourSlotAvailableErrorSet = tourSlotService.checkTourSlotAvailable(
-                createPreBookedVisitModel.getTourSlotId(), createPreBookedVisitModel.getTotalVisitors(), siteUUCode);
-
-        // If slot is not available, throw a DataValidationException
-        if (CollectionUtils.isNotEmpty(tourSlotAvailableErrorSet)) {
-            throw new DataValidationException(String.join(", ", tourSlotAvailableErrorSet));
-        }
 
         // Create a new Visit and set its properties
         final var saveVisit = preBookedVisitMapper.createPreBookedVisitModellToVisit(createPreBookedVisitModel);
         
-        countryService.findCountryById(createPreBookedVisitModel.getPrimaryVisitorModel().getCountry());
+        countryService.validateCountryId(createPreBookedVisitModel.getPrimaryVisitorModel().getCountry());
         
         if (StringUtils.isNoneBlank(createPreBookedVisitModel.getPrimaryVisitorModel().getState())) {
-            stateService.findStateById(createPreBookedVisitModel.getPrimaryVisitorModel().getState());
+            stateService.validateStateId(createPreBookedVisitModel.getPrimaryVisitorModel().getState());
         }
         
         saveVisit.setSite(siteService.findByUUCode(siteUUCode));
@@ -140,6 +132,10 @@ public class PreBookedVisitService {
         saveVisit.setEndDateTime(existingTourSlot.getEndDateTime());
         saveVisit.setTourSlot(existingTourSlot);
         saveVisit.setVisitStageEnum(VisitStageEnum.ACCEPTED);
+
+        // Reserve the guests in the tour slot, if slot is not available, throw a DataValidationException
+        reserveTourSlotGuestSize(existingTourSlot, createPreBookedVisitModel.getTotalVisitors(), siteUUCode);
+
         saveVisit.setRequestNumber(visitService.getNextVisitNumber(saveVisit.getVisitTypeEnum(), siteUUCode));
 
         // Map primary visitor and add to the Visit
@@ -167,36 +163,28 @@ public class PreBookedVisitService {
             });
         }
 
-        calculateGuestSizeAndUpdateTourSlotStatus(existingTourSlot, createPreBookedVisitModel.getTotalVisitors(), siteUUCode);
-
         visitRepository.save(saveVisit);
         
         return saveVisit;
     }
     
     /**
-     * Calculates the total number of guests for a given tour slot, updates the booking status of the tour slot,
-     * and sets the appropriate tour slot stage based on the number of booked guests.
+     * Reserves the given number of guests in the tour slot. The reservation is made with a single conditional update,
+     * which also moves the tour slot to the BOOKED or PARTIALLY stage, so concurrent bookings can not overbook the slot.
      *
-     * @param existingTourSlot The existing TourSlot entity for which the guest size and status will be updated.
-     * @param totalVisitor The total number of visitors to be added or considered in the calculation.
-     * @param siteUUCode The unique identifier of the site associated with the tour slot.
+     * @param existingTourSlot The tour slot in which the guests are reserved.
+     * @param totalVisitor     The total number of visitors to reserve.
+     * @param siteUUCode       The unique identifier of the site associated with the tour slot.
+     * @throws DataValidationException If the tour slot is not bookable or does not have enough guest size available.
      */
-    @Transactional(readOnly = true)
-    private void calculateGuestSizeAndUpdateTourSlotStatus(final TourSlot existingTourSlot, final int totalVisitor,
-            final String siteUUCode) {
+    private void reserveTourSlotGuestSize(final TourSlot existingTourSlot, final int totalVisitor, final String siteUUCode) {
 
-        // Calculate the total number of visitors already booked for this tour slot.
-        var bookedSlotGuestSize = tourSlotRepository.countBookedVisitorCountByTourSlotIds(
-                Set.of(existingTourSlot.getTourSlotId()), siteUUCode).stream()
-            .mapToLong(TourSlotWithVisitorCountModel::getBookedVisitorCount).sum();
+        final TourSlotReservationModel tourSlotReservationModel = tourSlotReservationService.reserveGuestSize(
+                existingTourSlot.getTourSlotId(), totalVisitor, siteUUCode);
 
-        bookedSlotGuestSize = bookedSlotGuestSize + totalVisitor;
-        
-        if (existingTourSlot.getMaxGuestSize() == bookedSlotGuestSize) {
-            existingTourSlot.setTourSlotStageEnum(TourSlotStageEnum.BOOKED);
-        } else if (existingTourSlot.getMaxGuestSize() / 2 <= bookedSlotGuestSize) {
-            existingTourSlot.setTourSlotStageEnum(TourSlotStageEnum.PARTIALLY);
+        if (!tourSlotReservationModel.isReserved()) {
+            throw new DataValidationException(
+                tourSlotReservationService.getReservationErrorMessage(tourSlotReservationModel, totalVisitor));
         }
     }
 
@@ -241,12 +229,8 @@ public class PreBookedVisitService {
 
             wrapperObject.saveOrUpdateVisit.setSite(siteService.findByUUCode(siteUUCode));
 
-            final var tourSlotAvailableErrorSet = tourSlotService.checkTourSlotAvailable(
-                    preBookedVisitModel.getTourSlotId(), preBookedVisitModel.getTotalVisitors(), siteUUCode);
-
-            if (CollectionUtils.isNotEmpty(tourSlotAvailableErrorSet)) {
-                throw new DataValidationException(String.join(", ", tourSlotAvailableErrorSet));
-            }
+            // Reserve the guests in the tour slot, if slot is not available, throw a DataValidationException
+            reserveTourSlotGuestSize(existingTourSlot, preBookedVisitModel.getTotalVisitors(), siteUUCode);
 
             // Set the start and end date times, and the tour slot for the visit
             wrapperObject.saveOrUpdateVisit.setStartDateTime(existingTourSlot.getStartDateTime());
@@ -276,8 +260,6 @@ public class PreBookedVisitService {
                     });
                 }
             }
-
-            calculateGuestSizeAndUpdateTourSlotStatus(existingTourSlot, preBookedVisitModel.getTotalVisitors(), siteUUCode);
         }
         tourSlotService.saveTourSlotAndVisitList(List.of(wrapperObject.saveOrUpdateVisit), existingTourSlot);
         // Map the saved Visit instance back to a VisitModel and return it
@@ -358,12 +340,14 @@ public class PreBookedVisitService {
      * @param tourSlotId            The ID of the tour slot to filter visits by.
      * @param siteUUCode            The unique code associated with the site for filtering visits.
      * @param selfAssignVisit       Flag indicating whether to retrieve self-assigned visits only.
+     * @param cursor                The cursor of the next page for keyset pagination, blank for its first page.
+     * @param includeTotalCount     Flag indicating whether to count the total number of pre-booked visits in keyset pagination.
      * @return A paginated response containing a list of pre-booked visits based on the provided filters.
      */
     @Transactional(readOnly = true)
     public PaginatedResponse<List<PreBookedVisitBasicModel>> getPaginatedPreBookedVisitsWithFilters(
         final Integer pageNo, final Integer pageSize, final String visitStage, @Nullable final String search, final String tourSlotId, 
-        final String siteUUCode, final boolean selfAssignVisit) {
+        final String siteUUCode, final boolean selfAssignVisit, @Nullable final String cursor, final boolean includeTotalCount) {
 
         final String personnelId;
 
@@ -395,8 +379,20 @@ public class PreBookedVisitService {
             visitSpecification.buildVisitSpecification(null, null, search, visitStageEnumList, null, null, null, personnelId,
                 VisitTypeEnum.TOUR, tourSlotId, siteUUCode, null);
 
+        // A cursor, even blank, switches to keyset pagination.
+        if (cursor != null) {
+            final KeysetPage<Visit> existingVisitKeysetPage = visitRepository.findKeysetPage(Visit.class, specification, cursor,
+                pageSize, null, SpecificationConstants.CREATED_AT, SpecificationConstants.VISIT_ID, Sort.Direction.DESC,
+                Visit::getCreatedAt, Visit::getVisitId, Visit.LIST_ENTITY_GRAPH);
+
+            final Long totalCount = includeTotalCount ? visitRepository.count(specification) : null;
+
+            return CommonUtils.calculateKeysetPaginationAndPrepareResponse(existingVisitKeysetPage, totalCount, pageSize,
+                preBookedVisitMapper.visitListToPreBookedVisitBasicModelList(existingVisitKeysetPage.getContent()));
+        }
+
         // Retrieve a paginated list of existing visits
-        final Page<Visit> existingVisitPage = visitRepository.findAll(specification, PageRequest.of(pageNo - 1, pageSize));
+        final Page<Visit> existingVisitPage = visitRepository.findListPage(specification, PageRequest.of(pageNo - 1, pageSize));
 
         List<PreBookedVisitBasicModel> preBookedVisitBasicModelList = new ArrayList<>();
 
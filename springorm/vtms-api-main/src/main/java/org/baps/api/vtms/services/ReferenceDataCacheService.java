@@ -0,0 +1,79 @@
+package org.baps.api.vtms.services;
+
+import org.baps.api.vtms.enumerations.ReferenceDataCacheEnum;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Application wide near-cache of reference data: sites, roles, service templates, lookups, countries and states.
+ * It only holds immutable values, such as the id of a natural key or a set of valid ids, never entities. The entities
+ * are then read by id, which is served by the persistence context when the same entity is read again in a
+ * transaction. Reference data has no write path in this application, entries expire after the time to live and can
+ * be evicted explicitly when the data is changed. Every cache is a bounded Caffeine cache, concurrent loads of a
+ * missing key wait for a single load.
+ */
+@Service
+public class ReferenceDataCacheService {
+
+    private final Map<ReferenceDataCacheEnum, Cache<Object, Object>> cacheMap = new EnumMap<>(ReferenceDataCacheEnum.class);
+
+    public ReferenceDataCacheService(@Value("${reference_data_cache.maximum-size:1000}") final int maximumSize,
+            @Value("${reference_data_cache.time-to-live:5m}") final Duration timeToLive) {
+        for (final ReferenceDataCacheEnum referenceDataCacheEnum : ReferenceDataCacheEnum.values()) {
+            cacheMap.put(referenceDataCacheEnum, Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build());
+        }
+    }
+
+    /**
+     * Retrieves a value from a cache, loading and caching it when it is missing or expired. Null values are not
+     * cached, so missing reference data is looked up again on the next call.
+     *
+     * @param <T>                    The type of the value, it must be immutable.
+     * @param referenceDataCacheEnum The cache of the value.
+     * @param key                    The key of the value.
+     * @param loader                 Loads the value when it is not cached.
+     * @return The cached or loaded value, null if the loader returned null.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(final ReferenceDataCacheEnum referenceDataCacheEnum, final Object key, final Supplier<T> loader) {
+        return (T) cacheMap.get(referenceDataCacheEnum).get(key, missingKey -> loader.get());
+    }
+
+    /**
+     * Evicts a value from a cache, to be called when the reference data of the key is changed.
+     *
+     * @param referenceDataCacheEnum The cache of the value.
+     * @param key                    The key of the value.
+     */
+    public void evict(final ReferenceDataCacheEnum referenceDataCacheEnum, final Object key) {
+        cacheMap.get(referenceDataCacheEnum).invalidate(key);
+    }
+
+    /**
+     * Evicts all the values of a cache.
+     *
+     * @param referenceDataCacheEnum The cache to clear.
+     */
+    public void evictAll(final ReferenceDataCacheEnum referenceDataCacheEnum) {
+        cacheMap.get(referenceDataCacheEnum).invalidateAll();
+    }
+
+    /**
+     * Evicts all the values of all the caches.
+     */
+    public void evictAll() {
+        cacheMap.values().forEach(Cache::invalidateAll);
+    }
+}
@@ -1,6 +1,7 @@
 package org.baps.api.vtms.services;
 
 import org.baps.api.vtms.common.utils.Translator;
+import org.baps.api.vtms.enumerations.ReferenceDataCacheEnum;
 import org.baps.api.vtms.enumerations.RoleEnum;
 import org.baps.api.vtms.enumerations.RoleTagEnum;
 import org.baps.api.vtms.exceptions.DataNotFoundException;
@@ -36,6 +37,8 @@ public class RoleService {
 
     private final RoleRepository roleRepository;
 
+    private final ReferenceDataCacheService referenceDataCacheService;
+
     private final Translator translator;
 
     /**
@@ -105,8 +108,18 @@ public class RoleService {
             throw new DataNotFoundException(translator.toLocal("role.with.uucode.not.found"));
         }
 
-        return roleRepository.findFirstByUucode(roleEnum.name())
-            .orElseThrow(() -> new DataNotFoundException(translator.toLocal("role.with.uucode.not.found", roleEnum)));
+        // The role id is cached, and the role is read by id, so reading the same role again in a transaction, e.g. once per
+        // personnel of a tour slot, does not query the database.
+        final String roleId = referenceDataCacheService.get(ReferenceDataCacheEnum.ROLE, roleEnum,
+            () -> roleRepository.findFirstByUucode(roleEnum.name()).map(Role::getRoleId).orElse(null));
+
+        final Role role = roleId == null ? null
+            : roleRepository.findById(roleId).filter(existingRole -> existingRole.getStatus() != Status.DELETED).orElse(null);
+        if (role == null) {
+            referenceDataCacheService.evict(ReferenceDataCacheEnum.ROLE, roleEnum);
+            throw new DataNotFoundException(translator.toLocal("role.with.uucode.not.found", roleEnum));
+        }
+        return role;
     }
 
     /**
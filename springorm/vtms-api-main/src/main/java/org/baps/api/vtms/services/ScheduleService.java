@@ -22,4 +22,34 @@ public class ScheduleService {
     public void dailyVisitListScheduler() {
         scheduleTaskService.sendVisitListNotification();
     }
+
+    @Scheduled(cron = "#{@getVisitDailyRollupRebuildCron}")
+    public void visitDailyRollupRebuildScheduler() {
+        scheduleTaskService.rebuildVisitDailyRollup();
+    }
+
+    @Scheduled(cron = "#{@getVisitFeedbackDailyRollupRebuildCron}")
+    public void visitFeedbackDailyRollupRebuildScheduler() {
+        scheduleTaskService.rebuildVisitFeedbackDailyRollup();
+    }
+
+    @Scheduled(cron = "#{@getLookupDictionaryRefreshCron}")
+    public void lookupDictionaryRefreshScheduler() {
+        scheduleTaskService.refreshLookupDictionary();
+    }
+
+    @Scheduled(cron = "#{@getNotificationOutboxDispatchCron}")
+    public void notificationOutboxDispatchScheduler() {
+        scheduleTaskService.dispatchNotificationOutbox();
+    }
+
+    @Scheduled(cron = "#{@getNotificationOutboxPurgeCron}")
+    public void notificationOutboxPurgeScheduler() {
+        scheduleTaskService.purgeNotificationOutbox();
+    }
+
+    @Scheduled(cron = "#{@getNotificationTemplateRefreshCron}")
+    public void notificationTemplateRefreshScheduler() {
+        scheduleTaskService.refreshNotificationTemplates();
+    }
 }
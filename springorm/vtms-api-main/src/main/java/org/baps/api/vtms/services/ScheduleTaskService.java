@@ -29,6 +29,18 @@ public class ScheduleTaskService {
 
     private final NotificationComposeService notificationComposeService;
 
+    private final VisitDailyRollupService visitDailyRollupService;
+
+    private final DashboardService dashboardService;
+
+    private final LookupDictionaryService lookupDictionaryService;
+
+    private final NotificationDispatchService notificationDispatchService;
+
+    private final NotificationOutboxService notificationOutboxService;
+
+    private final NotificationTemplateService notificationTemplateService;
+
     @Async
     public void updateVisitStages() {
         log.info("CRON START - Update visit stages");
@@ -73,4 +85,67 @@ public class ScheduleTaskService {
         }
         log.info("CRON END - Send visit list notification");
     }
+
+    public void rebuildVisitDailyRollup() {
+        log.info("CRON START - Rebuild visit daily rollup");
+        try {
+            final int rollupRowCount = visitDailyRollupService.rebuildVisitDailyRollup();
+            log.info("Visit daily rollup rows rebuilt: {}", rollupRowCount);
+        } catch (final Exception e) {
+            log.error("CRON ERROR - Rebuild visit daily rollup : {}", e.getMessage());
+        }
+        log.info("CRON END - Rebuild visit daily rollup");
+    }
+
+    public void rebuildVisitFeedbackDailyRollup() {
+        log.info("CRON START - Rebuild visit feedback daily rollup");
+        try {
+            final int rollupRowCount = dashboardService.rebuildVisitFeedbackDailyRollup();
+            log.info("Visit feedback daily rollup rows rebuilt: {}", rollupRowCount);
+        } catch (final Exception e) {
+            log.error("CRON ERROR - Rebuild visit feedback daily rollup : {}", e.getMessage());
+        }
+        log.info("CRON END - Rebuild visit feedback daily rollup");
+    }
+
+    public void refreshLookupDictionary() {
+        // Runs often and only reloads when the lookup table changed, so only errors are logged.
+        try {
+            lookupDictionaryService.refreshLookupDictionary();
+        } catch (final Exception e) {
+            log.error("CRON ERROR - Refresh lookup dictionary : {}", e.getMessage());
+        }
+    }
+
+    public void dispatchNotificationOutbox() {
+        // Runs every few seconds, so only runs that sent notifications and errors are logged.
+        try {
+            final int sentCount = notificationDispatchService.dispatchNotificationOutbox();
+            if (sentCount > 0) {
+                log.info("Notification outbox dispatched: {} notifications sent", sentCount);
+            }
+        } catch (final Exception e) {
+            log.error("CRON ERROR - Dispatch notification outbox : {}", e.getMessage());
+        }
+    }
+
+    public void purgeNotificationOutbox() {
+        log.info("CRON START - Purge notification outbox");
+        try {
+            final int purgedCount = notificationOutboxService.purgeSentNotificationOutbox();
+            log.info("Sent notifications purged: {}", purgedCount);
+        } catch (final Exception e) {
+            log.error("CRON ERROR - Purge notification outbox : {}", e.getMessage());
+        }
+        log.info("CRON END - Purge notification outbox");
+    }
+
+    public void refreshNotificationTemplates() {
+        // Runs every few minutes, so only errors are logged.
+        try {
+            notificationTemplateService.refreshNotificationTemplates();
+        } catch (final Exception e) {
+            log.error("CRON ERROR - Refresh notification templates : {}", e.getMessage());
+        }
+    }
 }
@@ -2,6 +2,7 @@ package org.baps.api.vtms.services;
 
 import org.baps.api.vtms.common.utils.Translator;
 import org.baps.api.vtms.constants.SpecificationConstants;
+import org.baps.api.vtms.enumerations.ReferenceDataCacheEnum;
 import org.baps.api.vtms.enumerations.ServiceTypeEnum;
 import org.baps.api.vtms.exceptions.DataNotFoundException;
 import org.baps.api.vtms.exceptions.DataValidationException;
@@ -37,6 +38,8 @@ public class ServiceTemplateService {
 
     private final ServiceTemplateRepository serviceTemplateRepository;
 
+    private final ReferenceDataCacheService referenceDataCacheService;
+
     /**
      * Retrieves a list of ServiceTemplateModel objects based on the specified RSQL filter.
      *
@@ -94,16 +97,42 @@ public class ServiceTemplateService {
     }
     
 
+    /**
+     * Retrieves the service templates of a site by their ids, validating that every id belongs to the site.
+     *
+     * @param serviceTemplateIds The ids of the service templates.
+     * @param siteUUCode         The unique code associated with the site.
+     * @return The service templates.
+     * @throws DataValidationException If an id is not a service template of the site.
+     */
     @Transactional(readOnly = true)
     public List<ServiceTemplate> findByServiceTemplateIdsAndSiteUUCode(final Set<String> serviceTemplateIds, final String siteUUCode) {
-        
-        final List<ServiceTemplate> existingServiceTemplates = 
-                serviceTemplateRepository.findByServiceTemplateIdInAndSiteUuCode(serviceTemplateIds, siteUUCode);
-        
-        final Set<String> existingServiceTemplateIds = existingServiceTemplates.stream()
-                .map(ServiceTemplate::getServiceTemplateId)
-                .collect(Collectors.toSet());
-        
+
+        validateServiceTemplateIds(serviceTemplateIds, siteUUCode);
+
+        final List<ServiceTemplate> existingServiceTemplates = serviceTemplateRepository.findAllById(serviceTemplateIds);
+
+        // A service template removed since the ids of the site were cached is validated again against the database.
+        if (existingServiceTemplates.size() != serviceTemplateIds.size()) {
+            referenceDataCacheService.evict(ReferenceDataCacheEnum.SERVICE_TEMPLATE, siteUUCode);
+            validateServiceTemplateIds(serviceTemplateIds, siteUUCode);
+        }
+        return existingServiceTemplates;
+    }
+
+    /**
+     * Validates that every id is a service template of the site, against the cached service template ids of the site.
+     *
+     * @param serviceTemplateIds The ids of the service templates.
+     * @param siteUUCode         The unique code associated with the site.
+     * @throws DataValidationException If an id is not a service template of the site.
+     */
+    @Transactional(readOnly = true)
+    public void validateServiceTemplateIds(final Set<String> serviceTemplateIds, final String siteUUCode) {
+
+        final Set<String> existingServiceTemplateIds = referenceDataCacheService.get(ReferenceDataCacheEnum.SERVICE_TEMPLATE, siteUUCode,
+                () -> Set.copyOf(serviceTemplateRepository.findServiceTemplateIdBySiteUuCode(siteUUCode)));
+
         final Set<String> invalidServiceTemplateIds = serviceTemplateIds.stream()
                 .filter(serviceTemplateId -> !existingServiceTemplateIds.contains(serviceTemplateId))
                 .collect(Collectors.toSet());
@@ -112,8 +141,6 @@ public class ServiceTemplateService {
             throw new DataValidationException(translator.toLocal("service_template.invalid_service_template_ids",
                     invalidServiceTemplateIds));
         }
-        // Attempt to find a Service Template by its ID and Service Type, or throw an exception if not found
-        return existingServiceTemplates;
     }
 
 
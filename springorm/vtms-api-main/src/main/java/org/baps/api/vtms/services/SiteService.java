@@ -1,9 +1,11 @@
 package org.baps.api.vtms.services;
 
 import org.baps.api.vtms.common.utils.Translator;
+import org.baps.api.vtms.enumerations.ReferenceDataCacheEnum;
 import org.baps.api.vtms.exceptions.DataNotFoundException;
 import org.baps.api.vtms.mappers.SiteMapper;
 import org.baps.api.vtms.models.SiteModel;
+import org.baps.api.vtms.models.base.Status;
 import org.baps.api.vtms.models.entities.Site;
 import org.baps.api.vtms.repositories.SiteRepository;
 
@@ -26,10 +28,13 @@ public class SiteService {
 
     private final SiteMapper siteMapper;
 
+    private final ReferenceDataCacheService referenceDataCacheService;
+
     private final Translator translator;
 
     /**
-     * Retrieves a site by UUCode.
+     * Retrieves a site by UUCode. The site id of the UUCode is cached, and the site is read by id, so reading the same
+     * site again in a transaction does not query the database.
      *
      * @param siteUUCode The unique identifier (UUCode) of the site to retrieve.
      * @return The site entity.
@@ -37,12 +42,15 @@ public class SiteService {
      */
     @Transactional(readOnly = true)
     public Site findByUUCode(final String siteUUCode) {
-        if (StringUtils.isBlank(siteUUCode)) {
+        final String siteId = findSiteIdByUUCode(siteUUCode);
+
+        final Site site = siteRepository.findById(siteId).filter(existingSite -> existingSite.getStatus() != Status.DELETED)
+            .orElse(null);
+        if (site == null) {
+            referenceDataCacheService.evict(ReferenceDataCacheEnum.SITE, siteUUCode);
             throw new DataNotFoundException(translator.toLocal("site.with.site_uucode.not_found", siteUUCode));
-        } else {
-            return siteRepository.findByUuCode(siteUUCode)
-                .orElseThrow(() -> new DataNotFoundException(translator.toLocal("site.with.site_uucode.not_found", siteUUCode)));
         }
+        return site;
     }
     
     /**
@@ -54,9 +62,8 @@ public class SiteService {
      */
     @Transactional(readOnly = true)
     public boolean siteExistsByUUCode(final String siteUUCode) {
-        if (StringUtils.isBlank(siteUUCode) || siteRepository.findByUuCode(siteUUCode).isEmpty()) {
-            throw new DataNotFoundException(translator.toLocal("site.with.site_uucode.not_found", siteUUCode));
-        }
+        // Served by the reference data cache, without a query when the site id is cached.
+        findSiteIdByUUCode(siteUUCode);
         return true;
     }
 
@@ -99,4 +106,17 @@ public class SiteService {
         return siteRepository.findAll();
     }
 
+    private String findSiteIdByUUCode(final String siteUUCode) {
+        if (StringUtils.isBlank(siteUUCode)) {
+            throw new DataNotFoundException(translator.toLocal("site.with.site_uucode.not_found", siteUUCode));
+        }
+
+        final String siteId = referenceDataCacheService.get(ReferenceDataCacheEnum.SITE, siteUUCode,
+            () -> siteRepository.findByUuCode(siteUUCode).map(Site::getSiteId).orElse(null));
+        if (siteId == null) {
+            throw new DataNotFoundException(translator.toLocal("site.with.site_uucode.not_found", siteUUCode));
+        }
+        return siteId;
+    }
+
 }
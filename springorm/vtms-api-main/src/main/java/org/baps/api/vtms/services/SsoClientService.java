@@ -1,51 +1,107 @@
 package org.baps.api.vtms.services;
 
-import lombok.RequiredArgsConstructor;
+import org.baps.api.vtms.exceptions.ServiceUnavailableException;
+
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeoutException;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import reactor.core.publisher.Mono;
+
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class SsoClientService {
 
     private static final String VALIDATE_TOKEN_ENDPOINT = "/user/validate/token";
 
-    @Autowired
-    @Qualifier("ssoWebClient")
-    private WebClient ssoWebClient;
+    // Name of the circuit breaker, bulkhead and time limiter instances configured under resilience4j in application.yml.
+    private static final String SSO_RESILIENCE_INSTANCE = "sso";
+
+    private final WebClient ssoWebClient;
+
+    private final CircuitBreaker ssoCircuitBreaker;
 
+    private final Bulkhead ssoBulkhead;
+
+    private final TimeLimiter ssoTimeLimiter;
+
+    public SsoClientService(@Qualifier("ssoWebClient") final WebClient ssoWebClient,
+            final CircuitBreakerRegistry circuitBreakerRegistry, final BulkheadRegistry bulkheadRegistry,
+            final TimeLimiterRegistry timeLimiterRegistry) {
+        this.ssoWebClient = ssoWebClient;
+        this.ssoCircuitBreaker = circuitBreakerRegistry.circuitBreaker(SSO_RESILIENCE_INSTANCE);
+        this.ssoBulkhead = bulkheadRegistry.bulkhead(SSO_RESILIENCE_INSTANCE);
+        this.ssoTimeLimiter = timeLimiterRegistry.timeLimiter(SSO_RESILIENCE_INSTANCE);
+    }
+
+    /**
+     * Validates a token with the SSO server. The call waits at most the time limiter timeout, is rejected when the
+     * bulkhead is full and is not made while the circuit breaker is open.
+     *
+     * @param token The JWT token to validate.
+     * @return true if the SSO server accepts the token, false if it rejects it.
+     * @throws ServiceUnavailableException If the SSO server is unavailable, too slow or the call is not permitted.
+     */
     public boolean isValidateToken(final String token) {
-        try {
-            final ResponseEntity<Void> responseEntity = ssoWebClient
-                .post()
-                .uri(VALIDATE_TOKEN_ENDPOINT)
-                .header(HttpHeaders.AUTHORIZATION, token)
-                .retrieve()
-                .toBodilessEntity()
-                .block();
 
-            return responseEntity != null && responseEntity.getStatusCode().equals(HttpStatus.OK);
+        // The bulkhead is the outermost decorator, so calls it rejects are not recorded by the circuit breaker.
+        final Callable<Boolean> validateTokenCallable = Bulkhead.decorateCallable(ssoBulkhead,
+                CircuitBreaker.decorateCallable(ssoCircuitBreaker,
+                        () -> ssoTimeLimiter.executeFutureSupplier(() -> validateTokenRequest(token).toFuture())));
+
+        try {
+            return Boolean.TRUE.equals(validateTokenCallable.call());
 
         } catch (final WebClientResponseException e) {
             logException(e);
             if (HttpStatus.FORBIDDEN == e.getStatusCode()) {
                 return false;
             }
+            if (e.getStatusCode().is5xxServerError()) {
+                throw new ServiceUnavailableException("SSO server error", e);
+            }
             throw e;
-        } catch (final Exception e) {
+        } catch (final CallNotPermittedException | BulkheadFullException e) {
+            log.warn("SSO call not permitted: {}", e.getMessage());
+            throw new ServiceUnavailableException("SSO call not permitted", e);
+        } catch (final TimeoutException | WebClientRequestException e) {
+            logException(e);
+            throw new ServiceUnavailableException("SSO server unavailable", e);
+        } catch (final RuntimeException e) {
             logException(e);
             throw e;
+        } catch (final Exception e) {
+            logException(e);
+            throw new ServiceUnavailableException("SSO call failed", e);
         }
     }
 
+    private Mono<Boolean> validateTokenRequest(final String token) {
+        return ssoWebClient
+            .post()
+            .uri(VALIDATE_TOKEN_ENDPOINT)
+            .header(HttpHeaders.AUTHORIZATION, token)
+            .retrieve()
+            .toBodilessEntity()
+            .map(responseEntity -> responseEntity.getStatusCode().equals(HttpStatus.OK));
+    }
+
     private void logException(final WebClientResponseException e) {
         log.error("WebClientResponseException >> Response code: {}, Response body: {}", e.getStatusCode(), e.getResponseBodyAsString());
     }
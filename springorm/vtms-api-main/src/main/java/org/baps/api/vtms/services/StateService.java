@@ -3,6 +3,8 @@ package org.baps.api.vtms.services;
 import static io.github.perplexhub.rsql.RSQLJPASupport.toSpecification;
 
 import org.baps.api.vtms.common.utils.Translator;
+import org.baps.api.vtms.constants.CacheConstant;
+import org.baps.api.vtms.enumerations.ReferenceDataCacheEnum;
 import org.baps.api.vtms.exceptions.DataNotFoundException;
 import org.baps.api.vtms.mappers.StateMapper;
 import org.baps.api.vtms.models.StateModel;
@@ -10,11 +12,13 @@ import org.baps.api.vtms.models.entities.State;
 import org.baps.api.vtms.repositories.StateRepository;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.apache.commons.collections.CollectionUtils;
@@ -25,10 +29,14 @@ import org.apache.commons.lang3.StringUtils;
 @Service
 public class StateService {
 
+    private static final String STATE_IDS_CACHE_KEY = "stateIds";
+
     private final StateRepository stateRepository;
 
     private final StateMapper stateMapper;
 
+    private final ReferenceDataCacheService referenceDataCacheService;
+
     private final Translator translator;
 
     /**
@@ -46,6 +54,23 @@ public class StateService {
     }      
     
 
+    /**
+     * Validates that a state exists, against the cached state ids.
+     *
+     * @param stateId The ID of the state to validate.
+     * @throws DataNotFoundException If the state with the given ID is not found.
+     */
+    @Transactional(readOnly = true)
+    public void validateStateId(final String stateId) {
+
+        final Set<String> stateIds = referenceDataCacheService.get(ReferenceDataCacheEnum.STATE, STATE_IDS_CACHE_KEY,
+            () -> Set.copyOf(stateRepository.findAllStateId()));
+
+        if (stateId == null || !stateIds.contains(stateId)) {
+            throw new DataNotFoundException(translator.toLocal("state.with.state_id.not_found", stateId));
+        }
+    }
+
     /**
      * Retrieves a list of StateModel objects representing states or regions.
      * This method queries the database for State entities and converts them into
@@ -54,6 +79,7 @@ public class StateService {
      * @param filter A filter string for narrowing down the results (can be null or empty).
      * @return A list of StateModel objects, or an empty list if no records match the filter.
      */
+    @Cacheable(cacheNames = CacheConstant.PUBLIC_STATES, sync = true)
     @Transactional(readOnly = true)
     public List<StateModel> getStateList(final String filter) {
         
@@ -0,0 +1,87 @@
+package org.baps.api.vtms.services;
+
+import org.baps.api.vtms.common.utils.Translator;
+import org.baps.api.vtms.enumerations.TourSlotReservationStatusEnum;
+import org.baps.api.vtms.enumerations.TourSlotStageEnum;
+import org.baps.api.vtms.exceptions.DataNotFoundException;
+import org.baps.api.vtms.models.TourSlotReservationModel;
+import org.baps.api.vtms.repositories.TourSlotRepository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Keeps the booked guest count of the tour slots. Both the visit and the pre-booked visit services reserve and release
+ * guests through this service, it has no dependency on them so they can share it without a circular dependency.
+ */
+@Service
+@RequiredArgsConstructor
+@SuppressFBWarnings({"EI_EXPOSE_REP2"})
+public class TourSlotReservationService {
+
+    private final TourSlotRepository tourSlotRepository;
+
+    private final Translator translator;
+
+    /**
+     * Reserves guest capacity in an active tour slot with a single conditional update, so concurrent bookings for the
+     * same slot can never exceed its maximum guest size. The tour slot stage is moved to BOOKED or PARTIALLY as part of
+     * the same update. The reservation is part of the caller's transaction and is undone if that transaction rolls back.
+     *
+     * @param tourSlotId    The unique identifier of the tour slot to reserve.
+     * @param totalVisitors The number of guests to reserve.
+     * @param siteUUCode    The unique code associated with the site.
+     * @return A TourSlotReservationModel describing whether the guests were reserved and, if not, why.
+     * @throws DataNotFoundException If the tour slot does not exist for the site.
+     */
+    @Transactional
+    public TourSlotReservationModel reserveGuestSize(final String tourSlotId, final int totalVisitors, final String siteUUCode) {
+
+        if (tourSlotRepository.reserveGuestCount(tourSlotId, totalVisitors, siteUUCode) > 0) {
+            return new TourSlotReservationModel(TourSlotReservationStatusEnum.RESERVED, null, 0);
+        }
+
+        // The conditional update did not match, read the current capacity to report the reason.
+        final TourSlotReservationModel tourSlotReservationModel = tourSlotRepository
+            .findTourSlotReservationByTourSlotIdAndSiteUuCode(tourSlotId, siteUUCode)
+            .orElseThrow(() -> new DataNotFoundException(translator.toLocal("tour_slot.with_tour_slot_id.not.found", tourSlotId)));
+
+        final List<TourSlotStageEnum> tourSlotStageEnumList = List.of(TourSlotStageEnum.ACTIVE, TourSlotStageEnum.PARTIALLY);
+
+        tourSlotReservationModel.setReservationStatusEnum(tourSlotStageEnumList.contains(tourSlotReservationModel.getTourSlotStageEnum())
+            ? TourSlotReservationStatusEnum.INSUFFICIENT_GUEST_SIZE : TourSlotReservationStatusEnum.SLOT_NOT_AVAILABLE);
+
+        return tourSlotReservationModel;
+    }
+
+    /**
+     * Releases guest capacity previously reserved in a tour slot, e.g. when a visit is cancelled.
+     *
+     * @param tourSlotId    The unique identifier of the tour slot.
+     * @param totalVisitors The number of guests to release.
+     */
+    @Transactional
+    public void releaseGuestSize(final String tourSlotId, final int totalVisitors) {
+        tourSlotRepository.releaseGuestCount(tourSlotId, totalVisitors);
+    }
+
+    /**
+     * Builds the localized error message for a tour slot reservation that could not be made.
+     *
+     * @param tourSlotReservationModel The failed reservation.
+     * @param totalVisitors            The number of guests that were requested.
+     * @return The localized error message.
+     */
+    public String getReservationErrorMessage(final TourSlotReservationModel tourSlotReservationModel, final int totalVisitors) {
+        if (TourSlotReservationStatusEnum.SLOT_NOT_AVAILABLE.equals(tourSlotReservationModel.getReservationStatusEnum())) {
+            return translator.toLocal("tour_slot.stage.is", tourSlotReservationModel.getTourSlotStageEnum());
+        }
+        return translator.toLocal("tour_slot.available.guest_size.less_than_total_visitor",
+            tourSlotReservationModel.getAvailableGuestSize(), totalVisitors);
+    }
+}
@@ -3,7 +3,9 @@ package org.baps.api.vtms.services;
 import org.baps.api.vtms.common.utils.CommonUtils;
 import org.baps.api.vtms.common.utils.Translator;
 import org.baps.api.vtms.common.utils.ValidationUtils;
+import org.baps.api.vtms.constants.CacheConstant;
 import org.baps.api.vtms.constants.GeneralConstant;
+import org.baps.api.vtms.constants.SpecificationConstants;
 import org.baps.api.vtms.enumerations.PermissionEnum;
 import org.baps.api.vtms.enumerations.RoleEnum;
 import org.baps.api.vtms.enumerations.RoleTagEnum;
@@ -18,9 +20,9 @@ import org.baps.api.vtms.mappers.VisitPersonnelMapper;
 import org.baps.api.vtms.models.PersonnelBasicInfoModel;
 import org.baps.api.vtms.models.PreBookedTourSlotModel;
 import org.baps.api.vtms.models.TourSlotModel;
-import org.baps.api.vtms.models.TourSlotWithVisitorCountModel;
 import org.baps.api.vtms.models.TourSlotWrapperModel;
 import org.baps.api.vtms.models.UpdateTourSlotStageModel;
+import org.baps.api.vtms.models.base.KeysetPage;
 import org.baps.api.vtms.models.base.PaginatedResponse;
 import org.baps.api.vtms.models.base.Status;
 import org.baps.api.vtms.models.entities.Personnel;
@@ -34,8 +36,11 @@ import org.baps.api.vtms.repositories.specifications.TourSlotSpecification;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -53,14 +58,15 @@ import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.annotation.Timed;
 import org.apache.commons.collections.CollectionUtils;
-import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 
 @Service
 @RequiredArgsConstructor
 @SuppressFBWarnings({"EI_EXPOSE_REP2"})
+@Timed(value = "vtms.service.method", description = "Execution time of the service methods")
 public class TourSlotService {
 
     @Value("${tour_slots.interval}")
@@ -142,6 +148,7 @@ public class TourSlotService {
      * @return A wrapper model containing a list of created tour slots grouped by date.
      * @throws DataAlreadyExistsException If there are overlapping tour slots in the specified time range.
      */
+    @CacheEvict(cacheNames = CacheConstant.PUBLIC_TOUR_SLOTS, allEntries = true)
     @Transactional
     public TourSlotWrapperModel createTourSlot(final String siteUUCode, final TourSlotWrapperModel tourSlotWrapperModel) {
 
@@ -251,16 +258,6 @@ public class TourSlotService {
         // Convert the saved tour slots to a list of tour slot models.
         List<TourSlotModel> tourSlotModelList = tourSlotMapper.tourSlotListToTourSlotModelList(existingTourSlotList);
 
-        final Map<String, TourSlotModel> tourSlotModelMap = tourSlotModelList.stream()
-            .collect(Collectors.toMap(TourSlotModel::getTourSlotId, tourSlotModel -> tourSlotModel));
-
-        final List<TourSlotWithVisitorCountModel> tourSlotWithVisitorCountModelList =
-            tourSlotRepository.countBookedVisitorCountByTourSlotIds(tourSlotModelMap.keySet(), siteUUCode);
-
-        tourSlotWithVisitorCountModelList.forEach(tourSlotWithVisitorCountModel -> tourSlotModelMap
-            .get(tourSlotWithVisitorCountModel.getTourSlotId()).setBookedGuestSize(
-                tourSlotWithVisitorCountModel.getBookedVisitorCount()));
-
         // Define an object to store the start and end date times while grouping tour slots by date.
         final var wrapperObject = new Object() {
             LocalDateTime startDateTime;
@@ -301,6 +298,8 @@ public class TourSlotService {
      * @param siteUUCode The unique code associated with the site.
      * @return A list of TourSlotModel objects representing public tour slots for the given date.
      */
+    // Bookings change the available guest size without eviction, it is refreshed after the short time to live of the cache.
+    @Cacheable(cacheNames = CacheConstant.PUBLIC_TOUR_SLOTS, sync = true)
     @Transactional(readOnly = true)
     public List<PreBookedTourSlotModel> getPublicTourSlot(final LocalDate tourDate, final String siteUUCode) {
         // Calculate the start and end date times for the specified tour date.
@@ -312,31 +311,10 @@ public class TourSlotService {
             .findByStartDateTimeGreaterThanEqualAndEndDateTimeLessThanEqualAndSiteUuCode(
                 startDateTime, endDateTime, siteUUCode);
 
-        final Map<String, Integer> mapOfTourSlotIdWithMaxGuestCount = existingTourSlotList.stream()
-            .collect(Collectors.toMap(TourSlot::getTourSlotId, TourSlot::getMaxGuestSize));
-
-        // Convert the saved tour slots to a list of tour slot models.
+        // Convert the saved tour slots to a list of tour slot models, available guest size comes from the booked guest counter.
         final List<PreBookedTourSlotModel> preBookedTourSlotModelList = tourSlotMapper.tourSlotListToPreBookedTourSlotModelList(
             existingTourSlotList);
 
-        final List<TourSlotWithVisitorCountModel> tourSlotWithVisitorCountModelList =
-            tourSlotRepository.countBookedVisitorCountByTourSlotIds(mapOfTourSlotIdWithMaxGuestCount.keySet(), siteUUCode);
-
-        final Map<String, Long> mapOfTourSlotIdWithBookedVisitorCount = tourSlotWithVisitorCountModelList.stream()
-            .collect(Collectors.toMap(TourSlotWithVisitorCountModel::getTourSlotId,
-                TourSlotWithVisitorCountModel::getBookedVisitorCount));
-
-        preBookedTourSlotModelList.forEach(preBookedTourSlotModel -> {
-            final long maxGuestSize = MapUtils.isNotEmpty(mapOfTourSlotIdWithMaxGuestCount)
-                && mapOfTourSlotIdWithMaxGuestCount.containsKey(preBookedTourSlotModel.getTourSlotId())
-                ? mapOfTourSlotIdWithMaxGuestCount.get(preBookedTourSlotModel.getTourSlotId()) : 0;
-            final long bookedGuestSize = MapUtils.isNotEmpty(mapOfTourSlotIdWithBookedVisitorCount)
-                && mapOfTourSlotIdWithBookedVisitorCount.containsKey(preBookedTourSlotModel.getTourSlotId())
-                ? mapOfTourSlotIdWithBookedVisitorCount.get(preBookedTourSlotModel.getTourSlotId()) : 0;
-
-            preBookedTourSlotModel.setAvailableGuestSize(maxGuestSize - bookedGuestSize);
-        });
-
         return preBookedTourSlotModelList;
     }
 
@@ -349,13 +327,15 @@ public class TourSlotService {
      * @param siteUUCode    The unique code associated with the site.
      * @return A TourSlotModel representing the updated TourSlot.
      */
+    @CacheEvict(cacheNames = CacheConstant.PUBLIC_TOUR_SLOTS, allEntries = true)
     @Transactional
     public TourSlotModel updateTourSlot(final String tourSlotId, final TourSlotModel tourSlotModel, final String siteUUCode) {
 
         final LocalDateTime currentDateTime = siteService.getCurrentDateTimeFromExistingSite(siteService.findByUUCode(siteUUCode));
 
-        // Retrieve the existing TourSlot based on the provided ID
-        final TourSlot existingTourSlot = findByIdAndSiteUUCode(tourSlotId, siteUUCode);
+        // Retrieve and lock the existing TourSlot, concurrent reservations wait until the booked guest count is validated
+        final TourSlot existingTourSlot = tourSlotRepository.findLockedByTourSlotIdAndSiteUuCode(tourSlotId, siteUUCode)
+            .orElseThrow(() -> new DataNotFoundException(translator.toLocal("tour_slot.with_tour_slot_id.not.found", tourSlotId)));
 
         if (existingTourSlot.getStartDateTime().isBefore(currentDateTime)
             || existingTourSlot.getEndDateTime().isBefore(currentDateTime)) {
@@ -459,8 +439,7 @@ public class TourSlotService {
             final TourSlot existingTourSlot, final String siteUUCode) {
 
         // Calculate the total booked slot guest size
-        final long bookedSlotGuestSize = tourSlotRepository.countBookedVisitorCountByTourSlotIds(Set.of(tourSlotId), siteUUCode)
-            .stream().mapToLong(TourSlotWithVisitorCountModel::getBookedVisitorCount).sum();
+        final long bookedSlotGuestSize = existingTourSlot.getBookedGuestCount();
 
         // Validate if booked guest size exceeds the maximum allowed size
         if (ObjectUtils.isNotEmpty(bookedSlotGuestSize) && bookedSlotGuestSize > tourSlotModel.getMaxGuestSize()) {
@@ -517,6 +496,7 @@ public class TourSlotService {
      * @param updateTourSlotStageModel The model containing the update parameters.
      * @param siteUUCode               The unique code associated with the site.
      */
+    @CacheEvict(cacheNames = CacheConstant.PUBLIC_TOUR_SLOTS, allEntries = true)
     @Transactional
     public void updateTourSlotStage(final UpdateTourSlotStageModel updateTourSlotStageModel, final String siteUUCode) {
 
@@ -531,9 +511,9 @@ public class TourSlotService {
 
         // Iterate through each day within the date range
         while (startDate.isEqual(endDate) || startDate.isBefore(endDate)) {
-            // Query and add tour slots that overlap with the specified time range on each day
+            // Query and lock the tour slots that overlap with the specified time range on each day
             existingTourSlotList.addAll(tourSlotRepository
-                .findByStartDateTimeGreaterThanEqualAndEndDateTimeLessThanEqualAndSiteUuCode(
+                .findLockedByStartDateTimeGreaterThanEqualAndEndDateTimeLessThanEqualAndSiteUuCode(
                     startDate.atTime(updateTourSlotStageModel.getStartTime()),
                     startDate.atTime(updateTourSlotStageModel.getEndTime()), siteUUCode));
 
@@ -548,9 +528,7 @@ public class TourSlotService {
             throw new DataValidationException(translator.toLocal("tour_slot.stage.not_change", tourSlotStageEnum));
         }
 
-        final long bookedSlotGuestSize = tourSlotRepository.countBookedVisitorCountByTourSlotIds(
-            existingTourSlotList.stream().map(TourSlot::getTourSlotId).collect(Collectors.toSet()),
-            siteUUCode).stream().mapToLong(TourSlotWithVisitorCountModel::getBookedVisitorCount).sum();
+        final long bookedSlotGuestSize = existingTourSlotList.stream().mapToLong(TourSlot::getBookedGuestCount).sum();
 
         if (ObjectUtils.isNotEmpty(bookedSlotGuestSize) && bookedSlotGuestSize > 0
             && tourSlotStageEnum.equals(TourSlotStageEnum.INACTIVE)) {
@@ -615,10 +593,8 @@ public class TourSlotService {
             errorMessagesSet.add(translator.toLocal("tour_slot.stage.is", existingTourSlot.getTourSlotStageEnum()));
         }
 
-        // Calculate the total number of visitors already booked for this tour slot.
-        final var bookedSlotGuestSize = tourSlotRepository.countBookedVisitorCountByTourSlotIds(
-                Set.of(existingTourSlot.getTourSlotId()), siteUUCode).stream()
-            .mapToLong(TourSlotWithVisitorCountModel::getBookedVisitorCount).sum();
+        // The number of visitors already booked for this tour slot.
+        final long bookedSlotGuestSize = existingTourSlot.getBookedGuestCount();
 
         // Check if there are enough available slots for the new visitors.
         if ((existingTourSlot.getMaxGuestSize() - bookedSlotGuestSize) < totalVisitors) {
@@ -644,13 +620,15 @@ public class TourSlotService {
      * @param selfAssignVisit Flag indicating whether to retrieve self-assigned visits only.
      * @param hasVisit        A flag indicating whether to filter Tour Slots with associated visits.
      *                        If true, only Tour Slots with visits are included; if false, all Tour Slots are considered.
+     * @param cursor          The cursor of the next page for keyset pagination, blank for its first page.
+     * @param includeTotalCount Flag indicating whether to count the total number of tour slots in keyset pagination.
      * @return                A PaginatedResponse containing a list of TourSlotModel objects associated with the specified criteria.
      */
     @Transactional(readOnly = true)
     public PaginatedResponse<List<TourSlotModel>> getPaginatedVisitAssociatedTourSlot(final int pageNo, final int pageSize, 
             final String sortDirection, final String sortProperty, final String search, final LocalDateTime startDateTime, 
             final LocalDateTime endDateTime,  final String visitStage, final String siteUUCode, final boolean selfAssignVisit, 
-            final boolean hasVisit) {
+            final boolean hasVisit, final String cursor, final boolean includeTotalCount) {
 
         final String personnelId;
 
@@ -708,6 +686,19 @@ public class TourSlotService {
             tourSlotSpecification.buildTourSlotSearchFilterSpecification(sortDirection, sortProperty, search, startDateTime, endDateTime,
                 existingTourSlotIdListWithSearch, existingTourSlotIdListWithoutSearch, siteUUCode, hasVisit);
 
+        // A cursor, even blank, switches to keyset pagination.
+        if (cursor != null) {
+            final KeysetPage<TourSlot> existingTourSlotKeysetPage = tourSlotRepository.findKeysetPage(TourSlot.class, specification,
+                cursor, pageSize, sortProperty, SpecificationConstants.START_DATE_TIME, SpecificationConstants.TOUR_SLOT_ID,
+                StringUtils.isNotBlank(sortDirection) ? Sort.Direction.valueOf(sortDirection) : Sort.Direction.ASC,
+                TourSlot::getStartDateTime, TourSlot::getTourSlotId, null);
+
+            final Long totalCount = includeTotalCount ? tourSlotRepository.count(specification) : null;
+
+            return CommonUtils.calculateKeysetPaginationAndPrepareResponse(existingTourSlotKeysetPage, totalCount, pageSize,
+                tourSlotMapper.tourSlotListToTourSlotModelList(existingTourSlotKeysetPage.getContent()));
+        }
+
         // Retrieve existing tour slots based on the specification and pagination.
         final Page<TourSlot> existingTourSlotPage = tourSlotRepository.findAll(specification, PageRequest.of(pageNo - 1, pageSize));
 
@@ -716,16 +707,6 @@ public class TourSlotService {
 
         if (CollectionUtils.isNotEmpty(existingTourSlotPage.getContent())) {
             tourSlotModelList = tourSlotMapper.tourSlotListToTourSlotModelList(existingTourSlotPage.getContent());
-
-            final Map<String, TourSlotModel> tourSlotModelMap = tourSlotModelList.stream()
-                .collect(Collectors.toMap(TourSlotModel::getTourSlotId, tourSlotModel -> tourSlotModel));
-
-            final List<TourSlotWithVisitorCountModel> tourSlotWithVisitorCountModelList =
-                tourSlotRepository.countBookedVisitorCountByTourSlotIds(tourSlotModelMap.keySet(), siteUUCode);
-
-            tourSlotWithVisitorCountModelList.forEach(tourSlotWithVisitorCountModel -> tourSlotModelMap
-                .get(tourSlotWithVisitorCountModel.getTourSlotId()).setBookedGuestSize(
-                    tourSlotWithVisitorCountModel.getBookedVisitorCount()));
         }
 
         // Calculate pagination details and prepare the response.
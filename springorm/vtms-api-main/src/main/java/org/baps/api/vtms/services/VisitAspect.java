@@ -12,6 +12,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -25,7 +26,11 @@ import org.aspectj.lang.annotation.Pointcut;
 @RequiredArgsConstructor
 public class VisitAspect {
 
-    private final VisitService visitService;
+    private final PersonnelService personnelService;
+
+    private final VisitPersonnelService visitPersonnelService;
+
+    private final VisitPermissionContext visitPermissionContext;
 
     private final AuthService authService;
     
@@ -40,17 +45,27 @@ public class VisitAspect {
         // Retrieve the role tag list corresponding to the intercepted method
         final List<RoleTagEnum> roleTagList = List.of(visitAopAnnotation.roleTags());
 
-        // Obtain updated role tags based on the intercepted method
-        final Set<RoleTagEnum> existingRoleTags = visitService.findFilteredRoleTagsFromVisitByRoleTagList(visitId, siteUUCode, roleTagList);
+        final String personnelId = personnelService.getAuthenticatedPersonnel().getPersonnelId();
+
+        // Obtain existing role tags, reusing the ones read by the visit permission check of this request if any
+        final Set<RoleTagEnum> existingRoleTags = visitPermissionContext.getRoleTags(visitId, siteUUCode)
+                .orElseGet(() -> visitPersonnelService.findRoleTagsByVisitIdAndSiteUucodeAndPersonnelId(visitId, siteUUCode, personnelId));
 
         // Proceed with the intercepted method execution
         final ResponseEntity<?> responseEntity = (ResponseEntity<?>) joinPoint.proceed();
 
-        // Obtain existing role tags after the method execution
-        final Set<RoleTagEnum> updatedRoleTags = visitService.findFilteredRoleTagsFromVisitByRoleTagList(visitId, siteUUCode, roleTagList);
+        // Obtain updated role tags after the method execution, the single read after the update
+        final Set<RoleTagEnum> updatedRoleTags = visitPersonnelService
+                .findRoleTagsByVisitIdAndSiteUucodeAndPersonnelId(visitId, siteUUCode, personnelId);
+        visitPermissionContext.putRoleTags(visitId, siteUUCode, updatedRoleTags);
+
+        // Perform system permission check and return the result, the personnel exists in the visit with any role tag
+        return authService.checkVisitPermissionAndCompareRoleTags(PermissionEnum.VIEW_VISIT_ALL_LIST, responseEntity.getBody(),
+                HttpStatus.valueOf(responseEntity.getStatusCode().value()), filterRoleTags(existingRoleTags, roleTagList),
+                filterRoleTags(updatedRoleTags, roleTagList), !updatedRoleTags.isEmpty());
+    }
 
-        // Perform system permission check and return the result
-        return authService.checkVisitPermissionAndCompareRoleTags(visitId, siteUUCode, PermissionEnum.VIEW_VISIT_ALL_LIST, 
-                responseEntity.getBody(), HttpStatus.valueOf(responseEntity.getStatusCode().value()), existingRoleTags, updatedRoleTags);
+    private Set<RoleTagEnum> filterRoleTags(final Set<RoleTagEnum> roleTags, final List<RoleTagEnum> roleTagList) {
+        return roleTags.stream().filter(roleTagList::contains).collect(Collectors.toSet());
     }
 }
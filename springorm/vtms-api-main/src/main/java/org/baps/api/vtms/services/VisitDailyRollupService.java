@@ -0,0 +1,91 @@
+package org.baps.api.vtms.services;
+
+import org.baps.api.vtms.common.utils.CommonUtils;
+import org.baps.api.vtms.enumerations.VisitStageEnum;
+import org.baps.api.vtms.enumerations.VisitTypeEnum;
+import org.baps.api.vtms.models.VisitCountModel;
+import org.baps.api.vtms.repositories.VisitDailyRollupRepository;
+import org.baps.api.vtms.repositories.VisitRepository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+@Service
+@RequiredArgsConstructor
+@SuppressFBWarnings({"EI_EXPOSE_REP2"})
+public class VisitDailyRollupService {
+
+    private final VisitDailyRollupRepository visitDailyRollupRepository;
+
+    private final VisitRepository visitRepository;
+
+    /**
+     * Retrieves the visit count and total visitors per start date of a site. Days fully covered by the range are read
+     * from the visit_daily_rollup table, the partially covered first and last day are counted from the visits.
+     *
+     * @param siteUUCode          The site code for which visit counts are to be retrieved.
+     * @param startDateTime       The start date and time of the range, inclusive.
+     * @param endDateTime         The end date and time of the range, inclusive.
+     * @param visitTypeEnum       The type of visit.
+     * @param visitStageEnumList  The stages of the visits to count.
+     * @return A list of {@link VisitCountModel} objects, one per start date having visits, ordered by date.
+     */
+    @Transactional(readOnly = true)
+    public List<VisitCountModel> getVisitCount(final String siteUUCode, final LocalDateTime startDateTime,
+            final LocalDateTime endDateTime, final VisitTypeEnum visitTypeEnum, final List<VisitStageEnum> visitStageEnumList) {
+
+        final LocalDate firstFullDate = CommonUtils.getFirstFullDate(startDateTime);
+        final LocalDate lastFullDate = CommonUtils.getLastFullDate(endDateTime);
+
+        if (firstFullDate.isAfter(lastFullDate)) {
+            return visitRepository.findVisitCountGroupByStartDateAndTime(siteUUCode, startDateTime, endDateTime, visitTypeEnum,
+                    visitStageEnumList);
+        }
+
+        final List<VisitCountModel> visitCountModelList = new ArrayList<>(visitDailyRollupRepository.findVisitCountGroupByVisitDate(
+                siteUUCode, firstFullDate, lastFullDate, visitTypeEnum, visitStageEnumList));
+
+        final LocalDateTime firstFullDateTime = firstFullDate.atStartOfDay();
+        if (startDateTime.isBefore(firstFullDateTime)) {
+            visitCountModelList.addAll(visitRepository.findVisitCountGroupByStartDateAndTime(siteUUCode, startDateTime,
+                    firstFullDateTime.minus(1, ChronoUnit.MICROS), visitTypeEnum, visitStageEnumList));
+        }
+
+        final LocalDateTime afterLastFullDateTime = lastFullDate.plusDays(1).atStartOfDay();
+        if (!endDateTime.isBefore(afterLastFullDateTime)) {
+            visitCountModelList.addAll(visitRepository.findVisitCountGroupByStartDateAndTime(siteUUCode, afterLastFullDateTime,
+                    endDateTime, visitTypeEnum, visitStageEnumList));
+        }
+
+        // The partial days never overlap the rollup days, so there is at most one model per date.
+        final Map<Date, VisitCountModel> mapOfStartDateWithVisitCountModel = new TreeMap<>();
+        visitCountModelList.forEach(visitCountModel ->
+                mapOfStartDateWithVisitCountModel.put(visitCountModel.getStartDateTime(), visitCountModel));
+
+        return new ArrayList<>(mapOfStartDateWithVisitCountModel.values());
+    }
+
+    /**
+     * Rebuilds the visit_daily_rollup table from the visits, correcting any drift of the incrementally maintained rows.
+     *
+     * @return The number of rollup rows written.
+     */
+    @Transactional
+    public int rebuildVisitDailyRollup() {
+        visitDailyRollupRepository.lockVisitDailyRollup();
+        visitDailyRollupRepository.deleteAllVisitDailyRollup();
+        return visitDailyRollupRepository.insertVisitDailyRollupFromVisits();
+    }
+}
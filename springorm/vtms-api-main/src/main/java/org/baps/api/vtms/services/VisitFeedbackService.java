@@ -423,7 +423,10 @@ public class VisitFeedbackService {
     public VisitBookingFeedbackModel createVisitBookingProcessFeedbackByVisitFeedbackId(final String visitPublicFeedbackId,
             final VisitBookingFeedbackModel visitPublicFeedbackModel,  final String siteUUCode) {
 
-        final VisitPublicFeedback existingVisitPublicFeedback = findVisitPublicFeedbackByIdAndSiteUUcode(visitPublicFeedbackId, siteUUCode);
+        // The row stays locked until the feedback is saved, a concurrent submission waits and then finds it submitted.
+        final VisitPublicFeedback existingVisitPublicFeedback = visitPublicFeedbackRepository
+                .findLockedByVisitPublicFeedbackIdAndVisitSiteUuCode(visitPublicFeedbackId, siteUUCode)
+                .orElseThrow(() -> new DataNotFoundException(translator.toLocal("visit.feedback.not.found", visitPublicFeedbackId)));
 
         // Check if visitor comment already exists.
         if (existingVisitPublicFeedback.isBookingFeedback()) {
@@ -0,0 +1,90 @@
+package org.baps.api.vtms.services;
+
+import org.baps.api.vtms.enumerations.VisitTypeEnum;
+import org.baps.api.vtms.repositories.VisitRepository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+@Service
+@SuppressFBWarnings({"EI_EXPOSE_REP2"})
+public class VisitNumberService {
+
+    private final VisitRepository visitRepository;
+
+    private final TransactionTemplate requiresNewTransactionTemplate;
+
+    private final int allocationSize;
+
+    private final Map<VisitNumberKey, VisitNumberBlock> visitNumberBlockMap = new ConcurrentHashMap<>();
+
+    public VisitNumberService(final VisitRepository visitRepository, final PlatformTransactionManager platformTransactionManager,
+            @Value("${visit_number.allocation-size:1}") final int allocationSize) {
+        this.visitRepository = visitRepository;
+        this.requiresNewTransactionTemplate = new TransactionTemplate(platformTransactionManager);
+        this.requiresNewTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.allocationSize = allocationSize;
+    }
+
+    /**
+     * Allocates the next visit number for a site, visit type and site date from the visit_number_counters table.
+     *
+     * <p>With the default allocation size of one, every number is allocated in the caller's transaction. The counter
+     * row stays locked until the visit is saved, so visits of the same site, type and day are numbered one at a time,
+     * and a rolled back visit gives its number back.
+     *
+     * <p>With a greater allocation size, numbers are taken in blocks that are served from memory. A block is shared by
+     * the callers on this node, so it is allocated in its own transaction to never be handed out twice if one caller
+     * rolls back. That transaction takes a second connection, but only once per block. Numbers are unique across nodes
+     * but only ordered within a node.
+     *
+     * @param siteId        The unique identifier of the site.
+     * @param visitTypeEnum The type of visit.
+     * @param visitDate     The current date of the site.
+     * @return The next visit number, starting from 1 for every site, visit type and date.
+     */
+    public int nextVisitNumber(final String siteId, final VisitTypeEnum visitTypeEnum, final LocalDate visitDate) {
+
+        if (allocationSize <= 1) {
+            return visitRepository.allocateVisitNumbers(siteId, visitTypeEnum.name(), visitDate, 1);
+        }
+
+        final VisitNumberKey visitNumberKey = new VisitNumberKey(siteId, visitTypeEnum, visitDate);
+
+        if (!visitNumberBlockMap.containsKey(visitNumberKey)) {
+            // Sites in other time zones can still be on the previous day, only blocks older than that are never used again.
+            final LocalDate previousDate = visitDate.minusDays(1);
+            visitNumberBlockMap.keySet().removeIf(existingKey -> existingKey.visitDate().isBefore(previousDate));
+        }
+
+        final VisitNumberBlock visitNumberBlock = visitNumberBlockMap.computeIfAbsent(visitNumberKey, key -> new VisitNumberBlock());
+
+        synchronized (visitNumberBlock) {
+            if (visitNumberBlock.next > visitNumberBlock.last) {
+                visitNumberBlock.last = requiresNewTransactionTemplate.execute(status ->
+                    visitRepository.allocateVisitNumbers(siteId, visitTypeEnum.name(), visitDate, allocationSize));
+                visitNumberBlock.next = visitNumberBlock.last - allocationSize + 1;
+            }
+            return visitNumberBlock.next++;
+        }
+    }
+
+    private record VisitNumberKey(String siteId, VisitTypeEnum visitTypeEnum, LocalDate visitDate) {
+    }
+
+    private static final class VisitNumberBlock {
+
+        private int next = 1;
+
+        private int last;
+    }
+}
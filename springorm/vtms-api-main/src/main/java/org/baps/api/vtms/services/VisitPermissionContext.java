@@ -0,0 +1,52 @@
+package org.baps.api.vtms.services;
+
+import org.baps.api.vtms.enumerations.RoleTagEnum;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Role tags of the logged-in personnel in a visit, kept for the current request so the visit permission check and
+ * the visit aspect read the visit personnel once instead of once each.
+ */
+@Component
+@RequestScope
+public class VisitPermissionContext {
+
+    private String visitId;
+
+    private String siteUUCode;
+
+    private Set<RoleTagEnum> roleTagSet;
+
+    /**
+     * Retrieves the role tags of the logged-in personnel in a visit, if they were loaded by this request.
+     *
+     * @param visitId    The identifier of the visit.
+     * @param siteUUCode The unique code of the site.
+     * @return The role tags of the personnel in the visit, empty if they were not loaded for this visit.
+     */
+    public Optional<Set<RoleTagEnum>> getRoleTags(final String visitId, final String siteUUCode) {
+        if (roleTagSet != null && Objects.equals(this.visitId, visitId) && Objects.equals(this.siteUUCode, siteUUCode)) {
+            return Optional.of(roleTagSet);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Keeps the role tags of the logged-in personnel in a visit for the rest of the request.
+     *
+     * @param visitId    The identifier of the visit.
+     * @param siteUUCode The unique code of the site.
+     * @param roleTagSet The role tags of the personnel in the visit.
+     */
+    public void putRoleTags(final String visitId, final String siteUUCode, final Set<RoleTagEnum> roleTagSet) {
+        this.visitId = visitId;
+        this.siteUUCode = siteUUCode;
+        this.roleTagSet = Set.copyOf(roleTagSet);
+    }
+}
@@ -236,4 +236,18 @@ public class VisitPersonnelService {
                 .findByVisitVisitIdAndVisitStatusNotAndPersonnelPersonnelIdAndPersonnelStatusNotAndVisitSiteUuCode(visitId, Status.DELETED,
                         personnelId, Status.DELETED, siteUUCode);
     }
+
+    /**
+     * Retrieves the role tags of a personnel in a visit, without loading the VisitPersonnel entities.
+     *
+     * @param visitId     The identifier of the visit.
+     * @param siteUUCode  The unique code of the site.
+     * @param personnelId The identifier of the personnel.
+     * @return The role tags of the personnel in the visit, empty if the personnel does not exist in the visit.
+     */
+    @Transactional(readOnly = true)
+    public Set<RoleTagEnum> findRoleTagsByVisitIdAndSiteUucodeAndPersonnelId(final String visitId, final String siteUUCode,
+            final String personnelId) {
+        return visitPersonnelRepository.findRoleTagEnumByVisitIdAndPersonnelIdAndSiteUuCode(visitId, personnelId, siteUUCode);
+    }
 }
@@ -4,6 +4,7 @@ import org.baps.api.vtms.common.utils.CommonUtils;
 import org.baps.api.vtms.common.utils.Translator;
 import org.baps.api.vtms.common.utils.ValidationUtils;
 import org.baps.api.vtms.constants.GeneralConstant;
+import org.baps.api.vtms.constants.SpecificationConstants;
 import org.baps.api.vtms.enumerations.APIModuleEnum;
 import org.baps.api.vtms.enumerations.LocationTagEnum;
 import org.baps.api.vtms.enumerations.LookupKeyEnum;
@@ -31,14 +32,17 @@ import org.baps.api.vtms.models.VisitBasicInfoModel;
 import org.baps.api.vtms.models.VisitCountModel;
 import org.baps.api.vtms.models.VisitModel;
 import org.baps.api.vtms.models.VisitSummaryModel;
+import org.baps.api.vtms.models.VisitSummaryServiceLocationModel;
 import org.baps.api.vtms.models.VisitSummaryServiceModel;
 import org.baps.api.vtms.models.VisitTabModel;
 import org.baps.api.vtms.models.VisitorModel;
+import org.baps.api.vtms.models.base.KeysetPage;
 import org.baps.api.vtms.models.base.PaginatedResponse;
 import org.baps.api.vtms.models.base.Status;
 import org.baps.api.vtms.models.entities.Personnel;
 import org.baps.api.vtms.models.entities.Role;
 import org.baps.api.vtms.models.entities.ServiceTemplate;
+import org.baps.api.vtms.models.entities.Site;
 import org.baps.api.vtms.models.entities.Visit;
 import org.baps.api.vtms.models.entities.VisitFeedback;
 import org.baps.api.vtms.models.entities.VisitPersonnel;
@@ -63,13 +67,14 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.annotation.Timed;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -77,6 +82,7 @@ import org.apache.commons.lang3.StringUtils;
 @SuppressFBWarnings({"EI_EXPOSE_REP2"})
 @RequiredArgsConstructor
 @Service
+@Timed(value = "vtms.service.method", description = "Execution time of the service methods")
 public class VisitService {
 
     private static final int MAX_VISIT_NUMBER = 9999;
@@ -99,6 +105,12 @@ public class VisitService {
     
     private final ServiceTemplateService serviceTemplateService;
 
+    private final VisitNumberService visitNumberService;
+
+    private final VisitDailyRollupService visitDailyRollupService;
+
+    private final TourSlotReservationService tourSlotReservationService;
+
     private final VisitMapper visitMapper;
 
     private final RoleMapper roleMapper;
@@ -115,35 +127,25 @@ public class VisitService {
 
     private final VisitRepository visitRepository;
 
-    private final VisitServiceRepository visitServiceRepository;
-
     private final VisitPersonnelRepository visitPersonnelRepository;
 
+    private final VisitServiceRepository visitServiceRepository;
+
     private final Translator translator;
 
     private final ValidationUtils validationUtils;
 
     /**
-     * Finds the last created visit of a specific type for a given site.
-     * 
-     * @param siteUUCode The unique identifier of the site.
-     * @param visitTypeEnum The type of visit to search for.
-     * @return The last created visit of the specified type for the given site, or null if not found.
-     */
-    @Transactional(readOnly = true)
-    public Visit findLastCreatedVisitBySiteIdAndVisitType(final String siteUUCode, final VisitTypeEnum visitTypeEnum) {
-        return visitRepository.findTopBySiteUuCodeAndVisitTypeEnumOrderByCreatedAtDesc(siteUUCode, visitTypeEnum);
-    }
-
-    /**
-     * Generates a unique visit number based on the visit type, site UUID, and existing visit data.
+     * Generates a unique visit number based on the visit type, site UUID and the current site date.
+     * The running number is allocated atomically per site, visit type and day by the VisitNumberService, in the
+     * transaction saving the visit.
      *
      * @param visitTypeEnum The type of visit (VISIT or TOUR).
      * @param siteUUCode    The UUID code of the site.
      * @return A unique visit number for the given visit type and site.
      * @throws DataValidationException If the visit type is invalid.
      */
-    @Transactional(readOnly = true)
+    @Transactional
     public String getNextVisitNumber(final VisitTypeEnum visitTypeEnum, final String siteUUCode) {
 
         // Initialize a StringBuilder to build the visit number
@@ -156,24 +158,18 @@ public class VisitService {
             default -> throw new DataValidationException(translator.toLocal("invalid.enum.value", visitTypeEnum));
         }
 
+        final Site existingSite = siteService.findByUUCode(siteUUCode);
+        final LocalDate siteDate = siteService.getCurrentDateTimeFromExistingSite(existingSite).toLocalDate();
+
         // Append another separator
         visitNumber.append("-");
-        visitNumber.append(siteService.getCurrentDateTimeFromExistingSite(
-                siteService.findByUUCode(siteUUCode)).format(DateTimeFormatter.ofPattern("ddMMyy")));
+        visitNumber.append(siteDate.format(DateTimeFormatter.ofPattern("ddMMyy")));
 
         // Append a separator
         visitNumber.append("-");
 
-        // Retrieve the last created visit for the given site and visit type
-        final Visit lastVisit = findLastCreatedVisitBySiteIdAndVisitType(siteUUCode, visitTypeEnum);
-
-        int visitNumberCount = 1;
-
-        // Check if the last visit's request number contains the generated visit number
-        if (ObjectUtils.isNotEmpty(lastVisit) && lastVisit.getRequestNumber().contains(visitNumber)) {
-            // Extract the visit number count from the last visit's request number
-            visitNumberCount = Integer.parseInt(lastVisit.getRequestNumber().replace(visitNumber, "")) + 1;
-        }
+        // Allocate the next visit number for the given site, visit type and date
+        final int visitNumberCount = visitNumberService.nextVisitNumber(existingSite.getSiteId(), visitTypeEnum, siteDate);
 
         // Check if the visit number count is within the allowable range
         if (visitNumberCount <= MAX_VISIT_NUMBER) {
@@ -202,21 +198,12 @@ public class VisitService {
         final VisitModel visitModel = visitMapper.visitToVisitModel(existingVisit);
 
         if (isPrivate) {
-            final VisitTabModel visitTabModel = new VisitTabModel();
+            // Tour, services, meetings and interview coordinator flags are read with a single query.
+            final VisitTabModel visitTabModel = visitRepository.findVisitTabModelByVisitIdAndSiteUuCode(visitId, siteUUCode)
+                    .orElseGet(VisitTabModel::new);
 
             visitTabModel.setSecondaryVisitorAvailable(ObjectUtils.isNotEmpty(visitModel.getSecondaryVisitorModel()));
-            visitTabModel.setTourAvailable(visitServiceRepository.existsByVisitVisitIdAndVisitStatusNotAndServiceTemplateServiceTypeEnum(
-                    visitId, Status.DELETED, ServiceTypeEnum.TOUR));
-            visitTabModel.setServicesAvailable(visitServiceRepository
-                    .existsByVisitVisitIdAndVisitStatusNotAndServiceTemplateServiceTypeEnum(
-                    visitId, Status.DELETED, ServiceTypeEnum.SERVICE));
-            visitTabModel.setMeetingsAvailable(visitServiceRepository
-                    .existsByVisitVisitIdAndVisitStatusNotAndServiceTemplateServiceTypeEnum(
-                    visitId, Status.DELETED, ServiceTypeEnum.MEETING));
             visitTabModel.setDocumentsAvailable(CollectionUtils.isNotEmpty(existingVisit.getDocumentModelList()));
-            visitTabModel.setInterviewCoordinatorAvailable(
-                    visitPersonnelRepository.existsVisitPersonnelByVisitVisitIdAndRoleTagEnumAndStatusNotAndVisitSiteUuCode(visitId,
-                            RoleTagEnum.INTERVIEW_SETUP_COORDINATOR, Status.DELETED, siteUUCode));
 
             if (ObjectUtils.isNotEmpty(existingVisit.getVisitFeedback())
                     && CollectionUtils.isNotEmpty(existingVisit.getVisitFeedback().getFeedBackRatingModelListForGeneralFeedBack())
@@ -272,7 +259,7 @@ public class VisitService {
         if (StringUtils.isBlank(id) || StringUtils.isBlank(siteUUCode)) {
             throw new DataNotFoundException(translator.toLocal("visit.with.visit_id.not.found", id));
         } else {
-            return visitRepository.findByVisitIdAndSiteUuCode(id, siteUUCode)
+            return visitRepository.findWithDetailByVisitIdAndSiteUuCode(id, siteUUCode)
                     .orElseThrow(() -> new DataNotFoundException(translator.toLocal("visit.with.visit_id.not.found", id)));
         }
     }
@@ -320,6 +307,8 @@ public class VisitService {
      * @param siteUUCode    The unique code associated with the site for filtering visits.
      * @param selfAssignVisit     Flag indicating whether to retrieve self-assigned visits only.
      * @param visitorType   A filter for the visitor type. (Optional)
+     * @param cursor        The cursor of the next page for keyset pagination, blank for its first page. (Optional)
+     * @param includeTotalCount Flag indicating whether to count the total number of visits in keyset pagination.
      * @return A paginated response containing a list of VisitBasicInfo objects.
      */
     @Transactional(readOnly = true)
@@ -327,7 +316,8 @@ public class VisitService {
             @Nullable final String sortDirection, @Nullable final String sortProperty, @Nullable final String search, 
             @Nullable final String visitStage, @Nullable final String typeOfVisit,
             @Nullable final LocalDateTime startDateTime, @Nullable final LocalDateTime endDateTime,
-            final String siteUUCode, final boolean selfAssignVisit, @Nullable final String visitorType) {
+            final String siteUUCode, final boolean selfAssignVisit, @Nullable final String visitorType,
+            @Nullable final String cursor, final boolean includeTotalCount) {
 
         // Retrieve the personnel information based on the PID.
         final Personnel personnel = personnelService.getLoginedPersonnel();
@@ -356,7 +346,20 @@ public class VisitService {
                         visitStageEnumList, typeOfVisit, startDateTime, endDateTime, personnelId, VisitTypeEnum.VISIT, null,
                     siteUUCode, visitorType);
 
-        final Page<Visit> existingVisitPage = visitRepository.findAll(specification, PageRequest.of(pageNo - 1, pageSize));
+        // A cursor, even blank, switches to keyset pagination.
+        if (cursor != null) {
+            final KeysetPage<Visit> existingVisitKeysetPage = visitRepository.findKeysetPage(Visit.class, specification, cursor,
+                pageSize, sortProperty, SpecificationConstants.CREATED_AT, SpecificationConstants.VISIT_ID,
+                CommonUtils.getSortDirection(sortDirection, translator), Visit::getCreatedAt, Visit::getVisitId,
+                Visit.LIST_ENTITY_GRAPH);
+
+            final Long totalCount = includeTotalCount ? visitRepository.count(specification) : null;
+
+            return CommonUtils.calculateKeysetPaginationAndPrepareResponse(existingVisitKeysetPage, totalCount, pageSize,
+                visitMapper.visitListToVisitBasicInfoList(existingVisitKeysetPage.getContent()));
+        }
+
+        final Page<Visit> existingVisitPage = visitRepository.findListPage(specification, PageRequest.of(pageNo - 1, pageSize));
 
         List<VisitBasicInfoModel> visitBasicInfoModels = new ArrayList<>();
 
@@ -462,7 +465,7 @@ public class VisitService {
         final Set<String> serviceTemplateIds = visitModel.getRequestedServices().stream()
                 .map(ServiceTemplateBasicInfoModel::getServiceTemplateId).collect(Collectors.toSet());                
 
-        serviceTemplateService.findByServiceTemplateIdsAndSiteUUCode(serviceTemplateIds, siteUUCode);
+        serviceTemplateService.validateServiceTemplateIds(serviceTemplateIds, siteUUCode);
         
         // Map data from the VisitModel to the Visit entity
         saveOrUpdateVisit = visitMapper.visitModelToVisit(saveOrUpdateVisit, visitModel);
@@ -533,9 +536,7 @@ public class VisitService {
             final boolean relationShipManagerAddedOrChanged, final String siteUUCode) {
 
         if (newVisit) {
-            notificationComposeService.sendVisitApprovalPending(visit, siteUUCode);
-            notificationComposeService.sendVisitRequestReceived(visit);
-            notificationComposeService.sendVisitCreatedSuccessfully(visit);
+            notificationComposeService.sendNewVisitNotifications(visit, siteUUCode);
         }
 
         if (relationShipManagerAddedOrChanged) {
@@ -586,15 +587,15 @@ public class VisitService {
                     .filter(visitVisitor -> visitVisitor.getVisitorContactTypeEnum().equals(contactType))
                     .findFirst();
 
-            countryService.findCountryById(visitorModel.getCountry());
+            countryService.validateCountryId(visitorModel.getCountry());
             
-            if (CollectionUtils.isEmpty(countryService.findCountriesByIsdCode(visitorModel.getPhoneCountryCode()))) {
+            if (!countryService.isdCodeExists(visitorModel.getPhoneCountryCode())) {
                 throw new DataNotFoundException(translator
                         .toLocal("country.with.phone_country_code.not_found", visitorModel.getPhoneCountryCode()));
             }
             
             if (StringUtils.isNoneBlank(visitorModel.getState())) {
-                stateService.findStateById(visitorModel.getState());
+                stateService.validateStateId(visitorModel.getState());
             }
             
             if (optionalVisitVisitor.isEmpty() && StringUtils.isBlank(visitorModel.getVisitorId())) {
@@ -640,6 +641,8 @@ public class VisitService {
     //     6. Updates the visit's stage with the new stage, and records the stage history.
     //     7. If the new stage is COMPLETED, creates a VisitFeedback instance and associates it with the visit.
     //     8. Saves the updated visit in the repository.
+    //     9. If a pre-booked tour is CANCELLED, releases its guests from the tour slot.
+    @Transactional
     public void updateVisitStage(final String visitId, final StageModel stageModel, final boolean allowAnyStatus, final String siteUUCode) {
 
         final Visit existingVisit = findByIdAndSiteUUCode(visitId, siteUUCode);
@@ -657,6 +660,11 @@ public class VisitService {
 
         visitRepository.save(existingVisit);
 
+        if (visitStageEnum == VisitStageEnum.CANCELLED && ObjectUtils.isNotEmpty(existingVisit.getTourSlot())
+                && ObjectUtils.isNotEmpty(existingVisit.getTotalVisitors())) {
+            tourSlotReservationService.releaseGuestSize(existingVisit.getTourSlot().getTourSlotId(), existingVisit.getTotalVisitors());
+        }
+
         if (visitStageEnum == VisitStageEnum.CANCELLED) {
             notificationComposeService.sendVisitCancelledNotification(existingVisit);
         } else if (visitStageEnum == VisitStageEnum.DECLINED) {
@@ -871,8 +879,7 @@ public class VisitService {
         
         final List<VisitStageEnum> activeVisitStageEnumList = CommonUtils.getActiveVisitStageEnumListByVisitTypeEnum(visitTypeEnum);
 
-        return visitRepository.findVisitCountGroupByStartDateAndTime(siteUUCode, startDateTime, endDateTime, visitTypeEnum,
-                activeVisitStageEnumList);
+        return visitDailyRollupService.getVisitCount(siteUUCode, startDateTime, endDateTime, visitTypeEnum, activeVisitStageEnumList);
     }
 
     /**
@@ -900,74 +907,83 @@ public class VisitService {
         final Specification<Visit> specification = visitSpecification.buildVisitSpecificationForVisitSummary(search,
                 startDateTime, endDateTime, personnel.getPersonnelId(), activeVisitStageEnumList, visitTypeEnum, siteUUCode);
 
-        final var existingVisitList = visitRepository.findAll(specification);
+        // Only the summary columns of the visits are read, not the visits with their associations.
+        final List<VisitBasicInfoModel> visitBasicInfoModelList = visitRepository.findVisitBasicInfoListForVisitSummary(specification);
 
-        return existingVisitList.stream()
-                .map(existingVisit -> {
+        if (CollectionUtils.isEmpty(visitBasicInfoModelList)) {
+            return new ArrayList<>();
+        }
 
-                    // Initialize a VisitSummaryModel for the current visit
-                    final VisitSummaryModel visitSummaryModel = new VisitSummaryModel();
+        final Set<String> visitIdSet = visitBasicInfoModelList.stream().map(VisitBasicInfoModel::getVisitId)
+                .collect(Collectors.toSet());
 
-                    // Set basic visit information in the VisitSummaryModel
-                    final List<VisitSummaryServiceModel> visitSummaryServiceModelList = new ArrayList<>();
-                    visitSummaryModel.setVisitBasicInfoModel(visitMapper.convertVisitToVisitBasicInfo(existingVisit));
+        // Visit personnel of the logged-in personnel in these visits, with their role, grouped by visit.
+        final List<VisitPersonnel> existingVisitPersonnelList = visitPersonnelRepository
+                .findAllWithRoleByPersonnelIdAndVisitIds(personnel.getPersonnelId(), visitIdSet);
 
-                    // Filter existing visit personnel for the logged-in personnel, considering distinct roles
-                    List<VisitPersonnel> existingVisitPersonnelInVisit = existingVisit.getVisitPersonnelList().stream()
-                            .filter(existinVisitPersonnel -> existinVisitPersonnel.getPersonnel().equals(personnel))
-                            .toList();
+        final Map<String, List<VisitPersonnel>> mapOfVisitIdWithVisitPersonnelList = existingVisitPersonnelList.stream()
+                .collect(Collectors.groupingBy(existingVisitPersonnel -> existingVisitPersonnel.getVisit().getVisitId()));
+
+        // Visit personnel ids of the logged-in personnel by the visit service they participate in.
+        final Map<String, Set<String>> mapOfVisitServiceIdWithVisitPersonnelIdSet = existingVisitPersonnelList.stream()
+                .filter(existingVisitPersonnel -> ObjectUtils.isNotEmpty(existingVisitPersonnel.getVisitService()))
+                .collect(Collectors.groupingBy(existingVisitPersonnel -> existingVisitPersonnel.getVisitService().getVisitServiceId(),
+                        Collectors.mapping(VisitPersonnel::getVisitPersonnelId, Collectors.toSet())));
+
+        // Services the logged-in personnel participated in, one row per location, grouped by visit.
+        final Map<String, List<VisitSummaryServiceLocationModel>> mapOfVisitIdWithServiceLocationList =
+                mapOfVisitServiceIdWithVisitPersonnelIdSet.isEmpty() ? Map.of()
+                        : visitServiceRepository.findVisitSummaryServiceLocationModelByVisitServiceIds(
+                                mapOfVisitServiceIdWithVisitPersonnelIdSet.keySet()).stream()
+                        .collect(Collectors.groupingBy(VisitSummaryServiceLocationModel::getVisitId));
+
+        return visitBasicInfoModelList.stream()
+                .map(visitBasicInfoModel -> {
+
+                    // Initialize a VisitSummaryModel for the current visit
+                    final VisitSummaryModel visitSummaryModel = new VisitSummaryModel();
+                    visitSummaryModel.setVisitBasicInfoModel(visitBasicInfoModel);
 
                     // Remove duplicate roles for the logged-in personnel within the same visit
-                    existingVisitPersonnelInVisit = existingVisitPersonnelInVisit.stream()
+                    final List<VisitPersonnel> existingVisitPersonnelInVisit = mapOfVisitIdWithVisitPersonnelList
+                            .getOrDefault(visitBasicInfoModel.getVisitId(), List.of()).stream()
                             .filter(CommonUtils.distinctByKey(p -> p.getRole().getRoleId()))
                             .toList();
 
-                    // Remove duplicate roles for the logged-in personnel within the same visit
                     if (CollectionUtils.isNotEmpty(existingVisitPersonnelInVisit)) {
                         visitSummaryModel.setVisitPersonnelModelList(visitPersonnelMapper
                                 .visitPersonnelListToVisitPersonnelModelList(existingVisitPersonnelInVisit));
                     }
 
-                    // Process each service in the existing visit
-                    existingVisit.getVisitServiceList().stream().forEach(existingVisitService -> {
-
-                        // Filter existing visit personnel for the logged-in personnel within the current service
-                        final List<VisitPersonnel> existingVisitPersonnelInService = existingVisitService.getVisitPersonnelList().stream()
-                                .filter(existinVisitPersonnel -> existinVisitPersonnel.getPersonnel().equals(personnel)).toList();
-
-                        // Check if personnel participated in the service
-                        if (CollectionUtils.isNotEmpty(existingVisitPersonnelInService)) {
-
-                            // Process service information and add it to the VisitSummaryServiceModelList
-                            if (CollectionUtils.isNotEmpty(existingVisitService.getVisitLocationList())) {
-
-                                // Process each location in the service
-                                existingVisitService.getVisitLocationList().stream().forEach(existingVisitLocation -> {
-
-                                    if (!existingVisitService.getServiceTemplate().getServiceTypeEnum().equals(ServiceTypeEnum.TOUR)
-                                            || existingVisitService.getServiceTemplate().getServiceTypeEnum().equals(ServiceTypeEnum.TOUR)
-                                            && existingVisitLocation.getLocationTagEnum().equals(LocationTagEnum.PICKUP)) {
-                                        final var visitSummaryServiceModelForService = 
-                                                visitSummaryMapper.mapVisitSummaryServiceModel(existingVisitService, existingVisitLocation);
-                                        visitSummaryServiceModelList.add(visitSummaryServiceModelForService);
-                                    }
-
-                                    if (!ObjectUtils.isEmpty(existingVisitLocation.getInterviewVolunteerVisitPersonnel()) 
-                                            && existingVisitPersonnelInService.contains(existingVisitLocation
-                                                    .getInterviewVolunteerVisitPersonnel())) {
-                                        final var visitSummaryServiceModel = visitSummaryMapper
-                                                .visitLocationToVisitSummaryServiceModel(existingVisitLocation);  
-                                        visitSummaryServiceModel.setServiceTemplateName(GeneralConstant.AUDIO_VIDEO);
-                                        visitSummaryServiceModelList.add(visitSummaryServiceModel);
-                                    }  
-                                });
-                            } else {
-                                final var visitSummaryServiceModelForService = 
-                                        visitSummaryMapper.mapVisitSummaryServiceModel(existingVisitService, null);
-                                visitSummaryServiceModelList.add(visitSummaryServiceModelForService);
-                            }
-                        }
-                    });
+                    final List<VisitSummaryServiceModel> visitSummaryServiceModelList = new ArrayList<>();
+
+                    mapOfVisitIdWithServiceLocationList.getOrDefault(visitBasicInfoModel.getVisitId(), List.of())
+                            .forEach(serviceLocationModel -> {
+
+                                // A service without any location is a single row without location columns
+                                if (StringUtils.isBlank(serviceLocationModel.getVisitLocationId())) {
+                                    visitSummaryServiceModelList.add(
+                                            visitSummaryMapper.mapVisitSummaryServiceModel(serviceLocationModel, false));
+                                    return;
+                                }
+
+                                if (!ServiceTypeEnum.TOUR.equals(serviceLocationModel.getServiceTypeEnum())
+                                        || LocationTagEnum.PICKUP.equals(serviceLocationModel.getLocationTagEnum())) {
+                                    visitSummaryServiceModelList.add(
+                                            visitSummaryMapper.mapVisitSummaryServiceModel(serviceLocationModel, true));
+                                }
+
+                                // Interview at this location is done by the logged-in personnel
+                                if (StringUtils.isNotBlank(serviceLocationModel.getInterviewVolunteerVisitPersonnelId())
+                                        && mapOfVisitServiceIdWithVisitPersonnelIdSet.get(serviceLocationModel.getVisitServiceId())
+                                                .contains(serviceLocationModel.getInterviewVolunteerVisitPersonnelId())) {
+                                    final var visitSummaryServiceModel = visitSummaryMapper
+                                            .serviceLocationModelToInterviewVisitSummaryServiceModel(serviceLocationModel);
+                                    visitSummaryServiceModel.setServiceTemplateName(GeneralConstant.AUDIO_VIDEO);
+                                    visitSummaryServiceModelList.add(visitSummaryServiceModel);
+                                }
+                            });
+
                     // Set the VisitSummaryServiceModelList in the VisitSummaryModel
                     visitSummaryModel.setVisitSummaryServiceModelList(visitSummaryServiceModelList);
 
@@ -997,39 +1013,6 @@ public class VisitService {
                 personnel.getPersonnelId(), activeVisitStageEnumList, Status.DELETED);
     }
     
-    /**
-     * Finds the RoleTagEnum associated with a specific VisitPersonnel and VisitService, based on provided criteria.
-     * 
-     * @param visitId           The identifier for the visit.
-     * @param siteUUCode        The site's unique universal code.
-     * @param roleTagEnumList  The list of RoleTagEnums to filter against.
-     * @return                  A set of RoleTagEnum values matching the provided criteria.
-     */
-    @Transactional(readOnly = true)
-    public Set<RoleTagEnum> findFilteredRoleTagsFromVisitByRoleTagList(final String visitId,
-            final String siteUUCode, final List<RoleTagEnum> roleTagEnumList) {
-        
-        final var personnel = personnelService.getLoginedPersonnel();
-        
-        // Retrieve the existing VisitService based on provided identifiers.
-        final var visitPersonnelList = visitPersonnelService
-                .findVisitPersonnelListByVisitIdAndSiteUucodeAndPersonnelId(visitId, siteUUCode, personnel.getPersonnelId());
-     
-        // Initialize a set to hold the existing RoleTagEnums.
-        Set<RoleTagEnum> existingRoleTags = new HashSet<>();
-        
-        // Check if the existing VisitService has associated VisitPersonnel.
-        if (CollectionUtils.isNotEmpty(visitPersonnelList)) {
-            // Filter VisitPersonnel based on RoleTagEnum and personnel, then map them to RoleTagEnum values.
-            existingRoleTags = visitPersonnelList.stream()
-                    .filter(visitPersonnel -> roleTagEnumList.contains(visitPersonnel.getRoleTagEnum()))
-                    .map(VisitPersonnel::getRoleTagEnum).collect(Collectors.toSet());
-        }
-
-        // Return the set of existing RoleTagEnums.
-        return existingRoleTags;
-    }
-
     public Visit saveVisit(final Visit visit) {
         return visitRepository.save(visit);
     }
@@ -0,0 +1,25 @@
+    alter table if exists tour_slots
+       add column booked_guest_count integer not null DEFAULT 0;
+
+    update tour_slots ts set booked_guest_count = booked.total_visitors
+       from (
+           select v.tour_slot_id, coalesce(sum(v.total_visitors), 0) as total_visitors
+             from visits v
+            where v.tour_slot_id is not null
+              and v.stage != 'CANCELLED'
+              and v.status != 'DELETED'
+            group by v.tour_slot_id
+       ) booked
+     where ts.tour_slot_id = booked.tour_slot_id;
+
+    alter table if exists tour_slots
+       add constraint booked_guest_count_check
+       check (booked_guest_count >= 0);
+
+    -- Slots overbooked before the count existed keep their guests, their maximum is raised to what was actually booked.
+    update tour_slots set max_guest_size = booked_guest_count
+     where booked_guest_count > max_guest_size;
+
+    alter table if exists tour_slots
+       add constraint booked_guest_count_max_guest_size_check
+       check (booked_guest_count <= max_guest_size);
@@ -0,0 +1,20 @@
+    create table visit_number_counters (
+        "site_id" varchar(36) not null,
+        type varchar(64) not null,
+        visit_date date not null,
+        last_number integer not null,
+        primary key ("site_id", type, visit_date)
+    );
+
+    alter table if exists visit_number_counters
+       add constraint "site_id"
+       foreign key ("site_id")
+       references sites;
+
+    insert into visit_number_counters ("site_id", type, visit_date, last_number)
+        select v."site_id", v.type, to_date(split_part(v.request_number, '-', 2), 'DDMMYY'),
+               max(cast(split_part(v.request_number, '-', 3) as integer))
+          from visits v
+         where v."site_id" is not null
+           and v.request_number ~ '^[A-Z]+-[0-9]{6}-[0-9]+$'
+         group by v."site_id", v.type, to_date(split_part(v.request_number, '-', 2), 'DDMMYY');
@@ -0,0 +1,130 @@
+    -- Every entity carries @Where(clause = "status != 'DELETED'"), so indexes on soft deleted tables are partial.
+
+    -- visits: list, dashboard count and summary queries filter by site, type and start date time range.
+    create index if not exists idx_visits_site_type_start_date_time
+       on visits ("site_id", type, start_date_time)
+       include (stage, total_visitors)
+       where "status" <> 'DELETED';
+
+    -- visits: scheduler moves PENDING / ACCEPTED / CHECK_IN visits that ended.
+    create index if not exists idx_visits_stage_end_date_time
+       on visits (stage, end_date_time)
+       where "status" <> 'DELETED';
+
+    -- visits: daily visit list for the next day across sites.
+    create index if not exists idx_visits_start_date_time
+       on visits (start_date_time)
+       where "status" <> 'DELETED';
+
+    -- visits: pre-booked visits by tour slot.
+    create index if not exists idx_visits_tour_slot_id
+       on visits (tour_slot_id)
+       where "status" <> 'DELETED' and tour_slot_id is not null;
+
+    -- visits: public booking lookup by request number.
+    create index if not exists idx_visits_site_request_number
+       on visits ("site_id", request_number)
+       where "status" <> 'DELETED';
+
+    -- visit_personnel: personnel availability overlap and self assigned visit filters.
+    create index if not exists idx_visit_personnel_personnel_id_visit_id
+       on visit_personnel (personnel_id, visit_id)
+       where "status" <> 'DELETED';
+
+    -- visit_personnel: visit detail, role tag checks and role based sorting.
+    create index if not exists idx_visit_personnel_visit_id_tag
+       on visit_personnel (visit_id, tag)
+       where "status" <> 'DELETED';
+
+    create index if not exists idx_visit_personnel_role_id_visit_id
+       on visit_personnel (role_id, visit_id)
+       where "status" <> 'DELETED';
+
+    create index if not exists idx_visit_personnel_visit_service_id
+       on visit_personnel (visit_service_id)
+       where "status" <> 'DELETED' and visit_service_id is not null;
+
+    -- visit_services / visit_locations: collections loaded per visit and per service.
+    create index if not exists idx_visit_services_visit_id
+       on visit_services (visit_id)
+       where "status" <> 'DELETED';
+
+    create index if not exists idx_visit_services_service_id
+       on visit_services (service_id)
+       where "status" <> 'DELETED';
+
+    create index if not exists idx_visit_locations_visit_service_id
+       on visit_locations (visit_service_id)
+       where "status" <> 'DELETED';
+
+    -- visit_visitor: visitors of a visit and visits of a visitor.
+    create index if not exists idx_visit_visitor_visit_id
+       on visit_visitor (visit_id)
+       where "status" <> 'DELETED';
+
+    create index if not exists idx_visit_visitor_visitor_id
+       on visit_visitor (visitor_id)
+       where "status" <> 'DELETED';
+
+    -- visit_public_feedback: joined by the visit list and detail entity graphs, the join does not carry its @Where.
+    create index if not exists idx_visit_public_feedback_visit_id
+       on visit_public_feedback (visit_id);
+
+    -- tour_slots: slots of a site within a date time range.
+    create index if not exists idx_tour_slots_site_start_date_time
+       on tour_slots ("site_id", start_date_time, end_date_time)
+       where "status" <> 'DELETED';
+
+    create index if not exists idx_tour_slot_personnel_tour_slot_id
+       on tour_slot_personnel (tour_slot_id)
+       where "status" <> 'DELETED';
+
+    create index if not exists idx_tour_slot_personnel_personnel_id
+       on tour_slot_personnel (personnel_id)
+       where "status" <> 'DELETED';
+
+    -- personnel and roles: resolved on every authenticated request.
+    create index if not exists idx_personnel_uucode
+       on personnel (uucode)
+       where "status" <> 'DELETED';
+
+    create index if not exists idx_personnel_role_personnel_id
+       on personnel_role (personnel_id)
+       where "status" <> 'DELETED';
+
+    create index if not exists idx_personnel_role_role_id_site_id
+       on personnel_role (role_id, site_id)
+       where "status" <> 'DELETED';
+
+    create index if not exists idx_role_permission_role_id
+       on role_permission (role_id)
+       where "status" <> 'DELETED';
+
+    create index if not exists idx_role_tags_role_id
+       on role_tags (role_id)
+       where "status" <> 'DELETED';
+
+    -- roles and sites are mostly reached through a join on the association (pr.role.uucode, v.site.uuCode), which does
+    -- not carry the @Where clause of the joined entity, so a partial index could not be used there.
+    create index if not exists idx_roles_uucode
+       on roles (uucode);
+
+    -- reference data looked up by code or key.
+    create index if not exists idx_sites_uucode
+       on sites (uucode);
+
+    create index if not exists idx_services_site_id_type
+       on services ("site_id", type)
+       where "status" <> 'DELETED';
+
+    create index if not exists idx_service_location_service_id
+       on service_location (service_id)
+       where "status" <> 'DELETED';
+
+    create index if not exists idx_lookup_key
+       on "lookup" ("key")
+       where "status" <> 'DELETED';
+
+    create index if not exists idx_notification_templates_notification_template
+       on notification_templates (notification_template)
+       where "status" <> 'DELETED';
@@ -0,0 +1,25 @@
+    -- pg_trgm lets LIKE '%...%' use a GIN index, it is a trusted extension so the schema owner can create it.
+    create extension if not exists pg_trgm;
+
+    -- Lower cased search columns, kept in sync with every visitor write by the database itself.
+    alter table if exists visitors
+       add column search_full_name text generated always as (lower(first_name || ' ' || last_name)) stored;
+
+    alter table if exists visitors
+       add column search_phone text generated always as (lower(phone_country_code || ' ' || phone_number)) stored;
+
+    alter table if exists visitors
+       add column search_email text generated always as (lower(email)) stored;
+
+    create index if not exists idx_visitors_search_full_name_trgm
+       on visitors using gin (search_full_name gin_trgm_ops)
+       where "status" <> 'DELETED';
+
+    create index if not exists idx_visitors_search_phone_trgm
+       on visitors using gin (search_phone gin_trgm_ops)
+       where "status" <> 'DELETED';
+
+    create index if not exists idx_visitors_search_email_trgm
+       on visitors using gin (search_email gin_trgm_ops)
+       where "status" <> 'DELETED';
+
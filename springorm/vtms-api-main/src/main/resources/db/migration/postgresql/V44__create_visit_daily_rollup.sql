@@ -0,0 +1,63 @@
+    -- Visit count and total visitors per site, start date, type and stage, read by the dashboard instead of grouping visits.
+    create table visit_daily_rollup (
+        "site_id" varchar(36) not null,
+        visit_date date not null,
+        type varchar(64) not null,
+        stage varchar(12) not null,
+        visit_count bigint not null default 0,
+        total_visitors bigint not null default 0,
+        primary key ("site_id", visit_date, type, stage)
+    );
+
+    alter table if exists visit_daily_rollup
+       add constraint "site_id"
+       foreign key ("site_id")
+       references sites;
+
+    -- Adds a delta to one rollup row, creating the row on first use.
+    create or replace function visit_daily_rollup_apply(p_site_id varchar, p_visit_date date, p_type varchar, p_stage varchar,
+            p_visit_count bigint, p_total_visitors bigint) returns void as $$
+    begin
+        insert into visit_daily_rollup ("site_id", visit_date, type, stage, visit_count, total_visitors)
+             values (p_site_id, p_visit_date, p_type, p_stage, p_visit_count, p_total_visitors)
+        on conflict ("site_id", visit_date, type, stage) do update
+                set visit_count = visit_daily_rollup.visit_count + excluded.visit_count,
+                    total_visitors = visit_daily_rollup.total_visitors + excluded.total_visitors;
+    end;
+    $$ language plpgsql;
+
+    -- Moves a visit out of its old bucket and into its new bucket. Soft deleted visits are not counted, like @Where on Visit.
+    create or replace function visit_daily_rollup_on_visit_change() returns trigger as $$
+    begin
+        if tg_op in ('UPDATE', 'DELETE') then
+            if old."status" <> 'DELETED' and old."site_id" is not null and old.type is not null and old.stage is not null then
+                perform visit_daily_rollup_apply(old."site_id", cast(old.start_date_time as date), old.type, old.stage,
+                        -1, -coalesce(old.total_visitors, 0));
+            end if;
+        end if;
+
+        if tg_op in ('INSERT', 'UPDATE') then
+            if new."status" <> 'DELETED' and new."site_id" is not null and new.type is not null and new.stage is not null then
+                perform visit_daily_rollup_apply(new."site_id", cast(new.start_date_time as date), new.type, new.stage,
+                        1, coalesce(new.total_visitors, 0));
+            end if;
+        end if;
+
+        return null;
+    end;
+    $$ language plpgsql;
+
+    create trigger visit_daily_rollup_trigger
+        after insert or delete or update of "site_id", start_date_time, type, stage, total_visitors, "status"
+        on visits
+        for each row
+        execute function visit_daily_rollup_on_visit_change();
+
+    insert into visit_daily_rollup ("site_id", visit_date, type, stage, visit_count, total_visitors)
+        select v."site_id", cast(v.start_date_time as date), v.type, v.stage, count(*), coalesce(sum(v.total_visitors), 0)
+          from visits v
+         where v."status" <> 'DELETED'
+           and v."site_id" is not null
+           and v.type is not null
+           and v.stage is not null
+         group by v."site_id", cast(v.start_date_time as date), v.type, v.stage;
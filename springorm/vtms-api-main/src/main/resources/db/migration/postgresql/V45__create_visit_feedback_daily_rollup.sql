@@ -0,0 +1,129 @@
+    -- Public feedback count and rating sums per site, visit start date and type, read by the dashboard. Every feedback row
+    -- of the visits is counted, submitted or not, as the dashboard divides the rating sums by that count. The rollup is
+    -- maintained by triggers, like visit_daily_rollup, so feedback rows created with a visit, moved with its start date
+    -- or removed with it are counted without any application code.
+    create table visit_feedback_daily_rollup (
+        "site_id" varchar(36) not null,
+        visit_date date not null,
+        type varchar(64) not null,
+        feedback_count bigint not null default 0,
+        booking_process_rating_count bigint not null default 0,
+        booking_process_rating_sum bigint not null default 0,
+        overall_rating_count bigint not null default 0,
+        overall_rating_sum bigint not null default 0,
+        primary key ("site_id", visit_date, type)
+    );
+
+    alter table if exists visit_feedback_daily_rollup
+       add constraint "site_id"
+       foreign key ("site_id")
+       references sites;
+
+    -- Adds a delta of one feedback row to one rollup row, creating the row on first use.
+    create or replace function visit_feedback_daily_rollup_apply(p_site_id varchar, p_visit_date date, p_type varchar,
+            p_sign bigint, p_booking_process_rating integer, p_overall_rating integer) returns void as $$
+    begin
+        insert into visit_feedback_daily_rollup ("site_id", visit_date, type, feedback_count, booking_process_rating_count,
+                booking_process_rating_sum, overall_rating_count, overall_rating_sum)
+             values (p_site_id, p_visit_date, p_type, p_sign,
+                     case when p_booking_process_rating is null then 0 else p_sign end,
+                     p_sign * coalesce(p_booking_process_rating, 0),
+                     case when p_overall_rating is null then 0 else p_sign end,
+                     p_sign * coalesce(p_overall_rating, 0))
+        on conflict ("site_id", visit_date, type) do update
+                set feedback_count = visit_feedback_daily_rollup.feedback_count + excluded.feedback_count,
+                    booking_process_rating_count = visit_feedback_daily_rollup.booking_process_rating_count
+                        + excluded.booking_process_rating_count,
+                    booking_process_rating_sum = visit_feedback_daily_rollup.booking_process_rating_sum
+                        + excluded.booking_process_rating_sum,
+                    overall_rating_count = visit_feedback_daily_rollup.overall_rating_count + excluded.overall_rating_count,
+                    overall_rating_sum = visit_feedback_daily_rollup.overall_rating_sum + excluded.overall_rating_sum;
+    end;
+    $$ language plpgsql;
+
+    -- Moves a feedback row out of the bucket of its old visit and into the bucket of its new visit. Soft deleted feedback
+    -- and feedback of soft deleted visits are not counted, like @Where on VisitPublicFeedback and Visit.
+    create or replace function visit_feedback_daily_rollup_on_feedback_change() returns trigger as $$
+    declare
+        v_visit record;
+    begin
+        if tg_op in ('UPDATE', 'DELETE') and old."status" <> 'DELETED' then
+            select v."site_id", cast(v.start_date_time as date) as visit_date, v.type into v_visit
+              from visits v
+             where v.visit_id = old.visit_id
+               and v."status" <> 'DELETED'
+               and v."site_id" is not null
+               and v.type is not null;
+            if found then
+                perform visit_feedback_daily_rollup_apply(v_visit."site_id", v_visit.visit_date, v_visit.type, -1,
+                        old.booking_process_rating, old.overall_rating);
+            end if;
+        end if;
+
+        if tg_op in ('INSERT', 'UPDATE') and new."status" <> 'DELETED' then
+            select v."site_id", cast(v.start_date_time as date) as visit_date, v.type into v_visit
+              from visits v
+             where v.visit_id = new.visit_id
+               and v."status" <> 'DELETED'
+               and v."site_id" is not null
+               and v.type is not null;
+            if found then
+                perform visit_feedback_daily_rollup_apply(v_visit."site_id", v_visit.visit_date, v_visit.type, 1,
+                        new.booking_process_rating, new.overall_rating);
+            end if;
+        end if;
+
+        return null;
+    end;
+    $$ language plpgsql;
+
+    -- Moves the feedback rows of a visit when the visit changes bucket or is soft deleted.
+    create or replace function visit_feedback_daily_rollup_on_visit_change() returns trigger as $$
+    declare
+        v_feedback record;
+    begin
+        for v_feedback in
+            select vpf.booking_process_rating, vpf.overall_rating
+              from visit_public_feedback vpf
+             where vpf.visit_id = old.visit_id
+               and vpf."status" <> 'DELETED'
+        loop
+            if old."status" <> 'DELETED' and old."site_id" is not null and old.type is not null then
+                perform visit_feedback_daily_rollup_apply(old."site_id", cast(old.start_date_time as date), old.type, -1,
+                        v_feedback.booking_process_rating, v_feedback.overall_rating);
+            end if;
+            if tg_op = 'UPDATE' and new."status" <> 'DELETED' and new."site_id" is not null and new.type is not null then
+                perform visit_feedback_daily_rollup_apply(new."site_id", cast(new.start_date_time as date), new.type, 1,
+                        v_feedback.booking_process_rating, v_feedback.overall_rating);
+            end if;
+        end loop;
+
+        return null;
+    end;
+    $$ language plpgsql;
+
+    create trigger visit_feedback_daily_rollup_feedback_trigger
+        after insert or delete or update of visit_id, booking_process_rating, overall_rating, "status"
+        on visit_public_feedback
+        for each row
+        execute function visit_feedback_daily_rollup_on_feedback_change();
+
+    -- A new visit has no feedback row yet, its feedback is counted by the feedback trigger.
+    create trigger visit_feedback_daily_rollup_visit_trigger
+        after delete or update of "site_id", start_date_time, type, "status"
+        on visits
+        for each row
+        execute function visit_feedback_daily_rollup_on_visit_change();
+
+    insert into visit_feedback_daily_rollup ("site_id", visit_date, type, feedback_count, booking_process_rating_count,
+            booking_process_rating_sum, overall_rating_count, overall_rating_sum)
+        select v."site_id", cast(v.start_date_time as date), v.type, count(*),
+               count(vpf.booking_process_rating), coalesce(sum(vpf.booking_process_rating), 0),
+               count(vpf.overall_rating), coalesce(sum(vpf.overall_rating), 0)
+          from visit_public_feedback vpf
+          inner join visits v on v.visit_id = vpf.visit_id
+         where vpf."status" <> 'DELETED'
+           and v."status" <> 'DELETED'
+           and v."site_id" is not null
+           and v.type is not null
+         group by v."site_id", cast(v.start_date_time as date), v.type;
@@ -0,0 +1,26 @@
+    -- Notifications written in the transaction of the business change and sent by the notification outbox dispatcher. A row
+    -- stores the visit and the parameters of a notification, the dispatcher composes the recipients and their template
+    -- variables when the notification is sent.
+    create table notification_outbox (
+        notification_outbox_id varchar(36) not null,
+        notification_template varchar(64) not null,
+        visit_id varchar(36),
+        parameters jsonb not null default '{}',
+        delivery_status varchar(12) not null,
+        attempts integer not null default 0,
+        next_attempt_at timestamp not null,
+        last_error varchar(512),
+        created_at timestamp not null,
+        sent_at timestamp,
+        primary key (notification_outbox_id)
+    );
+
+    -- notification_outbox: pending notifications due for an attempt, in order.
+    create index if not exists idx_notification_outbox_pending_next_attempt_at
+       on notification_outbox (next_attempt_at)
+       where delivery_status = 'PENDING';
+
+    -- notification_outbox: purge of sent notifications.
+    create index if not exists idx_notification_outbox_sent_at
+       on notification_outbox (sent_at)
+       where delivery_status = 'SENT';
@@ -0,0 +1,11 @@
+    -- visits: the cursor of the visit lists seeks on (created_at, visit_id), created_at is never updated but was nullable.
+    update visits
+       set created_at = coalesce(updated_at, start_date_time, now())
+     where created_at is null;
+
+    alter table if exists visits
+       alter column created_at set not null;
+
+    create index if not exists idx_visits_site_type_created_at_visit_id
+       on visits ("site_id", type, created_at, visit_id)
+       where "status" <> 'DELETED';
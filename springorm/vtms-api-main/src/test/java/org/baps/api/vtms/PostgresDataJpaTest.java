@@ -0,0 +1,31 @@
+package org.baps.api.vtms;
+
+import org.baps.api.vtms.common.configs.LocaleConfig;
+import org.baps.api.vtms.common.utils.Translator;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+
+/**
+ * Runs a JPA test against an embedded PostgreSQL database migrated by Flyway, for the native queries, locks and
+ * constraints H2 can not run. The test is not wrapped in a transaction, so concurrent threads see each other's commits.
+ * The Translator and its messages are imported for the repository fragments raising localized errors.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@DataJpaTest(properties = {"spring.flyway.enabled=true", "spring.jpa.database=postgresql"})
+@AutoConfigureEmbeddedDatabase(type = AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES,
+    provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({LocaleConfig.class, Translator.class})
+public @interface PostgresDataJpaTest {
+}
@@ -0,0 +1,227 @@
+package org.baps.api.vtms.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.baps.api.vtms.common.configs.CacheConfig;
+import org.baps.api.vtms.constants.CacheConstant;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import redis.embedded.RedisServer;
+
+/**
+ * Runs two nodes of two tier caches, created by CacheConfig, against an embedded Redis server.
+ */
+class TwoTierCacheTests {
+
+    private static final String CACHE_NAME = CacheConstant.PUBLIC_COUNTRIES;
+
+    private static final String KEY = "key";
+
+    private static final String INVALIDATION_CHANNEL = "vtms::cache-invalidation";
+
+    private static final int LOCAL_MAXIMUM_SIZE = 100;
+
+    // Long enough for every thread to reach the cache while the value is being loaded.
+    private static final long LOAD_MILLIS = 200;
+
+    private static final long LOAD_TIMEOUT_SECONDS = 10;
+
+    private static final long POLL_INTERVAL_MILLIS = 20;
+
+    private static int redisPort;
+
+    private static RedisServer redisServer;
+
+    private final List<LettuceConnectionFactory> connectionFactoryList = new ArrayList<>();
+
+    private final List<RedisMessageListenerContainer> listenerContainerList = new ArrayList<>();
+
+    private CacheManager firstNodeCacheManager;
+
+    private CacheManager secondNodeCacheManager;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisPort = findFreePort();
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        firstNodeCacheManager = createNode(redisPort);
+        secondNodeCacheManager = createNode(redisPort);
+        firstNodeCacheManager.getCache(CACHE_NAME).clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        listenerContainerList.forEach(RedisMessageListenerContainer::stop);
+        connectionFactoryList.forEach(LettuceConnectionFactory::destroy);
+    }
+
+    @Test
+    void valueLoadedOnOneNodeIsReadFromRedisByTheOther() {
+        final AtomicInteger loadCount = new AtomicInteger();
+
+        assertThat(firstNodeCacheManager.getCache(CACHE_NAME).get(KEY, () -> "value-" + loadCount.incrementAndGet()))
+            .isEqualTo("value-1");
+        assertThat(secondNodeCacheManager.getCache(CACHE_NAME).get(KEY, () -> "value-" + loadCount.incrementAndGet()))
+            .isEqualTo("value-1");
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    void evictionOnOneNodeInvalidatesTheLocalTierOfTheOther() throws InterruptedException {
+        final Cache firstNodeCache = firstNodeCacheManager.getCache(CACHE_NAME);
+        final Cache secondNodeCache = secondNodeCacheManager.getCache(CACHE_NAME);
+
+        firstNodeCache.get(KEY, () -> "value");
+        assertThat(secondNodeCache.get(KEY, () -> "unexpected")).isEqualTo("value");
+
+        firstNodeCache.evict(KEY);
+
+        assertThat(await(() -> secondNodeCache.get(KEY) == null)).isTrue();
+    }
+
+    @Test
+    void concurrentLoadsOfAKeyRunOnce() throws Exception {
+        final Cache cache = firstNodeCacheManager.getCache(CACHE_NAME);
+        final AtomicInteger loadCount = new AtomicInteger();
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final int threadCount = 8;
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        try {
+            final List<Future<String>> futureList = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                futureList.add(executorService.submit(() -> {
+                    startLatch.await();
+                    return cache.get(KEY, () -> {
+                        Thread.sleep(LOAD_MILLIS);
+                        return "value-" + loadCount.incrementAndGet();
+                    });
+                }));
+            }
+            startLatch.countDown();
+
+            for (final Future<String> future : futureList) {
+                assertThat(future.get(LOAD_TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo("value-1");
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    void evictionInATransactionIsAppliedAfterCommit() {
+        final Cache cache = firstNodeCacheManager.getCache(CACHE_NAME);
+        assertThat(cache).isInstanceOf(TransactionAwareCacheDecorator.class);
+        cache.get(KEY, () -> "value");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.clear();
+            assertThat(cache.get(KEY)).isNotNull();
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.get(KEY)).isNull();
+    }
+
+    @Test
+    void valuesAreLoadedWhenRedisIsUnavailable() throws IOException {
+        final Cache cache = createNode(findFreePort()).getCache(CACHE_NAME);
+        final AtomicInteger loadCount = new AtomicInteger();
+
+        assertThat(cache.get(KEY, () -> "value-" + loadCount.incrementAndGet())).isEqualTo("value-1");
+        // Served by the local tier.
+        assertThat(cache.get(KEY, () -> "value-" + loadCount.incrementAndGet())).isEqualTo("value-1");
+        assertThat(loadCount).hasValue(1);
+    }
+
+    private CacheManager createNode(final int port) {
+        final LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactoryList.add(connectionFactory);
+
+        final StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        final CacheConfig cacheConfig = new CacheConfig(new MockEnvironment(), new ObjectMapper(), stringRedisTemplate);
+        ReflectionTestUtils.setField(cacheConfig, "isRedisEnable", true);
+        ReflectionTestUtils.setField(cacheConfig, "keyPrefix", "vtms::");
+        ReflectionTestUtils.setField(cacheConfig, "cacheNullValues", true);
+        ReflectionTestUtils.setField(cacheConfig, "defaultTimeToLive", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(cacheConfig, "defaultLocalTimeToLive", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(cacheConfig, "defaultLocalMaximumSize", LOCAL_MAXIMUM_SIZE);
+        ReflectionTestUtils.setField(cacheConfig, "invalidationChannel", INVALIDATION_CHANNEL);
+
+        final CacheManager cacheManager = cacheConfig.cacheManager(connectionFactory);
+        ((AbstractCacheManager) cacheManager).afterPropertiesSet();
+        if (port == redisPort) {
+            final RedisMessageListenerContainer listenerContainer =
+                cacheConfig.cacheInvalidationListenerContainer(connectionFactory, cacheManager);
+            listenerContainer.afterPropertiesSet();
+            listenerContainer.start();
+            listenerContainerList.add(listenerContainer);
+        }
+        return cacheManager;
+    }
+
+    private static boolean await(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+        return condition.getAsBoolean();
+    }
+
+    private static int findFreePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.baps.api.vtms.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestSqlStatisticsTests {
+
+    // More distinct statements than RequestSqlStatistics keeps counts for.
+    private static final int DISTINCT_STATEMENT_COUNT = 150;
+
+    private static final int LONG_STATEMENT_LENGTH = 500;
+
+    private static final int MAX_BREAKDOWN_LENGTH = 250;
+
+    @AfterEach
+    void tearDown() {
+        RequestSqlStatistics.end();
+    }
+
+    @Test
+    void countsStatementsByTypeAndTheMostExecutedStatements() {
+        final List<String> statementList = List.of("select * from visits where visit_id = ?",
+            "select * from visits where visit_id = ?", "  WITH v AS (SELECT 1) SELECT * FROM v",
+            "insert into visits (visit_id) values (?)", "update visits set stage = ?", "delete from visits where visit_id = ?",
+            "call refresh_rollup()");
+
+        RequestSqlStatistics.start();
+        statementList.forEach(RequestSqlStatistics::recordStatement);
+        RequestSqlStatistics.recordEntityLoad();
+        RequestSqlStatistics.recordEntityLoad();
+
+        final RequestSqlStatistics requestSqlStatistics = RequestSqlStatistics.end();
+
+        assertThat(requestSqlStatistics.getStatementCount()).isEqualTo(statementList.size());
+        assertThat(requestSqlStatistics.getLoadedEntityCount()).isEqualTo(2);
+        assertThat(requestSqlStatistics.getStatementBreakdown())
+            .startsWith("SELECT=3 INSERT=1 UPDATE=1 DELETE=1 OTHER=1 TopStatements=[2x select * from visits where visit_id = ? | 1x ");
+    }
+
+    @Test
+    void countsFurtherDistinctStatementsOnlyByType() {
+        RequestSqlStatistics.start();
+        for (int i = 0; i < DISTINCT_STATEMENT_COUNT; i++) {
+            RequestSqlStatistics.recordStatement("select " + i);
+        }
+        RequestSqlStatistics.recordStatement("select " + (DISTINCT_STATEMENT_COUNT - 1));
+        RequestSqlStatistics.recordStatement("select 0");
+
+        final RequestSqlStatistics requestSqlStatistics = RequestSqlStatistics.end();
+
+        assertThat(requestSqlStatistics.getStatementCount()).isEqualTo(DISTINCT_STATEMENT_COUNT + 2);
+        assertThat(requestSqlStatistics.getStatementBreakdown())
+            .startsWith("SELECT=" + (DISTINCT_STATEMENT_COUNT + 2) + " TopStatements=[2x select 0 | 1x ")
+            .doesNotContain("select " + (DISTINCT_STATEMENT_COUNT - 1));
+    }
+
+    @Test
+    void abbreviatesLongStatements() {
+        RequestSqlStatistics.start();
+        RequestSqlStatistics.recordStatement("select " + "x".repeat(LONG_STATEMENT_LENGTH));
+
+        assertThat(RequestSqlStatistics.end().getStatementBreakdown()).endsWith("...]").hasSizeLessThan(MAX_BREAKDOWN_LENGTH);
+    }
+
+    @Test
+    void recordsNothingWhenNotStarted() {
+        RequestSqlStatistics.recordStatement("select 1");
+        RequestSqlStatistics.recordEntityLoad();
+
+        assertThat(RequestSqlStatistics.end()).isNull();
+    }
+
+    @Test
+    void recordsOnlyTheStatementsOfTheRequestThread() {
+        RequestSqlStatistics.start();
+        RequestSqlStatistics.recordStatement("select 1");
+        CompletableFuture.runAsync(() -> RequestSqlStatistics.recordStatement("select 2")).join();
+
+        final RequestSqlStatistics requestSqlStatistics = RequestSqlStatistics.end();
+
+        assertThat(requestSqlStatistics.getStatementCount()).isEqualTo(1);
+        assertThat(RequestSqlStatistics.end()).isNull();
+    }
+}
@@ -0,0 +1,63 @@
+package org.baps.api.vtms.common.template;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PlaceholderTemplateTests {
+
+    @Test
+    void rendersPlaceholdersWithTheirValues() {
+        final PlaceholderTemplate placeholderTemplate = PlaceholderTemplate.compile("Dear ${NAME}, your visit ${NUMBER} is ${STAGE}.");
+
+        assertThat(render(placeholderTemplate, Map.of("NAME", "Ram", "NUMBER", "V-1", "STAGE", "accepted")))
+            .isEqualTo("Dear Ram, your visit V-1 is accepted.");
+        assertThat(placeholderTemplate.getLiteralLength()).isEqualTo("Dear , your visit  is .".length());
+    }
+
+    @Test
+    void rendersPlaceholdersAtTheEdgesAndSideBySide() {
+        final PlaceholderTemplate placeholderTemplate = PlaceholderTemplate.compile("${A}${B} and ${A}");
+
+        assertThat(render(placeholderTemplate, Map.of("A", "1", "B", "2"))).isEqualTo("12 and 1");
+    }
+
+    @Test
+    void keepsPlaceholdersWithoutAValue() {
+        final PlaceholderTemplate placeholderTemplate = PlaceholderTemplate.compile("Hello ${NAME} from ${SITE}");
+
+        assertThat(render(placeholderTemplate, Map.of("SITE", "Robbinsville"))).isEqualTo("Hello ${NAME} from Robbinsville");
+    }
+
+    @Test
+    void doesNotRenderPlaceholdersInValues() {
+        final PlaceholderTemplate placeholderTemplate = PlaceholderTemplate.compile("${A} ${B}");
+
+        assertThat(render(placeholderTemplate, Map.of("A", "${B}", "B", "b"))).isEqualTo("${B} b");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "no placeholder", "incomplete ${NAME", "dollar $ and {braces}", "${"})
+    void keepsTextWithoutCompletePlaceholders(final String template) {
+        final PlaceholderTemplate placeholderTemplate = PlaceholderTemplate.compile(template);
+
+        assertThat(render(placeholderTemplate, Map.of("NAME", "Ram"))).isEqualTo(template);
+        assertThat(placeholderTemplate.getLiteralLength()).isEqualTo(template.length());
+    }
+
+    @Test
+    void appendsToTheGivenBuilder() {
+        final StringBuilder stringBuilder = new StringBuilder("Subject: ");
+
+        assertThat(PlaceholderTemplate.compile("${TITLE}").render(stringBuilder, Map.of("TITLE", "Visit"))).isSameAs(stringBuilder);
+        assertThat(stringBuilder).hasToString("Subject: Visit");
+    }
+
+    private String render(final PlaceholderTemplate placeholderTemplate, final Map<String, String> valueMap) {
+        return placeholderTemplate.render(new StringBuilder(), valueMap).toString();
+    }
+}
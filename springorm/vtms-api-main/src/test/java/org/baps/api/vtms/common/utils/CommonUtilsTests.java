@@ -0,0 +1,36 @@
+package org.baps.api.vtms.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class CommonUtilsTests {
+
+    @ParameterizedTest
+    @CsvSource({
+        "2024-03-15T00:00:00, 2024-03-15",
+        "2024-03-15T00:00:01, 2024-03-16",
+        "2024-03-15T12:30:00, 2024-03-16",
+        "2024-03-15T23:59:59, 2024-03-16",
+        "2024-12-31T08:00:00, 2025-01-01"
+    })
+    void firstFullDateIsTheStartDateOnlyFromMidnight(final LocalDateTime startDateTime, final LocalDate firstFullDate) {
+        assertThat(CommonUtils.getFirstFullDate(startDateTime)).isEqualTo(firstFullDate);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "2024-03-15T23:59:59, 2024-03-15",
+        "2024-03-15T23:59:59.999, 2024-03-15",
+        "2024-03-15T23:59:58, 2024-03-14",
+        "2024-03-15T00:00:00, 2024-03-14",
+        "2024-03-01T12:00:00, 2024-02-29"
+    })
+    void lastFullDateIsTheEndDateOnlyFromTheLastSecond(final LocalDateTime endDateTime, final LocalDate lastFullDate) {
+        assertThat(CommonUtils.getLastFullDate(endDateTime)).isEqualTo(lastFullDate);
+    }
+}
@@ -0,0 +1,235 @@
+package org.baps.api.vtms.filters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import org.baps.api.vtms.common.utils.Translator;
+import org.baps.api.vtms.models.AuthenticatedPersonnel;
+import org.baps.api.vtms.services.AuthTokenCacheService;
+import org.baps.api.vtms.services.AuthenticatedPersonnelService;
+import org.baps.api.vtms.services.RedisService;
+import org.baps.api.vtms.services.SsoClientService;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * Runs the AuthFilter against a stub SSO server answering slowly or with errors, with the resilience4j "sso" instances
+ * scaled down from application.yml so the time limiter and the circuit breaker trip within a test.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AuthFilterSsoTests {
+
+    private static final String PERSONNEL_ID = "personnel-1";
+
+    private static final Duration SSO_TIMEOUT = Duration.ofMillis(300);
+
+    private static final int CIRCUIT_BREAKER_WINDOW_SIZE = 4;
+
+    private static final float CIRCUIT_BREAKER_FAILURE_RATE = 50;
+
+    private static final int TOKEN_CACHE_MAXIMUM_SIZE = 100;
+
+    private static final Duration TOKEN_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private AuthenticatedPersonnelService authenticatedPersonnelService;
+
+    @Mock
+    private Translator translator;
+
+    private MockWebServer ssoServer;
+
+    private AuthTokenCacheService authTokenCacheService;
+
+    private AuthFilter authFilter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ssoServer = new MockWebServer();
+        ssoServer.start();
+
+        final CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+            .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+            .slidingWindowSize(CIRCUIT_BREAKER_WINDOW_SIZE)
+            .minimumNumberOfCalls(CIRCUIT_BREAKER_WINDOW_SIZE)
+            .failureRateThreshold(CIRCUIT_BREAKER_FAILURE_RATE)
+            .waitDurationInOpenState(Duration.ofMinutes(1))
+            .recordExceptions(WebClientRequestException.class, WebClientResponseException.InternalServerError.class,
+                WebClientResponseException.BadGateway.class, WebClientResponseException.ServiceUnavailable.class,
+                WebClientResponseException.GatewayTimeout.class, TimeoutException.class)
+            .build();
+
+        final SsoClientService ssoClientService = new SsoClientService(
+            WebClient.builder().baseUrl(ssoServer.url("/").toString()).build(),
+            CircuitBreakerRegistry.of(circuitBreakerConfig),
+            BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(2).maxWaitDuration(Duration.ZERO).build()),
+            TimeLimiterRegistry.of(TimeLimiterConfig.custom().timeoutDuration(SSO_TIMEOUT).cancelRunningFuture(true).build()));
+
+        authTokenCacheService = new AuthTokenCacheService(ssoClientService, redisService, new SimpleMeterRegistry(),
+            TOKEN_CACHE_MAXIMUM_SIZE);
+        ReflectionTestUtils.setField(authTokenCacheService, "timeToLive", TOKEN_TIME_TO_LIVE);
+        ReflectionTestUtils.setField(authTokenCacheService, "degradedTimeToLive", Duration.ofHours(1));
+
+        authFilter = new AuthFilter(authTokenCacheService, authenticatedPersonnelService, translator);
+
+        when(authenticatedPersonnelService.getAuthenticatedPersonnel(anyString())).thenReturn(Optional.of(
+            new AuthenticatedPersonnel(PERSONNEL_ID, PERSONNEL_ID, List.of(), Set.of(), Set.of())));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        SecurityContextHolder.clearContext();
+        ssoServer.shutdown();
+    }
+
+    @Test
+    void acceptsTokenValidatedBySso() throws Exception {
+        ssoServer.enqueue(new MockResponse().setResponseCode(HttpServletResponse.SC_OK));
+
+        final MockFilterChain filterChain = new MockFilterChain();
+        final MockHttpServletResponse response = doFilter(createToken(), filterChain);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(filterChain.getRequest()).isNotNull();
+        assertThat(ssoServer.takeRequest().getHeader(HttpHeaders.AUTHORIZATION)).isNotBlank();
+    }
+
+    @Test
+    void rejectsTokenRefusedBySso() throws Exception {
+        ssoServer.enqueue(new MockResponse().setResponseCode(HttpServletResponse.SC_FORBIDDEN));
+
+        final MockFilterChain filterChain = new MockFilterChain();
+        final MockHttpServletResponse response = doFilter(createToken(), filterChain);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_FORBIDDEN);
+        assertThat(filterChain.getRequest()).isNull();
+    }
+
+    @Test
+    void answersServiceUnavailableWhenSsoIsTooSlow() throws Exception {
+        ssoServer.enqueue(new MockResponse().setResponseCode(HttpServletResponse.SC_OK).setHeadersDelay(2, TimeUnit.SECONDS));
+
+        final MockFilterChain filterChain = new MockFilterChain();
+        final long startNanos = System.nanoTime();
+        final MockHttpServletResponse response = doFilter(createToken(), filterChain);
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertThat(filterChain.getRequest()).isNull();
+        // The request waits for the time limiter, not for the SSO server.
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void answersServiceUnavailableOnSsoServerError() throws Exception {
+        ssoServer.enqueue(new MockResponse().setResponseCode(HttpServletResponse.SC_BAD_GATEWAY));
+
+        final MockFilterChain filterChain = new MockFilterChain();
+        final MockHttpServletResponse response = doFilter(createToken(), filterChain);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertThat(filterChain.getRequest()).isNull();
+    }
+
+    @Test
+    void stopsCallingSsoOnceTheCircuitBreakerIsOpen() throws Exception {
+        for (int i = 0; i < CIRCUIT_BREAKER_WINDOW_SIZE; i++) {
+            ssoServer.enqueue(new MockResponse().setResponseCode(HttpServletResponse.SC_INTERNAL_SERVER_ERROR));
+        }
+        for (int i = 0; i < CIRCUIT_BREAKER_WINDOW_SIZE; i++) {
+            assertThat(doFilter(createToken(), new MockFilterChain()).getStatus())
+                .isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        }
+
+        ssoServer.enqueue(new MockResponse().setResponseCode(HttpServletResponse.SC_OK));
+        final MockHttpServletResponse response = doFilter(createToken(), new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertThat(ssoServer.getRequestCount()).isEqualTo(CIRCUIT_BREAKER_WINDOW_SIZE);
+    }
+
+    @Test
+    void acceptsRecentlyValidatedTokenWhileSsoIsUnavailable() throws Exception {
+        // Every cached entry is stale at once, so the second request revalidates the token with SSO.
+        ReflectionTestUtils.setField(authTokenCacheService, "timeToLive", Duration.ZERO);
+        final String token = createToken();
+
+        ssoServer.enqueue(new MockResponse().setResponseCode(HttpServletResponse.SC_OK));
+        assertThat(doFilter(token, new MockFilterChain()).getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+
+        ssoServer.enqueue(new MockResponse().setResponseCode(HttpServletResponse.SC_SERVICE_UNAVAILABLE));
+        final MockFilterChain filterChain = new MockFilterChain();
+        final MockHttpServletResponse response = doFilter(token, filterChain);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(filterChain.getRequest()).isNotNull();
+        assertThat(ssoServer.getRequestCount()).isEqualTo(2);
+
+        // A token never validated is not accepted in degraded mode.
+        ssoServer.enqueue(new MockResponse().setResponseCode(HttpServletResponse.SC_SERVICE_UNAVAILABLE));
+        assertThat(doFilter(createToken(), new MockFilterChain()).getStatus())
+            .isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+    }
+
+    private MockHttpServletResponse doFilter(final String token, final MockFilterChain filterChain) throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/visits");
+        request.setServletPath("/visits");
+        request.addHeader(HttpHeaders.AUTHORIZATION, token);
+
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        authFilter.doFilter(request, response, filterChain);
+        return response;
+    }
+
+    private String createToken() {
+        // A distinct token per call, so a test only hits the cache when it reuses a token.
+        return JWT.create()
+            .withClaim("pid", PERSONNEL_ID)
+            .withJWTId(String.valueOf(System.nanoTime()))
+            .withExpiresAt(Instant.now().plus(Duration.ofHours(1)))
+            .sign(Algorithm.HMAC256("secret"));
+    }
+}
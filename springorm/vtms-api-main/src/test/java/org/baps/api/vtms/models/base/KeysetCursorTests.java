@@ -0,0 +1,39 @@
+package org.baps.api.vtms.models.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class KeysetCursorTests {
+
+    @Test
+    void encodeAndDecodeRoundTrip() {
+        final KeysetCursor keysetCursor = new KeysetCursor(LocalDateTime.of(2024, 3, 15, 10, 30, 45, 123_000_000), "visit-42");
+
+        final String cursor = keysetCursor.encode();
+
+        assertThat(cursor).doesNotContain("=", "+", "/");
+        assertThat(KeysetCursor.decode(cursor)).isEqualTo(keysetCursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64 !", "MjAyNC0wMy0xNVQxMDozMA", "fA"})
+    void decodeRejectsMalformedCursor(final String cursor) {
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"yesterday|visit-1", "2024-03-15T10:30|", "2024-03-15T10:30|visit-1|extra"})
+    void decodeRejectsInvalidValues(final String cursorValue) {
+        final String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(cursorValue.getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
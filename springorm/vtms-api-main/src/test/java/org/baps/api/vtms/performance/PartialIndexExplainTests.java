@@ -0,0 +1,172 @@
+package org.baps.api.vtms.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.baps.api.vtms.PostgresDataJpaTest;
+import org.baps.api.vtms.constants.SpecificationConstants;
+import org.baps.api.vtms.enumerations.RoleTagEnum;
+import org.baps.api.vtms.enumerations.VisitStageEnum;
+import org.baps.api.vtms.enumerations.VisitTypeEnum;
+import org.baps.api.vtms.models.base.Status;
+import org.baps.api.vtms.models.entities.Visit;
+import org.baps.api.vtms.repositories.PersonnelRepository;
+import org.baps.api.vtms.repositories.SiteRepository;
+import org.baps.api.vtms.repositories.TourSlotRepository;
+import org.baps.api.vtms.repositories.VisitPersonnelRepository;
+import org.baps.api.vtms.repositories.VisitRepository;
+import org.baps.api.vtms.repositories.specifications.VisitSpecification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Explains the SQL Hibernate generates for the hot path repository methods against the V42 and V47 partial indexes.
+ * Each repository method runs once while {@link StatementRecorder} captures its first statement with the bound
+ * parameters, which is then explained with the default planner settings. The tables are seeded large enough that an
+ * index scan is the cheapest plan, so a sequential scan anywhere in the plan means the query can not use its index.
+ */
+@Slf4j
+@Tag("performance")
+@PostgresDataJpaTest
+@Import({StatementRecorder.class, VisitSpecification.class})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PartialIndexExplainTests {
+
+    private static final int SITE_COUNT = 1_000;
+
+    private static final int ROLE_COUNT = 1_000;
+
+    private static final int TOUR_SLOT_COUNT = 50_000;
+
+    private static final int VISIT_COUNT = 200_000;
+
+    private static final int PERSONNEL_COUNT = 5_000;
+
+    private static final int PAGE_SIZE = 25;
+
+    private static final String SITE_UUCODE = "PS7";
+
+    private static final LocalDateTime MARCH_START = PerformanceDataSeeder.FIRST_VISIT_DATE.withMonth(3).atStartOfDay();
+
+    private static final LocalDateTime MARCH_END = MARCH_START.plusMonths(1).minusSeconds(1);
+
+    private static final String SEQUENTIAL_SCAN = "Seq Scan";
+
+    @Autowired
+    private VisitRepository visitRepository;
+
+    @Autowired
+    private VisitPersonnelRepository visitPersonnelRepository;
+
+    @Autowired
+    private TourSlotRepository tourSlotRepository;
+
+    @Autowired
+    private PersonnelRepository personnelRepository;
+
+    @Autowired
+    private SiteRepository siteRepository;
+
+    @Autowired
+    private VisitSpecification visitSpecification;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        final PerformanceDataSeeder performanceDataSeeder = new PerformanceDataSeeder(jdbcTemplate);
+        performanceDataSeeder.seedSites(SITE_COUNT);
+        performanceDataSeeder.seedTourSlots(TOUR_SLOT_COUNT, SITE_COUNT);
+        performanceDataSeeder.seedVisits(VISIT_COUNT, SITE_COUNT, TOUR_SLOT_COUNT);
+        performanceDataSeeder.seedVisitPersonnel(PERSONNEL_COUNT, SITE_COUNT, VISIT_COUNT);
+        performanceDataSeeder.seedRoles(ROLE_COUNT);
+        performanceDataSeeder.seedVisitServices(SITE_COUNT);
+        performanceDataSeeder.seedVisitors(VISIT_COUNT, VISIT_COUNT);
+        performanceDataSeeder.seedVisitFeedback();
+        performanceDataSeeder.analyze();
+    }
+
+    Stream<Arguments> hotPathQueries() {
+        return Stream.of(
+            Arguments.of("findVisitCountGroupByStartDateAndTime", "idx_visits_site_type_start_date_time",
+                (Runnable) () -> visitRepository.findVisitCountGroupByStartDateAndTime(SITE_UUCODE, MARCH_START, MARCH_END,
+                    VisitTypeEnum.VISIT, List.of(VisitStageEnum.PENDING, VisitStageEnum.ACCEPTED))),
+            Arguments.of("findAllByVisitStageEnumInAndEndDateTimeLessThan", "idx_visits_stage_end_date_time",
+                (Runnable) () -> visitRepository.findAllByVisitStageEnumInAndEndDateTimeLessThan(
+                    Set.of(VisitStageEnum.PENDING, VisitStageEnum.ACCEPTED, VisitStageEnum.CHECK_IN),
+                    PerformanceDataSeeder.FIRST_VISIT_DATE.plusDays(1).atStartOfDay())),
+            Arguments.of("findVisitsForNextDay", "idx_visits_start_date_time",
+                (Runnable) () -> visitRepository.findVisitsForNextDay(MARCH_START, MARCH_START.plusDays(1).minusSeconds(1))),
+            Arguments.of("findKeysetPage", "idx_visits_site_type_created_at_visit_id",
+                (Runnable) () -> visitRepository.findKeysetPage(Visit.class,
+                    visitSpecification.buildVisitSpecification(null, null, null, null, null, null, null, null, VisitTypeEnum.VISIT,
+                        null, SITE_UUCODE, null),
+                    null, PAGE_SIZE, SpecificationConstants.CREATED_AT, SpecificationConstants.CREATED_AT,
+                    SpecificationConstants.VISIT_ID, Sort.Direction.DESC, Visit::getCreatedAt, Visit::getVisitId,
+                    Visit.LIST_ENTITY_GRAPH)),
+            Arguments.of("findAllByTourSlotTourSlotIdAndSiteUuCode", "idx_visits_tour_slot_id",
+                (Runnable) () -> visitRepository.findAllByTourSlotTourSlotIdAndSiteUuCode("slot-7", SITE_UUCODE)),
+            Arguments.of("findVisitByRequestNumberAndFilter", "idx_visits_site_request_number",
+                (Runnable) () -> visitRepository.findVisitByRequestNumberAndFilter(SITE_UUCODE, "TM-080124-7", "guest@example.com",
+                    "10000000007", "Guest", Status.ACTIVE, Status.ACTIVE, Status.ACTIVE)),
+            Arguments.of("findByStartDateTimeGreaterThanEqualAndEndDateTimeLessThanEqualAndSiteUuCode",
+                "idx_tour_slots_site_start_date_time",
+                (Runnable) () -> tourSlotRepository.findByStartDateTimeGreaterThanEqualAndEndDateTimeLessThanEqualAndSiteUuCode(
+                    MARCH_START, MARCH_END, SITE_UUCODE)),
+            Arguments.of("findAssociatedVisitPersonnelInVisitOrVisitServiceByPersonnelIds",
+                "idx_visit_personnel_personnel_id_visit_id",
+                (Runnable) () -> visitPersonnelRepository.findAssociatedVisitPersonnelInVisitOrVisitServiceByPersonnelIds(
+                    List.of("personnel-7", "personnel-8"), MARCH_START, MARCH_START.plusHours(2), "slot-7", SITE_UUCODE)),
+            Arguments.of("findAssociatedVisitPersonnelInVisitOrVisitServiceByPersonnelIdsExceptVisitServiceId",
+                "idx_visit_personnel_personnel_id_visit_id",
+                (Runnable) () -> visitPersonnelRepository
+                    .findAssociatedVisitPersonnelInVisitOrVisitServiceByPersonnelIdsExceptVisitServiceId(List.of("personnel-7",
+                        "personnel-8"), MARCH_START, MARCH_START.plusHours(2), "visit-service-14", "visit-14", SITE_UUCODE)),
+            Arguments.of("findAllByVisitVisitIdAndRoleTagEnumAndVisitSiteUuCode", "idx_visit_personnel_visit_id_tag",
+                (Runnable) () -> visitPersonnelRepository.findAllByVisitVisitIdAndRoleTagEnumAndVisitSiteUuCode("visit-7",
+                    RoleTagEnum.TOUR_GUIDE, SITE_UUCODE)),
+            Arguments.of("findByUucode", "idx_personnel_uucode",
+                (Runnable) () -> personnelRepository.findByUucode("P7")),
+            Arguments.of("findAllPersonnelRoleByRoleUucodeAndSiteUuCodeIn", "idx_personnel_role_role_id_site_id",
+                (Runnable) () -> personnelRepository.findAllPersonnelRoleByRoleUucodeAndSiteUuCodeIn("RELATIONSHIP_MANAGER",
+                    Set.of(SITE_UUCODE))),
+            Arguments.of("findByUuCode", "idx_sites_uucode",
+                (Runnable) () -> siteRepository.findByUuCode(SITE_UUCODE)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotPathQueries")
+    void hotPathQueryUsesPartialIndexWithoutSequentialScan(final String methodName, final String indexName,
+            final Runnable repositoryMethodCall) {
+        // A cleared persistence context makes every call run its query instead of returning managed entities.
+        entityManager.clear();
+        final List<StatementRecorder.RecordedStatement> recordedStatementList = StatementRecorder.record(repositoryMethodCall);
+        assertThat(recordedStatementList).isNotEmpty();
+
+        final StatementRecorder.RecordedStatement recordedStatement = recordedStatementList.get(0);
+        final String plan = jdbcTemplate.execute(recordedStatement::explain);
+        log.info("Plan of {}:\n{}\n{}", methodName, recordedStatement.sql(), plan);
+
+        assertThat(plan).contains(indexName).doesNotContain(SEQUENTIAL_SCAN);
+    }
+}
@@ -0,0 +1,172 @@
+package org.baps.api.vtms.performance;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * Seeds large, deterministic data sets with generate_series for the query plan and benchmark tests. Every row is
+ * built by the database, so seeding a hundred thousand rows takes one statement instead of a hundred thousand inserts.
+ * One visit in ten is soft deleted, like the rows the partial indexes leave out.
+ */
+@RequiredArgsConstructor
+public class PerformanceDataSeeder {
+
+    public static final LocalDate FIRST_VISIT_DATE = LocalDate.of(2024, 1, 1);
+
+    public static final int VISIT_DAYS = 365;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Seeds sites with the ids site-0 to site-(siteCount - 1) and the unique codes PS0 to PS(siteCount - 1).
+     *
+     * @param siteCount The number of sites.
+     */
+    public void seedSites(final int siteCount) {
+        jdbcTemplate.update("INSERT INTO sites (site_id, status, name, uucode, time_zone, start_time, end_time) "
+            + "SELECT 'site-' || g, 'ACTIVE', 'Site ' || g, 'PS' || g, 'UTC', '09:00', '18:00' "
+            + "FROM generate_series(0, ? - 1) g", siteCount);
+    }
+
+    /**
+     * Seeds tour slots with the ids slot-0 to slot-(tourSlotCount - 1), spread over the sites and visit days.
+     *
+     * @param tourSlotCount The number of tour slots.
+     * @param siteCount     The number of seeded sites.
+     */
+    public void seedTourSlots(final int tourSlotCount, final int siteCount) {
+        jdbcTemplate.update("INSERT INTO tour_slots (tour_slot_id, status, stage, start_date_time, end_date_time, max_guest_size, site_id) "
+            + "SELECT 'slot-' || g, CASE WHEN g % 10 = 0 THEN 'DELETED' ELSE 'ACTIVE' END, 'ACTIVE', "
+            + "    cast(? as timestamp) + (g % ?) * interval '1 day' + (g % 8) * interval '1 hour', "
+            + "    cast(? as timestamp) + (g % ?) * interval '1 day' + (g % 8 + 1) * interval '1 hour', "
+            + "    50, 'site-' || (g % ?) "
+            + "FROM generate_series(0, ? - 1) g",
+            FIRST_VISIT_DATE.atTime(9, 0), VISIT_DAYS, FIRST_VISIT_DATE.atTime(9, 0), VISIT_DAYS, siteCount, tourSlotCount);
+    }
+
+    /**
+     * Seeds visits with the ids visit-0 to visit-(visitCount - 1). Tour visits are booked in the seeded tour slots. The
+     * dashboard rollup trigger is disabled while seeding, the benchmarks do not read the rollup.
+     *
+     * @param visitCount    The number of visits.
+     * @param siteCount     The number of seeded sites.
+     * @param tourSlotCount The number of seeded tour slots.
+     */
+    public void seedVisits(final int visitCount, final int siteCount, final int tourSlotCount) {
+        jdbcTemplate.execute("ALTER TABLE visits DISABLE TRIGGER visit_daily_rollup_trigger");
+        try {
+            jdbcTemplate.update("INSERT INTO visits (visit_id, status, created_at, created_by, start_date_time, end_date_time, "
+                + "    type, stage, total_visitors, request_number, site_id, tour_slot_id) "
+                + "SELECT 'visit-' || g, CASE WHEN g % 10 = 0 THEN 'DELETED' ELSE 'ACTIVE' END, "
+                + "    cast(? as timestamp) + g * interval '1 second', 'personnel-' || (g % 100), "
+                + "    cast(? as timestamp) + (g % ?) * interval '1 day' + (g % 8) * interval '1 hour', "
+                + "    cast(? as timestamp) + (g % ?) * interval '1 day' + (g % 8 + 1) * interval '1 hour', "
+                + "    CASE WHEN g % 2 = 0 THEN 'VISIT' ELSE 'TOUR' END, "
+                + "    (ARRAY['PENDING', 'ACCEPTED', 'CHECK_IN', 'COMPLETED', 'CLOSED', 'CANCELLED', 'DECLINED'])[g % 7 + 1], "
+                + "    g % 20 + 1, "
+                + "    CASE WHEN g % 2 = 0 THEN 'VM' ELSE 'TM' END || '-' || to_char(cast(? as date) + g % ?, 'DDMMYY') || '-' || g, "
+                + "    'site-' || (g % ?), CASE WHEN g % 2 = 1 THEN 'slot-' || (g % ?) END "
+                + "FROM generate_series(0, ? - 1) g",
+                FIRST_VISIT_DATE.atStartOfDay(), FIRST_VISIT_DATE.atTime(9, 0), VISIT_DAYS, FIRST_VISIT_DATE.atTime(9, 0), VISIT_DAYS,
+                FIRST_VISIT_DATE, VISIT_DAYS, siteCount, tourSlotCount, visitCount);
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE visits ENABLE TRIGGER visit_daily_rollup_trigger");
+        }
+    }
+
+    /**
+     * Seeds personnel with the ids personnel-0 to personnel-(personnelCount - 1), each with one role on a site, and
+     * assigns one of them to every visit.
+     *
+     * @param personnelCount The number of personnel.
+     * @param siteCount      The number of seeded sites.
+     * @param visitCount     The number of seeded visits.
+     */
+    public void seedVisitPersonnel(final int personnelCount, final int siteCount, final int visitCount) {
+        jdbcTemplate.update("INSERT INTO roles (role_id, status, name, uucode, is_check_availability, is_check_system_role) "
+            + "VALUES ('role-0', 'ACTIVE', 'Relationship Manager', 'RELATIONSHIP_MANAGER', false, false)");
+        jdbcTemplate.update("INSERT INTO personnel (personnel_id, status, first_name, last_name, phone_country_code, phone_number, uucode) "
+            + "SELECT 'personnel-' || g, 'ACTIVE', 'First' || g, 'Last' || g, '1', lpad(cast(g as text), 10, '0'), 'P' || g "
+            + "FROM generate_series(0, ? - 1) g", personnelCount);
+        jdbcTemplate.update("INSERT INTO personnel_role (personnel_role_id, status, personnel_id, role_id, site_id) "
+            + "SELECT 'personnel-role-' || g, 'ACTIVE', 'personnel-' || g, 'role-0', 'site-' || (g % ?) "
+            + "FROM generate_series(0, ? - 1) g", siteCount, personnelCount);
+        jdbcTemplate.update("INSERT INTO visit_personnel (visit_personnel_id, status, personnel_id, role_id, visit_id, tag) "
+            + "SELECT 'visit-personnel-' || g, CASE WHEN g % 10 = 0 THEN 'DELETED' ELSE 'ACTIVE' END, "
+            + "    'personnel-' || (g % ?), 'role-0', 'visit-' || g, 'TOUR_GUIDE' "
+            + "FROM generate_series(0, ? - 1) g", personnelCount, visitCount);
+    }
+
+    /**
+     * Seeds the roles role-1 to role-roleCount next to the role-0 seeded with the visit personnel. They are checked for
+     * availability and assigned to nobody, they only give the roles table a realistic size for the planner.
+     *
+     * @param roleCount The number of additional roles.
+     */
+    public void seedRoles(final int roleCount) {
+        jdbcTemplate.update("INSERT INTO roles (role_id, status, name, uucode, is_check_availability, is_check_system_role) "
+            + "SELECT 'role-' || g, 'ACTIVE', 'Role ' || g, 'ROLE_' || g, true, false "
+            + "FROM generate_series(1, ?) g", roleCount);
+    }
+
+    /**
+     * Seeds one service per site with the ids service-0 to service-(siteCount - 1), books it for every second visit as
+     * the visit service visit-service-g of visit-g and moves the visit personnel of those visits onto the visit service.
+     * Must run after {@link #seedVisitPersonnel(int, int, int)}.
+     *
+     * @param siteCount The number of seeded sites.
+     */
+    public void seedVisitServices(final int siteCount) {
+        jdbcTemplate.update("INSERT INTO services (service_id, status, name, type, site_id, is_check_visit_time) "
+            + "SELECT 'service-' || g, 'ACTIVE', 'Service ' || g, 'SERVICE', 'site-' || g, false "
+            + "FROM generate_series(0, ? - 1) g", siteCount);
+        jdbcTemplate.update("INSERT INTO visit_services (visit_service_id, status, seq_number, start_date_time, end_date_time, "
+            + "    service_id, visit_id) "
+            + "SELECT 'visit-service-' || substr(v.visit_id, 7), v.status, 1, v.start_date_time, v.end_date_time, "
+            + "    'service-' || substr(v.site_id, 6), v.visit_id "
+            + "FROM visits v WHERE cast(substr(v.visit_id, 7) as int) % 2 = 0");
+        jdbcTemplate.update("UPDATE visit_personnel vp SET visit_service_id = vs.visit_service_id "
+            + "FROM visit_services vs WHERE vs.visit_id = vp.visit_id");
+    }
+
+    /**
+     * Seeds visitors with the ids visitor-0 to visitor-(visitorCount - 1), each the primary contact of one of the seeded
+     * visits. Names, emails and phone numbers are taken from md5 hashes so their trigrams are spread like real values.
+     *
+     * @param visitorCount The number of visitors.
+     * @param visitCount   The number of seeded visits.
+     */
+    public void seedVisitors(final int visitorCount, final int visitCount) {
+        jdbcTemplate.update("INSERT INTO visitors (visitor_id, status, salutation, first_name, last_name, gender, email, "
+            + "    phone_country_code, phone_number) "
+            + "SELECT 'visitor-' || g, CASE WHEN g % 10 = 0 THEN 'DELETED' ELSE 'ACTIVE' END, 'Mr', "
+            + "    initcap(substr(md5('first' || g), 1, 8)), initcap(substr(md5('last' || g), 1, 10)), 'MALE', "
+            + "    substr(md5('email' || g), 1, 12) || '@example.com', '1', lpad(cast(g as text), 10, '0') "
+            + "FROM generate_series(0, ? - 1) g", visitorCount);
+        jdbcTemplate.update("INSERT INTO visit_visitor (visit_visitor_id, status, contact_type, visit_id, visitor_id) "
+            + "SELECT 'visit-visitor-' || g, 'ACTIVE', 'PRIMARY', 'visit-' || (g % ?), 'visitor-' || g "
+            + "FROM generate_series(0, ? - 1) g", visitCount, visitorCount);
+    }
+
+    /**
+     * Seeds the visit feedback and the public feedback of every tenth seeded visit, with the ids feedback-g and
+     * public-feedback-g of visit-g.
+     */
+    public void seedVisitFeedback() {
+        jdbcTemplate.update("INSERT INTO feedbacks (feedback_id, status, visit_id) "
+            + "SELECT 'feedback-' || substr(v.visit_id, 7), 'ACTIVE', v.visit_id "
+            + "FROM visits v WHERE cast(substr(v.visit_id, 7) as int) % 10 = 1");
+        jdbcTemplate.update("INSERT INTO visit_public_feedback (visit_public_feedback_id, status, comment, visit_id) "
+            + "SELECT 'public-feedback-' || substr(v.visit_id, 7), 'ACTIVE', 'Comment', v.visit_id "
+            + "FROM visits v WHERE cast(substr(v.visit_id, 7) as int) % 10 = 1");
+    }
+
+    /**
+     * Refreshes the planner statistics of the seeded tables.
+     */
+    public void analyze() {
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
@@ -0,0 +1,132 @@
+package org.baps.api.vtms.performance;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+
+/**
+ * Wraps the data source so the prepared statements executed on the current thread, with the parameters bound to them,
+ * can be recorded while a repository method runs and explained afterwards. Import it into a test context with
+ * {@code @Import(StatementRecorder.class)}.
+ */
+public class StatementRecorder implements BeanPostProcessor {
+
+    private static final ThreadLocal<List<RecordedStatement>> RECORDED_STATEMENTS = new ThreadLocal<>();
+
+    /**
+     * Runs the action and returns the prepared statements it executed on the current thread, in execution order.
+     *
+     * @param action The action to record, typically a repository method call.
+     * @return The executed statements.
+     */
+    public static List<RecordedStatement> record(final Runnable action) {
+        final List<RecordedStatement> recordedStatementList = new ArrayList<>();
+        RECORDED_STATEMENTS.set(recordedStatementList);
+        try {
+            action.run();
+        } finally {
+            RECORDED_STATEMENTS.remove();
+        }
+        return Collections.unmodifiableList(recordedStatementList);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (method, args, result) ->
+                result instanceof Connection connection ? proxyConnection(connection) : result);
+        }
+        return bean;
+    }
+
+    private static Connection proxyConnection(final Connection connection) {
+        return proxy(Connection.class, connection, (method, args, result) ->
+            result instanceof PreparedStatement preparedStatement && "prepareStatement".equals(method.getName())
+                ? proxyPreparedStatement(preparedStatement, (String) args[0]) : result);
+    }
+
+    private static PreparedStatement proxyPreparedStatement(final PreparedStatement preparedStatement, final String sql) {
+        // Keyed by parameter index, so a parameter bound twice keeps its last value like the statement does.
+        final Map<Integer, ParameterBinding> parameterBindingMap = new TreeMap<>();
+        return proxy(PreparedStatement.class, preparedStatement, (method, args, result) -> {
+            final String methodName = method.getName();
+            if (methodName.startsWith("set") && args != null && args.length > 1 && args[0] instanceof Integer parameterIndex) {
+                parameterBindingMap.put(parameterIndex, new ParameterBinding(method, args.clone()));
+            } else if ("clearParameters".equals(methodName)) {
+                parameterBindingMap.clear();
+            } else if (methodName.startsWith("execute") && RECORDED_STATEMENTS.get() != null) {
+                RECORDED_STATEMENTS.get().add(new RecordedStatement(sql, List.copyOf(parameterBindingMap.values())));
+            }
+            return result;
+        });
+    }
+
+    private static <T> T proxy(final Class<T> type, final T target, final ResultWrapper resultWrapper) {
+        final InvocationHandler invocationHandler = (proxy, method, args) -> {
+            try {
+                return resultWrapper.wrap(method, args, method.invoke(target, args));
+            } catch (final InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return type.cast(Proxy.newProxyInstance(StatementRecorder.class.getClassLoader(), new Class<?>[] {type}, invocationHandler));
+    }
+
+    @FunctionalInterface
+    private interface ResultWrapper {
+
+        Object wrap(Method method, Object[] args, Object result);
+    }
+
+    record ParameterBinding(Method method, Object[] args) {
+    }
+
+    /**
+     * A prepared statement executed while recording, with the parameters it was executed with.
+     *
+     * @param sql                  The SQL of the statement.
+     * @param parameterBindingList The setter calls that bound its parameters.
+     */
+    public record RecordedStatement(String sql, List<ParameterBinding> parameterBindingList) {
+
+        /**
+         * Explains the statement with its recorded parameters on the given connection, with the session's planner
+         * settings.
+         *
+         * @param connection The connection to explain the statement on.
+         * @return The plan, one line per node.
+         * @throws SQLException If the statement can not be explained.
+         */
+        public String explain(final Connection connection) throws SQLException {
+            try (PreparedStatement preparedStatement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (final ParameterBinding parameterBinding : parameterBindingList) {
+                    try {
+                        parameterBinding.method().invoke(preparedStatement, parameterBinding.args());
+                    } catch (final IllegalAccessException | InvocationTargetException e) {
+                        throw new SQLException("Could not bind the parameters of " + sql, e);
+                    }
+                }
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    final StringBuilder plan = new StringBuilder();
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append('\n');
+                    }
+                    return plan.toString();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package org.baps.api.vtms.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.baps.api.vtms.PostgresDataJpaTest;
+import org.baps.api.vtms.constants.SpecificationConstants;
+import org.baps.api.vtms.enumerations.VisitTypeEnum;
+import org.baps.api.vtms.models.entities.Visit;
+import org.baps.api.vtms.repositories.VisitRepository;
+import org.baps.api.vtms.repositories.specifications.VisitSpecification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+/**
+ * Compares the personnel filter of the visit list on a hundred thousand visits: the correlated EXISTS subquery built by
+ * VisitSpecification against the previous approach, which first loaded the visits of the personnel and then filtered
+ * the list with an IN list of their ids.
+ */
+@Slf4j
+@Tag("performance")
+@PostgresDataJpaTest
+@Import(VisitSpecification.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class VisitPersonnelExistsBenchmarkTests {
+
+    private static final int VISIT_COUNT = Integer.getInteger("benchmark.visit-count", 100_000);
+
+    private static final int SITE_COUNT = 2;
+
+    private static final int TOUR_SLOT_COUNT = 10_000;
+
+    private static final int PERSONNEL_COUNT = 20;
+
+    private static final int WARM_UP_ITERATIONS = 3;
+
+    private static final int MEASURED_ITERATIONS = 10;
+
+    private static final String SITE_UUCODE = "PS0";
+
+    private static final String PERSONNEL_ID = "personnel-2";
+
+    private static final PageRequest PAGE_REQUEST =
+        PageRequest.of(0, 25, Sort.by(Sort.Order.desc(SpecificationConstants.START_DATE_TIME), Sort.Order.asc("visitId")));
+
+    @Autowired
+    private VisitSpecification visitSpecification;
+
+    @Autowired
+    private VisitRepository visitRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        final PerformanceDataSeeder performanceDataSeeder = new PerformanceDataSeeder(jdbcTemplate);
+        performanceDataSeeder.seedSites(SITE_COUNT);
+        performanceDataSeeder.seedTourSlots(TOUR_SLOT_COUNT, SITE_COUNT);
+        performanceDataSeeder.seedVisits(VISIT_COUNT, SITE_COUNT, TOUR_SLOT_COUNT);
+        performanceDataSeeder.seedVisitPersonnel(PERSONNEL_COUNT, SITE_COUNT, VISIT_COUNT);
+        performanceDataSeeder.analyze();
+    }
+
+    @Test
+    void existsSubqueryReturnsThePreQueryResultsFaster() {
+
+        final List<String> preQueryVisitIdList = findWithPreQuery();
+        final List<String> existsVisitIdList = findWithExists();
+
+        assertThat(existsVisitIdList).containsExactlyElementsOf(preQueryVisitIdList).isNotEmpty();
+
+        final long preQueryMedianMillis = measureMedianMillis(this::findWithPreQuery);
+        final long existsMedianMillis = measureMedianMillis(this::findWithExists);
+
+        log.info("Visit list of one personnel on {} visits, median of {} runs: pre-query and IN list {} ms, EXISTS {} ms",
+            VISIT_COUNT, MEASURED_ITERATIONS, preQueryMedianMillis, existsMedianMillis);
+
+        assertThat(existsMedianMillis).isLessThan(preQueryMedianMillis);
+    }
+
+    private List<String> findWithExists() {
+        final Specification<Visit> specification = visitSpecification.buildVisitSpecification(null, null, null, null, null, null,
+            null, PERSONNEL_ID, VisitTypeEnum.VISIT, null, SITE_UUCODE, null);
+
+        return visitRepository.findAll(specification, PAGE_REQUEST).map(Visit::getVisitId).getContent();
+    }
+
+    private List<String> findWithPreQuery() {
+        // The query VisitSpecification used to run before the EXISTS subquery, loading every visit of the personnel.
+        final Set<String> visitIdSet = entityManager.createQuery("SELECT v FROM Visit v "
+                + "     INNER JOIN VisitPersonnel vp ON v.visitId = vp.visit.visitId "
+                + "     INNER JOIN Personnel p ON p.personnelId = vp.personnel.personnelId "
+                + "     WHERE vp.status != org.baps.api.vtms.models.base.Status.DELETED "
+                + "     AND p.status != org.baps.api.vtms.models.base.Status.DELETED "
+                + "     AND p.personnelId = :personnelId "
+                + "     AND v.site.uuCode = :siteUUCode", Visit.class)
+            .setParameter("personnelId", PERSONNEL_ID)
+            .setParameter("siteUUCode", SITE_UUCODE)
+            .getResultList().stream()
+            .map(Visit::getVisitId)
+            .collect(Collectors.toSet());
+        entityManager.clear();
+
+        final Specification<Visit> specification = visitSpecification.buildVisitSpecification(null, null, null, null, null, null,
+                null, null, VisitTypeEnum.VISIT, null, SITE_UUCODE, null)
+            .and((root, query, criteriaBuilder) -> root.get(SpecificationConstants.VISIT_ID).in(visitIdSet));
+
+        return visitRepository.findAll(specification, PAGE_REQUEST).map(Visit::getVisitId).getContent();
+    }
+
+    private long measureMedianMillis(final Supplier<List<String>> visitIdListSupplier) {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            visitIdListSupplier.get();
+        }
+
+        final List<Long> elapsedMillisList = new ArrayList<>();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            final long startTime = System.nanoTime();
+            visitIdListSupplier.get();
+            elapsedMillisList.add((System.nanoTime() - startTime) / 1_000_000);
+        }
+
+        Collections.sort(elapsedMillisList);
+        return elapsedMillisList.get(MEASURED_ITERATIONS / 2);
+    }
+}
@@ -0,0 +1,184 @@
+package org.baps.api.vtms.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.baps.api.vtms.PostgresDataJpaTest;
+import org.baps.api.vtms.enumerations.VisitTypeEnum;
+import org.baps.api.vtms.enumerations.VisitorSearchModeEnum;
+import org.baps.api.vtms.models.entities.Visit;
+import org.baps.api.vtms.repositories.VisitRepository;
+import org.baps.api.vtms.repositories.specifications.VisitSpecification;
+import org.baps.api.vtms.repositories.specifications.VisitorSpecification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+/**
+ * Compares the LIKE and TRIGRAM search modes on a million visitors, for the visitor search built by VisitorSpecification
+ * and for the visit list search built by VisitSpecification, so the benchmark covers the SQL Hibernate actually
+ * generates for both paths the mode switches. The visitor count can be changed with -Dbenchmark.visitor-count.
+ */
+@Slf4j
+@Tag("performance")
+@PostgresDataJpaTest
+@Import({VisitorSpecification.class, VisitSpecification.class})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class VisitorTrigramSearchBenchmarkTests {
+
+    private static final int VISITOR_COUNT = Integer.getInteger("benchmark.visitor-count", 1_000_000);
+
+    private static final int VISIT_COUNT = VISITOR_COUNT / 4;
+
+    private static final int SITE_COUNT = 10;
+
+    private static final int TOUR_SLOT_COUNT = 10_000;
+
+    private static final int PERSONNEL_COUNT = 1_000;
+
+    private static final int PAGE_SIZE = 25;
+
+    private static final int WARM_UP_ITERATIONS = 2;
+
+    private static final int MEASURED_ITERATIONS = 5;
+
+    @Autowired
+    private VisitorSpecification visitorSpecification;
+
+    @Autowired
+    private VisitSpecification visitSpecification;
+
+    @Autowired
+    private VisitRepository visitRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String search;
+
+    @BeforeAll
+    void seed() {
+        final long startTime = System.nanoTime();
+
+        final PerformanceDataSeeder performanceDataSeeder = new PerformanceDataSeeder(jdbcTemplate);
+        performanceDataSeeder.seedSites(SITE_COUNT);
+        performanceDataSeeder.seedTourSlots(TOUR_SLOT_COUNT, SITE_COUNT);
+        performanceDataSeeder.seedVisits(VISIT_COUNT, SITE_COUNT, TOUR_SLOT_COUNT);
+        performanceDataSeeder.seedVisitPersonnel(PERSONNEL_COUNT, SITE_COUNT, VISIT_COUNT);
+        performanceDataSeeder.seedVisitors(VISITOR_COUNT, VISIT_COUNT);
+        performanceDataSeeder.analyze();
+
+        log.info("Seeded {} visitors in {} ms", VISITOR_COUNT, (System.nanoTime() - startTime) / 1_000_000);
+
+        // A fragment from the middle of one last name, the selective searches the index is meant for.
+        search = jdbcTemplate.queryForObject("SELECT substr(last_name, 3, 6) FROM visitors WHERE visitor_id = 'visitor-424241'",
+            String.class);
+    }
+
+    @Test
+    void trigramSearchReturnsTheLikeResultsFaster() {
+
+        final List<String> likeVisitorIdList = searchVisitors(VisitorSearchModeEnum.LIKE);
+        final List<String> trigramVisitorIdList = searchVisitors(VisitorSearchModeEnum.TRIGRAM);
+
+        assertThat(trigramVisitorIdList).containsExactlyInAnyOrderElementsOf(likeVisitorIdList).isNotEmpty();
+
+        final long likeMedianMillis = measureMedianMillis(() -> searchVisitors(VisitorSearchModeEnum.LIKE));
+        final long trigramMedianMillis = measureMedianMillis(() -> searchVisitors(VisitorSearchModeEnum.TRIGRAM));
+
+        log.info("Visitor search '{}' on {} visitors, median of {} runs: LIKE {} ms, TRIGRAM {} ms", search, VISITOR_COUNT,
+            MEASURED_ITERATIONS, likeMedianMillis, trigramMedianMillis);
+
+        assertThat(trigramMedianMillis).isLessThan(likeMedianMillis);
+    }
+
+    @Test
+    void trigramTourSearchReturnsTheLikeResultsFaster() {
+        final SearchMedians searchMedians = benchmarkVisitSearch(VisitTypeEnum.TOUR);
+
+        assertThat(searchMedians.trigramMedianMillis()).isLessThan(searchMedians.likeMedianMillis());
+    }
+
+    @Test
+    void trigramVisitSearchReturnsTheLikeResults() {
+        // The visitor name is one arm of an OR with the personnel names and the request number, which have no trigram index,
+        // so both modes scan the visits of the site and the mode only spares the concatenation of the names per row.
+        benchmarkVisitSearch(VisitTypeEnum.VISIT);
+    }
+
+    private SearchMedians benchmarkVisitSearch(final VisitTypeEnum visitTypeEnum) {
+
+        // A fragment of the last name of the primary visitor of an active visit of the type, on the site of that visit.
+        final Map<String, Object> searchOnSite = jdbcTemplate.queryForMap("SELECT substr(vr.last_name, 3, 6) AS search, "
+            + "    s.uucode AS site_uucode "
+            + "FROM visitors vr "
+            + "JOIN visit_visitor vv ON vv.visitor_id = vr.visitor_id "
+            + "JOIN visits v ON v.visit_id = vv.visit_id "
+            + "JOIN sites s ON s.site_id = v.site_id "
+            + "WHERE v.type = ? AND v.status = 'ACTIVE' AND vr.status = 'ACTIVE' AND vr.visitor_id > 'visitor-424241' "
+            + "ORDER BY vr.visitor_id LIMIT 1", visitTypeEnum.name());
+        final String visitSearch = (String) searchOnSite.get("search");
+        final String siteUUCode = (String) searchOnSite.get("site_uucode");
+
+        final List<String> likeVisitIdList = searchVisits(VisitorSearchModeEnum.LIKE, visitSearch, visitTypeEnum, siteUUCode);
+        final List<String> trigramVisitIdList = searchVisits(VisitorSearchModeEnum.TRIGRAM, visitSearch, visitTypeEnum, siteUUCode);
+
+        assertThat(trigramVisitIdList).containsExactlyInAnyOrderElementsOf(likeVisitIdList).isNotEmpty();
+
+        final SearchMedians searchMedians = new SearchMedians(
+            measureMedianMillis(() -> searchVisits(VisitorSearchModeEnum.LIKE, visitSearch, visitTypeEnum, siteUUCode)),
+            measureMedianMillis(() -> searchVisits(VisitorSearchModeEnum.TRIGRAM, visitSearch, visitTypeEnum, siteUUCode)));
+
+        log.info("{} list search '{}' on site {} with {} visitors, median of {} runs: LIKE {} ms, TRIGRAM {} ms", visitTypeEnum,
+            visitSearch, siteUUCode, VISITOR_COUNT, MEASURED_ITERATIONS, searchMedians.likeMedianMillis(),
+            searchMedians.trigramMedianMillis());
+        return searchMedians;
+    }
+
+    private long measureMedianMillis(final Supplier<List<String>> search) {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            search.get();
+        }
+
+        final List<Long> elapsedMillisList = new ArrayList<>();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            final long startTime = System.nanoTime();
+            search.get();
+            elapsedMillisList.add((System.nanoTime() - startTime) / 1_000_000);
+        }
+
+        Collections.sort(elapsedMillisList);
+        return elapsedMillisList.get(MEASURED_ITERATIONS / 2);
+    }
+
+    private List<String> searchVisitors(final VisitorSearchModeEnum visitorSearchModeEnum) {
+        ReflectionTestUtils.setField(visitorSpecification, "visitorSearchModeEnum", visitorSearchModeEnum);
+        return visitorSpecification.groupBydVisitorIdSearchExecuteSpecification(search, null);
+    }
+
+    // The first page of the visit list, with its count query, as served by VisitService.
+    private List<String> searchVisits(final VisitorSearchModeEnum visitorSearchModeEnum, final String visitSearch,
+            final VisitTypeEnum visitTypeEnum, final String siteUUCode) {
+        ReflectionTestUtils.setField(visitSpecification, "visitorSearchModeEnum", visitorSearchModeEnum);
+        return visitRepository.findListPage(visitSpecification.buildVisitSpecification(null, null, visitSearch, null, null, null,
+                null, null, visitTypeEnum, null, siteUUCode, null), PageRequest.of(0, PAGE_SIZE))
+            .map(Visit::getVisitId).getContent();
+    }
+
+    private record SearchMedians(long likeMedianMillis, long trigramMedianMillis) {
+    }
+}
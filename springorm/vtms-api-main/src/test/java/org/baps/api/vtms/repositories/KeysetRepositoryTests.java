@@ -0,0 +1,99 @@
+package org.baps.api.vtms.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.baps.api.vtms.PostgresDataJpaTest;
+import org.baps.api.vtms.constants.SpecificationConstants;
+import org.baps.api.vtms.exceptions.DataValidationException;
+import org.baps.api.vtms.models.base.KeysetPage;
+import org.baps.api.vtms.models.entities.Visit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+@PostgresDataJpaTest
+class KeysetRepositoryTests {
+
+    private static final LocalDateTime FIRST_CREATED_AT = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private static final int VISIT_COUNT = 10;
+
+    private static final int PAGE_SIZE = 4;
+
+    @Autowired
+    private VisitRepository visitRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void visitsUpdatedBetweenPagesAreListedOnce() {
+        final String siteId = createSite("KSR1");
+        final List<String> expectedVisitIdList = new ArrayList<>();
+        for (int i = VISIT_COUNT - 1; i >= 0; i--) {
+            // Visits 0 to 2 share their created_at, the visit id breaks the tie.
+            expectedVisitIdList.add(createVisit(siteId, "KSR1-" + i, FIRST_CREATED_AT.plusMinutes(Math.max(i, 2))));
+        }
+
+        final List<String> visitIdList = new ArrayList<>();
+        KeysetPage<Visit> keysetPage = findKeysetPage(siteId, null);
+        keysetPage.getContent().forEach(visit -> visitIdList.add(visit.getVisitId()));
+
+        // Updating every visit between two pages used to move the rows across an updated_at cursor.
+        jdbcTemplate.update("UPDATE visits SET updated_at = now() WHERE site_id = ?", siteId);
+
+        while (keysetPage.getNextCursor() != null) {
+            keysetPage = findKeysetPage(siteId, keysetPage.getNextCursor());
+            keysetPage.getContent().forEach(visit -> visitIdList.add(visit.getVisitId()));
+        }
+
+        assertThat(visitIdList).containsExactlyElementsOf(expectedVisitIdList);
+    }
+
+    @Test
+    void findKeysetPageRejectsOtherSortProperty() {
+        assertThatThrownBy(() -> visitRepository.findKeysetPage(Visit.class, Specification.where(null), null, PAGE_SIZE,
+            SpecificationConstants.UPDATED_AT, SpecificationConstants.CREATED_AT, SpecificationConstants.VISIT_ID,
+            Sort.Direction.DESC, Visit::getCreatedAt, Visit::getVisitId, null))
+            .isInstanceOf(DataValidationException.class);
+    }
+
+    @Test
+    void findKeysetPageRejectsInvalidCursor() {
+        assertThatThrownBy(() -> findKeysetPage(createSite("KSR2"), "invalid"))
+            .isInstanceOf(DataValidationException.class);
+    }
+
+    private KeysetPage<Visit> findKeysetPage(final String siteId, final String cursor) {
+        final Specification<Visit> specification = (root, query, criteriaBuilder) ->
+            criteriaBuilder.equal(root.get("site").get("siteId"), siteId);
+
+        return visitRepository.findKeysetPage(Visit.class, specification, cursor, PAGE_SIZE, null,
+            SpecificationConstants.CREATED_AT, SpecificationConstants.VISIT_ID, Sort.Direction.DESC,
+            Visit::getCreatedAt, Visit::getVisitId, Visit.LIST_ENTITY_GRAPH);
+    }
+
+    private String createSite(final String siteUUCode) {
+        final String siteId = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO sites (site_id, status, name, uucode, time_zone, start_time, end_time) "
+            + "VALUES (?, 'ACTIVE', ?, ?, 'UTC', '09:00', '18:00')", siteId, siteUUCode, siteUUCode);
+        return siteId;
+    }
+
+    private String createVisit(final String siteId, final String visitId, final LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO visits (visit_id, status, created_at, start_date_time, end_date_time, type, stage, "
+            + "total_visitors, request_number, site_id) VALUES (?, 'ACTIVE', ?, ?, ?, 'VISIT', 'PENDING', 1, ?, ?)",
+            visitId, createdAt, createdAt.plusDays(1), createdAt.plusDays(1).plusHours(1), visitId, siteId);
+        return visitId;
+    }
+}
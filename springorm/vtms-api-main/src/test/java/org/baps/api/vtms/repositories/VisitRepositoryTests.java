@@ -0,0 +1,148 @@
+package org.baps.api.vtms.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.baps.api.vtms.PostgresDataJpaTest;
+import org.baps.api.vtms.models.VisitBasicInfoModel;
+import org.baps.api.vtms.models.entities.Visit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@PostgresDataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class VisitRepositoryTests {
+
+    private static final int VISIT_COUNT = 20;
+
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private VisitRepository visitRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findListPageFetchesListAssociationsWithThePage() {
+        final Specification<Visit> specification = createVisits("VRT1");
+
+        final long statementCount = countStatements(() -> {
+            final Page<Visit> visitPage = visitRepository.findListPage(specification, PageRequest.of(0, PAGE_SIZE));
+
+            assertThat(visitPage.getTotalElements()).isEqualTo(VISIT_COUNT);
+            visitPage.forEach(this::readListAssociations);
+        });
+
+        // The page and its count.
+        assertThat(statementCount).isEqualTo(2);
+    }
+
+    @Test
+    void findAllKeepsTheDefaultFetchPlan() {
+        final Specification<Visit> specification = createVisits("VRT2");
+
+        final long statementCount = countStatements(() ->
+            visitRepository.findAll(specification, PageRequest.of(0, PAGE_SIZE)).forEach(this::readListAssociations));
+
+        // Other callers of findAll are not given the list entity graph, the inverse one-to-ones load per visit.
+        assertThat(statementCount).isGreaterThan(PAGE_SIZE);
+    }
+
+    @Test
+    void findVisitBasicInfoListForVisitSummaryReadsOneRowPerVisit() {
+        final Specification<Visit> specification = createVisits("VRT3");
+        final String visitId = jdbcTemplate.queryForObject("SELECT min(visit_id) FROM visits v JOIN sites s ON s.site_id = v.site_id "
+            + "WHERE s.uucode = 'VRT3'", String.class);
+        // A second primary visitor row must not repeat the visit.
+        createPrimaryVisitor(visitId, "Asha", "Patel");
+        createPrimaryVisitor(visitId, "Ravi", "Shah");
+
+        final AtomicReference<List<VisitBasicInfoModel>> visitBasicInfoModelListReference = new AtomicReference<>();
+        final long statementCount = countStatements(() ->
+            visitBasicInfoModelListReference.set(visitRepository.findVisitBasicInfoListForVisitSummary(specification)));
+
+        final List<VisitBasicInfoModel> visitBasicInfoModelList = visitBasicInfoModelListReference.get();
+        assertThat(statementCount).isEqualTo(1);
+        assertThat(visitBasicInfoModelList).hasSize(VISIT_COUNT)
+            .extracting(VisitBasicInfoModel::getVisitId).doesNotHaveDuplicates();
+        assertThat(visitBasicInfoModelList).filteredOn(visitBasicInfoModel -> visitBasicInfoModel.getPrimaryVisitorModel() != null)
+            .singleElement()
+            .satisfies(visitBasicInfoModel -> {
+                assertThat(visitBasicInfoModel.getVisitId()).isEqualTo(visitId);
+                assertThat(visitBasicInfoModel.getPrimaryVisitorModel().getFirstName()).isIn("Asha", "Ravi");
+            });
+    }
+
+    private long countStatements(final Runnable runnable) {
+        transactionTemplate.executeWithoutResult(transactionStatus -> {
+            statistics.clear();
+            runnable.run();
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void readListAssociations(final Visit visit) {
+        assertThat(Objects.requireNonNull(visit.getTourSlot()).getStartDateTime()).isNotNull();
+        assertThat(visit.getVisitFeedback()).isNull();
+        assertThat(visit.getVisitPublicFeedback()).isNull();
+    }
+
+    private void createPrimaryVisitor(final String visitId, final String firstName, final String lastName) {
+        final String visitorId = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO visitors (visitor_id, status, salutation, first_name, last_name, gender, email, "
+            + "phone_country_code, phone_number) VALUES (?, 'ACTIVE', 'Mr', ?, ?, 'MALE', ?, '1', '0000000000')",
+            visitorId, firstName, lastName, visitorId + "@example.com");
+        jdbcTemplate.update("INSERT INTO visit_visitor (visit_visitor_id, status, contact_type, visit_id, visitor_id) "
+            + "VALUES (?, 'ACTIVE', 'PRIMARY', ?, ?)", UUID.randomUUID().toString(), visitId, visitorId);
+    }
+
+    private Specification<Visit> createVisits(final String siteUUCode) {
+        final String siteId = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO sites (site_id, status, name, uucode, time_zone, start_time, end_time) "
+            + "VALUES (?, 'ACTIVE', ?, ?, 'UTC', '09:00', '18:00')", siteId, siteUUCode, siteUUCode);
+
+        final LocalDateTime startDateTime = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < VISIT_COUNT; i++) {
+            final String tourSlotId = UUID.randomUUID().toString();
+            jdbcTemplate.update("INSERT INTO tour_slots (tour_slot_id, status, stage, start_date_time, end_date_time, max_guest_size, "
+                + "site_id) VALUES (?, 'ACTIVE', 'ACTIVE', ?, ?, 10, ?)", tourSlotId, startDateTime, startDateTime.plusHours(1), siteId);
+
+            jdbcTemplate.update("INSERT INTO visits (visit_id, status, created_at, start_date_time, end_date_time, type, stage, "
+                + "total_visitors, request_number, site_id, tour_slot_id) VALUES (?, 'ACTIVE', now(), ?, ?, 'TOUR', 'PENDING', 1, ?, ?, ?)",
+                UUID.randomUUID().toString(), startDateTime, startDateTime.plusHours(1), siteUUCode + "-" + i, siteId, tourSlotId);
+        }
+
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("site").get("siteId"), siteId);
+    }
+}
@@ -0,0 +1,111 @@
+package org.baps.api.vtms.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.baps.api.vtms.enumerations.PermissionEnum;
+import org.baps.api.vtms.enumerations.RoleTagEnum;
+import org.baps.api.vtms.models.AuthenticatedPersonnel;
+import org.baps.api.vtms.models.entities.Permission;
+import org.baps.api.vtms.models.entities.Personnel;
+import org.baps.api.vtms.models.entities.Role;
+import org.baps.api.vtms.models.entities.RolePermission;
+import org.baps.api.vtms.models.entities.VisitPersonnel;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTests {
+
+    private static final String PERSONNEL_ID = "p1";
+
+    private static final String VISIT_ID = "v1";
+
+    private static final String SITE_UUCODE = "S1";
+
+    @Mock
+    private PersonnelService personnelService;
+
+    @Mock
+    private VisitPersonnelService visitPersonnelService;
+
+    @Mock
+    private VisitPermissionContext visitPermissionContext;
+
+    @InjectMocks
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        // A system role grants viewing every visit, the update of a visit is only granted by a site role.
+        when(personnelService.getAuthenticatedPersonnel()).thenReturn(new AuthenticatedPersonnel(PERSONNEL_ID, "P1", List.of(),
+            Set.of(PermissionEnum.VIEW_VISIT, PermissionEnum.UPDATE_VISIT), Set.of(PermissionEnum.VIEW_VISIT)));
+    }
+
+    @Test
+    void systemPermissionIsGrantedWithoutReadingTheVisitPersonnel() {
+        assertThat(authService.hasVisitPermission(VISIT_ID, PermissionEnum.VIEW_VISIT, SITE_UUCODE)).isTrue();
+
+        verifyNoInteractions(visitPersonnelService, visitPermissionContext);
+    }
+
+    @Test
+    void sitePermissionIsGrantedByTheRoleOfThePersonnelInTheVisit() {
+        when(visitPersonnelService.findVisitPersonnelListByVisitIdAndSiteUucodeAndPersonnelId(VISIT_ID, SITE_UUCODE, PERSONNEL_ID))
+            .thenReturn(List.of(createVisitPersonnel(PERSONNEL_ID, RoleTagEnum.TOUR_GUIDE, PermissionEnum.UPDATE_VISIT)));
+
+        assertThat(authService.hasVisitPermission(VISIT_ID, PermissionEnum.UPDATE_VISIT, SITE_UUCODE)).isTrue();
+
+        verify(visitPermissionContext).putRoleTags(VISIT_ID, SITE_UUCODE, Set.of(RoleTagEnum.TOUR_GUIDE));
+    }
+
+    @Test
+    void sitePermissionOfAnotherSiteRoleIsNotGrantedInTheVisit() {
+        when(visitPersonnelService.findVisitPersonnelListByVisitIdAndSiteUucodeAndPersonnelId(VISIT_ID, SITE_UUCODE, PERSONNEL_ID))
+            .thenReturn(List.of(createVisitPersonnel(PERSONNEL_ID, RoleTagEnum.TEAM, PermissionEnum.VIEW_VISIT)));
+
+        assertThat(authService.hasVisitPermission(VISIT_ID, PermissionEnum.UPDATE_VISIT, SITE_UUCODE)).isFalse();
+
+        verify(visitPermissionContext).putRoleTags(VISIT_ID, SITE_UUCODE, Set.of(RoleTagEnum.TEAM));
+    }
+
+    @Test
+    void roleOfAnotherPersonnelInTheVisitDoesNotGrantThePermission() {
+        when(visitPersonnelService.findVisitPersonnelListByVisitIdAndSiteUucodeAndPersonnelId(VISIT_ID, SITE_UUCODE, PERSONNEL_ID))
+            .thenReturn(List.of(createVisitPersonnel("p2", RoleTagEnum.TOUR_COORDINATOR, PermissionEnum.UPDATE_VISIT)));
+
+        assertThat(authService.hasVisitPermission(VISIT_ID, PermissionEnum.UPDATE_VISIT, SITE_UUCODE)).isFalse();
+    }
+
+    private VisitPersonnel createVisitPersonnel(final String personnelId, final RoleTagEnum roleTagEnum,
+            final PermissionEnum... permissionEnums) {
+        final Personnel personnel = new Personnel();
+        personnel.setPersonnelId(personnelId);
+
+        final Role role = new Role();
+        role.setRolePermissionList(Arrays.stream(permissionEnums).map(permissionEnum -> {
+            final Permission permission = new Permission();
+            permission.setPermissonEnum(permissionEnum);
+            final RolePermission rolePermission = new RolePermission();
+            rolePermission.setPermission(permission);
+            return rolePermission;
+        }).toList());
+
+        final VisitPersonnel visitPersonnel = new VisitPersonnel();
+        visitPersonnel.setPersonnel(personnel);
+        visitPersonnel.setRole(role);
+        visitPersonnel.setRoleTagEnum(roleTagEnum);
+        return visitPersonnel;
+    }
+}
@@ -0,0 +1,135 @@
+package org.baps.api.vtms.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.baps.api.vtms.exceptions.ServiceUnavailableException;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuthTokenCacheServiceTests {
+
+    private static final String TOKEN = "token";
+
+    private static final String PID = "personnel-1";
+
+    private static final int THREAD_COUNT = 8;
+
+    private static final int LOCAL_CACHE_SIZE = 100;
+
+    private static final long SSO_CALL_MILLIS = 200;
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private static final Duration DEGRADED_TIME_TO_LIVE = Duration.ofHours(1);
+
+    @Mock
+    private SsoClientService ssoClientService;
+
+    @Mock
+    private RedisService redisService;
+
+    private AuthTokenCacheService authTokenCacheService;
+
+    @BeforeEach
+    void setUp() {
+        authTokenCacheService = new AuthTokenCacheService(ssoClientService, redisService, new SimpleMeterRegistry(), LOCAL_CACHE_SIZE);
+        ReflectionTestUtils.setField(authTokenCacheService, "timeToLive", TIME_TO_LIVE);
+        ReflectionTestUtils.setField(authTokenCacheService, "degradedTimeToLive", DEGRADED_TIME_TO_LIVE);
+    }
+
+    @Test
+    void concurrentValidationsOfATokenShareOneSsoCall() throws Exception {
+        when(ssoClientService.isValidateToken(TOKEN)).thenAnswer(invocation -> {
+            Thread.sleep(SSO_CALL_MILLIS);
+            return true;
+        });
+
+        assertThat(validateConcurrently(() -> authTokenCacheService.isValidToken(TOKEN, PID, null))).containsOnly(true);
+        verify(ssoClientService, times(1)).isValidateToken(anyString());
+
+        // The validated token is then served by the local cache.
+        assertThat(authTokenCacheService.isValidToken(TOKEN, PID, null)).isTrue();
+        verify(ssoClientService, times(1)).isValidateToken(anyString());
+    }
+
+    @Test
+    void failureOfTheSharedSsoCallIsSeenByEveryWaitingValidation() throws Exception {
+        when(ssoClientService.isValidateToken(TOKEN)).thenAnswer(invocation -> {
+            Thread.sleep(SSO_CALL_MILLIS);
+            throw new ServiceUnavailableException("SSO server unavailable", null);
+        });
+
+        assertThat(validateConcurrently(() -> {
+            try {
+                return authTokenCacheService.isValidToken(TOKEN, PID, null);
+            } catch (final ServiceUnavailableException e) {
+                return false;
+            }
+        })).containsOnly(false);
+        verify(ssoClientService, times(1)).isValidateToken(anyString());
+
+        // The failure is not cached, the next validation calls SSO again.
+        assertThatThrownBy(() -> authTokenCacheService.isValidToken(TOKEN, PID, null)).isInstanceOf(ServiceUnavailableException.class);
+        verify(ssoClientService, times(2)).isValidateToken(anyString());
+    }
+
+    @Test
+    void rejectedTokenIsNotCached() {
+        when(ssoClientService.isValidateToken(TOKEN)).thenReturn(false);
+
+        assertThat(authTokenCacheService.isValidToken(TOKEN, PID, null)).isFalse();
+        assertThat(authTokenCacheService.isValidToken(TOKEN, PID, null)).isFalse();
+        verify(ssoClientService, times(2)).isValidateToken(anyString());
+    }
+
+    private List<Boolean> validateConcurrently(final Callable<Boolean> validation)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            final List<Future<Boolean>> futureList = new ArrayList<>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                futureList.add(executorService.submit(() -> {
+                    startLatch.await();
+                    return validation.call();
+                }));
+            }
+            startLatch.countDown();
+
+            final List<Boolean> resultList = new ArrayList<>();
+            for (final Future<Boolean> future : futureList) {
+                resultList.add(future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+            return resultList;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.baps.api.vtms.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.baps.api.vtms.enumerations.PermissionEnum;
+import org.baps.api.vtms.models.AuthenticatedPersonnel;
+import org.baps.api.vtms.models.entities.Permission;
+import org.baps.api.vtms.models.entities.Personnel;
+import org.baps.api.vtms.models.entities.PersonnelRole;
+import org.baps.api.vtms.models.entities.Role;
+import org.baps.api.vtms.models.entities.RolePermission;
+import org.baps.api.vtms.models.entities.Site;
+import org.baps.api.vtms.repositories.PersonnelRepository;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuthenticatedPersonnelServiceTests {
+
+    private static final int MAXIMUM_SIZE = 10;
+
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    @Mock
+    private PersonnelRepository personnelRepository;
+
+    @Mock
+    private PlatformTransactionManager platformTransactionManager;
+
+    private AuthenticatedPersonnelService authenticatedPersonnelService;
+
+    @BeforeEach
+    void setUp() {
+        authenticatedPersonnelService = new AuthenticatedPersonnelService(personnelRepository, platformTransactionManager,
+            MAXIMUM_SIZE, TIME_TO_LIVE);
+    }
+
+    @Test
+    void permissionsOfSystemRolesAreAlsoSystemPermissions() {
+        final Personnel personnel = createPersonnel("p1", "P1",
+            createPersonnelRole("admin", true, "s1", PermissionEnum.VIEW_VISIT_ALL_LIST, PermissionEnum.VIEW_VISIT),
+            createPersonnelRole("guide", false, "s2", PermissionEnum.UPDATE_VISIT, PermissionEnum.VIEW_VISIT));
+        when(personnelRepository.findByUucode("P1")).thenReturn(Optional.of(personnel));
+
+        final AuthenticatedPersonnel authenticatedPersonnel = authenticatedPersonnelService.getAuthenticatedPersonnel("P1").orElseThrow();
+
+        assertThat(authenticatedPersonnel.getPersonnelId()).isEqualTo("p1");
+        assertThat(authenticatedPersonnel.getPermissionEnumSet())
+            .containsExactlyInAnyOrder(PermissionEnum.VIEW_VISIT_ALL_LIST, PermissionEnum.VIEW_VISIT, PermissionEnum.UPDATE_VISIT);
+        assertThat(authenticatedPersonnel.getSystemPermissionEnumSet())
+            .containsExactlyInAnyOrder(PermissionEnum.VIEW_VISIT_ALL_LIST, PermissionEnum.VIEW_VISIT);
+        assertThat(authenticatedPersonnel.hasSystemPermission(PermissionEnum.UPDATE_VISIT)).isFalse();
+        assertThat(authenticatedPersonnel.hasPermission(PermissionEnum.UPDATE_VISIT)).isTrue();
+        assertThat(authenticatedPersonnel.getSiteRoleList()).containsExactly(
+            new AuthenticatedPersonnel.SiteRole("admin", "ADMIN", "s1", true),
+            new AuthenticatedPersonnel.SiteRole("guide", "GUIDE", "s2", false));
+        assertThat(authenticatedPersonnel.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactlyInAnyOrder("VIEW_VISIT_ALL_LIST", "VIEW_VISIT", "UPDATE_VISIT");
+    }
+
+    @Test
+    void principalIsLoadedOnceInAReadOnlyTransactionAndThenServedFromTheCache() {
+        when(personnelRepository.findByUucode("P2")).thenReturn(Optional.of(createPersonnel("p2", "P2")));
+
+        final AuthenticatedPersonnel authenticatedPersonnel = authenticatedPersonnelService.getAuthenticatedPersonnel("P2").orElseThrow();
+
+        assertThat(authenticatedPersonnelService.getAuthenticatedPersonnel("P2")).containsSame(authenticatedPersonnel);
+        verify(personnelRepository, times(1)).findByUucode("P2");
+
+        final ArgumentCaptor<TransactionDefinition> transactionDefinitionCaptor = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(platformTransactionManager, times(1)).getTransaction(transactionDefinitionCaptor.capture());
+        assertThat(transactionDefinitionCaptor.getValue().isReadOnly()).isTrue();
+    }
+
+    @Test
+    void unknownPidIsNotCachedAndLoadedAgainOnTheNextRequest() {
+        when(personnelRepository.findByUucode("UNKNOWN")).thenReturn(Optional.empty());
+
+        assertThat(authenticatedPersonnelService.getAuthenticatedPersonnel("UNKNOWN")).isEmpty();
+        assertThat(authenticatedPersonnelService.getAuthenticatedPersonnel("UNKNOWN")).isEmpty();
+
+        verify(personnelRepository, times(2)).findByUucode("UNKNOWN");
+        verify(platformTransactionManager, times(2)).getTransaction(any());
+    }
+
+    private Personnel createPersonnel(final String personnelId, final String uucode, final PersonnelRole... personnelRoles) {
+        final Personnel personnel = new Personnel();
+        personnel.setPersonnelId(personnelId);
+        personnel.setUucode(uucode);
+        personnel.setPersonnelRoleList(List.of(personnelRoles));
+        return personnel;
+    }
+
+    private PersonnelRole createPersonnelRole(final String roleId, final boolean checkSystemRole, final String siteId,
+            final PermissionEnum... permissionEnums) {
+        final Role role = new Role();
+        role.setRoleId(roleId);
+        role.setUucode(roleId.toUpperCase(Locale.ROOT));
+        role.setCheckSystemRole(checkSystemRole);
+        role.setRolePermissionList(Arrays.stream(permissionEnums).map(permissionEnum -> {
+            final Permission permission = new Permission();
+            permission.setPermissonEnum(permissionEnum);
+            final RolePermission rolePermission = new RolePermission();
+            rolePermission.setPermission(permission);
+            return rolePermission;
+        }).toList());
+
+        final Site site = new Site();
+        site.setSiteId(siteId);
+
+        final PersonnelRole personnelRole = new PersonnelRole();
+        personnelRole.setRole(role);
+        personnelRole.setSite(site);
+        return personnelRole;
+    }
+}
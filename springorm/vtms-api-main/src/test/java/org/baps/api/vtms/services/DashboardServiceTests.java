@@ -0,0 +1,182 @@
+package org.baps.api.vtms.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.baps.api.vtms.PostgresDataJpaTest;
+import org.baps.api.vtms.models.VisitPublicFeedbackSummaryModel;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+@PostgresDataJpaTest
+@Import(DashboardService.class)
+class DashboardServiceTests {
+
+    private static final LocalDate VISIT_DATE = LocalDate.of(2024, 5, 10);
+
+    private static final LocalTime MORNING = LocalTime.of(9, 0);
+
+    private static final LocalTime LATE_MORNING = LocalTime.of(10, 0);
+
+    private static final LocalTime BEFORE_NOON = LocalTime.of(11, 0);
+
+    private static final LocalTime NOON = LocalTime.of(12, 0);
+
+    private static final LocalTime AFTERNOON = LocalTime.of(15, 0);
+
+    private static final LocalTime END_OF_DAY = LocalTime.of(23, 59, 59);
+
+    private static final int EXCELLENT = 5;
+
+    private static final int GOOD = 4;
+
+    private static final int AVERAGE = 3;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void unratedFeedbackCountsInTotalAndAverages() {
+        final String siteId = createSite("DBS1");
+        createFeedback(createVisit(siteId, VISIT_DATE.atTime(LATE_MORNING)), EXCELLENT, GOOD);
+        createFeedback(createVisit(siteId, VISIT_DATE.atTime(BEFORE_NOON)), GOOD, null);
+        // Created with the visit and never submitted.
+        createFeedback(createVisit(siteId, VISIT_DATE.plusDays(1).atTime(LATE_MORNING)), null, null);
+
+        final VisitPublicFeedbackSummaryModel visitPublicFeedbackSummaryModel = findSummaryOfFullDays("DBS1");
+
+        // Booking 9 / 3 and overall 4 / 3, rounded half up instead of truncated.
+        assertThat(visitPublicFeedbackSummaryModel.getTotalRecord()).isEqualTo(AVERAGE);
+        assertThat(visitPublicFeedbackSummaryModel.getBookingProcessRating()).isEqualTo(AVERAGE);
+        assertThat(visitPublicFeedbackSummaryModel.getBookingProcessAverageRating()).isEqualByComparingTo("3.00");
+        assertThat(visitPublicFeedbackSummaryModel.getOverallRating()).isEqualTo(1L);
+        assertThat(visitPublicFeedbackSummaryModel.getOverallAverageRating()).isEqualByComparingTo("1.33");
+    }
+
+    @Test
+    void averageRatingsKeepTwoDecimals() {
+        final String siteId = createSite("DBS6");
+        createFeedback(createVisit(siteId, VISIT_DATE.atTime(MORNING)), EXCELLENT, EXCELLENT);
+        createFeedback(createVisit(siteId, VISIT_DATE.atTime(LATE_MORNING)), GOOD, EXCELLENT);
+        createFeedback(createVisit(siteId, VISIT_DATE.atTime(BEFORE_NOON)), GOOD, GOOD);
+
+        final VisitPublicFeedbackSummaryModel visitPublicFeedbackSummaryModel = findSummaryOfFullDays("DBS6");
+
+        // Booking 13 / 3 and overall 14 / 3.
+        assertThat(visitPublicFeedbackSummaryModel.getBookingProcessAverageRating()).isEqualByComparingTo("4.33");
+        assertThat(visitPublicFeedbackSummaryModel.getBookingProcessRating()).isEqualTo(GOOD);
+        assertThat(visitPublicFeedbackSummaryModel.getOverallAverageRating()).isEqualByComparingTo("4.67");
+        assertThat(visitPublicFeedbackSummaryModel.getOverallRating()).isEqualTo(EXCELLENT);
+    }
+
+    @Test
+    void summaryWithoutRatingsHasNullRatings() {
+        final String siteId = createSite("DBS2");
+        createFeedback(createVisit(siteId, VISIT_DATE.atTime(LATE_MORNING)), null, null);
+
+        final VisitPublicFeedbackSummaryModel visitPublicFeedbackSummaryModel = findSummaryOfFullDays("DBS2");
+
+        assertThat(visitPublicFeedbackSummaryModel.getTotalRecord()).isEqualTo(1);
+        assertThat(visitPublicFeedbackSummaryModel.getBookingProcessRating()).isNull();
+        assertThat(visitPublicFeedbackSummaryModel.getBookingProcessAverageRating()).isNull();
+        assertThat(visitPublicFeedbackSummaryModel.getOverallRating()).isNull();
+        assertThat(visitPublicFeedbackSummaryModel.getOverallAverageRating()).isNull();
+    }
+
+    @Test
+    void rollupFollowsFeedbackAndVisitChanges() {
+        final String siteId = createSite("DBS3");
+        final String movedVisitId = createVisit(siteId, VISIT_DATE.atTime(LATE_MORNING));
+        final String deletedVisitId = createVisit(siteId, VISIT_DATE.atTime(BEFORE_NOON));
+        final String feedbackId = createFeedback(movedVisitId, null, null);
+        createFeedback(deletedVisitId, 2, 2);
+
+        jdbcTemplate.update("UPDATE visit_public_feedback SET booking_process_rating = ?, overall_rating = ?, "
+            + "is_booking_feedback = true WHERE visit_public_feedback_id = ?", EXCELLENT, GOOD, feedbackId);
+        jdbcTemplate.update("UPDATE visits SET start_date_time = start_date_time + interval '1 day' WHERE visit_id = ?", movedVisitId);
+        jdbcTemplate.update("UPDATE visits SET status = 'DELETED' WHERE visit_id = ?", deletedVisitId);
+
+        assertThat(findRollupRows(siteId)).containsExactly(
+            Map.of("visit_date", Date.valueOf(VISIT_DATE), "feedback_count", 0L, "booking_process_rating_sum", 0L),
+            Map.of("visit_date", Date.valueOf(VISIT_DATE.plusDays(1)), "feedback_count", 1L,
+                "booking_process_rating_sum", (long) EXCELLENT));
+
+        final VisitPublicFeedbackSummaryModel visitPublicFeedbackSummaryModel = findSummaryOfFullDays("DBS3");
+        assertThat(visitPublicFeedbackSummaryModel.getTotalRecord()).isEqualTo(1);
+        assertThat(visitPublicFeedbackSummaryModel.getBookingProcessRating()).isEqualTo(EXCELLENT);
+    }
+
+    @Test
+    void partialDaysAreReadFromTheFeedback() {
+        final String siteId = createSite("DBS4");
+        createFeedback(createVisit(siteId, VISIT_DATE.atTime(MORNING)), 1, 1);
+        createFeedback(createVisit(siteId, VISIT_DATE.atTime(AFTERNOON)), EXCELLENT, EXCELLENT);
+        createFeedback(createVisit(siteId, VISIT_DATE.plusDays(1).atTime(MORNING)), AVERAGE, AVERAGE);
+
+        final VisitPublicFeedbackSummaryModel visitPublicFeedbackSummaryModel = dashboardService.getPreBookedVisitFeedbackSummary("DBS4",
+            VISIT_DATE.atTime(NOON), VISIT_DATE.plusDays(1).atTime(END_OF_DAY));
+
+        assertThat(visitPublicFeedbackSummaryModel.getTotalRecord()).isEqualTo(2);
+        assertThat(visitPublicFeedbackSummaryModel.getBookingProcessRating()).isEqualTo(GOOD);
+    }
+
+    @Test
+    void rebuildCorrectsDrift() {
+        final String siteId = createSite("DBS5");
+        createFeedback(createVisit(siteId, VISIT_DATE.atTime(LATE_MORNING)), GOOD, EXCELLENT);
+        final List<Map<String, Object>> expectedRollupRows = findRollupRows(siteId);
+
+        jdbcTemplate.update("UPDATE visit_feedback_daily_rollup SET feedback_count = 7, booking_process_rating_sum = 1 WHERE site_id = ?",
+            siteId);
+        dashboardService.rebuildVisitFeedbackDailyRollup();
+
+        assertThat(findRollupRows(siteId)).isEqualTo(expectedRollupRows);
+    }
+
+    private VisitPublicFeedbackSummaryModel findSummaryOfFullDays(final String siteUUCode) {
+        return dashboardService.getPreBookedVisitFeedbackSummary(siteUUCode, VISIT_DATE.atStartOfDay(),
+            VISIT_DATE.plusDays(1).atTime(END_OF_DAY));
+    }
+
+    private List<Map<String, Object>> findRollupRows(final String siteId) {
+        return jdbcTemplate.queryForList("SELECT visit_date, feedback_count, booking_process_rating_sum "
+            + "FROM visit_feedback_daily_rollup WHERE site_id = ? ORDER BY visit_date", siteId);
+    }
+
+    private String createSite(final String siteUUCode) {
+        final String siteId = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO sites (site_id, status, name, uucode, time_zone, start_time, end_time) "
+            + "VALUES (?, 'ACTIVE', ?, ?, 'UTC', '09:00', '18:00')", siteId, siteUUCode, siteUUCode);
+        return siteId;
+    }
+
+    private String createVisit(final String siteId, final LocalDateTime startDateTime) {
+        final String visitId = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO visits (visit_id, status, created_at, start_date_time, end_date_time, type, stage, "
+            + "total_visitors, site_id) VALUES (?, 'ACTIVE', now(), ?, ?, 'TOUR', 'PENDING', 1, ?)",
+            visitId, startDateTime, startDateTime.plusHours(1), siteId);
+        return visitId;
+    }
+
+    private String createFeedback(final String visitId, final Integer bookingProcessRating, final Integer overallRating) {
+        final String visitPublicFeedbackId = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO visit_public_feedback (visit_public_feedback_id, status, visit_id, booking_process_rating, "
+            + "overall_rating, is_booking_feedback) VALUES (?, 'ACTIVE', ?, ?, ?, ?)", visitPublicFeedbackId, visitId,
+            bookingProcessRating, overallRating, bookingProcessRating != null);
+        return visitPublicFeedbackId;
+    }
+}
@@ -0,0 +1,102 @@
+package org.baps.api.vtms.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.baps.api.vtms.constants.CacheConstant;
+import org.baps.api.vtms.models.ChildLookupModel;
+import org.baps.api.vtms.models.LookupVersionModel;
+import org.baps.api.vtms.models.entities.Lookup;
+import org.baps.api.vtms.repositories.LookupRepository;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LookupDictionaryServiceTests {
+
+    private static final LocalDateTime LOADED_AT = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final LookupVersionModel FIRST_VERSION = new LookupVersionModel(2L, LOADED_AT, LOADED_AT);
+
+    private static final LookupVersionModel UPDATED_VERSION = new LookupVersionModel(2L, LOADED_AT, LOADED_AT.plusMinutes(1));
+
+    @Mock
+    private LookupRepository lookupRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache publicLookupCache;
+
+    @InjectMocks
+    private LookupDictionaryService lookupDictionaryService;
+
+    @Test
+    void dictionaryIsLoadedOnFirstUseAndKeptWhileTheVersionIsUnchanged() {
+        when(lookupRepository.findLookupVersion()).thenReturn(FIRST_VERSION);
+        when(lookupRepository.findAll()).thenReturn(List.of(
+            createLookup("GENDER", new ChildLookupModel("MALE", "Male", "1"), new ChildLookupModel("FEMALE", null, "2"))));
+
+        assertThat(lookupDictionaryService.getChildLookupValues("GENDER")).containsExactlyInAnyOrder("Male");
+        assertThat(lookupDictionaryService.getChildLookupKeys("GENDER")).containsExactlyInAnyOrder("MALE", "FEMALE");
+        assertThat(lookupDictionaryService.getChildLookupValues("UNKNOWN")).isNull();
+
+        assertThat(lookupDictionaryService.refreshLookupDictionary()).isFalse();
+
+        verify(lookupRepository, times(1)).findAll();
+        verify(cacheManager, times(1)).getCache(CacheConstant.PUBLIC_LOOKUPS);
+    }
+
+    @Test
+    void newVersionReplacesTheDictionaryAndEvictsThePublicLookups() {
+        when(cacheManager.getCache(CacheConstant.PUBLIC_LOOKUPS)).thenReturn(publicLookupCache);
+        when(lookupRepository.findLookupVersion()).thenReturn(FIRST_VERSION, UPDATED_VERSION);
+        when(lookupRepository.findAll()).thenReturn(
+            List.of(createLookup("GENDER", new ChildLookupModel("MALE", "Male", "1"))),
+            List.of(createLookup("GENDER", new ChildLookupModel("MALE", "Man", "1"))));
+
+        lookupDictionaryService.loadLookupDictionary();
+        assertThat(lookupDictionaryService.getChildLookupValues("GENDER")).containsExactly("Male");
+        verify(publicLookupCache, never()).clear();
+
+        assertThat(lookupDictionaryService.refreshLookupDictionary()).isTrue();
+
+        assertThat(lookupDictionaryService.getChildLookupValues("GENDER")).containsExactly("Man");
+        verify(publicLookupCache, times(1)).clear();
+    }
+
+    @Test
+    void dictionaryFailingToLoadAtStartupIsLoadedOnFirstUse() {
+        when(lookupRepository.findLookupVersion()).thenThrow(new DataAccessResourceFailureException("Database unavailable"))
+            .thenReturn(FIRST_VERSION);
+        when(lookupRepository.findAll()).thenReturn(List.of(createLookup("GENDER")));
+
+        lookupDictionaryService.loadLookupDictionary();
+
+        assertThat(lookupDictionaryService.getChildLookupValues("GENDER")).isEmpty();
+        verify(lookupRepository, times(2)).findLookupVersion();
+    }
+
+    private Lookup createLookup(final String key, final ChildLookupModel... childLookupModels) {
+        final Lookup lookup = new Lookup();
+        lookup.setKey(key);
+        lookup.setChildLookupModelList(childLookupModels.length == 0 ? null : Arrays.asList(childLookupModels));
+        return lookup;
+    }
+}
@@ -0,0 +1,161 @@
+package org.baps.api.vtms.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.baps.api.vtms.exceptions.ServiceUnavailableException;
+import org.baps.api.vtms.models.notification.NotificationCampaignModel;
+import org.baps.api.vtms.models.notification.NotificationChannelEnum;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the NotificationClientService against a stub notification server answering slowly or with errors, with the
+ * resilience4j "notification" retry instance of application.yml scaled down so the retries run within a test.
+ */
+class NotificationClientServiceTests {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final Duration CLIENT_TIMEOUT = Duration.ofMillis(300);
+
+    private static final Duration RETRY_WAIT = Duration.ofMillis(10);
+
+    private MockWebServer notificationServer;
+
+    private RetryRegistry retryRegistry;
+
+    private NotificationClientService notificationClientService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        notificationServer = new MockWebServer();
+        notificationServer.start();
+
+        retryRegistry = RetryRegistry.of(RetryConfig.custom()
+            .maxAttempts(MAX_ATTEMPTS)
+            .waitDuration(RETRY_WAIT)
+            .retryExceptions(WebClientRequestException.class, WebClientResponseException.InternalServerError.class,
+                WebClientResponseException.BadGateway.class, WebClientResponseException.ServiceUnavailable.class,
+                WebClientResponseException.GatewayTimeout.class, ServiceUnavailableException.class)
+            .build());
+
+        notificationClientService = new NotificationClientService(
+            WebClient.builder().baseUrl(notificationServer.url("/").toString()).build(), retryRegistry);
+        ReflectionTestUtils.setField(notificationClientService, "notificationClientKey", "key");
+        ReflectionTestUtils.setField(notificationClientService, "notificationClientSecret", "secret");
+        ReflectionTestUtils.setField(notificationClientService, "notificationEnable", true);
+        ReflectionTestUtils.setField(notificationClientService, "notificationClientTimeout", CLIENT_TIMEOUT);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        notificationServer.shutdown();
+    }
+
+    @Test
+    void sendsCampaignWithTheClientCredentials() throws InterruptedException {
+        notificationServer.enqueue(createOkResponse());
+
+        notificationClientService.sendCampaign(createCampaign());
+
+        final RecordedRequest recordedRequest = notificationServer.takeRequest();
+        assertThat(recordedRequest.getPath()).isEqualTo("/inbox/campaigns/send");
+        assertThat(recordedRequest.getHeader("x-app-auth-id")).isEqualTo("key");
+        assertThat(recordedRequest.getHeader("x-app-auth-secret")).isEqualTo("secret");
+        assertThat(recordedRequest.getBody().readUtf8()).contains("\"templateId\":\"template-1\"");
+    }
+
+    @Test
+    void retriesServerErrors() {
+        notificationServer.enqueue(new MockResponse().setResponseCode(HttpServletResponse.SC_SERVICE_UNAVAILABLE));
+        notificationServer.enqueue(new MockResponse().setResponseCode(HttpServletResponse.SC_BAD_GATEWAY));
+        notificationServer.enqueue(createOkResponse());
+
+        notificationClientService.sendCampaign(createCampaign());
+
+        assertThat(notificationServer.getRequestCount()).isEqualTo(MAX_ATTEMPTS);
+    }
+
+    @Test
+    void retriesAttemptsSlowerThanTheClientTimeout() {
+        notificationServer.enqueue(createOkResponse().setHeadersDelay(2, TimeUnit.SECONDS));
+        notificationServer.enqueue(createOkResponse());
+
+        final long startNanos = System.nanoTime();
+        notificationClientService.sendCampaign(createCampaign());
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+        assertThat(notificationServer.getRequestCount()).isEqualTo(2);
+        // The first attempt waits for the client timeout, not for the notification server.
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void failsOnceEveryAttemptTimedOut() {
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            notificationServer.enqueue(createOkResponse().setHeadersDelay(2, TimeUnit.SECONDS));
+        }
+
+        assertThatThrownBy(() -> notificationClientService.sendCampaign(createCampaign()))
+            .isInstanceOf(ServiceUnavailableException.class);
+        // Cancelled attempts are not always read by the stub server, so they are counted by the retry instance.
+        assertThat(retryRegistry.retry("notification").getMetrics().getNumberOfFailedCallsWithRetryAttempt()).isEqualTo(1);
+    }
+
+    @Test
+    void failsOnceEveryAttemptGotAServerError() {
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            notificationServer.enqueue(new MockResponse().setResponseCode(HttpServletResponse.SC_INTERNAL_SERVER_ERROR));
+        }
+
+        assertThatThrownBy(() -> notificationClientService.sendCampaign(createCampaign()))
+            .isInstanceOf(WebClientResponseException.InternalServerError.class);
+        assertThat(notificationServer.getRequestCount()).isEqualTo(MAX_ATTEMPTS);
+    }
+
+    @Test
+    void doesNotRetryClientErrors() {
+        notificationServer.enqueue(new MockResponse().setResponseCode(HttpServletResponse.SC_BAD_REQUEST));
+
+        assertThatThrownBy(() -> notificationClientService.sendCampaign(createCampaign()))
+            .isInstanceOf(WebClientResponseException.BadRequest.class);
+        assertThat(notificationServer.getRequestCount()).isEqualTo(1);
+    }
+
+    private MockResponse createOkResponse() {
+        return new MockResponse()
+            .setResponseCode(HttpServletResponse.SC_OK)
+            .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .setBody("\"campaign-run-1\"");
+    }
+
+    private NotificationCampaignModel createCampaign() {
+        return NotificationCampaignModel.builder()
+            .templateId("template-1")
+            .templateVersion(1)
+            .channel(NotificationChannelEnum.EMAIL)
+            .users(List.of())
+            .build();
+    }
+}
@@ -0,0 +1,209 @@
+package org.baps.api.vtms.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.baps.api.vtms.PostgresDataJpaTest;
+import org.baps.api.vtms.enumerations.NotificationTemplateEnum;
+import org.baps.api.vtms.models.entities.NotificationOutbox;
+import org.baps.api.vtms.models.entities.NotificationTemplate;
+import org.baps.api.vtms.models.notification.NotificationCampaignModel;
+import org.baps.api.vtms.models.notification.NotificationChannelEnum;
+import org.baps.api.vtms.models.notification.NotificationUser;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+@PostgresDataJpaTest
+@Import(NotificationOutboxService.class)
+@TestPropertySource(properties = {"notification.outbox.batch-size=3", "notification.outbox.max-attempts=3",
+    "notification.outbox.initial-backoff=30s", "notification.outbox.max-backoff=45s", "notification.outbox.claim-timeout=5m"})
+class NotificationDispatchServiceTests {
+
+    private static final int BATCH_SIZE = 3;
+
+    private static final int MAX_IN_FLIGHT = 4;
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(30);
+
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(45);
+
+    private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(5);
+
+    private static final NotificationTemplateEnum TEMPLATE = NotificationTemplateEnum.VISIT_CONFIRMATION_EMAIL;
+
+    private static final String BROKEN_VISIT_ID = "broken-visit";
+
+    @Autowired
+    private NotificationOutboxService notificationOutboxService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager platformTransactionManager;
+
+    private NotificationComposeService notificationComposeService;
+
+    private NotificationService notificationService;
+
+    private NotificationDispatchService notificationDispatchService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM notification_outbox");
+
+        final NotificationTemplate notificationTemplate = new NotificationTemplate();
+        notificationTemplate.setNotificationTemplateEnum(TEMPLATE);
+        notificationTemplate.setNotificationChannelEnum(NotificationChannelEnum.EMAIL);
+        notificationTemplate.setTemplateId("template-1");
+        final NotificationTemplateService notificationTemplateService = mock(NotificationTemplateService.class);
+        when(notificationTemplateService.findByNotificationTemplate(TEMPLATE)).thenReturn(Optional.of(notificationTemplate));
+
+        // Every notification is composed into one recipient named after its visit, the broken visit can not be composed.
+        notificationComposeService = mock(NotificationComposeService.class);
+        when(notificationComposeService.composeNotificationUsers(eq(TEMPLATE), anyList())).thenAnswer(invocation -> {
+            final List<NotificationOutbox> notificationOutboxList = invocation.getArgument(1);
+            return notificationOutboxList.stream().map(notificationOutbox -> {
+                if (BROKEN_VISIT_ID.equals(notificationOutbox.getVisitId())) {
+                    throw new IllegalStateException("Visit without visitor");
+                }
+                return NotificationUser.builder().email(notificationOutbox.getVisitId() + "@baps.org").build();
+            }).toList();
+        });
+
+        notificationService = mock(NotificationService.class);
+        notificationDispatchService = new NotificationDispatchService(notificationOutboxService, notificationTemplateService,
+            notificationComposeService, notificationService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(notificationDispatchService, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(notificationDispatchService, "maxInFlight", MAX_IN_FLIGHT);
+    }
+
+    @Test
+    void composedNotificationsAreCoalescedIntoOneCampaignAndOnlyTheBrokenOneFails() {
+        final String firstId = queueNotification("visit-1");
+        final String brokenId = queueNotification(BROKEN_VISIT_ID);
+        final String secondId = queueNotification("visit-2");
+        final LocalDateTime failedAfter = LocalDateTime.now();
+
+        assertThat(notificationDispatchService.dispatchNotificationOutbox()).isEqualTo(2);
+
+        final ArgumentCaptor<NotificationCampaignModel> campaignCaptor = ArgumentCaptor.forClass(NotificationCampaignModel.class);
+        verify(notificationService, times(1)).sendCampaign(campaignCaptor.capture());
+        assertThat(campaignCaptor.getValue().getUsers()).extracting(NotificationUser::getEmail)
+            .containsExactlyInAnyOrder("visit-1@baps.org", "visit-2@baps.org");
+
+        assertThat(findOutbox(firstId)).containsEntry("delivery_status", "SENT").containsEntry("attempts", 1);
+        assertThat(findOutbox(secondId)).containsEntry("delivery_status", "SENT").containsEntry("attempts", 1);
+
+        final Map<String, Object> brokenOutbox = findOutbox(brokenId);
+        assertThat(brokenOutbox).containsEntry("delivery_status", "PENDING").containsEntry("attempts", 1)
+            .containsEntry("last_error", "Composition failed: Visit without visitor");
+        assertThat(nextAttemptAt(brokenOutbox)).isBetween(failedAfter.plus(INITIAL_BACKOFF), LocalDateTime.now().plus(INITIAL_BACKOFF));
+    }
+
+    @Test
+    void failedCampaignIsRetriedWithDoublingBackoffUntilItRunsOutOfAttempts() {
+        final String notificationOutboxId = queueNotification("visit-3");
+        doThrow(new IllegalStateException("Notification server unavailable")).when(notificationService).sendCampaign(any());
+
+        // The second backoff of 60 seconds is capped to the maximum backoff.
+        for (final Duration backoff : List.of(INITIAL_BACKOFF, MAX_BACKOFF)) {
+            final LocalDateTime failedAfter = LocalDateTime.now();
+            assertThat(notificationDispatchService.dispatchNotificationOutbox()).isZero();
+
+            final Map<String, Object> notificationOutbox = findOutbox(notificationOutboxId);
+            assertThat(notificationOutbox).containsEntry("delivery_status", "PENDING")
+                .containsEntry("last_error", "Notification server unavailable");
+            assertThat(nextAttemptAt(notificationOutbox)).isBetween(failedAfter.plus(backoff), LocalDateTime.now().plus(backoff));
+
+            // Nothing is due before the backoff elapsed.
+            assertThat(notificationDispatchService.dispatchNotificationOutbox()).isZero();
+            makeDue(notificationOutboxId);
+        }
+
+        assertThat(notificationDispatchService.dispatchNotificationOutbox()).isZero();
+
+        assertThat(findOutbox(notificationOutboxId)).containsEntry("delivery_status", "FAILED").containsEntry("attempts", MAX_ATTEMPTS);
+        verify(notificationService, times(MAX_ATTEMPTS)).sendCampaign(any());
+        assertThat(notificationOutboxService.countPendingNotificationOutbox()).isZero();
+    }
+
+    @Test
+    void claimLeasesNotificationsAndSkipsTheOnesLockedByAnotherDispatcher() {
+        final String firstId = queueNotification("visit-4");
+        final String secondId = queueNotification("visit-5");
+        final String thirdId = queueNotification("visit-6");
+        final String fourthId = queueNotification("visit-7");
+
+        // A dispatcher holding its claim transaction open keeps its rows locked, the other one claims the remaining row.
+        final LocalDateTime claimedAfter = LocalDateTime.now();
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(platformTransactionManager);
+        final List<String> concurrentlyClaimedIds = transactionTemplate.execute(status -> {
+            assertThat(claimIds()).containsExactly(firstId, secondId, thirdId);
+            return CompletableFuture.supplyAsync(this::claimIds).join();
+        });
+        assertThat(concurrentlyClaimedIds).containsExactly(fourthId);
+
+        // Claimed rows are leased for the claim timeout, so nothing is claimed again until it expires.
+        assertThat(nextAttemptAt(findOutbox(firstId))).isBetween(claimedAfter.plus(CLAIM_TIMEOUT), LocalDateTime.now().plus(CLAIM_TIMEOUT));
+        assertThat(claimIds()).isEmpty();
+
+        // An expired lease, as left by a node stopped before recording the outcome, is claimed again as a new attempt.
+        makeDue(firstId);
+        assertThat(claimIds()).containsExactly(firstId);
+        assertThat(findOutbox(firstId)).containsEntry("delivery_status", "PENDING").containsEntry("attempts", 2);
+    }
+
+    private String queueNotification(final String visitId) {
+        notificationOutboxService.saveNotificationOutbox(TEMPLATE, visitId, Map.of());
+        return jdbcTemplate.queryForObject("SELECT notification_outbox_id FROM notification_outbox WHERE visit_id = ?", String.class,
+            visitId);
+    }
+
+    private List<String> claimIds() {
+        return notificationOutboxService.claimPendingNotificationOutbox().stream().map(NotificationOutbox::getNotificationOutboxId)
+            .toList();
+    }
+
+    private void makeDue(final String notificationOutboxId) {
+        jdbcTemplate.update("UPDATE notification_outbox SET next_attempt_at = ? WHERE notification_outbox_id = ?",
+            LocalDateTime.now().minusSeconds(1), notificationOutboxId);
+    }
+
+    private Map<String, Object> findOutbox(final String notificationOutboxId) {
+        return jdbcTemplate.queryForMap("SELECT delivery_status, attempts, last_error, next_attempt_at FROM notification_outbox "
+            + "WHERE notification_outbox_id = ?", notificationOutboxId);
+    }
+
+    private static LocalDateTime nextAttemptAt(final Map<String, Object> notificationOutbox) {
+        return ((Timestamp) notificationOutbox.get("next_attempt_at")).toLocalDateTime();
+    }
+}
@@ -0,0 +1,155 @@
+package org.baps.api.vtms.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.baps.api.vtms.constants.NotificationConstant;
+import org.baps.api.vtms.enumerations.EmailSourceEnum;
+import org.baps.api.vtms.enumerations.NotificationTemplateEnum;
+import org.baps.api.vtms.enumerations.RoleEnum;
+import org.baps.api.vtms.enumerations.VisitorContactTypeEnum;
+import org.baps.api.vtms.mappers.PersonnelMapper;
+import org.baps.api.vtms.models.entities.Personnel;
+import org.baps.api.vtms.models.entities.PersonnelRole;
+import org.baps.api.vtms.models.entities.Site;
+import org.baps.api.vtms.models.entities.Visit;
+import org.baps.api.vtms.models.entities.VisitVisitor;
+import org.baps.api.vtms.models.entities.Visitor;
+import org.baps.api.vtms.models.notification.NotificationUser;
+import org.baps.api.vtms.models.notification.NotificationVisitModel;
+import org.baps.api.vtms.repositories.PersonnelRepository;
+import org.baps.api.vtms.repositories.VisitRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRecipientServiceTests {
+
+    @Mock
+    private PersonnelRepository personnelRepository;
+
+    @Mock
+    private VisitRepository visitRepository;
+
+    @Mock
+    private LookupService lookupService;
+
+    private NotificationRecipientService notificationRecipientService;
+
+    @BeforeEach
+    void setUp() {
+        notificationRecipientService = new NotificationRecipientService(personnelRepository, visitRepository, lookupService,
+            mock(PersonnelMapper.class, Answers.CALLS_REAL_METHODS));
+    }
+
+    @Test
+    void superAdminsOfAllTheSitesOfABatchAreLoadedWithOneQuery() {
+        final Personnel firstSiteAdmin = createPersonnel("p1", "first@baps.org");
+        final Personnel secondSiteAdmin = createPersonnel("p2", "second@baps.org");
+        when(personnelRepository.findAllPersonnelRoleByRoleUucodeAndSiteUuCodeIn(eq(RoleEnum.SUPER_ADMIN.name()), anySet()))
+            .thenReturn(List.of(createPersonnelRole(firstSiteAdmin, "S1"), createPersonnelRole(secondSiteAdmin, "S2"),
+                createPersonnelRole(firstSiteAdmin, "S2")));
+
+        final List<NotificationUser> notificationUserList = notificationRecipientService.findNotificationUsers(
+            NotificationTemplateEnum.VISIT_APPROVAL_PENDING_EMAIL, List.of(
+                createSiteNotification("v1", "S1"), createSiteNotification("v2", "S2"), createSiteNotification("v3", "S1")));
+
+        verify(personnelRepository, times(1))
+            .findAllPersonnelRoleByRoleUucodeAndSiteUuCodeIn(RoleEnum.SUPER_ADMIN.name(), Set.of("S1", "S2"));
+        assertThat(notificationUserList).extracting(NotificationUser::getEmail)
+            .containsExactly("first@baps.org", "second@baps.org", "first@baps.org", "first@baps.org");
+        assertThat(notificationUserList.get(1).getBodyVars()).containsEntry(NotificationConstant.VISIT_REQUEST_NUMBER, "v2");
+    }
+
+    @Test
+    void assignedPersonnelAreLoadedTogetherWithTheirNameAndRole() {
+        when(personnelRepository.findAllByPersonnelIdIn(anySet())).thenReturn(List.of(createPersonnel("p1", "p1@baps.org")));
+
+        final List<NotificationUser> notificationUserList = notificationRecipientService.findNotificationUsers(
+            NotificationTemplateEnum.VISIT_ASSIGNED_EMAIL, List.of(
+                createAssignedNotification("p1", "Tour Guide"), createAssignedNotification("removed", "Tour Guide")));
+
+        verify(personnelRepository, times(1)).findAllByPersonnelIdIn(any());
+        assertThat(notificationUserList).singleElement().satisfies(notificationUser -> {
+            assertThat(notificationUser.getEmail()).isEqualTo("p1@baps.org");
+            assertThat(notificationUser.getBodyVars())
+                .containsEntry(NotificationConstant.RECIPIENT_NAME, "First p1")
+                .containsEntry(NotificationConstant.ROLE_NAME, "Tour Guide");
+        });
+    }
+
+    @Test
+    void visitorsAreNotifiedPrimaryFirstWithTheirOwnName() {
+        final Visit visit = new Visit();
+        visit.setVisitVisitorList(List.of(
+            createVisitVisitor(VisitorContactTypeEnum.SECONDARY, "Second"), createVisitVisitor(VisitorContactTypeEnum.PRIMARY, "Prime")));
+
+        final List<NotificationUser> notificationUserList = notificationRecipientService.findNotificationUsers(
+            NotificationTemplateEnum.VISIT_DECLINED_EMAIL, List.of(new NotificationVisitModel(visit, Map.of())));
+
+        assertThat(notificationUserList).extracting(NotificationUser::getEmail)
+            .containsExactly("prime@visitor.org", "second@visitor.org");
+        assertThat(notificationUserList)
+            .extracting(notificationUser -> notificationUser.getBodyVars().get(NotificationConstant.RECIPIENT_NAME))
+            .containsExactly("Prime Visitor", "Second Visitor");
+    }
+
+    private NotificationVisitModel createSiteNotification(final String requestNumber, final String siteUUCode) {
+        final NotificationVisitModel notificationVisitModel =
+            new NotificationVisitModel(new Visit(), Map.of(NotificationConstant.PARAMETER_SITE_UUCODE, siteUUCode));
+        notificationVisitModel.setBodyVars(Map.of(NotificationConstant.VISIT_REQUEST_NUMBER, requestNumber));
+        return notificationVisitModel;
+    }
+
+    private NotificationVisitModel createAssignedNotification(final String personnelId, final String roleName) {
+        return new NotificationVisitModel(new Visit(), Map.of(NotificationConstant.PARAMETER_PERSONNEL_ID, personnelId,
+            NotificationConstant.PARAMETER_ROLE_NAME, roleName));
+    }
+
+    private Personnel createPersonnel(final String personnelId, final String email) {
+        final Personnel personnel = new Personnel();
+        personnel.setPersonnelId(personnelId);
+        personnel.setFirstName("First");
+        personnel.setLastName(personnelId);
+        personnel.setEmail(email);
+        personnel.setEmailSourceEnum(EmailSourceEnum.BAPS);
+        return personnel;
+    }
+
+    private PersonnelRole createPersonnelRole(final Personnel personnel, final String siteUUCode) {
+        final Site site = new Site();
+        site.setUuCode(siteUUCode);
+
+        final PersonnelRole personnelRole = new PersonnelRole();
+        personnelRole.setPersonnel(personnel);
+        personnelRole.setSite(site);
+        return personnelRole;
+    }
+
+    private VisitVisitor createVisitVisitor(final VisitorContactTypeEnum visitorContactTypeEnum, final String firstName) {
+        final Visitor visitor = new Visitor();
+        visitor.setFirstName(firstName);
+        visitor.setLastName("Visitor");
+        visitor.setEmail(firstName.toLowerCase() + "@visitor.org");
+
+        final VisitVisitor visitVisitor = new VisitVisitor();
+        visitVisitor.setVisitor(visitor);
+        visitVisitor.setVisitorContactTypeEnum(visitorContactTypeEnum);
+        return visitVisitor;
+    }
+}
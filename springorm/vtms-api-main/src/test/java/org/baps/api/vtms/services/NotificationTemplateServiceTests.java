@@ -0,0 +1,113 @@
+package org.baps.api.vtms.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.baps.api.vtms.enumerations.NotificationTemplateEnum;
+import org.baps.api.vtms.models.entities.NotificationTemplate;
+import org.baps.api.vtms.repositories.NotificationTemplateRepository;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationTemplateServiceTests {
+
+    private static final int LOAD_COUNT = 3;
+
+    @Mock
+    private NotificationTemplateRepository notificationTemplateRepository;
+
+    @InjectMocks
+    private NotificationTemplateService notificationTemplateService;
+
+    // The application appenders are asynchronous, the events are read from an appender of the service logger instead.
+    private final ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        listAppender.start();
+        ((Logger) LoggerFactory.getLogger(NotificationTemplateService.class)).addAppender(listAppender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((Logger) LoggerFactory.getLogger(NotificationTemplateService.class)).detachAppender(listAppender);
+        listAppender.stop();
+    }
+
+    @Test
+    void templatesWithoutConfigurationAreReportedAtStartup() {
+        final NotificationTemplate firstConfirmationTemplate =
+            createNotificationTemplate(NotificationTemplateEnum.VISIT_CONFIRMATION_EMAIL);
+        when(notificationTemplateRepository.findAll()).thenReturn(List.of(firstConfirmationTemplate,
+            createNotificationTemplate(NotificationTemplateEnum.VISIT_CONFIRMATION_EMAIL),
+            createNotificationTemplate(NotificationTemplateEnum.VISIT_FEEDBACK_EMAIL), createNotificationTemplate(null)));
+
+        notificationTemplateService.loadNotificationTemplates();
+
+        final EnumSet<NotificationTemplateEnum> loadedNotificationTemplates =
+            EnumSet.of(NotificationTemplateEnum.VISIT_CONFIRMATION_EMAIL, NotificationTemplateEnum.VISIT_FEEDBACK_EMAIL);
+        assertThat(notificationTemplateService.getLoadedNotificationTemplates()).isEqualTo(loadedNotificationTemplates);
+        assertThat(notificationTemplateService.getMissingNotificationTemplates())
+            .isEqualTo(EnumSet.complementOf(loadedNotificationTemplates));
+        assertThat(listAppender.list).extracting(ILoggingEvent::getFormattedMessage)
+            .anySatisfy(message -> assertThat(message).contains("NotificationTemplate not found for notificationTemplateEnum",
+                NotificationTemplateEnum.VISIT_APPROVAL_PENDING_EMAIL.name()));
+
+        // A template configured twice keeps its first row.
+        assertThat(notificationTemplateService.findByNotificationTemplate(NotificationTemplateEnum.VISIT_CONFIRMATION_EMAIL))
+            .containsSame(firstConfirmationTemplate);
+        assertThat(notificationTemplateService.findByNotificationTemplate(NotificationTemplateEnum.VISIT_DECLINED_EMAIL)).isEmpty();
+    }
+
+    @Test
+    void everyTemplateIsMissingWithoutAnyConfiguration() {
+        when(notificationTemplateRepository.findAll()).thenReturn(List.of());
+
+        assertThat(notificationTemplateService.getLoadedNotificationTemplates()).isEmpty();
+        assertThat(notificationTemplateService.getMissingNotificationTemplates()).isEqualTo(EnumSet.allOf(NotificationTemplateEnum.class));
+    }
+
+    @Test
+    void refreshPicksUpAddedTemplatesAndStartupFailureLoadsOnFirstUse() {
+        when(notificationTemplateRepository.findAll()).thenThrow(new DataAccessResourceFailureException("Database unavailable"))
+            .thenReturn(List.of())
+            .thenReturn(List.of(createNotificationTemplate(NotificationTemplateEnum.VISIT_DECLINED_EMAIL)));
+
+        notificationTemplateService.loadNotificationTemplates();
+        assertThat(listAppender.list).extracting(ILoggingEvent::getFormattedMessage)
+            .anySatisfy(message -> assertThat(message).contains("Notification templates could not be loaded at startup"));
+
+        assertThat(notificationTemplateService.findByNotificationTemplate(NotificationTemplateEnum.VISIT_DECLINED_EMAIL)).isEmpty();
+        assertThat(notificationTemplateService.refreshNotificationTemplates()).isOne();
+        assertThat(notificationTemplateService.findByNotificationTemplate(NotificationTemplateEnum.VISIT_DECLINED_EMAIL)).isPresent();
+        assertThat(notificationTemplateService.getMissingNotificationTemplates())
+            .doesNotContain(NotificationTemplateEnum.VISIT_DECLINED_EMAIL);
+
+        // The failed startup load, the load on first use and the refresh.
+        verify(notificationTemplateRepository, times(LOAD_COUNT)).findAll();
+    }
+
+    private NotificationTemplate createNotificationTemplate(final NotificationTemplateEnum notificationTemplateEnum) {
+        final NotificationTemplate notificationTemplate = new NotificationTemplate();
+        notificationTemplate.setNotificationTemplateEnum(notificationTemplateEnum);
+        return notificationTemplate;
+    }
+}
@@ -0,0 +1,72 @@
+package org.baps.api.vtms.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.baps.api.vtms.enumerations.ReferenceDataCacheEnum;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+class ReferenceDataCacheServiceTests {
+
+    private static final int MAXIMUM_SIZE = 10;
+
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private final ReferenceDataCacheService referenceDataCacheService = new ReferenceDataCacheService(MAXIMUM_SIZE, TIME_TO_LIVE);
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    void valueIsLoadedOnceAndThenServedFromTheCache() {
+        assertThat(getSiteId("S1", () -> "site-1")).isEqualTo("site-1");
+        assertThat(getSiteId("S1", () -> "site-2")).isEqualTo("site-1");
+
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    void missingValueIsNotCached() {
+        assertThat(getSiteId("S1", () -> null)).isNull();
+        assertThat(getSiteId("S1", () -> "site-1")).isEqualTo("site-1");
+
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void evictedStaleIdIsLoadedAgain() {
+        getSiteId("S1", () -> "stale-site");
+        getSiteId("S2", () -> "site-2");
+
+        referenceDataCacheService.evict(ReferenceDataCacheEnum.SITE, "S1");
+
+        assertThat(getSiteId("S1", () -> "site-1")).isEqualTo("site-1");
+        assertThat(getSiteId("S2", () -> "other-site")).isEqualTo("site-2");
+    }
+
+    @Test
+    void cachesAreSeparatedAndClearedOneByOneOrAllTogether() {
+        getSiteId("KEY", () -> "site-1");
+        referenceDataCacheService.get(ReferenceDataCacheEnum.ROLE, "KEY", () -> "role-1");
+
+        referenceDataCacheService.evictAll(ReferenceDataCacheEnum.SITE);
+
+        assertThat(getSiteId("KEY", () -> "site-2")).isEqualTo("site-2");
+        assertThat(referenceDataCacheService.get(ReferenceDataCacheEnum.ROLE, "KEY", () -> "role-2")).isEqualTo("role-1");
+
+        referenceDataCacheService.evictAll();
+
+        assertThat(getSiteId("KEY", () -> "site-3")).isEqualTo("site-3");
+        assertThat(referenceDataCacheService.get(ReferenceDataCacheEnum.ROLE, "KEY", () -> "role-3")).isEqualTo("role-3");
+    }
+
+    private String getSiteId(final String siteUUCode, final Supplier<String> loader) {
+        return referenceDataCacheService.get(ReferenceDataCacheEnum.SITE, siteUUCode, () -> {
+            loadCount.incrementAndGet();
+            return loader.get();
+        });
+    }
+}
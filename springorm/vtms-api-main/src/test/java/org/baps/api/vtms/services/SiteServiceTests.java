@@ -0,0 +1,90 @@
+package org.baps.api.vtms.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.baps.api.vtms.common.utils.Translator;
+import org.baps.api.vtms.exceptions.DataNotFoundException;
+import org.baps.api.vtms.mappers.SiteMapper;
+import org.baps.api.vtms.models.base.Status;
+import org.baps.api.vtms.models.entities.Site;
+import org.baps.api.vtms.repositories.SiteRepository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SiteServiceTests {
+
+    private static final int MAXIMUM_SIZE = 10;
+
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private static final String SITE_UUCODE = "S1";
+
+    @Mock
+    private SiteRepository siteRepository;
+
+    private SiteService siteService;
+
+    @BeforeEach
+    void setUp() {
+        siteService = new SiteService(siteRepository, mock(SiteMapper.class),
+            new ReferenceDataCacheService(MAXIMUM_SIZE, TIME_TO_LIVE), mock(Translator.class));
+    }
+
+    @Test
+    void siteIdIsCachedAndTheSiteReadById() {
+        final Site site = createSite("site-1", Status.ACTIVE);
+        when(siteRepository.findByUuCode(SITE_UUCODE)).thenReturn(Optional.of(site));
+        when(siteRepository.findById("site-1")).thenReturn(Optional.of(site));
+
+        assertThat(siteService.findByUUCode(SITE_UUCODE)).isSameAs(site);
+        assertThat(siteService.findByUUCode(SITE_UUCODE)).isSameAs(site);
+
+        verify(siteRepository, times(1)).findByUuCode(SITE_UUCODE);
+        verify(siteRepository, times(2)).findById("site-1");
+    }
+
+    @Test
+    void staleSiteIdIsEvictedAndTheUUCodeLookedUpAgain() {
+        final Site recreatedSite = createSite("site-2", Status.ACTIVE);
+        when(siteRepository.findByUuCode(SITE_UUCODE))
+            .thenReturn(Optional.of(createSite("site-1", Status.ACTIVE)), Optional.of(recreatedSite));
+        when(siteRepository.findById("site-1")).thenReturn(Optional.of(createSite("site-1", Status.DELETED)));
+        when(siteRepository.findById("site-2")).thenReturn(Optional.of(recreatedSite));
+
+        assertThatThrownBy(() -> siteService.findByUUCode(SITE_UUCODE)).isInstanceOf(DataNotFoundException.class);
+
+        assertThat(siteService.findByUUCode(SITE_UUCODE)).isSameAs(recreatedSite);
+        verify(siteRepository, times(2)).findByUuCode(SITE_UUCODE);
+    }
+
+    @Test
+    void unknownSiteIsNotCached() {
+        when(siteRepository.findByUuCode(SITE_UUCODE)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> siteService.siteExistsByUUCode(SITE_UUCODE)).isInstanceOf(DataNotFoundException.class);
+        assertThatThrownBy(() -> siteService.siteExistsByUUCode(SITE_UUCODE)).isInstanceOf(DataNotFoundException.class);
+
+        verify(siteRepository, times(2)).findByUuCode(SITE_UUCODE);
+    }
+
+    private Site createSite(final String siteId, final Status status) {
+        final Site site = new Site();
+        site.setSiteId(siteId);
+        site.setUuCode(SITE_UUCODE);
+        site.setStatus(status);
+        return site;
+    }
+}
@@ -0,0 +1,167 @@
+package org.baps.api.vtms.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.baps.api.vtms.PostgresDataJpaTest;
+import org.baps.api.vtms.enumerations.TourSlotReservationStatusEnum;
+import org.baps.api.vtms.models.TourSlotReservationModel;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+@PostgresDataJpaTest
+@Import(TourSlotReservationService.class)
+class TourSlotReservationServiceTests {
+
+    private static final int MAX_GUEST_SIZE = 10;
+
+    private static final int LARGE_MAX_GUEST_SIZE = 1_000;
+
+    private static final int PARALLEL_BOOKINGS = 2_000;
+
+    private static final int MAX_BOOKING_GUEST_SIZE = 3;
+
+    private static final int THREAD_COUNT = 16;
+
+    private static final int TIMEOUT_SECONDS = 120;
+
+    private static final int FIRST_GUEST_SIZE = 4;
+
+    private static final int SECOND_GUEST_SIZE = 7;
+
+    private static final int RELEASED_GUEST_SIZE = 8;
+
+    private static final int LOWERED_MAX_GUEST_SIZE = 5;
+
+    @Autowired
+    private TourSlotReservationService tourSlotReservationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void thousandsOfParallelBookingsNeverExceedMaxGuestSize() throws Exception {
+        final String tourSlotId = createTourSlot("TSR1", LARGE_MAX_GUEST_SIZE);
+
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final AtomicBoolean bookingsRunning = new AtomicBoolean(true);
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            // Samples the committed count while the bookings run, the constraint would only be checked at commit.
+            final Future<Integer> highestBookedGuestCount = executorService.submit(() -> {
+                startLatch.await();
+                int highest = 0;
+                while (bookingsRunning.get()) {
+                    highest = Math.max(highest, findBookedGuestCount(tourSlotId));
+                }
+                return highest;
+            });
+
+            final List<Future<TourSlotReservationModel>> futures = new ArrayList<>();
+            for (int i = 0; i < PARALLEL_BOOKINGS; i++) {
+                final int guestSize = i % MAX_BOOKING_GUEST_SIZE + 1;
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    return tourSlotReservationService.reserveGuestSize(tourSlotId, guestSize, "TSR1");
+                }));
+            }
+            startLatch.countDown();
+
+            int reservedBookings = 0;
+            int reservedGuests = 0;
+            for (int i = 0; i < PARALLEL_BOOKINGS; i++) {
+                final TourSlotReservationModel tourSlotReservationModel = futures.get(i).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                if (tourSlotReservationModel.isReserved()) {
+                    reservedBookings++;
+                    reservedGuests += i % MAX_BOOKING_GUEST_SIZE + 1;
+                } else {
+                    assertThat(tourSlotReservationModel.getReservationStatusEnum())
+                        .isIn(TourSlotReservationStatusEnum.INSUFFICIENT_GUEST_SIZE, TourSlotReservationStatusEnum.SLOT_NOT_AVAILABLE);
+                }
+            }
+            bookingsRunning.set(false);
+
+            assertThat(reservedBookings).isPositive().isLessThan(PARALLEL_BOOKINGS);
+            assertThat(findBookedGuestCount(tourSlotId)).isEqualTo(reservedGuests).isLessThanOrEqualTo(LARGE_MAX_GUEST_SIZE);
+            assertThat(highestBookedGuestCount.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isLessThanOrEqualTo(LARGE_MAX_GUEST_SIZE);
+            assertThat(findStage(tourSlotId)).isIn("BOOKED", "PARTIALLY");
+        } finally {
+            bookingsRunning.set(false);
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void reserveGuestSizeReportsInsufficientGuestSize() {
+        final String tourSlotId = createTourSlot("TSR2", MAX_GUEST_SIZE);
+
+        assertThat(tourSlotReservationService.reserveGuestSize(tourSlotId, FIRST_GUEST_SIZE, "TSR2").isReserved()).isTrue();
+
+        final TourSlotReservationModel tourSlotReservationModel =
+            tourSlotReservationService.reserveGuestSize(tourSlotId, SECOND_GUEST_SIZE, "TSR2");
+
+        assertThat(tourSlotReservationModel.getReservationStatusEnum()).isEqualTo(TourSlotReservationStatusEnum.INSUFFICIENT_GUEST_SIZE);
+        assertThat(tourSlotReservationModel.getAvailableGuestSize()).isEqualTo(MAX_GUEST_SIZE - FIRST_GUEST_SIZE);
+        assertThat(findBookedGuestCount(tourSlotId)).isEqualTo(FIRST_GUEST_SIZE);
+    }
+
+    @Test
+    void releaseGuestSizeReopensBookedSlot() {
+        final String tourSlotId = createTourSlot("TSR3", MAX_GUEST_SIZE);
+
+        tourSlotReservationService.reserveGuestSize(tourSlotId, MAX_GUEST_SIZE, "TSR3");
+        assertThat(findStage(tourSlotId)).isEqualTo("BOOKED");
+
+        tourSlotReservationService.releaseGuestSize(tourSlotId, RELEASED_GUEST_SIZE);
+
+        assertThat(findBookedGuestCount(tourSlotId)).isEqualTo(MAX_GUEST_SIZE - RELEASED_GUEST_SIZE);
+        assertThat(findStage(tourSlotId)).isEqualTo("ACTIVE");
+    }
+
+    @Test
+    void maxGuestSizeCanNotDropBelowBookedGuestCount() {
+        final String tourSlotId = createTourSlot("TSR4", MAX_GUEST_SIZE);
+
+        tourSlotReservationService.reserveGuestSize(tourSlotId, LOWERED_MAX_GUEST_SIZE + 1, "TSR4");
+
+        assertThatThrownBy(() -> jdbcTemplate.update("UPDATE tour_slots SET max_guest_size = ? WHERE tour_slot_id = ?",
+            LOWERED_MAX_GUEST_SIZE, tourSlotId))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private String createTourSlot(final String siteUUCode, final int maxGuestSize) {
+        final String siteId = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO sites (site_id, status, name, uucode, time_zone, start_time, end_time) "
+            + "VALUES (?, 'ACTIVE', ?, ?, 'UTC', '09:00', '18:00')", siteId, siteUUCode, siteUUCode);
+
+        final String tourSlotId = UUID.randomUUID().toString();
+        final LocalDateTime startDateTime = LocalDateTime.now().plusDays(1);
+        jdbcTemplate.update("INSERT INTO tour_slots (tour_slot_id, status, stage, start_date_time, end_date_time, max_guest_size, site_id) "
+            + "VALUES (?, 'ACTIVE', 'ACTIVE', ?, ?, ?, ?)", tourSlotId, startDateTime, startDateTime.plusHours(1), maxGuestSize, siteId);
+        return tourSlotId;
+    }
+
+    private Integer findBookedGuestCount(final String tourSlotId) {
+        return jdbcTemplate.queryForObject("SELECT booked_guest_count FROM tour_slots WHERE tour_slot_id = ?", Integer.class, tourSlotId);
+    }
+
+    private String findStage(final String tourSlotId) {
+        return jdbcTemplate.queryForObject("SELECT stage FROM tour_slots WHERE tour_slot_id = ?", String.class, tourSlotId);
+    }
+}
@@ -0,0 +1,106 @@
+package org.baps.api.vtms.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.baps.api.vtms.annotations.VisitAopAnnotation;
+import org.baps.api.vtms.enumerations.PermissionEnum;
+import org.baps.api.vtms.enumerations.RoleTagEnum;
+import org.baps.api.vtms.models.AuthenticatedPersonnel;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Set;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VisitAspectTests {
+
+    private static final String PERSONNEL_ID = "p1";
+
+    private static final String VISIT_ID = "v1";
+
+    private static final String SITE_UUCODE = "S1";
+
+    private static final String RESPONSE_BODY = "updated";
+
+    @Mock
+    private PersonnelService personnelService;
+
+    @Mock
+    private VisitPersonnelService visitPersonnelService;
+
+    @Mock
+    private AuthService authService;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private VisitAopAnnotation visitAopAnnotation;
+
+    private VisitPermissionContext visitPermissionContext;
+
+    private VisitAspect visitAspect;
+
+    @BeforeEach
+    void setUp() throws Throwable {
+        visitPermissionContext = new VisitPermissionContext();
+        visitAspect = new VisitAspect(personnelService, visitPersonnelService, visitPermissionContext, authService);
+
+        when(personnelService.getAuthenticatedPersonnel())
+            .thenReturn(new AuthenticatedPersonnel(PERSONNEL_ID, "P1", List.of(), Set.of(), Set.of()));
+        when(visitAopAnnotation.roleTags()).thenReturn(new RoleTagEnum[] {RoleTagEnum.TOUR_GUIDE, RoleTagEnum.TOUR_COORDINATOR});
+        when(joinPoint.proceed()).thenReturn(ResponseEntity.status(HttpStatus.CREATED).body(RESPONSE_BODY));
+    }
+
+    @Test
+    void roleTagsLoadedByThePermissionCheckAreReusedAndOnlyReadAgainAfterTheUpdate() throws Throwable {
+        visitPermissionContext.putRoleTags(VISIT_ID, SITE_UUCODE, Set.of(RoleTagEnum.TOUR_GUIDE, RoleTagEnum.TEAM));
+        when(visitPersonnelService.findRoleTagsByVisitIdAndSiteUucodeAndPersonnelId(VISIT_ID, SITE_UUCODE, PERSONNEL_ID))
+            .thenReturn(Set.of(RoleTagEnum.TOUR_COORDINATOR, RoleTagEnum.TEAM));
+
+        visitAspect.aroundVisitMethod(joinPoint, visitAopAnnotation, SITE_UUCODE, VISIT_ID);
+
+        final InOrder inOrder = inOrder(joinPoint, visitPersonnelService);
+        inOrder.verify(joinPoint).proceed();
+        inOrder.verify(visitPersonnelService).findRoleTagsByVisitIdAndSiteUucodeAndPersonnelId(VISIT_ID, SITE_UUCODE, PERSONNEL_ID);
+
+        // Only the role tags of the annotation are compared, the updated ones are kept for the rest of the request.
+        verify(authService).checkVisitPermissionAndCompareRoleTags(PermissionEnum.VIEW_VISIT_ALL_LIST, RESPONSE_BODY,
+            HttpStatus.CREATED, Set.of(RoleTagEnum.TOUR_GUIDE), Set.of(RoleTagEnum.TOUR_COORDINATOR), true);
+        assertThat(visitPermissionContext.getRoleTags(VISIT_ID, SITE_UUCODE))
+            .contains(Set.of(RoleTagEnum.TOUR_COORDINATOR, RoleTagEnum.TEAM));
+    }
+
+    @Test
+    void roleTagsAreReadBeforeTheUpdateWhenNoPermissionCheckLoadedThem() throws Throwable {
+        visitPermissionContext.putRoleTags("another-visit", SITE_UUCODE, Set.of(RoleTagEnum.TEAM));
+        when(visitPersonnelService.findRoleTagsByVisitIdAndSiteUucodeAndPersonnelId(VISIT_ID, SITE_UUCODE, PERSONNEL_ID))
+            .thenReturn(Set.of(RoleTagEnum.TOUR_GUIDE), Set.of());
+
+        visitAspect.aroundVisitMethod(joinPoint, visitAopAnnotation, SITE_UUCODE, VISIT_ID);
+
+        final InOrder inOrder = inOrder(joinPoint, visitPersonnelService);
+        inOrder.verify(visitPersonnelService).findRoleTagsByVisitIdAndSiteUucodeAndPersonnelId(VISIT_ID, SITE_UUCODE, PERSONNEL_ID);
+        inOrder.verify(joinPoint).proceed();
+        inOrder.verify(visitPersonnelService).findRoleTagsByVisitIdAndSiteUucodeAndPersonnelId(VISIT_ID, SITE_UUCODE, PERSONNEL_ID);
+        verify(visitPersonnelService, times(2)).findRoleTagsByVisitIdAndSiteUucodeAndPersonnelId(VISIT_ID, SITE_UUCODE, PERSONNEL_ID);
+
+        // The personnel removed from the visit is checked against its system permission.
+        verify(authService).checkVisitPermissionAndCompareRoleTags(PermissionEnum.VIEW_VISIT_ALL_LIST, RESPONSE_BODY,
+            HttpStatus.CREATED, Set.of(RoleTagEnum.TOUR_GUIDE), Set.of(), false);
+    }
+}
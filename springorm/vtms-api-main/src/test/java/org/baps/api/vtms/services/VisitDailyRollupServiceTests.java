@@ -0,0 +1,158 @@
+package org.baps.api.vtms.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import org.baps.api.vtms.PostgresDataJpaTest;
+import org.baps.api.vtms.enumerations.VisitStageEnum;
+import org.baps.api.vtms.enumerations.VisitTypeEnum;
+import org.baps.api.vtms.models.VisitCountModel;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+@PostgresDataJpaTest
+@Import(VisitDailyRollupService.class)
+class VisitDailyRollupServiceTests {
+
+    private static final LocalDate VISIT_DATE = LocalDate.of(2024, 6, 10);
+
+    private static final LocalTime MORNING = LocalTime.of(9, 0);
+
+    private static final LocalTime NOON = LocalTime.of(12, 0);
+
+    private static final LocalTime AFTERNOON = LocalTime.of(15, 0);
+
+    private static final LocalTime EVENING = LocalTime.of(20, 0);
+
+    private static final int SMALL_GROUP = 3;
+
+    private static final int LARGE_GROUP = 5;
+
+    // A drifted rollup count no visit data can produce.
+    private static final long DRIFTED_VISIT_COUNT = 42L;
+
+    private static final List<VisitStageEnum> COUNTED_STAGE_LIST = List.of(VisitStageEnum.PENDING, VisitStageEnum.ACCEPTED);
+
+    @Autowired
+    private VisitDailyRollupService visitDailyRollupService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rollupFollowsVisitInsertStageChangeSoftDeleteAndStartDateMove() {
+        final String siteId = createSite("VDR1");
+        final String movedVisitId = createVisit(siteId, VISIT_DATE.atTime(MORNING), SMALL_GROUP);
+        final String deletedVisitId = createVisit(siteId, VISIT_DATE.atTime(AFTERNOON), LARGE_GROUP);
+
+        assertThat(findRollupRows(siteId)).containsExactly(rollupRow(VISIT_DATE, "PENDING", 2L, SMALL_GROUP + LARGE_GROUP));
+
+        jdbcTemplate.update("UPDATE visits SET stage = 'ACCEPTED' WHERE visit_id = ?", movedVisitId);
+
+        assertThat(findRollupRows(siteId)).containsExactly(
+            rollupRow(VISIT_DATE, "ACCEPTED", 1L, SMALL_GROUP),
+            rollupRow(VISIT_DATE, "PENDING", 1L, LARGE_GROUP));
+
+        jdbcTemplate.update("UPDATE visits SET status = 'DELETED' WHERE visit_id = ?", deletedVisitId);
+        jdbcTemplate.update("UPDATE visits SET start_date_time = start_date_time + interval '1 day' WHERE visit_id = ?", movedVisitId);
+
+        // Emptied buckets are kept with zero counts, the dashboard query skips them.
+        assertThat(findRollupRows(siteId)).containsExactly(
+            rollupRow(VISIT_DATE, "ACCEPTED", 0L, 0),
+            rollupRow(VISIT_DATE, "PENDING", 0L, 0),
+            rollupRow(VISIT_DATE.plusDays(1), "ACCEPTED", 1L, SMALL_GROUP));
+    }
+
+    @Test
+    void wholeDaysAreReadFromTheRollupAndPartialFirstAndLastDaysFromTheVisits() {
+        final String siteId = createSite("VDR2");
+        createVisit(siteId, VISIT_DATE.atTime(MORNING), SMALL_GROUP);
+        createVisit(siteId, VISIT_DATE.atTime(AFTERNOON), LARGE_GROUP);
+        createVisit(siteId, VISIT_DATE.plusDays(1).atTime(MORNING), SMALL_GROUP);
+        createVisit(siteId, VISIT_DATE.plusDays(2).atTime(MORNING), LARGE_GROUP);
+        createVisit(siteId, VISIT_DATE.plusDays(2).atTime(EVENING), SMALL_GROUP);
+
+        // Drift every day of the rollup, only the whole day in the middle of the range is read from it.
+        jdbcTemplate.update("UPDATE visit_daily_rollup SET visit_count = ? WHERE site_id = ?", DRIFTED_VISIT_COUNT, siteId);
+
+        final List<VisitCountModel> visitCountModelList = visitDailyRollupService.getVisitCount("VDR2", VISIT_DATE.atTime(NOON),
+            VISIT_DATE.plusDays(2).atTime(NOON), VisitTypeEnum.TOUR, COUNTED_STAGE_LIST);
+
+        assertThat(visitCountModelList)
+            .extracting(VisitCountModel::getStartDateTime, VisitCountModel::getVisitCount, VisitCountModel::getTotalVisitors)
+            .containsExactly(
+                tuple(Date.valueOf(VISIT_DATE), 1L, (long) LARGE_GROUP),
+                tuple(Date.valueOf(VISIT_DATE.plusDays(1)), DRIFTED_VISIT_COUNT, (long) SMALL_GROUP),
+                tuple(Date.valueOf(VISIT_DATE.plusDays(2)), 1L, (long) LARGE_GROUP));
+    }
+
+    @Test
+    void rangeWithoutWholeDayIsCountedFromTheVisits() {
+        final String siteId = createSite("VDR3");
+        createVisit(siteId, VISIT_DATE.atTime(MORNING), SMALL_GROUP);
+        createVisit(siteId, VISIT_DATE.atTime(AFTERNOON), LARGE_GROUP);
+        jdbcTemplate.update("UPDATE visit_daily_rollup SET visit_count = ? WHERE site_id = ?", DRIFTED_VISIT_COUNT, siteId);
+
+        final List<VisitCountModel> visitCountModelList = visitDailyRollupService.getVisitCount("VDR3", VISIT_DATE.atTime(NOON),
+            VISIT_DATE.atTime(EVENING), VisitTypeEnum.TOUR, COUNTED_STAGE_LIST);
+
+        assertThat(visitCountModelList)
+            .extracting(VisitCountModel::getStartDateTime, VisitCountModel::getVisitCount, VisitCountModel::getTotalVisitors)
+            .containsExactly(tuple(Date.valueOf(VISIT_DATE), 1L, (long) LARGE_GROUP));
+    }
+
+    @Test
+    void rebuildCorrectsDrift() {
+        final String siteId = createSite("VDR4");
+        createVisit(siteId, VISIT_DATE.atTime(MORNING), SMALL_GROUP);
+        createVisit(siteId, VISIT_DATE.plusDays(1).atTime(MORNING), LARGE_GROUP);
+        final List<Map<String, Object>> expectedRollupRows = findRollupRows(siteId);
+
+        jdbcTemplate.update("UPDATE visit_daily_rollup SET visit_count = ?, total_visitors = 0 WHERE site_id = ?",
+            DRIFTED_VISIT_COUNT, siteId);
+        jdbcTemplate.update("INSERT INTO visit_daily_rollup (site_id, visit_date, type, stage, visit_count, total_visitors) "
+            + "VALUES (?, ?, 'TOUR', 'CLOSED', 1, 1)", siteId, VISIT_DATE);
+
+        assertThat(visitDailyRollupService.rebuildVisitDailyRollup()).isPositive();
+
+        assertThat(findRollupRows(siteId)).isEqualTo(expectedRollupRows);
+    }
+
+    private List<Map<String, Object>> findRollupRows(final String siteId) {
+        return jdbcTemplate.queryForList("SELECT visit_date, stage, visit_count, total_visitors "
+            + "FROM visit_daily_rollup WHERE site_id = ? ORDER BY visit_date, stage", siteId);
+    }
+
+    private static Map<String, Object> rollupRow(final LocalDate visitDate, final String stage, final long visitCount,
+            final long totalVisitors) {
+        return Map.of("visit_date", Date.valueOf(visitDate), "stage", stage, "visit_count", visitCount,
+            "total_visitors", totalVisitors);
+    }
+
+    private String createSite(final String siteUUCode) {
+        final String siteId = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO sites (site_id, status, name, uucode, time_zone, start_time, end_time) "
+            + "VALUES (?, 'ACTIVE', ?, ?, 'UTC', '09:00', '18:00')", siteId, siteUUCode, siteUUCode);
+        return siteId;
+    }
+
+    private String createVisit(final String siteId, final LocalDateTime startDateTime, final int totalVisitors) {
+        final String visitId = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO visits (visit_id, status, created_at, start_date_time, end_date_time, type, stage, "
+            + "total_visitors, site_id) VALUES (?, 'ACTIVE', now(), ?, ?, 'TOUR', 'PENDING', ?, ?)",
+            visitId, startDateTime, startDateTime.plusHours(1), totalVisitors, siteId);
+        return visitId;
+    }
+}
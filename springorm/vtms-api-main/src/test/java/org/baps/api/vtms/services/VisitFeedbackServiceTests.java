@@ -0,0 +1,107 @@
+package org.baps.api.vtms.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.baps.api.vtms.PostgresDataJpaTest;
+import org.baps.api.vtms.exceptions.DataAlreadyExistsException;
+import org.baps.api.vtms.mappers.PersonnelMapper;
+import org.baps.api.vtms.mappers.VisitFeedbackMapper;
+import org.baps.api.vtms.mappers.VisitPersonnelMapper;
+import org.baps.api.vtms.mappers.VisitPublicFeedbackMapperImpl;
+import org.baps.api.vtms.models.VisitBookingFeedbackModel;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+@PostgresDataJpaTest
+@Import({VisitFeedbackService.class, VisitPublicFeedbackMapperImpl.class})
+@MockBean({VisitService.class, RoleService.class, PersonnelService.class, VisitPersonnelService.class, LookupService.class,
+    VisitFeedbackMapper.class, PersonnelMapper.class, VisitPersonnelMapper.class})
+class VisitFeedbackServiceTests {
+
+    private static final int PARALLEL_SUBMISSIONS = 8;
+
+    private static final int MAX_RATING = 5;
+
+    @Autowired
+    private VisitFeedbackService visitFeedbackService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void parallelSubmissionsOfOneBookingFeedbackAreCountedOnce() throws Exception {
+        final String visitPublicFeedbackId = createFeedback("VFS1");
+
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(PARALLEL_SUBMISSIONS);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < PARALLEL_SUBMISSIONS; i++) {
+                final VisitBookingFeedbackModel visitBookingFeedbackModel = new VisitBookingFeedbackModel();
+                visitBookingFeedbackModel.setBookingProcessRating(i % MAX_RATING + 1);
+                visitBookingFeedbackModel.setOverallRating(i % MAX_RATING + 1);
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    return visitFeedbackService.createVisitBookingProcessFeedbackByVisitFeedbackId(visitPublicFeedbackId,
+                        visitBookingFeedbackModel, "VFS1");
+                }));
+            }
+            startLatch.countDown();
+
+            int submitted = 0;
+            for (final Future<?> future : futures) {
+                try {
+                    future.get();
+                    submitted++;
+                } catch (final ExecutionException executionException) {
+                    assertThat(executionException.getCause()).isInstanceOf(DataAlreadyExistsException.class);
+                }
+            }
+
+            assertThat(submitted).isEqualTo(1);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        final Integer bookingProcessRating = jdbcTemplate.queryForObject(
+            "SELECT booking_process_rating FROM visit_public_feedback WHERE visit_public_feedback_id = ?", Integer.class,
+            visitPublicFeedbackId);
+        assertThat(jdbcTemplate.queryForMap("SELECT feedback_count, booking_process_rating_count, booking_process_rating_sum "
+            + "FROM visit_feedback_daily_rollup r JOIN sites s ON s.site_id = r.site_id WHERE s.uucode = 'VFS1'"))
+            .containsEntry("feedback_count", 1L)
+            .containsEntry("booking_process_rating_count", 1L)
+            .containsEntry("booking_process_rating_sum", bookingProcessRating.longValue());
+    }
+
+    private String createFeedback(final String siteUUCode) {
+        final String siteId = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO sites (site_id, status, name, uucode, time_zone, start_time, end_time) "
+            + "VALUES (?, 'ACTIVE', ?, ?, 'UTC', '09:00', '18:00')", siteId, siteUUCode, siteUUCode);
+
+        final String visitId = UUID.randomUUID().toString();
+        final LocalDateTime startDateTime = LocalDateTime.of(2024, 5, 10, 10, 0);
+        jdbcTemplate.update("INSERT INTO visits (visit_id, status, created_at, start_date_time, end_date_time, type, stage, "
+            + "total_visitors, site_id) VALUES (?, 'ACTIVE', now(), ?, ?, 'TOUR', 'ACCEPTED', 1, ?)",
+            visitId, startDateTime, startDateTime.plusHours(1), siteId);
+
+        final String visitPublicFeedbackId = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO visit_public_feedback (visit_public_feedback_id, status, visit_id) VALUES (?, 'ACTIVE', ?)",
+            visitPublicFeedbackId, visitId);
+        return visitPublicFeedbackId;
+    }
+}
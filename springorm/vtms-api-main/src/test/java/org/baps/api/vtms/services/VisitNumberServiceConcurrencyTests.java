@@ -0,0 +1,128 @@
+package org.baps.api.vtms.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.baps.api.vtms.PostgresDataJpaTest;
+import org.baps.api.vtms.enumerations.VisitTypeEnum;
+import org.baps.api.vtms.repositories.VisitRepository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@PostgresDataJpaTest
+class VisitNumberServiceConcurrencyTests {
+
+    private static final int THREADS = 8;
+
+    private static final int NUMBERS_PER_THREAD = 50;
+
+    private static final int ALLOCATION_SIZE = 5;
+
+    @Autowired
+    private VisitRepository visitRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager platformTransactionManager;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, ALLOCATION_SIZE})
+    void visitNumbersAreUniqueAcrossThreadsAndNodes(final int allocationSize) throws Exception {
+        final String siteId = createSite("VNS" + allocationSize);
+        final LocalDate visitDate = LocalDate.now();
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(platformTransactionManager);
+
+        // Two services stand for two nodes sharing the counter table.
+        final List<VisitNumberService> visitNumberServiceList =
+            List.of(newVisitNumberService(allocationSize), newVisitNumberService(allocationSize));
+
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<List<Integer>>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                final VisitNumberService visitNumberService = visitNumberServiceList.get(i % visitNumberServiceList.size());
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    final List<Integer> visitNumbers = new ArrayList<>();
+                    for (int j = 0; j < NUMBERS_PER_THREAD; j++) {
+                        // Each number is allocated in the transaction of a visit creation.
+                        visitNumbers.add(transactionTemplate.execute(status ->
+                            visitNumberService.nextVisitNumber(siteId, VisitTypeEnum.VISIT, visitDate)));
+                    }
+                    return visitNumbers;
+                }));
+            }
+            startLatch.countDown();
+
+            final Set<Integer> visitNumberSet = new HashSet<>();
+            for (final Future<List<Integer>> future : futures) {
+                for (final Integer visitNumber : future.get()) {
+                    assertThat(visitNumberSet.add(visitNumber)).as("visit number %s allocated twice", visitNumber).isTrue();
+                }
+            }
+
+            assertThat(visitNumberSet).hasSize(THREADS * NUMBERS_PER_THREAD);
+
+            assertThat(visitNumberSet).allMatch(visitNumber -> visitNumber >= 1 && visitNumber <= findLastNumber(siteId));
+            if (allocationSize == 1) {
+                // Without blocks no number is skipped.
+                assertThat(findLastNumber(siteId)).isEqualTo(THREADS * NUMBERS_PER_THREAD);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void rolledBackVisitGivesItsNumberBack() {
+        final String siteId = createSite("VNS0");
+        final LocalDate visitDate = LocalDate.now();
+        final VisitNumberService visitNumberService = newVisitNumberService(1);
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(platformTransactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(visitNumberService.nextVisitNumber(siteId, VisitTypeEnum.TOUR, visitDate)).isEqualTo(1);
+            status.setRollbackOnly();
+        });
+
+        final Integer visitNumber =
+            transactionTemplate.execute(status -> visitNumberService.nextVisitNumber(siteId, VisitTypeEnum.TOUR, visitDate));
+        assertThat(visitNumber).isEqualTo(1);
+    }
+
+    private VisitNumberService newVisitNumberService(final int allocationSize) {
+        return new VisitNumberService(visitRepository, platformTransactionManager, allocationSize);
+    }
+
+    private String createSite(final String siteUUCode) {
+        final String siteId = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO sites (site_id, status, name, uucode, time_zone, start_time, end_time) "
+            + "VALUES (?, 'ACTIVE', ?, ?, 'UTC', '09:00', '18:00')", siteId, siteUUCode, siteUUCode);
+        return siteId;
+    }
+
+    private Integer findLastNumber(final String siteId) {
+        return jdbcTemplate.queryForObject("SELECT last_number FROM visit_number_counters WHERE site_id = ? AND type = 'VISIT'",
+            Integer.class, siteId);
+    }
+}
@@ -0,0 +1,122 @@
+package org.baps.api.vtms.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.baps.api.vtms.enumerations.VisitTypeEnum;
+import org.baps.api.vtms.repositories.VisitRepository;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VisitNumberServiceTests {
+
+    private static final LocalDate VISIT_DATE = LocalDate.of(2024, 3, 10);
+
+    private static final int ALLOCATION_SIZE = 10;
+
+    private static final int BLOCK_COUNT = 3;
+
+    private static final int VISIT_DATE_ARGUMENT = 2;
+
+    private static final int COUNT_ARGUMENT = 3;
+
+    // Two and a half blocks.
+    private static final int VISIT_NUMBER_COUNT = 25;
+
+    @Mock
+    private VisitRepository visitRepository;
+
+    @Mock
+    private PlatformTransactionManager platformTransactionManager;
+
+    private VisitNumberService visitNumberService;
+
+    // Last number allocated per visit date, like the visit_number_counters rows.
+    private final Map<LocalDate, Integer> counterMap = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        visitNumberService = new VisitNumberService(visitRepository, platformTransactionManager, ALLOCATION_SIZE);
+
+        when(visitRepository.allocateVisitNumbers(anyString(), anyString(), any(LocalDate.class), anyInt()))
+            .thenAnswer(invocation -> counterMap.merge(invocation.getArgument(VISIT_DATE_ARGUMENT), invocation.getArgument(COUNT_ARGUMENT),
+                Integer::sum));
+    }
+
+    @Test
+    void nextVisitNumberIsServedFromAllocatedBlocks() {
+        final List<Integer> visitNumbers = new ArrayList<>();
+        for (int i = 0; i < VISIT_NUMBER_COUNT; i++) {
+            visitNumbers.add(visitNumberService.nextVisitNumber("site", VisitTypeEnum.TOUR, VISIT_DATE));
+        }
+
+        assertThat(visitNumbers).containsExactlyElementsOf(rangeClosed(1, VISIT_NUMBER_COUNT));
+        verify(visitRepository, times(BLOCK_COUNT)).allocateVisitNumbers("site", VisitTypeEnum.TOUR.name(), VISIT_DATE, ALLOCATION_SIZE);
+        // Each block is allocated in its own transaction.
+        verify(platformTransactionManager, times(BLOCK_COUNT)).getTransaction(argThat(transactionDefinition ->
+            transactionDefinition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    void allocationSizeOfOneAllocatesEveryNumberInTheCallersTransaction() {
+        visitNumberService = new VisitNumberService(visitRepository, platformTransactionManager, 1);
+
+        final List<Integer> visitNumbers = new ArrayList<>();
+        for (int i = 0; i < VISIT_NUMBER_COUNT; i++) {
+            visitNumbers.add(visitNumberService.nextVisitNumber("site", VisitTypeEnum.TOUR, VISIT_DATE));
+        }
+
+        assertThat(visitNumbers).containsExactlyElementsOf(rangeClosed(1, VISIT_NUMBER_COUNT));
+        verify(visitRepository, times(VISIT_NUMBER_COUNT)).allocateVisitNumbers("site", VisitTypeEnum.TOUR.name(), VISIT_DATE, 1);
+        verifyNoInteractions(platformTransactionManager);
+    }
+
+    @Test
+    void previousDayBlockIsKeptForSitesInOtherTimeZones() {
+        visitNumberService.nextVisitNumber("site", VisitTypeEnum.TOUR, VISIT_DATE);
+        visitNumberService.nextVisitNumber("other", VisitTypeEnum.TOUR, VISIT_DATE.plusDays(1));
+
+        assertThat(visitNumberService.nextVisitNumber("site", VisitTypeEnum.TOUR, VISIT_DATE)).isEqualTo(2);
+        verify(visitRepository, times(1)).allocateVisitNumbers(eq("site"), anyString(), eq(VISIT_DATE), anyInt());
+    }
+
+    @Test
+    void blocksOlderThanPreviousDayAreEvicted() {
+        visitNumberService.nextVisitNumber("site", VisitTypeEnum.TOUR, VISIT_DATE);
+        visitNumberService.nextVisitNumber("other", VisitTypeEnum.TOUR, VISIT_DATE.plusDays(2));
+
+        // The evicted block is not reused, the next number comes from a new block.
+        assertThat(visitNumberService.nextVisitNumber("site", VisitTypeEnum.TOUR, VISIT_DATE)).isEqualTo(ALLOCATION_SIZE + 1);
+        verify(visitRepository, times(2)).allocateVisitNumbers(eq("site"), anyString(), eq(VISIT_DATE), anyInt());
+    }
+
+    private static List<Integer> rangeClosed(final int from, final int to) {
+        final List<Integer> numbers = new ArrayList<>();
+        for (int number = from; number <= to; number++) {
+            numbers.add(number);
+        }
+        return numbers;
+    }
+}
@@ -0,0 +1,47 @@
+package org.baps.api.vtms.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.baps.api.vtms.enumerations.RoleTagEnum;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class VisitPermissionContextTests {
+
+    private final VisitPermissionContext visitPermissionContext = new VisitPermissionContext();
+
+    @Test
+    void nothingIsLoadedAtTheStartOfARequest() {
+        assertThat(visitPermissionContext.getRoleTags("v1", "S1")).isEmpty();
+    }
+
+    @Test
+    void roleTagsAreOnlyReturnedForTheVisitAndSiteTheyWereLoadedFor() {
+        visitPermissionContext.putRoleTags("v1", "S1", Set.of(RoleTagEnum.TOUR_GUIDE));
+
+        assertThat(visitPermissionContext.getRoleTags("v1", "S1")).contains(Set.of(RoleTagEnum.TOUR_GUIDE));
+        assertThat(visitPermissionContext.getRoleTags("v2", "S1")).isEmpty();
+        assertThat(visitPermissionContext.getRoleTags("v1", "S2")).isEmpty();
+    }
+
+    @Test
+    void personnelWithoutRoleInTheVisitIsKeptAsLoaded() {
+        visitPermissionContext.putRoleTags("v1", "S1", Set.of());
+
+        assertThat(visitPermissionContext.getRoleTags("v1", "S1")).contains(Set.of());
+    }
+
+    @Test
+    void roleTagsAreReplacedByTheLastLoadAndCopied() {
+        final Set<RoleTagEnum> roleTagSet = EnumSet.of(RoleTagEnum.TEAM);
+        visitPermissionContext.putRoleTags("v1", "S1", Set.of(RoleTagEnum.TOUR_GUIDE));
+        visitPermissionContext.putRoleTags("v2", "S1", roleTagSet);
+        roleTagSet.add(RoleTagEnum.TOUR_COORDINATOR);
+
+        assertThat(visitPermissionContext.getRoleTags("v1", "S1")).isEmpty();
+        assertThat(visitPermissionContext.getRoleTags("v2", "S1")).contains(Set.of(RoleTagEnum.TEAM));
+    }
+}